@@ -2,10 +2,12 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -13,8 +15,12 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AsyncCommandExecutor;
+import seedu.address.logic.DailyTaskScheduler;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.ReminderService;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -22,9 +28,14 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookRecovery;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.DataFileWatcher;
+import seedu.address.storage.DirectoryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SqliteAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -38,14 +49,28 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 6, 0, true);
 
+    public static final String MESSAGE_CLIENTS_QUARANTINED = "Loaded %1$d clients. %2$d invalid records in the data "
+            + "file were skipped and saved to %3$s for you to fix.";
+    public static final String MESSAGE_CLIENTS_ARCHIVED = "Archived %1$d clients with no sessions in the last %2$d "
+            + "months to %3$s. Use \"find -a KEYWORD\" to search them.";
+    public static final String MESSAGE_DATA_FILE_UNREADABLE = "The data file %1$s could not be read, so FitFlow "
+            + "started with no clients. Your next change will overwrite it, so back it up first if you need it.";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
     protected Logic logic;
+    protected AsyncCommandExecutor commandExecutor;
+    protected DataFileWatcher dataFileWatcher;
+    protected DailyTaskScheduler sessionExpiryScheduler;
+    protected ReminderService reminderService;
     protected Storage storage;
     protected Model model;
     protected Config config;
 
+    /** A message shown to the user once the UI starts, or an empty string if there is none. */
+    private String startupMessage = "";
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -57,20 +82,65 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+        // listens for changes to the clients from here on, so it has to be set up before anything else changes them
+        reminderService = initReminderService();
+        archiveInactiveClients();
+
+        commandExecutor = new AsyncCommandExecutor(logic, Platform::runLater);
+        dataFileWatcher = initDataFileWatcher(userPrefs.getAddressBookFilePath());
+        // past sessions are moved out on the command thread, so start-up does not wait for the history to be written
+        sessionExpiryScheduler = DailyTaskScheduler.start(commandExecutor::expirePastSessions);
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, commandExecutor, startupMessage);
+    }
+
+    /**
+     * Returns the storage for the address book at {@code filePath}, which is kept in the compact binary format if
+     * its name ends with {@value BinaryAddressBookStorage#FILE_EXTENSION}, in an SQLite database if it ends with
+     * {@value SqliteAddressBookStorage#FILE_EXTENSION}, as a directory with a file per person if it is a directory
+     * or a missing path whose name has no extension, and in JSON otherwise.
+     */
+    private AddressBookStorage initAddressBookStorage(Path filePath) {
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return new BinaryAddressBookStorage(filePath);
+        } else if (SqliteAddressBookStorage.isDatabaseFile(filePath)) {
+            return new SqliteAddressBookStorage(filePath);
+        } else if (DirectoryAddressBookStorage.isDataDirectory(filePath)) {
+            return new DirectoryAddressBookStorage(filePath);
+        } else {
+            return new JsonAddressBookStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns a watcher that reloads the address book whenever the data file at {@code filePath} is changed outside
+     * the app, or null if it cannot be watched. A data directory is not watched, as editing a client's file in it
+     * does not change the directory itself.
+     */
+    private DataFileWatcher initDataFileWatcher(Path filePath) {
+        if (DirectoryAddressBookStorage.isDataDirectory(filePath)) {
+            return null;
+        }
+        try {
+            return DataFileWatcher.start(filePath, commandExecutor::reloadAddressBook);
+        } catch (IOException e) {
+            logger.warning("Changes made to the data file outside the app will not be picked up: "
+                    + StringUtil.getDetails(e));
+            return null;
+        }
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found.
+     * If some records in {@code storage}'s address book are invalid, only the valid ones are loaded and the rest are
+     * quarantined, or an empty address book will be used instead if the file cannot be read at all.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
@@ -85,12 +155,64 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded in full."
+                    + " Will be recovering its valid clients.");
+            initialData = recoverAddressBook(storage);
+        }
+
+        return new ModelManager(initialData, userPrefs, storage::readArchivedPersons, storage::readSessionHistory);
+    }
+
+    /**
+     * Returns a service that reminds the user of the sessions that are about to start, or null if reminders are
+     * turned off in the user prefs.
+     */
+    private ReminderService initReminderService() {
+        int leadMinutes = model.getUserPrefs().getReminderLeadMinutes();
+        if (leadMinutes == 0) {
+            return null;
+        }
+        return new ReminderService(model::getAddressBookSnapshot, leadMinutes);
+    }
+
+    /**
+     * Archives the clients that have had no sessions for the number of months set in the user prefs, and reports
+     * how many were archived at start-up.
+     */
+    private void archiveInactiveClients() {
+        try {
+            int archivedCount = logic.archiveInactivePersons(LocalDate.now());
+            if (archivedCount > 0 && startupMessage.isEmpty()) {
+                startupMessage = String.format(MESSAGE_CLIENTS_ARCHIVED, archivedCount,
+                        model.getUserPrefs().getArchiveAfterMonths(), storage.getArchiveFilePath());
+            }
+        } catch (CommandException e) {
+            logger.warning("Inactive clients could not be archived: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the valid persons in {@code storage}'s address book, or an empty address book if none can be
+     * recovered. Sets the message shown to the user at start-up to report what was recovered.
+     */
+    private ReadOnlyAddressBook recoverAddressBook(Storage storage) {
+        Optional<AddressBookRecovery> recovery;
+        try {
+            recovery = storage.recoverAddressBook();
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be recovered."
                     + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            startupMessage = String.format(MESSAGE_DATA_FILE_UNREADABLE, storage.getAddressBookFilePath());
+            return new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        if (!recovery.isPresent()) {
+            return new AddressBook();
+        }
+        recovery.get().getQuarantineFilePath().ifPresent(quarantineFilePath ->
+                startupMessage = String.format(MESSAGE_CLIENTS_QUARANTINED, recovery.get().getRecoveredCount(),
+                        recovery.get().getQuarantinedCount(), quarantineFilePath));
+        return recovery.get().getAddressBook();
     }
 
     private void initLogging(Config config) {
@@ -172,15 +294,36 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (reminderService != null) {
+            reminderService.start(sessions -> Platform.runLater(() -> ui.showReminders(sessions)));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        sessionExpiryScheduler.close();
+        if (dataFileWatcher != null) {
+            try {
+                dataFileWatcher.close();
+            } catch (IOException e) {
+                logger.warning("Failed to stop watching the data file " + StringUtil.getDetails(e));
+            }
+        }
+        commandExecutor.shutdown();
+        if (reminderService != null) {
+            reminderService.close();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            // a command may still be running on the command thread, so the committed state is saved
+            storage.saveWarmStartImage(model.getAddressBookSnapshot());
+        } catch (IOException e) {
+            logger.warning("Failed to save warm start image " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -1,17 +1,42 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** The extension of files that are gzip-compressed. */
+    public static final String GZIP_EXTENSION = ".gz";
+
     private static final String CHARSET = "UTF-8";
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface StreamWriter {
+        /**
+         * Writes the contents to {@code out}.
+         *
+         * @throws IOException if the contents could not be written.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -65,6 +90,69 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Returns true if {@code file} is gzip-compressed, which is when its name ends with {@value #GZIP_EXTENSION}.
+     */
+    public static boolean isCompressed(Path file) {
+        Path fileName = file.getFileName();
+        return fileName != null && fileName.toString().endsWith(GZIP_EXTENSION);
+    }
+
+    /**
+     * Opens {@code file} for reading. A compressed file is decompressed as it is read.
+     * Assumes file exists
+     *
+     * @see #isCompressed(Path)
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        return isCompressed(file) ? new GZIPInputStream(in, STREAM_BUFFER_SIZE) : in;
+    }
+
+    /**
+     * Opens {@code file} for writing, replacing its contents. Writes to a compressed file are compressed as they are
+     * made. The returned stream is buffered.
+     *
+     * @see #isCompressed(Path)
+     */
+    public static OutputStream newOutputStream(Path file) throws IOException {
+        return newOutputStream(file, isCompressed(file));
+    }
+
+    private static OutputStream newOutputStream(Path file, boolean isCompressed) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        return isCompressed
+                ? new GZIPOutputStream(out, STREAM_BUFFER_SIZE)
+                : new BufferedOutputStream(out, STREAM_BUFFER_SIZE);
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code writer} writes, creating the file and its missing parent
+     * directories if needed. The contents are written to a temporary file next to {@code file}, which is then moved
+     * over it, so that a write that fails or is interrupted leaves {@code file} as it was. Writes to a compressed file
+     * are compressed as they are made.
+     *
+     * @see #isCompressed(Path)
+     */
+    public static void writeAtomically(Path file, StreamWriter writer) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        try {
+            try (OutputStream out = newOutputStream(tempFile, isCompressed(file))) {
+                writer.writeTo(out);
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
     /**
      * Assumes file exists
      */
@@ -0,0 +1,102 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pool of canonical instances of an immutable value type.
+ * Equal values passed to {@link #intern(Object)} are collapsed onto a single shared instance, so that
+ * values repeated across many clients (e.g. the same tag) are only held in memory once.
+ * Entries are weakly referenced and are dropped once no one else refers to the canonical instance.
+ * It is safe to use from several threads at once, and looking up a value that is already pooled takes no lock.
+ *
+ * @param <T> An immutable type with value-based {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final ConcurrentMap<WeakKey<T>, WeakKey<T>> pool = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> collected = new ReferenceQueue<>();
+
+    /**
+     * Returns the canonical instance that is equal to {@code value}.
+     * If there is none yet, {@code value} itself becomes the canonical instance.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        removeCollected();
+
+        WeakKey<T> existing = pool.get(new WeakKey<>(value, null));
+        T canonical = existing == null ? null : existing.get();
+        if (canonical != null) {
+            return canonical;
+        }
+
+        WeakKey<T> key = new WeakKey<>(value, collected);
+        while (true) {
+            existing = pool.putIfAbsent(key, key);
+            if (existing == null) {
+                return value;
+            }
+            canonical = existing.get();
+            if (canonical != null) {
+                return canonical;
+            }
+            // the canonical instance was collected before its entry was removed
+            pool.remove(existing, existing);
+        }
+    }
+
+    /**
+     * Returns the number of canonical instances currently held by this pool.
+     */
+    public int size() {
+        removeCollected();
+        return pool.size();
+    }
+
+    private void removeCollected() {
+        Reference<? extends T> reference;
+        while ((reference = collected.poll()) != null) {
+            pool.remove(reference);
+        }
+    }
+
+    /**
+     * A weak reference to a value that is equal to the references to equal values, for as long as the value has not
+     * been collected. Once it has, it is only equal to itself, so that its entry can still be removed.
+     */
+    private static class WeakKey<T> extends WeakReference<T> {
+        private final int hash;
+
+        WeakKey(T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.hash = value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof WeakKey)) {
+                return false;
+            }
+
+            WeakKey<?> otherKey = (WeakKey<?>) other;
+            Object value = get();
+            return hash == otherKey.hash && value != null && value.equals(otherKey.get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
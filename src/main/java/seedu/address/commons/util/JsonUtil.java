@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,9 +12,11 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
@@ -39,13 +42,24 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /**
+     * Writes the JSON to the file as it is generated, so that it is never held in memory as a whole.
+     * The file is only replaced once all of the JSON has been written.
+     */
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeAtomically(jsonFile, out ->
+                objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, objectToSerialize));
     }
 
+    /**
+     * Parses the file as it is read, so that the file's contents are never held in memory as a whole.
+     * Compressed files are decompressed as they are read.
+     */
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = FileUtil.newInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -77,9 +91,54 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns the tree of JSON nodes in the given file or {@code Optional.empty()} if the file is not found.
+     * Unlike {@link #readJsonFile(Path, Class)}, this only requires the file to be valid JSON, so that parts of a file
+     * that do not match the expected structure can be handled separately.
+     *
+     * @param filePath cannot be null.
+     * @throws DataLoadingException if the file could not be read or is not valid JSON.
+     */
+    public static Optional<JsonNode> readJsonTree(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = FileUtil.newInputStream(filePath)) {
+            return Optional.of(objectMapper.readTree(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns a parser that reads the given file a token at a time, so that large files can be processed without
+     * holding all of their contents in memory. Values at the parser's current token can be read with
+     * {@link JsonParser#readValueAs(Class)}. Compressed files are decompressed as they are read. Closing the parser
+     * closes the file.
+     *
+     * @param filePath cannot be null.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(FileUtil.newInputStream(filePath));
+    }
+
+    /**
+     * Converts the given tree of JSON nodes to an instance of a class.
+     * Can be called from multiple threads at once.
+     */
+    public static <T> T fromJsonTree(JsonNode node, Class<T> instanceClass) throws IOException {
+        return objectMapper.treeToValue(node, instanceClass);
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is gzip-compressed if its name ends with {@value FileUtil#GZIP_EXTENSION}.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
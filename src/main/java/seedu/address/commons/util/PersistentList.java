@@ -0,0 +1,272 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list whose updates return a new list that shares structure with the old one.
+ * Elements are held in a height-balanced (AVL) tree ordered by position, so reads and updates at any index take
+ * O(log n) time, and an update only copies the O(log n) nodes on the path to the changed position.
+ * Older versions stay valid and unchanged.
+ *
+ * @param <T> The type of elements in the list.
+ */
+public final class PersistentList<T> implements Iterable<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list containing {@code values} in order. Takes O(n) time.
+     */
+    public static <T> PersistentList<T> of(List<? extends T> values) {
+        requireNonNull(values);
+        return values.isEmpty() ? empty() : new PersistentList<>(build(values, 0, values.size()));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the height of the underlying tree, which is the number of nodes copied by a {@link #set(int, Object)}
+     * and is within a constant factor of the number copied by any other update.
+     */
+    public int depth() {
+        return height(root);
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code value}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PersistentList<T> set(int index, T value) {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, value));
+    }
+
+    /**
+     * Returns a list with {@code value} appended to the end.
+     */
+    public PersistentList<T> add(T value) {
+        return add(size(), value);
+    }
+
+    /**
+     * Returns a list with {@code value} inserted at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PersistentList<T> add(int index, T value) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, value));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PersistentList<T> remove(int index) {
+        checkIndex(index, size());
+        Node<T> newRoot = remove(root, index);
+        return newRoot == null ? empty() : new PersistentList<>(newRoot);
+    }
+
+    /**
+     * Returns a new mutable {@code List} with the elements of this list in order.
+     */
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size());
+        forEach(list::add);
+        return list;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<T>> stack = new ArrayDeque<>();
+
+            {
+                pushLeftSpine(root);
+            }
+
+            private void pushLeftSpine(Node<T> node) {
+                for (Node<T> current = node; current != null; current = current.left) {
+                    stack.push(current);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = stack.pop();
+                pushLeftSpine(node.right);
+                return node.value;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    //// tree operations
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <T> Node<T> build(List<? extends T> values, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(values.get(mid), build(values, from, mid), build(values, mid + 1, to));
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T value) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, set(node.left, index, value), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, set(node.right, index - leftSize - 1, value));
+        }
+        return new Node<>(value, node.left, node.right);
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T value) {
+        if (node == null) {
+            return new Node<>(value, null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, value), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, value));
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node holding {@code value} over the given subtrees, rotating once or twice if their heights
+     * differ by more than one.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        int difference = height(left) - height(right);
+        if (difference > 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            Node<T> pivot = left.right;
+            return new Node<>(pivot.value, new Node<>(left.value, left.left, pivot.left),
+                    new Node<>(value, pivot.right, right));
+        } else if (difference < -1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            Node<T> pivot = right.left;
+            return new Node<>(pivot.value, new Node<>(value, left, pivot.left),
+                    new Node<>(right.value, pivot.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    /**
+     * An immutable tree node that caches the size and height of its subtree.
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
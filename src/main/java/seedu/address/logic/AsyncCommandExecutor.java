@@ -0,0 +1,345 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProgressMonitor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Person;
+
+/**
+ * Runs commands through a {@code Logic} on a single background thread, so that parsing, execution and saving do
+ * not block the UI.
+ * Commands run one at a time in the order they are submitted. The model is only ever touched by the background
+ * thread, while the UI observes {@link #getDisplayedPersonList()}, a copy of the filtered person list that is
+ * brought up to date on the UI thread in a single change after each command.
+ * The running command can be cancelled, and its progress is published through {@link #progressProperty()}.
+ */
+public class AsyncCommandExecutor {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncCommandExecutor.class);
+    /** The value of {@link #progressProperty()} when no command is reporting progress. */
+    public static final double NO_PROGRESS = -1;
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final Logic logic;
+    private final Executor uiExecutor;
+    private final ExecutorService commandThread;
+    private final DisplayedPersonList displayedPersons;
+    private final ObservableList<Person> unmodifiableDisplayedPersons;
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(NO_PROGRESS);
+    private volatile RunningCommand runningCommand;
+
+    /**
+     * Creates an {@code AsyncCommandExecutor} that runs commands through {@code logic} and delivers their results
+     * through {@code uiExecutor}, which should run tasks on the UI thread (e.g. {@code Platform::runLater}).
+     */
+    public AsyncCommandExecutor(Logic logic, Executor uiExecutor) {
+        requireAllNonNull(logic, uiExecutor);
+        this.logic = logic;
+        this.uiExecutor = uiExecutor;
+        this.commandThread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.displayedPersons = new DisplayedPersonList(logic.getFilteredPersonList());
+        this.unmodifiableDisplayedPersons = FXCollections.unmodifiableObservableList(displayedPersons);
+    }
+
+    /**
+     * Queues {@code commandText} for execution after all previously submitted commands.
+     * The returned future is completed on the UI thread, after the displayed person list has been updated.
+     * It completes exceptionally with the {@code CommandException} or {@code ParseException} thrown by
+     * {@link Logic#execute(String, ProgressMonitor)} if the command fails, or right away with a
+     * {@code RejectedExecutionException} if this has been shut down.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        CompletableFuture<CommandResult> future = new CompletableFuture<>();
+        try {
+            commandThread.execute(() -> {
+                CommandResult result = null;
+                Exception failure = null;
+                runningCommand = new RunningCommand();
+                try {
+                    result = logic.execute(commandText, runningCommand);
+                } catch (Exception e) {
+                    failure = e;
+                } finally {
+                    runningCommand = null;
+                }
+                List<Person> snapshot = new ArrayList<>(logic.getFilteredPersonList());
+                CommandResult finalResult = result;
+                Exception finalFailure = failure;
+                uiExecutor.execute(() -> {
+                    progress.set(NO_PROGRESS);
+                    displayedPersons.update(snapshot);
+                    if (finalFailure != null) {
+                        future.completeExceptionally(finalFailure);
+                    } else {
+                        future.complete(finalResult);
+                    }
+                });
+            });
+        } catch (RejectedExecutionException e) {
+            logger.fine("Not executing \"" + commandText + "\" as commands are no longer accepted");
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Queues a reload of the address book from its data file after all previously submitted commands, so that
+     * changes made to the data file outside the app are picked up without racing the commands' own saves.
+     * The displayed person list is updated once the reload is done. Does nothing once shut down.
+     *
+     * @see Logic#reloadAddressBook()
+     */
+    public void reloadAddressBook() {
+        try {
+            commandThread.execute(() -> {
+                try {
+                    logic.reloadAddressBook();
+                } catch (DataLoadingException e) {
+                    logger.warning("Could not reload the changed data file: " + e.getMessage());
+                }
+                List<Person> snapshot = new ArrayList<>(logic.getFilteredPersonList());
+                uiExecutor.execute(() -> displayedPersons.update(snapshot));
+            });
+        } catch (RejectedExecutionException e) {
+            logger.fine("Not reloading the data file as commands are no longer accepted");
+        }
+    }
+
+    /**
+     * Queues moving the one-time sessions dated before today out of the address book after all previously submitted
+     * commands. The displayed person list is updated once they are moved. Does nothing once shut down.
+     *
+     * @see Logic#expirePastSessions(LocalDate)
+     */
+    public void expirePastSessions() {
+        try {
+            commandThread.execute(() -> {
+                try {
+                    logic.expirePastSessions(LocalDate.now());
+                } catch (CommandException e) {
+                    logger.warning("Could not move past sessions to the session history: " + e.getMessage());
+                }
+                List<Person> snapshot = new ArrayList<>(logic.getFilteredPersonList());
+                uiExecutor.execute(() -> displayedPersons.update(snapshot));
+            });
+        } catch (RejectedExecutionException e) {
+            logger.fine("Not moving past sessions as commands are no longer accepted");
+        }
+    }
+
+    /**
+     * Asks the command that is currently running to stop. Commands that are still queued are not affected.
+     * A cancelled command completes exceptionally with a {@code CommandCancelledException}, and any changes it made
+     * are rolled back. Commands that do not check for cancellation run to completion.
+     *
+     * @return true if there was a running command to cancel.
+     */
+    public boolean cancelRunningCommand() {
+        RunningCommand current = runningCommand;
+        if (current == null) {
+            return false;
+        }
+        current.cancelled = true;
+        return true;
+    }
+
+    /**
+     * Returns the fraction of work done by the running command, between 0 and 1, or {@link #NO_PROGRESS} if it has
+     * not reported any progress. It is only modified on the UI thread.
+     */
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns an unmodifiable view of the filtered person list as of the last completed command.
+     * It is only modified on the UI thread.
+     */
+    public ObservableList<Person> getDisplayedPersonList() {
+        return unmodifiableDisplayedPersons;
+    }
+
+    /**
+     * Stops accepting commands and waits for the queued ones to finish.
+     */
+    public void shutdown() {
+        commandThread.shutdown();
+        try {
+            if (!commandThread.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands still running after " + SHUTDOWN_TIMEOUT_SECONDS + "s, abandoning them");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The {@code ProgressMonitor} of a running command.
+     * Progress reports are coalesced so that at most one update is waiting on the UI thread at any time.
+     */
+    private class RunningCommand implements ProgressMonitor {
+        private final AtomicBoolean isUpdatePending = new AtomicBoolean(false);
+        private volatile boolean cancelled;
+        private volatile double latestProgress;
+
+        @Override
+        public void reportProgress(int workDone, int totalWork) {
+            latestProgress = totalWork <= 0 ? 1 : Math.min(1, (double) workDone / totalWork);
+            if (isUpdatePending.compareAndSet(false, true)) {
+                uiExecutor.execute(() -> {
+                    isUpdatePending.set(false);
+                    progress.set(latestProgress);
+                });
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    /**
+     * A copy of the filtered person list that is brought up to date with a single list change.
+     * Only the runs of persons that were removed, added or replaced are changed, so that a command that changes a few
+     * persons does not redraw the whole list. Persons are compared by identity, as the model replaces a person that
+     * is edited.
+     */
+    private static class DisplayedPersonList extends ModifiableObservableListBase<Person> {
+        private final List<Person> persons;
+
+        DisplayedPersonList(List<Person> persons) {
+            this.persons = new ArrayList<>(persons);
+        }
+
+        /**
+         * Brings this list in line with {@code snapshot}, firing one change with a sub-change for each run of persons
+         * that differs.
+         */
+        void update(List<Person> snapshot) {
+            int oldSize = persons.size();
+            int newSize = snapshot.size();
+            int prefix = 0;
+            while (prefix < oldSize && prefix < newSize && persons.get(prefix) == snapshot.get(prefix)) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < oldSize - prefix && suffix < newSize - prefix
+                    && persons.get(oldSize - 1 - suffix) == snapshot.get(newSize - 1 - suffix)) {
+                suffix++;
+            }
+            if (prefix + suffix == oldSize && oldSize == newSize) {
+                return;
+            }
+
+            List<Person> oldMiddle = new ArrayList<>(persons.subList(prefix, oldSize - suffix));
+            List<Person> newMiddle = snapshot.subList(prefix, newSize - suffix);
+            Set<Person> oldPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+            oldPersons.addAll(oldMiddle);
+            Set<Person> newPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+            newPersons.addAll(newMiddle);
+
+            beginChange();
+            try {
+                int index = prefix;
+                int i = 0;
+                int j = 0;
+                while (i < oldMiddle.size() || j < newMiddle.size()) {
+                    if (i < oldMiddle.size() && j < newMiddle.size() && oldMiddle.get(i) == newMiddle.get(j)) {
+                        i++;
+                        j++;
+                        index++;
+                        continue;
+                    }
+                    int removedStart = i;
+                    while (i < oldMiddle.size() && !newPersons.contains(oldMiddle.get(i))) {
+                        i++;
+                    }
+                    int addedStart = j;
+                    while (j < newMiddle.size() && !oldPersons.contains(newMiddle.get(j))) {
+                        j++;
+                    }
+                    if (i == removedStart && j == addedStart) {
+                        // the remaining persons were reordered, so they are replaced as one run
+                        i = oldMiddle.size();
+                        j = newMiddle.size();
+                    }
+                    index = replaceRun(index, i - removedStart, newMiddle.subList(addedStart, j));
+                }
+            } finally {
+                endChange();
+            }
+        }
+
+        /**
+         * Replaces the {@code removedCount} persons from {@code index} with {@code added}, and returns the index just
+         * after the added persons.
+         */
+        private int replaceRun(int index, int removedCount, List<Person> added) {
+            int replacedCount = Math.min(removedCount, added.size());
+            for (int k = 0; k < replacedCount; k++) {
+                set(index + k, added.get(k));
+            }
+            if (removedCount > replacedCount) {
+                remove(index + replacedCount, index + removedCount);
+            } else if (added.size() > replacedCount) {
+                addAll(index + replacedCount, added.subList(replacedCount, added.size()));
+            }
+            return index + added.size();
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person element) {
+            persons.add(index, element);
+        }
+
+        @Override
+        protected Person doSet(int index, Person element) {
+            return persons.set(index, element);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            return persons.remove(index);
+        }
+    }
+}
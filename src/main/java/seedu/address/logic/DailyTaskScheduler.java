@@ -0,0 +1,90 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Runs a task on a background thread once when started, and then again shortly after every midnight for as long
+ * as the app runs.
+ * The time until the next midnight is worked out again after every run, so the task keeps to midnight across
+ * daylight saving changes and changes to the system clock. The task should be quick, such as queueing work on
+ * another thread, as the next run waits for it to finish.
+ */
+public class DailyTaskScheduler implements AutoCloseable {
+
+    // runs the task a little after midnight, so that a clock that runs slightly fast still sees the new day
+    static final Duration AFTER_MIDNIGHT = Duration.ofSeconds(5);
+
+    private static final Logger logger = LogsCenter.getLogger(DailyTaskScheduler.class);
+
+    private final Runnable task;
+    private final Clock clock;
+    private final ScheduledExecutorService executor;
+
+    private DailyTaskScheduler(Runnable task, Clock clock) {
+        this.task = task;
+        this.clock = clock;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "daily-task-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts running {@code task} now and then shortly after every midnight of the system's time zone.
+     */
+    public static DailyTaskScheduler start(Runnable task) {
+        return start(task, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Starts running {@code task} now and then shortly after every midnight of {@code clock}.
+     */
+    static DailyTaskScheduler start(Runnable task, Clock clock) {
+        requireAllNonNull(task, clock);
+        DailyTaskScheduler scheduler = new DailyTaskScheduler(task, clock);
+        scheduler.executor.execute(scheduler::runAndReschedule);
+        return scheduler;
+    }
+
+    /**
+     * Returns the time from {@code now} until the task should next run.
+     */
+    static Duration getDelayUntilNextRun(LocalDateTime now) {
+        LocalDateTime nextRun = now.toLocalDate().plusDays(1).atStartOfDay().plus(AFTER_MIDNIGHT);
+        return Duration.between(now, nextRun);
+    }
+
+    /**
+     * Stops running the task. A run that has already started is not interrupted.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private void runAndReschedule() {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            logger.warning("Daily task failed: " + e);
+        }
+        long delayMillis = getDelayUntilNextRun(LocalDateTime.now(clock)).toMillis();
+        try {
+            executor.schedule(this::runAndReschedule, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            logger.fine("Not scheduling the daily task again as the scheduler was closed");
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProgressMonitor;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -23,6 +26,44 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command, reporting its progress to {@code monitor}, and returns the result.
+     * If the command is cancelled through {@code monitor}, any changes it made are rolled back and nothing is saved.
+     * @param commandText The command as entered by the user.
+     * @param monitor The monitor to report progress to.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution, or the command is cancelled.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CommandResult execute(String commandText, ProgressMonitor monitor) throws CommandException, ParseException;
+
+    /**
+     * Reloads the address book from the data file if the file was changed outside the app since it was last read or
+     * saved. Only the persons that differ are changed, and the reload is committed as a single state.
+     * @return the number of persons that were removed, replaced or added by the reload.
+     * @throws DataLoadingException If the changed data file could not be read.
+     */
+    int reloadAddressBook() throws DataLoadingException;
+
+    /**
+     * Archives the persons that have had no sessions for the number of months set in the user prefs before
+     * {@code today}, and saves the result. Does nothing if the user prefs do not archive persons automatically.
+     * @return the number of persons that were archived.
+     * @throws CommandException If the archive could not be read, or the result could not be saved.
+     */
+    int archiveInactivePersons(LocalDate today) throws CommandException;
+
+    /**
+     * Moves the one-time sessions dated before {@code today} out of the address book into the session history,
+     * and saves the result. The move is made to every state the address book can be undone or redone to rather than
+     * being a state of its own, so it cannot be undone. A person who would be left without any sessions keeps their
+     * latest one.
+     * @return the number of sessions that were moved.
+     * @throws CommandException If the sessions could not be saved to the session history, in which case the
+     *     address book is left unchanged, or the result could not be saved.
+     */
+    int expirePastSessions(LocalDate today) throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -3,18 +3,29 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProgressMonitor;
+import seedu.address.logic.commands.exceptions.CommandCancelledException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NoSessionsSincePredicate;
+import seedu.address.model.person.OneTimeSchedule;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 
@@ -44,21 +55,108 @@ public class LogicManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public CommandResult execute(String commandText, ProgressMonitor monitor)
+            throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model, monitor);
+        } catch (CommandCancelledException e) {
+            logger.info("Command cancelled, rolling back: " + commandText);
+            model.rollbackAddressBook();
+            throw e;
+        }
 
+        saveData();
+        return commandResult;
+    }
+
+    /**
+     * Saves the address book, together with the archived persons if they have changed.
+     */
+    private void saveData() throws CommandException {
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            Optional<ReadOnlyAddressBook> unsavedArchivedPersons = model.getUnsavedArchivedPersons();
+            if (unsavedArchivedPersons.isPresent()) {
+                storage.saveAddressBookAndArchive(model.getAddressBook(), unsavedArchivedPersons.get());
+                model.markArchivedPersonsSaved();
+            } else {
+                storage.saveAddressBook(model.getAddressBook());
+            }
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public int reloadAddressBook() throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> changedAddressBook = storage.readAddressBookIfChanged();
+        if (!changedAddressBook.isPresent()) {
+            return 0;
+        }
+
+        int changedCount = model.mergeAddressBook(changedAddressBook.get());
+        storage.rebaseSynced(model.getAddressBook());
+        logger.info("Reloaded the data file, " + changedCount + " clients were added, removed or changed");
+        return changedCount;
+    }
+
+    @Override
+    public int archiveInactivePersons(LocalDate today) throws CommandException {
+        int months = model.getUserPrefs().getArchiveAfterMonths();
+        if (months == 0) {
+            return 0;
+        }
+
+        List<Person> inactivePersons = model.getAddressBook().getPersonList().stream()
+                .filter(new NoSessionsSincePredicate(today.minusMonths(months)))
+                .collect(Collectors.toList());
+        if (inactivePersons.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            model.archivePersons(inactivePersons);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(Messages.MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()), e);
+        }
+        saveData();
+        logger.info("Archived " + inactivePersons.size() + " clients with no sessions in the last " + months
+                + " months");
+        return inactivePersons.size();
+    }
+
+    @Override
+    public int expirePastSessions(LocalDate today) throws CommandException {
+        Map<Name, List<OneTimeSchedule>> expiredSessions = model.removeOneTimeSchedulesBefore(today);
+        if (expiredSessions.isEmpty()) {
+            return 0;
+        }
+
+        // the sessions are kept in the history before they are saved out of the data file, so that they are never
+        // lost; saving them to the history again is harmless
+        try {
+            storage.saveSessionHistory(expiredSessions);
+        } catch (IOException ioe) {
+            model.rollbackAddressBook();
+            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        // expiring sessions is not an undoable step, so undoing a command never brings them back
+        model.rebaseAddressBook(person -> person.withoutOneTimeSchedulesBefore(today));
+        saveData();
+
+        int expiredCount = expiredSessions.values().stream().mapToInt(List::size).sum();
+        logger.info("Moved " + expiredCount + " past sessions of " + expiredSessions.size()
+                + " clients to the session history");
+        return expiredCount;
     }
 
     @Override
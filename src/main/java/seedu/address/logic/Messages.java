@@ -1,11 +1,15 @@
 package seedu.address.logic;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.person.CapacityViolation;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.DayOfWeekUtils;
+import seedu.address.model.util.LocalDateUtils;
 
 /**
  * Container for user visible messages.
@@ -21,6 +25,12 @@ public class Messages {
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_SCHEDULES_LISTED = "Here are the schedules for [%1$s]:";
+    public static final String MESSAGE_ARCHIVE_UNREADABLE = "Could not read the archived clients: %1$s";
+    public static final String MESSAGE_HISTORY_UNREADABLE = "Could not read the past sessions: %1$s";
+    public static final String MESSAGE_UNDO_HISTORY_CLEARED =
+            "\nEarlier changes can no longer be undone or redone, as the archive is not part of the undo history.";
+    public static final String MESSAGE_CAPACITY_VIOLATION =
+            "Over capacity %1$s %2$s: %3$d sessions at once, capacity %4$d, with %5$s";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -34,6 +44,23 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Formats the {@code violation} for display to the user, along with the names of {@code heldBy}, the other
+     * clients holding sessions during it, such as
+     * {@code Over capacity every Monday 1500-1600: 2 sessions at once, capacity 1, with Alex Yeoh}.
+     */
+    public static String format(CapacityViolation violation, List<Person> heldBy) {
+        String day = DayOfWeekUtils.getPascalCaseName(violation.getDay());
+        String when = violation.getDate() == null
+                ? "every " + day
+                : "on " + day + " " + LocalDateUtils.toString(violation.getDate());
+        String names = heldBy.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", "));
+        return String.format(MESSAGE_CAPACITY_VIOLATION, when, violation.getSpan(), violation.getSessionCount(),
+                violation.getCapacity(), names);
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
@@ -0,0 +1,135 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Occurrence;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReminderWheel;
+
+/**
+ * Raises reminders shortly before sessions start, for as long as the app runs.
+ * The reminders are kept in a {@link ReminderWheel} that is only touched by a single background thread, which
+ * advances it once a minute. On every tick the thread reads the latest snapshot of the address book, and if it is a
+ * different snapshot from the last tick, gives the wheel only the persons that were added or removed since then.
+ */
+public class ReminderService implements AutoCloseable {
+
+    static final Duration TICK = Duration.ofMinutes(1);
+
+    private static final Logger logger = LogsCenter.getLogger(ReminderService.class);
+
+    private final Supplier<? extends ReadOnlyAddressBook> snapshots;
+    private final ReminderWheel wheel;
+    private final Clock clock;
+    // the persons the wheel holds the reminders of, as of the snapshot it was last brought in line with
+    private final Set<Person> persons = new HashSet<>();
+    private ReadOnlyAddressBook lastSnapshot;
+    private ScheduledExecutorService executor;
+
+    /**
+     * Creates a {@code ReminderService} for the sessions of the persons in the address book snapshots returned by
+     * {@code snapshots}, raising reminders {@code leadMinutes} before they start. {@code snapshots} is called from
+     * the background thread, and must return a new, immutable snapshot whenever the address book changes.
+     */
+    public ReminderService(Supplier<? extends ReadOnlyAddressBook> snapshots, int leadMinutes) {
+        this(snapshots, leadMinutes, Clock.systemDefaultZone());
+    }
+
+    ReminderService(Supplier<? extends ReadOnlyAddressBook> snapshots, int leadMinutes, Clock clock) {
+        requireAllNonNull(snapshots, clock);
+        this.snapshots = snapshots;
+        this.clock = clock;
+        this.wheel = new ReminderWheel(leadMinutes, LocalDateTime.now(clock));
+    }
+
+    /**
+     * Starts checking for due reminders once a minute on a background thread, passing the sessions whose reminders
+     * are due to {@code notifier}. The notifier is called on the background thread, and should be quick, such as
+     * queueing work on another thread.
+     */
+    public void start(Consumer<List<Occurrence>> notifier) {
+        assert executor == null : "A reminder service should only be started once";
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long delayMillis = getDelayUntilNextTick(LocalDateTime.now(clock)).toMillis();
+        executor.scheduleAtFixedRate(() -> tick(notifier), delayMillis, TICK.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the time from {@code now} until the start of the next minute.
+     */
+    static Duration getDelayUntilNextTick(LocalDateTime now) {
+        return Duration.between(now, now.truncatedTo(ChronoUnit.MINUTES).plus(TICK));
+    }
+
+    /**
+     * Applies the changes to the persons since the last tick, then raises the reminders due by now.
+     */
+    void tick(Consumer<List<Occurrence>> notifier) {
+        try {
+            applyChanges();
+            List<Occurrence> due = wheel.advanceTo(LocalDateTime.now(clock));
+            if (!due.isEmpty()) {
+                notifier.accept(due);
+            }
+        } catch (RuntimeException e) {
+            // an exception would stop the ticks for good
+            logger.warning("Reminders could not be raised: " + e);
+        }
+    }
+
+    /**
+     * Stops raising reminders.
+     */
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Brings the wheel in line with the latest snapshot, if it is not the one it was last brought in line with.
+     */
+    private void applyChanges() {
+        ReadOnlyAddressBook snapshot = snapshots.get();
+        if (snapshot == lastSnapshot) {
+            return;
+        }
+
+        Set<Person> latestPersons = new HashSet<>(snapshot.getPersonList());
+        for (Iterator<Person> iterator = persons.iterator(); iterator.hasNext();) {
+            Person person = iterator.next();
+            if (!latestPersons.contains(person)) {
+                wheel.remove(person);
+                iterator.remove();
+            }
+        }
+        for (Person person : latestPersons) {
+            if (persons.add(person)) {
+                wheel.add(person);
+            }
+        }
+        lastSnapshot = snapshot;
+    }
+}
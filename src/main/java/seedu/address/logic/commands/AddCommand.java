@@ -12,16 +12,15 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.OneTimeSchedule;
+import seedu.address.model.person.CapacityViolation;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.RecurringSchedule;
 import seedu.address.model.person.ScheduleConflictDetector;
-import seedu.address.model.person.ScheduleConflictResult;
 
 /**
  * Adds a person to the address book.
@@ -72,7 +71,17 @@ public class AddCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        return execute(model, ProgressMonitor.NONE);
+    }
+
+    /**
+     * Adds the person, checking their schedules against the capacity of the studio first.
+     * The check reports its progress to {@code monitor} and can be cancelled before the person is added.
+     */
+    @Override
+    public CommandResult execute(Model model, ProgressMonitor monitor) throws CommandException {
         requireNonNull(model);
+        requireNonNull(monitor);
 
         if (model.hasPerson(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
@@ -84,17 +93,30 @@ public class AddCommand extends Command {
 
         // Check for internal schedule conflicts first (conflicts within the same person)
         List<String> internalConflicts = ScheduleConflictDetector.checkInternalScheduleConflicts(toAdd);
-        // Check for schedule conflicts with existing persons
-        List<String> externalConflicts = new ArrayList<>();
-        for (Person existingPerson : model.getAddressBook().getPersonList()) {
-            externalConflicts.addAll(checkConflictsWithPerson(existingPerson, toAdd));
+        // Check whether adding the person holds more sessions at once than the studio can
+        List<String> capacityViolations = new ArrayList<>();
+        List<CapacityViolation> violations = model.findCapacityViolations(toAdd);
+        // each violation is one more unit of work, as naming its clients looks through every person
+        int totalWork = violations.size() + 1;
+        monitor.reportProgress(1, totalWork);
+        monitor.checkCancelled();
+        List<Person> persons = model.getAddressBook().getPersonList();
+        for (CapacityViolation violation : violations) {
+            List<Person> heldBy = persons.stream()
+                    .filter(violation::isHeldDuring)
+                    .collect(Collectors.toList());
+            capacityViolations.add(Messages.format(violation, heldBy));
+            monitor.reportProgress(capacityViolations.size() + 1, totalWork);
+            monitor.checkCancelled();
         }
+
         // Combine all conflicts
         List<String> allConflicts = new ArrayList<>();
         allConflicts.addAll(internalConflicts);
-        allConflicts.addAll(externalConflicts);
+        allConflicts.addAll(capacityViolations);
 
         model.addPerson(toAdd);
+        model.commitAddressBook();
 
         // If there are conflicts, add them to the success message
         if (!allConflicts.isEmpty()) {
@@ -112,51 +134,6 @@ public class AddCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
-    /**
-     * Checks for schedule conflicts between the person to add and an existing person.
-     */
-    private List<String> checkConflictsWithPerson(Person existingPerson, Person toAdd) {
-        List<String> conflicts = new ArrayList<>();
-
-        // Check each recurring schedule
-        for (RecurringSchedule schedule : toAdd.getRecurringSchedules()) {
-            ScheduleConflictResult result = ScheduleConflictDetector.checkScheduleConflict(existingPerson, schedule);
-            if (result.hasConflict()) {
-                String description = result.getConflictDescription();
-
-                int betweenIndex = description.indexOf(" between ");
-                String conflictPrefix = description.substring(0, betweenIndex);
-                conflicts.add(String.format("%s between %s with %s and %s with %s",
-                        conflictPrefix,
-                        result.getConflictingSchedule().getStartTime() + "-"
-                                + result.getConflictingSchedule().getEndTime(),
-                        existingPerson.getName(),
-                        schedule.getStartTime() + "-" + schedule.getEndTime(),
-                        toAdd.getName()));
-            }
-        }
-
-        // Check each one-time schedule
-        for (OneTimeSchedule schedule : toAdd.getOneTimeSchedules()) {
-            ScheduleConflictResult result = ScheduleConflictDetector.checkScheduleConflict(existingPerson, schedule);
-            if (result.hasConflict()) {
-                String description = result.getConflictDescription();
-                // Extract just the conflict type and date/day
-                int betweenIndex = description.indexOf(" between ");
-                String conflictPrefix = description.substring(0, betweenIndex);
-                conflicts.add(String.format("%s between %s with %s and %s with %s",
-                        conflictPrefix,
-                        result.getConflictingSchedule().getStartTime() + "-"
-                                + result.getConflictingSchedule().getEndTime(),
-                        existingPerson.getName(),
-                        schedule.getStartTime() + "-" + schedule.getEndTime(),
-                        toAdd.getName()));
-            }
-        }
-
-        return conflicts;
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
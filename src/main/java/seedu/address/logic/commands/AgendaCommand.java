@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandCancelledException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Occurrence;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.util.DayOfWeekUtils;
+import seedu.address.model.util.LocalDateUtils;
+
+/**
+ * Lists the sessions of all clients from one date to another, day by day.
+ */
+public class AgendaCommand extends Command {
+
+    public static final String COMMAND_WORD = "agenda";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": List the sessions of all clients from FROM to TO, both inclusive, day by day and in order of start "
+            + "time. A FROM day refers to its coming date, which is today if today is that day, and a TO day "
+            + "refers to the first such date on or after FROM.\n\n"
+            + "Format: "
+            + COMMAND_WORD + " FROM TO\n\n"
+            + "Example:\n"
+            + COMMAND_WORD + " Monday Sunday\n"
+            + COMMAND_WORD + " 1/4/25 14/4/25";
+
+    public static final String MESSAGE_AGENDA = "Sessions from %1$s to %2$s (%3$d):%4$s";
+    public static final String MESSAGE_NO_SESSIONS = "No sessions from %1$s to %2$s.";
+    public static final String MESSAGE_MORE_SESSIONS = "\n\n...and %1$d more";
+
+    /** The most sessions listed by an agenda, so that a long range does not flood the result display. */
+    static final int MAX_SESSIONS_LISTED = 200;
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates an AgendaCommand to list the sessions from {@code from} to {@code to}.
+     */
+    public AgendaCommand(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        checkArgument(!to.isBefore(from), "The agenda should not end before it starts");
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return execute(model, ProgressMonitor.NONE);
+    }
+
+    /**
+     * Lists the sessions, reporting the dates expanded so far to {@code monitor}. Nothing is changed, so the command
+     * can be cancelled at any session.
+     */
+    @Override
+    public CommandResult execute(Model model, ProgressMonitor monitor) throws CommandCancelledException {
+        requireAllNonNull(model, monitor);
+        int totalDays = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        StringBuilder agenda = new StringBuilder();
+        int sessionCount = 0;
+        LocalDate currentDate = null;
+        Iterator<Occurrence> occurrences = model.getOccurrences(from, to);
+        while (occurrences.hasNext()) {
+            Occurrence occurrence = occurrences.next();
+            monitor.checkCancelled();
+            sessionCount++;
+            boolean isNewDate = !occurrence.getDate().equals(currentDate);
+            if (isNewDate) {
+                currentDate = occurrence.getDate();
+                monitor.reportProgress((int) ChronoUnit.DAYS.between(from, currentDate), totalDays);
+            }
+            if (sessionCount > MAX_SESSIONS_LISTED) {
+                // the rest are only counted
+                continue;
+            }
+            if (isNewDate) {
+                agenda.append("\n\n").append(formatDate(currentDate));
+            }
+            agenda.append("\n")
+                    .append(new TimeSlot(occurrence.getStartMinute(), occurrence.getEndMinute()))
+                    .append(" ")
+                    .append(occurrence.getPerson().getName().fullName);
+        }
+        monitor.reportProgress(totalDays, totalDays);
+
+        if (sessionCount == 0) {
+            return new CommandResult(String.format(MESSAGE_NO_SESSIONS, formatDate(from), formatDate(to)));
+        }
+        if (sessionCount > MAX_SESSIONS_LISTED) {
+            agenda.append(String.format(MESSAGE_MORE_SESSIONS, sessionCount - MAX_SESSIONS_LISTED));
+        }
+        return new CommandResult(String.format(MESSAGE_AGENDA, formatDate(from), formatDate(to), sessionCount,
+                agenda));
+    }
+
+    private static String formatDate(LocalDate date) {
+        return DayOfWeekUtils.getPascalCaseName(date.getDayOfWeek()) + " " + LocalDateUtils.toString(date);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AgendaCommand)) {
+            return false;
+        }
+
+        AgendaCommand otherAgendaCommand = (AgendaCommand) other;
+        return from.equals(otherAgendaCommand.from) && to.equals(otherAgendaCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Moves a person identified using it's displayed index from the address book to the archive.
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Move a client you no longer train out of the client list and into the archive, "
+            + "identified by the index number used in the displayed client list. Archived clients can be searched "
+            + "with \"" + FindCommand.COMMAND_WORD + " " + FindCommand.ARCHIVED_FLAG + "\" and brought back with \""
+            + UnarchiveCommand.COMMAND_WORD + "\". Archiving cannot be undone with \"" + UndoCommand.COMMAND_WORD
+            + "\".\n\n"
+            + "Format: "
+            + COMMAND_WORD + " INDEX (must be 1 and above)\n\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_ARCHIVE_PERSON_SUCCESS = "Archived Client: %1$s";
+
+    private final Index targetIndex;
+
+    public ArchiveCommand(Index targetIndex) {
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_NO_PERSON_TO_DISPLAY);
+        } else if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(
+                    String.format(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX + "\n"
+                            + ArchiveCommand.MESSAGE_USAGE));
+        }
+
+        Person personToArchive = lastShownList.get(targetIndex.getZeroBased());
+        boolean hasHistory = model.canUndoAddressBook() || model.canRedoAddressBook();
+        try {
+            model.archivePersons(List.of(personToArchive));
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(Messages.MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()), e);
+        }
+        String result = String.format(MESSAGE_ARCHIVE_PERSON_SUCCESS, Messages.format(personToArchive));
+        return new CommandResult(hasHistory ? result + Messages.MESSAGE_UNDO_HISTORY_CLEARED : result);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ArchiveCommand)) {
+            return false;
+        }
+
+        ArchiveCommand otherArchiveCommand = (ArchiveCommand) other;
+        return targetIndex.equals(otherArchiveCommand.targetIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .toString();
+    }
+}
@@ -17,4 +17,20 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command, reporting its progress to {@code monitor} and stopping early if it is cancelled.
+     * Commands that take long enough to be worth cancelling should override this method. By default, the command
+     * runs to completion without reporting progress.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param monitor {@code ProgressMonitor} to report progress to.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     * @throws seedu.address.logic.commands.exceptions.CommandCancelledException If the command is cancelled.
+     *     Any changes it made to the model that were not committed should be rolled back by the caller.
+     */
+    public CommandResult execute(Model model, ProgressMonitor monitor) throws CommandException {
+        return execute(model);
+    }
+
 }
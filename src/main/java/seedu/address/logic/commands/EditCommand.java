@@ -9,7 +9,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ONETIMESCHEDULE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRING_SCHEDULE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -18,13 +17,16 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandCancelledException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.CapacityViolation;
 import seedu.address.model.person.Goals;
 import seedu.address.model.person.Location;
 import seedu.address.model.person.MedicalHistory;
@@ -34,7 +36,6 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.RecurringSchedule;
 import seedu.address.model.person.ScheduleConflictDetector;
-import seedu.address.model.person.ScheduleConflictResult;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -86,7 +87,17 @@ public class EditCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        return execute(model, ProgressMonitor.NONE);
+    }
+
+    /**
+     * Edits the person, checking their schedules against the capacity of the studio first.
+     * The check reports its progress to {@code monitor} and can be cancelled before the person is edited.
+     */
+    @Override
+    public CommandResult execute(Model model, ProgressMonitor monitor) throws CommandException {
         requireNonNull(model);
+        requireNonNull(monitor);
         List<Person> lastShownList = model.getFilteredPersonList();
 
         if (index.getZeroBased() >= lastShownList.size()) {
@@ -98,10 +109,10 @@ public class EditCommand extends Command {
 
         validatePersonUniqueness(model, personToEdit, editedPerson);
 
-        List<String> allConflicts = findAllScheduleConflicts(model, personToEdit, editedPerson);
+        List<String> allConflicts = findAllScheduleConflicts(model, personToEdit, editedPerson, monitor);
 
         model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.commitAddressBook();
 
         return buildCommandResult(editedPerson, allConflicts);
     }
@@ -131,24 +142,35 @@ public class EditCommand extends Command {
      * @param model The model containing the list of persons.
      * @param personToEdit The original person being edited.
      * @param editedPerson The edited person.
+     * @param monitor The monitor to report progress to.
      * @return A list of conflict descriptions.
+     * @throws CommandCancelledException If the check is cancelled.
      */
-    private List<String> findAllScheduleConflicts(Model model, Person personToEdit, Person editedPerson) {
+    private List<String> findAllScheduleConflicts(Model model, Person personToEdit, Person editedPerson,
+            ProgressMonitor monitor) throws CommandCancelledException {
         // Check for internal schedule conflicts first (conflicts within the edited person)
         List<String> internalConflicts = ScheduleConflictDetector.checkInternalScheduleConflicts(editedPerson);
-        // Check for schedule conflicts with existing persons
-        List<String> externalConflicts = new ArrayList<>();
-        for (Person existingPerson : model.getAddressBook().getPersonList()) {
-            // Skip the person being edited
-            if (!existingPerson.equals(personToEdit)) {
-                externalConflicts.addAll(checkConflictsWithPerson(existingPerson, editedPerson));
-            }
+        // Check whether the edit holds more sessions at once than the studio can
+        List<String> capacityViolations = new ArrayList<>();
+        List<CapacityViolation> violations = model.findCapacityViolations(personToEdit, editedPerson);
+        // each violation is one more unit of work, as naming its clients looks through every person
+        int totalWork = violations.size() + 1;
+        monitor.reportProgress(1, totalWork);
+        monitor.checkCancelled();
+        List<Person> persons = model.getAddressBook().getPersonList();
+        for (CapacityViolation violation : violations) {
+            List<Person> heldBy = persons.stream()
+                    .filter(person -> person != personToEdit && violation.isHeldDuring(person))
+                    .collect(Collectors.toList());
+            capacityViolations.add(Messages.format(violation, heldBy));
+            monitor.reportProgress(capacityViolations.size() + 1, totalWork);
+            monitor.checkCancelled();
         }
 
         // Combine all conflicts
         List<String> allConflicts = new ArrayList<>();
         allConflicts.addAll(internalConflicts);
-        allConflicts.addAll(externalConflicts);
+        allConflicts.addAll(capacityViolations);
 
         return allConflicts;
     }
@@ -173,55 +195,6 @@ public class EditCommand extends Command {
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
 
-    /**
-     * Checks for schedule conflicts between the edited person and an existing person.
-     *
-     * @param existingPerson The existing person to check conflicts with.
-     * @param editedPerson The edited person.
-     * @return A list of conflict descriptions.
-     */
-    private List<String> checkConflictsWithPerson(Person existingPerson, Person editedPerson) {
-        List<String> conflicts = new ArrayList<>();
-
-        // Check each recurring schedule
-        for (RecurringSchedule schedule : editedPerson.getRecurringSchedules()) {
-            ScheduleConflictResult result = ScheduleConflictDetector.checkScheduleConflict(existingPerson, schedule);
-            if (result.hasConflict()) {
-                String description = result.getConflictDescription();
-
-                int betweenIndex = description.indexOf(" between ");
-                String conflictPrefix = description.substring(0, betweenIndex);
-                conflicts.add(String.format("%s between %s with %s and %s with %s",
-                        conflictPrefix,
-                        result.getConflictingSchedule().getStartTime() + "-"
-                                + result.getConflictingSchedule().getEndTime(),
-                        existingPerson.getName(),
-                        schedule.getStartTime() + "-" + schedule.getEndTime(),
-                        editedPerson.getName()));
-            }
-        }
-
-        // Check each one-time schedule
-        for (OneTimeSchedule schedule : editedPerson.getOneTimeSchedules()) {
-            ScheduleConflictResult result = ScheduleConflictDetector.checkScheduleConflict(existingPerson, schedule);
-            if (result.hasConflict()) {
-                String description = result.getConflictDescription();
-                // Extract just the conflict type and date/day
-                int betweenIndex = description.indexOf(" between ");
-                String conflictPrefix = description.substring(0, betweenIndex);
-                conflicts.add(String.format("%s between %s with %s and %s with %s",
-                        conflictPrefix,
-                        result.getConflictingSchedule().getStartTime() + "-"
-                                + result.getConflictingSchedule().getEndTime(),
-                        existingPerson.getName(),
-                        schedule.getStartTime() + "-" + schedule.getEndTime(),
-                        editedPerson.getName()));
-            }
-        }
-
-        return conflicts;
-    }
-
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
      * edited with {@code editPersonDescriptor}.
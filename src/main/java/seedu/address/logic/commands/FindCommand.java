@@ -2,10 +2,16 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
@@ -18,20 +24,43 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": View a client in the client list whose names contain "
             + "any of the specified keywords (case-insensitive) and displays them as a list with index numbers. You "
             + "do not need to include the 'n/' tag in the keyword. This list contains only client names and their "
-            + "respective phone numbers.\n\n"
+            + "respective phone numbers. Add " + FindCommand.ARCHIVED_FLAG + " to search the archived clients "
+            + "instead.\n\n"
             + "Format: "
-            + COMMAND_WORD + " [KEYWORD]\n\n"
+            + COMMAND_WORD + " [" + FindCommand.ARCHIVED_FLAG + "] [KEYWORD]\n\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
+    public static final String ARCHIVED_FLAG = "-a";
+
+    public static final String MESSAGE_ARCHIVED_PERSONS_LISTED = "%1$d archived client(s) found for the keyword(s) "
+            + "%2$s";
+    public static final String MESSAGE_MORE_ARCHIVED_PERSONS = "\n...and %1$d more";
+
+    /** The most archived persons listed by a search, so that a broad search does not flood the result display. */
+    static final int MAX_ARCHIVED_PERSONS_LISTED = 50;
+
     private final NameContainsKeywordsPredicate predicate;
+    private final boolean isArchivedSearch;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand that finds the persons matching {@code predicate}, among the archived persons if
+     * {@code isArchivedSearch} is true.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, boolean isArchivedSearch) {
         this.predicate = predicate;
+        this.isArchivedSearch = isArchivedSearch;
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        if (isArchivedSearch) {
+            return findArchivedPersons(model);
+        }
         model.updateFilteredPersonList(predicate);
         String keywords = String.join(" ", predicate.getKeywords());
         return new CommandResult(
@@ -39,6 +68,34 @@ public class FindCommand extends Command {
                         model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Lists the archived persons that match the predicate in the result, as they are not in the address book for
+     * the filtered person list to show. This is the only search that loads the archived persons.
+     */
+    private CommandResult findArchivedPersons(Model model) throws CommandException {
+        List<Person> matches;
+        try {
+            matches = model.getArchivedPersons().getPersonList().stream()
+                    .filter(predicate)
+                    .collect(Collectors.toList());
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(Messages.MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()), e);
+        }
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_ARCHIVED_PERSONS_LISTED, matches.size(),
+                String.join(" ", predicate.getKeywords())));
+        int listedCount = Math.min(matches.size(), MAX_ARCHIVED_PERSONS_LISTED);
+        for (int i = 0; i < listedCount; i++) {
+            Person person = matches.get(i);
+            result.append("\n").append(i + 1).append(". ").append(person.getName())
+                    .append(" (").append(person.getPhone()).append(")");
+        }
+        if (matches.size() > listedCount) {
+            result.append(String.format(MESSAGE_MORE_ARCHIVED_PERSONS, matches.size() - listedCount));
+        }
+        return new CommandResult(result.toString());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -51,7 +108,8 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && isArchivedSearch == otherFindCommand.isArchivedSearch;
     }
 
     @Override
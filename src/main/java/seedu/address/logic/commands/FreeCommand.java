@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.util.DayOfWeekUtils;
+import seedu.address.model.util.LocalDateUtils;
+
+/**
+ * Lists the free time on a date in which the studio has room for another session besides those of the clients.
+ */
+public class FreeCommand extends Command {
+
+    public static final String COMMAND_WORD = "free";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": List the free time on a day in which the studio has room for another session. "
+            + "A DAY refers to its coming date, which is today if today is that day. "
+            + "Only free time of at least DURATION minutes (from 1 to 1440) is listed, "
+            + "and only the free time between the two given times if given.\n\n"
+            + "Format: "
+            + COMMAND_WORD + " DAY/DATE [DURATION] [between HHmm HHmm]\n\n"
+            + "Example: " + COMMAND_WORD + " MONDAY 60 between 0800 2000";
+
+    public static final String MESSAGE_FREE_SLOTS = "Free time on %1$s %2$s (%3$d):\n%4$s";
+    public static final String MESSAGE_NO_FREE_SLOTS = "No free time on %1$s %2$s.";
+
+    private final LocalDate date;
+    private final TimeSlot window;
+    private final int minMinutes;
+
+    /**
+     * Creates a FreeCommand to list the free time on {@code date} within {@code window} that is at least
+     * {@code minMinutes} long.
+     */
+    public FreeCommand(LocalDate date, TimeSlot window, int minMinutes) {
+        requireAllNonNull(date, window);
+        this.date = date;
+        this.window = window;
+        this.minMinutes = minMinutes;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<TimeSlot> freeSlots = model.findFreeSlots(date, window, minMinutes);
+
+        String day = DayOfWeekUtils.getPascalCaseName(date.getDayOfWeek());
+        String dateString = LocalDateUtils.toString(date);
+        if (freeSlots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_SLOTS, day, dateString));
+        }
+        String slotList = freeSlots.stream()
+                .map(slot -> slot + " (" + slot.getLength() + " min)")
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_FREE_SLOTS, day, dateString, freeSlots.size(), slotList));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeCommand)) {
+            return false;
+        }
+
+        FreeCommand otherFreeCommand = (FreeCommand) other;
+        return date.equals(otherFreeCommand.date)
+                && window.equals(otherFreeCommand.window)
+                && minMinutes == otherFreeCommand.minMinutes;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("date", date)
+                .add("window", window)
+                .add("minMinutes", minMinutes)
+                .toString();
+    }
+}
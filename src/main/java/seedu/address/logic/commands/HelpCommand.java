@@ -23,8 +23,17 @@ public class HelpCommand extends Command {
             + "\nhelp " + PREFIX_COMMAND + FindCommand.COMMAND_WORD
             + "\nhelp " + PREFIX_COMMAND + DisplayCommand.COMMAND_WORD
             + "\nhelp " + PREFIX_COMMAND + ViewCommand.COMMAND_WORD
+            + "\nhelp " + PREFIX_COMMAND + AgendaCommand.COMMAND_WORD
+            + "\nhelp " + PREFIX_COMMAND + UpcomingCommand.COMMAND_WORD
+            + "\nhelp " + PREFIX_COMMAND + HistoryCommand.COMMAND_WORD
+            + "\nhelp " + PREFIX_COMMAND + FreeCommand.COMMAND_WORD
+            + "\nhelp " + PREFIX_COMMAND + SuggestCommand.COMMAND_WORD
             + "\nhelp " + PREFIX_COMMAND + DeleteCommand.COMMAND_WORD
+            + "\nhelp " + PREFIX_COMMAND + ArchiveCommand.COMMAND_WORD
+            + "\nhelp " + PREFIX_COMMAND + UnarchiveCommand.COMMAND_WORD
             + "\nhelp " + PREFIX_COMMAND + ClearCommand.COMMAND_WORD
+            + "\nhelp " + PREFIX_COMMAND + UndoCommand.COMMAND_WORD
+            + "\nhelp " + PREFIX_COMMAND + RedoCommand.COMMAND_WORD
             + "\nhelp " + PREFIX_COMMAND + ExitCommand.COMMAND_WORD;
     public static final String GENERIC_HELP_MESSAGE = "Here are a list of basic commands you can use in FitFlow."
             + " For more information on each command, type one of the following."
@@ -57,6 +66,12 @@ public class HelpCommand extends Command {
         case AddCommand.COMMAND_WORD:
             helpMessage = AddCommand.MESSAGE_USAGE;
             break;
+        case AgendaCommand.COMMAND_WORD:
+            helpMessage = AgendaCommand.MESSAGE_USAGE;
+            break;
+        case ArchiveCommand.COMMAND_WORD:
+            helpMessage = ArchiveCommand.MESSAGE_USAGE;
+            break;
         case ClearCommand.COMMAND_WORD:
             helpMessage = ClearCommand.MESSAGE_USAGE;
             break;
@@ -75,9 +90,30 @@ public class HelpCommand extends Command {
         case FindCommand.COMMAND_WORD:
             helpMessage = FindCommand.MESSAGE_USAGE;
             break;
+        case FreeCommand.COMMAND_WORD:
+            helpMessage = FreeCommand.MESSAGE_USAGE;
+            break;
+        case HistoryCommand.COMMAND_WORD:
+            helpMessage = HistoryCommand.MESSAGE_USAGE;
+            break;
         case ListCommand.COMMAND_WORD:
             helpMessage = ListCommand.MESSAGE_USAGE;
             break;
+        case RedoCommand.COMMAND_WORD:
+            helpMessage = RedoCommand.MESSAGE_USAGE;
+            break;
+        case SuggestCommand.COMMAND_WORD:
+            helpMessage = SuggestCommand.MESSAGE_USAGE;
+            break;
+        case UnarchiveCommand.COMMAND_WORD:
+            helpMessage = UnarchiveCommand.MESSAGE_USAGE;
+            break;
+        case UndoCommand.COMMAND_WORD:
+            helpMessage = UndoCommand.MESSAGE_USAGE;
+            break;
+        case UpcomingCommand.COMMAND_WORD:
+            helpMessage = UpcomingCommand.MESSAGE_USAGE;
+            break;
         case ViewCommand.COMMAND_WORD:
             helpMessage = ViewCommand.MESSAGE_USAGE;
             break;
@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.OneTimeSchedule;
+import seedu.address.model.person.PackedScheduleSet;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the past one-time sessions of a person identified using it's displayed index, including those that were
+ * moved out of the address book into the session history.
+ */
+public class HistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "history";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": List the past one-time sessions of the client identified by the index number used in the displayed "
+            + "client list, oldest first. Past sessions are moved out of the client list daily, and are kept "
+            + "for this command.\n\n"
+            + "Format: "
+            + COMMAND_WORD + " INDEX (must be 1 and above)\n\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_HISTORY_SUCCESS = "Past sessions of %1$s (%2$d):\n%3$s";
+    public static final String MESSAGE_NO_HISTORY = "%1$s has no past sessions.";
+
+    private final Index targetIndex;
+
+    public HistoryCommand(Index targetIndex) {
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_NO_PERSON_TO_DISPLAY);
+        } else if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(
+                    String.format(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX + "\n"
+                            + HistoryCommand.MESSAGE_USAGE));
+        }
+
+        Person person = lastShownList.get(targetIndex.getZeroBased());
+        LocalDate today = LocalDate.now();
+        // a session may be both in the history and in the client list, e.g. after undoing the move to the history
+        Set<OneTimeSchedule> pastSessions = new TreeSet<>(Comparator.comparingLong(PackedScheduleSet::encode));
+        try {
+            pastSessions.addAll(model.getPastOneTimeSchedules(person.getName()));
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(Messages.MESSAGE_HISTORY_UNREADABLE, e.getMessage()), e);
+        }
+        person.getOneTimeSchedules().stream()
+                .filter(schedule -> schedule.getDate().isBefore(today))
+                .forEach(pastSessions::add);
+
+        String name = person.getName().fullName;
+        if (pastSessions.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_HISTORY, name));
+        }
+        String sessionList = pastSessions.stream()
+                .map(schedule -> schedule.getDateString() + " " + schedule.getStartTime() + " "
+                        + schedule.getEndTime())
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_HISTORY_SUCCESS, name, pastSessions.size(), sessionList));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HistoryCommand)) {
+            return false;
+        }
+
+        HistoryCommand otherHistoryCommand = (HistoryCommand) other;
+        return targetIndex.equals(otherHistoryCommand.targetIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .toString();
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandCancelledException;
+
+/**
+ * Receives progress reports from a long-running {@link Command}, and tells it whether it has been cancelled.
+ * Implementations may be called from the thread the command runs on, so they should not block.
+ */
+public interface ProgressMonitor {
+
+    /** A monitor that ignores progress and is never cancelled. */
+    ProgressMonitor NONE = new ProgressMonitor() {
+        @Override
+        public void reportProgress(int workDone, int totalWork) {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    };
+
+    /**
+     * Reports that {@code workDone} out of {@code totalWork} units of work have been completed.
+     */
+    void reportProgress(int workDone, int totalWork);
+
+    /**
+     * Returns true if the command has been asked to stop.
+     */
+    boolean isCancelled();
+
+    /**
+     * Throws a {@code CommandCancelledException} if the command has been asked to stop.
+     * Commands should call this between units of work, before they commit any changes to the model.
+     */
+    default void checkCancelled() throws CommandCancelledException {
+        if (isCancelled()) {
+            throw new CommandCancelledException();
+        }
+    }
+}
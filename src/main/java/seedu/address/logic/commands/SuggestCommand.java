@@ -0,0 +1,139 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRING_SCHEDULE;
+
+import java.time.DayOfWeek;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandCancelledException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.RecurringSchedule;
+import seedu.address.model.person.SlotSuggester;
+import seedu.address.model.person.SlotSuggester.Suggestion;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.util.DayOfWeekUtils;
+
+/**
+ * Suggests weekly sessions for a new client that do not conflict with the sessions of any client.
+ */
+public class SuggestCommand extends Command {
+
+    public static final String COMMAND_WORD = "suggest";
+
+    /** The most sets of sessions suggested. */
+    public static final int MAX_SUGGESTIONS = 3;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Suggest COUNT weekly sessions of DURATION minutes each, on different days, that do not conflict "
+            + "with the session of any client. Sessions that fit right before or after other sessions are "
+            + "suggested first. Only the given days are used if any are given, and only the time between the two "
+            + "given times if given.\n\n"
+            + "Format: "
+            + COMMAND_WORD + " COUNT DURATION [DAY]... [between HHmm HHmm]\n\n"
+            + "Example: " + COMMAND_WORD + " 3 60 Mon Wed Fri between 0800 2000";
+
+    public static final String MESSAGE_SUGGESTIONS = "Suggested sessions, most compact first:\n%1$s";
+    public static final String MESSAGE_NO_SUGGESTIONS =
+            "No %1$d sessions of %2$d minutes fit on different days without a conflict.";
+
+    private final int count;
+    private final int duration;
+    private final Set<DayOfWeek> days;
+    private final TimeSlot window;
+
+    /**
+     * Creates a SuggestCommand to suggest {@code count} weekly sessions of {@code duration} minutes, on different
+     * days among {@code days} and within {@code window}.
+     */
+    public SuggestCommand(int count, int duration, Set<DayOfWeek> days, TimeSlot window) {
+        requireAllNonNull(days, window);
+        this.count = count;
+        this.duration = duration;
+        this.days = days.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(days);
+        this.window = window;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return execute(model, ProgressMonitor.NONE);
+    }
+
+    /**
+     * Suggests sessions, reporting the days whose free time has been found to {@code monitor}. Nothing is changed, so
+     * the command can be cancelled between days.
+     */
+    @Override
+    public CommandResult execute(Model model, ProgressMonitor monitor) throws CommandCancelledException {
+        requireAllNonNull(model, monitor);
+        Map<DayOfWeek, List<TimeSlot>> freeSlots = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : days) {
+            freeSlots.put(day, model.findFreeSlots(day, TimeSlot.WHOLE_DAY, duration));
+            monitor.reportProgress(freeSlots.size(), days.size());
+            monitor.checkCancelled();
+        }
+        List<Suggestion> suggestions = new SlotSuggester(count, duration, window, MAX_SUGGESTIONS)
+                .suggest(freeSlots);
+
+        if (suggestions.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_SUGGESTIONS, count, duration));
+        }
+        StringBuilder suggestionList = new StringBuilder();
+        for (int i = 0; i < suggestions.size(); i++) {
+            if (i > 0) {
+                suggestionList.append("\n");
+            }
+            suggestionList.append(i + 1).append(". ").append(format(suggestions.get(i)));
+        }
+        return new CommandResult(String.format(MESSAGE_SUGGESTIONS, suggestionList));
+    }
+
+    /**
+     * Formats the sessions of {@code suggestion} as they are given to the add and edit commands.
+     */
+    private static String format(Suggestion suggestion) {
+        return suggestion.getSessions().stream()
+                .map(SuggestCommand::format)
+                .collect(Collectors.joining(" "));
+    }
+
+    private static String format(RecurringSchedule session) {
+        return PREFIX_RECURRING_SCHEDULE + DayOfWeekUtils.getPascalCaseName(session.getDay()) + " "
+                + session.getStartTime() + " " + session.getEndTime();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SuggestCommand)) {
+            return false;
+        }
+
+        SuggestCommand otherSuggestCommand = (SuggestCommand) other;
+        return count == otherSuggestCommand.count
+                && duration == otherSuggestCommand.duration
+                && days.equals(otherSuggestCommand.days)
+                && window.equals(otherSuggestCommand.window);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("duration", duration)
+                .add("days", days)
+                .add("window", window)
+                .toString();
+    }
+}
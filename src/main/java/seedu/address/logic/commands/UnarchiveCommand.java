@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Moves an archived person identified by their name from the archive back to the address book.
+ */
+public class UnarchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "unarchive";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Move an archived client back into the client list, identified by their full name "
+            + "(case-insensitive). Use \"" + FindCommand.COMMAND_WORD + " " + FindCommand.ARCHIVED_FLAG
+            + " KEYWORD\" to look up the names of archived clients. Unarchiving cannot be undone with \""
+            + UndoCommand.COMMAND_WORD + "\".\n\n"
+            + "Format: "
+            + COMMAND_WORD + " NAME\n\n"
+            + "Example: " + COMMAND_WORD + " Alex Yeoh";
+
+    public static final String MESSAGE_UNARCHIVE_PERSON_SUCCESS = "Unarchived Client: %1$s";
+    public static final String MESSAGE_PERSON_NOT_ARCHIVED = "No archived client is named %1$s.";
+    public static final String MESSAGE_DUPLICATE_PERSON = "A client named %1$s is already in the client list.";
+    public static final String MESSAGE_DUPLICATE_PHONE = "Another client in the client list has the phone number "
+            + "of %1$s. Change one of the phone numbers before unarchiving them.";
+
+    private final Name name;
+
+    public UnarchiveCommand(Name name) {
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Optional<Person> archivedPerson;
+        try {
+            archivedPerson = model.getArchivedPersons().getPersonList().stream()
+                    .filter(person -> person.getName().equals(name))
+                    .findFirst();
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(Messages.MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()), e);
+        }
+
+        if (!archivedPerson.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_PERSON_NOT_ARCHIVED, name));
+        }
+        Person personToUnarchive = archivedPerson.get();
+        if (model.hasPerson(personToUnarchive)) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_PERSON, name));
+        }
+        if (model.hasPhone(personToUnarchive)) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_PHONE, personToUnarchive.getName()));
+        }
+
+        boolean hasHistory = model.canUndoAddressBook() || model.canRedoAddressBook();
+        try {
+            model.unarchivePerson(personToUnarchive);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(Messages.MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()), e);
+        }
+        String result = String.format(MESSAGE_UNARCHIVE_PERSON_SUCCESS, Messages.format(personToUnarchive));
+        return new CommandResult(hasHistory ? result + Messages.MESSAGE_UNDO_HISTORY_CLEARED : result);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UnarchiveCommand)) {
+            return false;
+        }
+
+        UnarchiveCommand otherUnarchiveCommand = (UnarchiveCommand) other;
+        return name.equals(otherUnarchiveCommand.name);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .toString();
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Occurrence;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.util.DayOfWeekUtils;
+import seedu.address.model.util.LocalDateUtils;
+
+/**
+ * Lists the next sessions of all clients from now.
+ */
+public class UpcomingCommand extends Command {
+
+    public static final String COMMAND_WORD = "upcoming";
+
+    /** The most sessions that can be listed. */
+    public static final int MAX_COUNT = 100;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": List the next COUNT sessions of all clients that have not started yet, soonest first.\n\n"
+            + "Format: "
+            + COMMAND_WORD + " COUNT (from 1 to " + MAX_COUNT + ")\n\n"
+            + "Example: " + COMMAND_WORD + " 5";
+
+    public static final String MESSAGE_UPCOMING = "Next sessions (%1$d):\n%2$s";
+    public static final String MESSAGE_NO_UPCOMING = "No upcoming sessions.";
+
+    private final int count;
+    private final Clock clock;
+
+    /**
+     * Creates an UpcomingCommand to list the next {@code count} sessions.
+     */
+    public UpcomingCommand(int count) {
+        this(count, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an UpcomingCommand to list the next {@code count} sessions from the time of {@code clock}.
+     */
+    UpcomingCommand(int count, Clock clock) {
+        requireNonNull(clock);
+        checkArgument(count > 0 && count <= MAX_COUNT, "Invalid number of sessions: " + count);
+        this.count = count;
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Occurrence> upcoming = model.getUpcomingSessions(count, LocalDateTime.now(clock));
+
+        if (upcoming.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_UPCOMING);
+        }
+        String sessionList = upcoming.stream()
+                .map(UpcomingCommand::format)
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_UPCOMING, upcoming.size(), sessionList));
+    }
+
+    private static String format(Occurrence occurrence) {
+        return DayOfWeekUtils.getPascalCaseName(occurrence.getDate().getDayOfWeek()) + " "
+                + LocalDateUtils.toString(occurrence.getDate()) + " "
+                + new TimeSlot(occurrence.getStartMinute(), occurrence.getEndMinute()) + " "
+                + occurrence.getPerson().getName().fullName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UpcomingCommand)) {
+            return false;
+        }
+
+        UpcomingCommand otherUpcomingCommand = (UpcomingCommand) other;
+        return count == otherUpcomingCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .toString();
+    }
+}
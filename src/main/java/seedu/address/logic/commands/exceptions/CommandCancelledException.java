@@ -0,0 +1,12 @@
+package seedu.address.logic.commands.exceptions;
+
+/**
+ * Signals that a {@link seedu.address.logic.commands.Command} was cancelled before it completed.
+ */
+public class CommandCancelledException extends CommandException {
+    public static final String MESSAGE_COMMAND_CANCELLED = "Command cancelled. No changes were made.";
+
+    public CommandCancelledException() {
+        super(MESSAGE_COMMAND_CANCELLED);
+    }
+}
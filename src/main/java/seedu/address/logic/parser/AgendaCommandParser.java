@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AgendaCommand object
+ */
+public class AgendaCommandParser implements Parser<AgendaCommand> {
+
+    /** The most days an agenda can cover. */
+    public static final int MAX_DAYS = 366;
+
+    public static final String MESSAGE_INVALID_RANGE = "The agenda must not end before it starts, and can cover at "
+            + "most " + MAX_DAYS + " days.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AgendaCommand
+     * and returns an AgendaCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AgendaCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] tokens = args.trim().split("\\s+");
+        if (tokens.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate from = ParserUtil.parseDayOrDate(tokens[0], LocalDate.now());
+        LocalDate to = ParserUtil.parseDayOrDate(tokens[1], from);
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new AgendaCommand(from, to);
+    }
+}
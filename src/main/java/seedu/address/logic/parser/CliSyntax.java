@@ -16,4 +16,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_COMMAND = new Prefix("/");
 
+    /* Keyword definitions */
+    public static final String KEYWORD_BETWEEN = "between";
+
 }
@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_BETWEEN;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.FreeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.TimeSlot;
+
+/**
+ * Parses input arguments and creates a new FreeCommand object
+ */
+public class FreeCommandParser implements Parser<FreeCommand> {
+
+    private static final String VALIDATION_REGEX_DURATION = "\\d+";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeCommand
+     * and returns a FreeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FreeCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw invalidFormat();
+        }
+
+        String[] tokens = trimmedArgs.split("\\s+");
+        LocalDate date = ParserUtil.parseDayOrDate(tokens[0], LocalDate.now());
+        int next = 1;
+
+        int minMinutes = 1;
+        if (next < tokens.length && tokens[next].matches(VALIDATION_REGEX_DURATION)) {
+            minMinutes = ParserUtil.parseDuration(tokens[next]);
+            next++;
+        }
+
+        TimeSlot window = TimeSlot.WHOLE_DAY;
+        if (next < tokens.length && tokens[next].equalsIgnoreCase(KEYWORD_BETWEEN)) {
+            if (next + 2 >= tokens.length) {
+                throw invalidFormat();
+            }
+            window = ParserUtil.parseTimeWindow(tokens[next + 1], tokens[next + 2]);
+            next += 3;
+        }
+
+        if (next != tokens.length) {
+            throw invalidFormat();
+        }
+        return new FreeCommand(date, window, minMinutes);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new HistoryCommand object
+ */
+public class HistoryCommandParser implements Parser<HistoryCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the HistoryCommand
+     * and returns an HistoryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public HistoryCommand parse(String args) throws ParseException {
+        if (args.isEmpty()) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    HistoryCommand.MESSAGE_USAGE));
+        }
+        Index index = ParserUtil.parseIndex(args);
+        return new HistoryCommand(index);
+    }
+
+}
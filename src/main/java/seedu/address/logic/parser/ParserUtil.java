@@ -2,6 +2,8 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -16,7 +18,11 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.OneTimeSchedule;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.RecurringSchedule;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.TimeSlot;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.DayOfWeekUtils;
+import seedu.address.model.util.LocalDateUtils;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -25,6 +31,11 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Input must be an integer value between 1 and "
             + Integer.MAX_VALUE;
+    public static final String MESSAGE_INVALID_DURATION = "Duration must be a whole number of minutes from 1 to "
+            + TimeSlot.MINUTES_PER_DAY + ".";
+    public static final String MESSAGE_INVALID_TIME = "Times should be in the HHmm format, from 0000 to 2359.";
+    public static final String MESSAGE_INVALID_DAY_OR_DATE = "Days should be a day of the week, such as Monday or "
+            + "Mon, and dates should be in the [D]D/[M]M[/YY] format.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -84,7 +95,7 @@ public class ParserUtil {
         if (!RecurringSchedule.isValidTime(trimmedRecurringSchedule)) {
             throw new ParseException(RecurringSchedule.MESSAGE_TIME_CONSTRAINTS);
         }
-        return new RecurringSchedule(trimmedRecurringSchedule);
+        return RecurringSchedule.of(trimmedRecurringSchedule);
     }
 
     /**
@@ -112,7 +123,7 @@ public class ParserUtil {
         if (!Goals.isValidGoals(trimmedGoals)) {
             throw new ParseException(Goals.MESSAGE_CONSTRAINTS);
         }
-        return new Goals(trimmedGoals);
+        return Goals.of(trimmedGoals);
     }
 
     /**
@@ -127,7 +138,7 @@ public class ParserUtil {
         if (!Location.isValidLocation(trimmedLocation)) {
             throw new ParseException(Location.MESSAGE_CONSTRAINTS);
         }
-        return new Location(trimmedLocation);
+        return Location.of(trimmedLocation);
     }
 
     /**
@@ -148,7 +159,7 @@ public class ParserUtil {
         if (!OneTimeSchedule.isValidTime(trimmedOneTimeSchedule)) {
             throw new ParseException(OneTimeSchedule.MESSAGE_TIME_CONSTRAINTS);
         }
-        return new OneTimeSchedule(trimmedOneTimeSchedule);
+        return OneTimeSchedule.of(trimmedOneTimeSchedule);
     }
 
     /**
@@ -176,7 +187,7 @@ public class ParserUtil {
         if (!MedicalHistory.isValidMedicalHistory(trimmedMedicalHistory)) {
             throw new ParseException(MedicalHistory.MESSAGE_CONSTRAINTS);
         }
-        return new MedicalHistory(trimmedMedicalHistory);
+        return MedicalHistory.of(trimmedMedicalHistory);
     }
 
     /**
@@ -191,7 +202,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -206,4 +217,67 @@ public class ParserUtil {
         return tagSet;
     }
 
+    /**
+     * Parses a {@code String dayOrDate} into a date. A day of the week is the first such day on or after
+     * {@code reference}, so that it is the coming one if {@code reference} is today.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code dayOrDate} is neither a day of the week nor a valid date.
+     */
+    public static LocalDate parseDayOrDate(String dayOrDate, LocalDate reference) throws ParseException {
+        requireNonNull(dayOrDate);
+        requireNonNull(reference);
+        String trimmedDayOrDate = dayOrDate.trim();
+        if (DayOfWeekUtils.isDayOfWeek(trimmedDayOrDate)) {
+            return reference.with(TemporalAdjusters.nextOrSame(DayOfWeekUtils.fromString(trimmedDayOrDate)));
+        }
+        if (LocalDateUtils.isValidDateString(trimmedDayOrDate)) {
+            return LocalDateUtils.localDateParser(trimmedDayOrDate);
+        }
+        throw new ParseException(MESSAGE_INVALID_DAY_OR_DATE);
+    }
+
+    /**
+     * Parses a {@code String duration} in minutes into the number of minutes.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code duration} is not a whole number of minutes within a day.
+     */
+    public static int parseDuration(String duration) throws ParseException {
+        requireNonNull(duration);
+        String trimmedDuration = duration.trim();
+        if (!trimmedDuration.matches("\\d{1,4}")) {
+            throw new ParseException(MESSAGE_INVALID_DURATION);
+        }
+        int minutes = Integer.parseInt(trimmedDuration);
+        if (minutes < 1 || minutes > TimeSlot.MINUTES_PER_DAY) {
+            throw new ParseException(MESSAGE_INVALID_DURATION);
+        }
+        return minutes;
+    }
+
+    /**
+     * Parses a {@code String startTime} and {@code String endTime} in HHmm format into the {@code TimeSlot}
+     * between them.
+     *
+     * @throws ParseException if either time is invalid, or the end time is not later than the start time.
+     */
+    public static TimeSlot parseTimeWindow(String startTime, String endTime) throws ParseException {
+        requireNonNull(startTime);
+        requireNonNull(endTime);
+        if (!startTime.matches(Schedule.VALIDATION_REGEX_TIME) || !endTime.matches(Schedule.VALIDATION_REGEX_TIME)) {
+            throw new ParseException(MESSAGE_INVALID_TIME);
+        }
+        int startMinute = toMinuteOfDay(startTime);
+        int endMinute = toMinuteOfDay(endTime);
+        if (startMinute >= endMinute) {
+            throw new ParseException(Schedule.MESSAGE_TIME_CONSTRAINTS);
+        }
+        return new TimeSlot(startMinute, endMinute);
+    }
+
+    private static int toMinuteOfDay(String time) {
+        return Integer.parseInt(time.substring(0, 2)) * 60 + Integer.parseInt(time.substring(2));
+    }
+
 }
@@ -0,0 +1,81 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_BETWEEN;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Set;
+
+import seedu.address.logic.commands.SuggestCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.util.DayOfWeekUtils;
+
+/**
+ * Parses input arguments and creates a new SuggestCommand object
+ */
+public class SuggestCommandParser implements Parser<SuggestCommand> {
+
+    public static final String MESSAGE_INVALID_COUNT = "Number of sessions must be from 1 to 7, and at most the "
+            + "number of days given.";
+
+    private static final String VALIDATION_REGEX_COUNT = "\\d+";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SuggestCommand
+     * and returns a SuggestCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SuggestCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] tokens = args.trim().split("\\s+");
+        if (tokens.length < 2 || !tokens[0].matches(VALIDATION_REGEX_COUNT)) {
+            throw invalidFormat();
+        }
+        int duration = ParserUtil.parseDuration(tokens[1]);
+        int next = 2;
+
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        while (next < tokens.length && DayOfWeekUtils.isDayOfWeek(tokens[next])) {
+            days.add(DayOfWeekUtils.fromString(tokens[next]));
+            next++;
+        }
+        if (days.isEmpty()) {
+            days = EnumSet.allOf(DayOfWeek.class);
+        }
+
+        TimeSlot window = TimeSlot.WHOLE_DAY;
+        if (next < tokens.length && tokens[next].equalsIgnoreCase(KEYWORD_BETWEEN)) {
+            if (next + 2 >= tokens.length) {
+                throw invalidFormat();
+            }
+            window = ParserUtil.parseTimeWindow(tokens[next + 1], tokens[next + 2]);
+            next += 3;
+        }
+
+        if (next != tokens.length) {
+            throw invalidFormat();
+        }
+
+        // checked after the days, as there can be no more sessions than days
+        int count = parseCount(tokens[0], days.size());
+        return new SuggestCommand(count, duration, days, window);
+    }
+
+    private static int parseCount(String count, int dayCount) throws ParseException {
+        if (count.length() > 1) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        int sessionCount = Integer.parseInt(count);
+        if (sessionCount < 1 || sessionCount > dayCount) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return sessionCount;
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SuggestCommand.MESSAGE_USAGE));
+    }
+}
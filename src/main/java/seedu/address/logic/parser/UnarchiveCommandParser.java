@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.UnarchiveCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
+
+/**
+ * Parses input arguments and creates a new UnarchiveCommand object
+ */
+public class UnarchiveCommandParser implements Parser<UnarchiveCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UnarchiveCommand
+     * and returns an UnarchiveCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UnarchiveCommand parse(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    UnarchiveCommand.MESSAGE_USAGE));
+        }
+        Name name = ParserUtil.parseName(args);
+        return new UnarchiveCommand(name);
+    }
+
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.UpcomingCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UpcomingCommand object
+ */
+public class UpcomingCommandParser implements Parser<UpcomingCommand> {
+
+    public static final String MESSAGE_INVALID_COUNT = "Number of sessions must be from 1 to "
+            + UpcomingCommand.MAX_COUNT + ".";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UpcomingCommand
+     * and returns an UpcomingCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UpcomingCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpcomingCommand.MESSAGE_USAGE));
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)
+                || Integer.parseInt(trimmedArgs) > UpcomingCommand.MAX_COUNT) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return new UpcomingCommand(Integer.parseInt(trimmedArgs));
+    }
+}
@@ -2,12 +2,27 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.CapacityLimits;
+import seedu.address.model.person.CapacityViolation;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Occurrence;
+import seedu.address.model.person.OccurrenceIterator;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.ScheduleOccupancy;
+import seedu.address.model.person.TimeSlot;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.UpcomingSessions;
 
 /**
  * Wraps all data at the address-book level
@@ -16,6 +31,10 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    // built when free time is first looked up, and then kept up to date by the person-level operations
+    private ScheduleOccupancy occupancy;
+    // built when upcoming sessions are first looked up, and then kept up to date in the same way
+    private UpcomingSessions upcomingSessions;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +65,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        occupancy = null;
+        upcomingSessions = null;
     }
 
     /**
@@ -57,6 +78,48 @@ public class AddressBook implements ReadOnlyAddressBook {
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Brings this {@code AddressBook} in line with {@code newData} by removing, replacing and adding only the persons
+     * that differ, matched by name. Persons in both keep their place in this address book, and new persons are added
+     * at the end in the order of {@code newData}. If most persons differ, the whole list is replaced instead, as
+     * locating each of them in the list would cost more.
+     * {@code newData} must not contain duplicate persons.
+     *
+     * @return the number of persons that were removed, replaced or added.
+     */
+    public int mergeData(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+
+        Map<Name, Person> addedPersons = new LinkedHashMap<>();
+        for (Person person : newData.getPersonList()) {
+            addedPersons.put(person.getName(), person);
+        }
+        List<Person> removedPersons = new ArrayList<>();
+        List<Person> replacedPersons = new ArrayList<>();
+        List<Person> replacements = new ArrayList<>();
+        for (Person person : getPersonList()) {
+            Person newPerson = addedPersons.remove(person.getName());
+            if (newPerson == null) {
+                removedPersons.add(person);
+            } else if (!newPerson.equals(person)) {
+                replacedPersons.add(person);
+                replacements.add(newPerson);
+            }
+        }
+
+        int changedCount = removedPersons.size() + replacedPersons.size() + addedPersons.size();
+        if (changedCount > getPersonList().size() / 2) {
+            resetData(newData);
+            return changedCount;
+        }
+        removedPersons.forEach(this::removePerson);
+        for (int i = 0; i < replacedPersons.size(); i++) {
+            setPerson(replacedPersons.get(i), replacements.get(i));
+        }
+        addedPersons.values().forEach(this::addPerson);
+        return changedCount;
+    }
+
     //// person-level operations
 
     /**
@@ -73,6 +136,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        if (occupancy != null) {
+            occupancy.add(p);
+        }
+        if (upcomingSessions != null) {
+            upcomingSessions.add(p);
+        }
     }
 
     /**
@@ -84,6 +153,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        if (occupancy != null) {
+            occupancy.remove(target);
+            occupancy.add(editedPerson);
+        }
+        if (upcomingSessions != null) {
+            upcomingSessions.remove(target);
+            upcomingSessions.add(editedPerson);
+        }
     }
 
     /**
@@ -92,6 +169,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        if (occupancy != null) {
+            occupancy.remove(key);
+        }
+        if (upcomingSessions != null) {
+            upcomingSessions.remove(key);
+        }
     }
 
     /**
@@ -102,6 +185,79 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.containsPhone(person);
     }
 
+    /**
+     * Returns the spans of {@code date} within {@code window} that are at least {@code minMinutes} long and in which
+     * the recurring and one-time schedules of the persons in the address book leave room for another session under
+     * {@code limits}, in order.
+     *
+     * @see ScheduleOccupancy#findFreeSlots(LocalDate, TimeSlot, int, CapacityLimits)
+     */
+    public List<TimeSlot> findFreeSlots(LocalDate date, TimeSlot window, int minMinutes, CapacityLimits limits) {
+        requireNonNull(date);
+        requireNonNull(window);
+        requireNonNull(limits);
+        return getOccupancy().findFreeSlots(date, window, minMinutes, limits);
+    }
+
+    /**
+     * Returns the spans of every {@code day} within {@code window} that are at least {@code minMinutes} long and in
+     * which the recurring schedules on {@code day}, and the one-time schedules on any date from {@code today} on
+     * that falls on it, of the persons in the address book leave room for another recurring session under
+     * {@code limits}, in order.
+     *
+     * @see ScheduleOccupancy#findFreeSlots(DayOfWeek, TimeSlot, int, CapacityLimits, LocalDate)
+     */
+    public List<TimeSlot> findFreeSlots(DayOfWeek day, TimeSlot window, int minMinutes, CapacityLimits limits,
+            LocalDate today) {
+        requireNonNull(day);
+        requireNonNull(window);
+        requireNonNull(limits);
+        requireNonNull(today);
+        return getOccupancy().findFreeSlots(day, window, minMinutes, limits, today);
+    }
+
+    /**
+     * Returns the spans in which more sessions would be held at once than {@code limits} allow if {@code person}
+     * were added to the address book, in place of {@code replaced} if it is not null, leaving out dates before
+     * {@code today}.
+     *
+     * @see ScheduleOccupancy#findCapacityViolations(Person, Person, CapacityLimits, LocalDate)
+     */
+    public List<CapacityViolation> findCapacityViolations(Person person, Person replaced, CapacityLimits limits,
+            LocalDate today) {
+        requireNonNull(person);
+        requireNonNull(limits);
+        requireNonNull(today);
+        return getOccupancy().findCapacityViolations(person, replaced, limits, today);
+    }
+
+    /**
+     * Returns the sessions of the persons in the address book from {@code from} to {@code to}, both inclusive, in
+     * order of date and then start time. The sessions are expanded as the iterator advances.
+     */
+    public Iterator<Occurrence> getOccurrences(LocalDate from, LocalDate to) {
+        return new OccurrenceIterator(getPersonList(), from, to);
+    }
+
+    /**
+     * Returns the next {@code n} sessions of the persons in the address book that start at or after {@code now}, in
+     * order of date and then start time.
+     */
+    public List<Occurrence> getUpcomingSessions(int n, LocalDateTime now) {
+        requireNonNull(now);
+        if (upcomingSessions == null) {
+            upcomingSessions = UpcomingSessions.of(getPersonList(), now);
+        }
+        return upcomingSessions.next(n, now);
+    }
+
+    private ScheduleOccupancy getOccupancy() {
+        if (occupancy == null) {
+            occupancy = ScheduleOccupancy.of(getPersonList());
+        }
+        return occupancy;
+    }
+
     //// util methods
 
     @Override
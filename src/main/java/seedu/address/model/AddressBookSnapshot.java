@@ -0,0 +1,87 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable, point-in-time copy of an address book that can be read from any thread.
+ * Taking a snapshot is O(1), as it shares the {@link PersistentList} of a committed state of a
+ * {@link VersionedAddressBook}.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentList<Person> persons;
+    private final long version;
+    private ObservableList<Person> personList;
+
+    /**
+     * Creates a snapshot of {@code persons}.
+     *
+     * @param version A number that increases with every snapshot taken of the same address book.
+     */
+    AddressBookSnapshot(PersistentList<Person> persons, long version) {
+        this.persons = requireNonNull(persons);
+        this.version = version;
+    }
+
+    /**
+     * Returns the number of persons in this snapshot.
+     */
+    public int size() {
+        return persons.size();
+    }
+
+    /**
+     * Returns the number that orders this snapshot among the snapshots of the same address book.
+     * A later snapshot has a larger version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an unmodifiable list of the persons in this snapshot. The list is built on the first call, so
+     * readers that only need {@link #size()} do not pay for copying the persons.
+     */
+    @Override
+    public synchronized ObservableList<Person> getPersonList() {
+        if (personList == null) {
+            personList = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(persons.toList()));
+        }
+        return personList;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return getPersonList().equals(otherSnapshot.getPersonList());
+    }
+
+    @Override
+    public int hashCode() {
+        return getPersonList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", persons)
+                .toString();
+    }
+}
@@ -1,11 +1,25 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.CapacityViolation;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Occurrence;
+import seedu.address.model.person.OneTimeSchedule;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeSlot;
 
 /**
  * The API of the Model component.
@@ -52,6 +66,74 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the address book as of its last committed, undone or redone state.
+     * Unlike the other methods of the model, this can be called from any thread.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
+    /**
+     * Brings the address book in line with {@code addressBook}, changing only the persons that differ. The changes
+     * are made to every state the address book can be undone or redone to, so that they cannot be undone.
+     *
+     * @return the number of persons that were removed, replaced or added.
+     * @see VersionedAddressBook#rebase(ReadOnlyAddressBook)
+     */
+    int mergeAddressBook(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Returns the archived persons, loading them first if they have not been loaded yet.
+     *
+     * @throws DataLoadingException if the archived persons could not be loaded.
+     */
+    ReadOnlyAddressBook getArchivedPersons() throws DataLoadingException;
+
+    /**
+     * Moves {@code persons} from the address book to the archive and commits the result.
+     * The persons must exist in the address book. As the archive is not part of the undo history, the history is
+     * discarded so that an undo cannot bring back an archived person without removing them from the archive.
+     *
+     * @throws DataLoadingException if the archived persons could not be loaded. Nothing is moved then.
+     */
+    void archivePersons(List<Person> persons) throws DataLoadingException;
+
+    /**
+     * Moves {@code person} from the archive back to the address book and commits the result.
+     * The person must be archived and must not have the same identity as a person in the address book. As with
+     * {@link #archivePersons(List)}, the undo history is discarded.
+     *
+     * @throws DataLoadingException if the archived persons could not be loaded. Nothing is moved then.
+     */
+    void unarchivePerson(Person person) throws DataLoadingException;
+
+    /**
+     * Returns the archived persons if they have changed since they were loaded or last marked as saved, or
+     * {@code Optional.empty()} if they have not.
+     */
+    Optional<ReadOnlyAddressBook> getUnsavedArchivedPersons();
+
+    /**
+     * Records that the archived persons returned by {@link #getUnsavedArchivedPersons()} have been saved.
+     */
+    void markArchivedPersonsSaved();
+
+    /**
+     * Removes the one-time schedules dated before {@code date} from the persons in the address book, without
+     * committing the result. A person who would be left without any schedules keeps their latest one.
+     *
+     * @return the removed schedules, keyed by the name of the person they were removed from.
+     * @see Person#withoutOneTimeSchedulesBefore(LocalDate)
+     */
+    Map<Name, List<OneTimeSchedule>> removeOneTimeSchedulesBefore(LocalDate date);
+
+    /**
+     * Returns the past one-time schedules of the person named {@code name} that were moved out of the address book,
+     * oldest first.
+     *
+     * @throws DataLoadingException if the past schedules could not be read.
+     */
+    List<OneTimeSchedule> getPastOneTimeSchedules(Name name) throws DataLoadingException;
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -81,6 +163,47 @@ public interface Model {
      */
     boolean hasPhone(Person person);
 
+    /**
+     * Returns the spans of {@code date} within {@code window} that are at least {@code minMinutes} long and in which
+     * the studio, with its capacity in the user prefs, has room for another session besides the schedules in the
+     * address book, in order.
+     */
+    List<TimeSlot> findFreeSlots(LocalDate date, TimeSlot window, int minMinutes);
+
+    /**
+     * Returns the spans of every {@code day} within {@code window} that are at least {@code minMinutes} long and that
+     * a new recurring schedule on {@code day} could take up without the studio holding more sessions at once than
+     * its capacity in the user prefs allows, from today on, in order.
+     */
+    List<TimeSlot> findFreeSlots(DayOfWeek day, TimeSlot window, int minMinutes);
+
+    /**
+     * Returns the sessions of all persons in the address book from {@code from} to {@code to}, both inclusive, in
+     * order of date and then start time. The sessions are expanded as the iterator advances, from the persons in
+     * the address book when this is called.
+     */
+    Iterator<Occurrence> getOccurrences(LocalDate from, LocalDate to);
+
+    /**
+     * Returns the spans in which the studio would hold more sessions at once than its capacity in the user prefs
+     * allows if {@code person} were added, during one of the sessions of {@code person} from today on.
+     */
+    List<CapacityViolation> findCapacityViolations(Person person);
+
+    /**
+     * Returns the spans in which the studio would hold more sessions at once than its capacity in the user prefs
+     * allows if {@code target} were replaced with {@code editedPerson}, during one of the sessions of
+     * {@code editedPerson} from today on.
+     * {@code target} must exist in the address book.
+     */
+    List<CapacityViolation> findCapacityViolations(Person target, Person editedPerson);
+
+    /**
+     * Returns the next {@code n} sessions of all persons in the address book that start at or after {@code now}, in
+     * order of date and then start time.
+     */
+    List<Occurrence> getUpcomingSessions(int n, LocalDateTime now);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -89,4 +212,41 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Returns true if the model has previous address book states to restore.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if the model has undone address book states to restore.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the model's address book to its previous state.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the model's address book to its previously undone state.
+     */
+    void redoAddressBook();
+
+    /**
+     * Saves the current address book state for undo/redo.
+     */
+    void commitAddressBook();
+
+    /**
+     * Makes the changes made to the address book since it was last committed part of its current state instead of a
+     * new state, so that they cannot be undone. {@code change} must be how those changes changed each person, and is
+     * applied to every state the address book can be undone or redone to.
+     */
+    void rebaseAddressBook(UnaryOperator<Person> change);
+
+    /**
+     * Discards the changes made to the address book since it was last committed.
+     */
+    void rollbackAddressBook();
 }
@@ -4,36 +4,88 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.CapacityLimits;
+import seedu.address.model.person.CapacityViolation;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Occurrence;
+import seedu.address.model.person.OneTimeSchedule;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeSlot;
 
 /**
  * Represents the in-memory model of the address book data.
+ * Changes to the address book are serialized by a single write lock. Other threads can read the address book
+ * without locking through {@link #getAddressBookSnapshot()}, which is republished whenever the committed state
+ * changes. All other methods should only be called from the thread that runs commands.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
+    private final PersonArchive archive;
+    private final SessionHistory sessionHistory;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile AddressBookSnapshot snapshot;
+    // built from the user prefs when first needed
+    private CapacityLimits capacityLimits;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, whose archived persons are loaded by
+     * {@code archiveLoader} when they are first needed, and whose past sessions are read from
+     * {@code sessionHistory}.
      */
-    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs,
+            PersonArchive.Loader archiveLoader, SessionHistory sessionHistory) {
+        requireAllNonNull(addressBook, userPrefs, archiveLoader, sessionHistory);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.addressBook = new VersionedAddressBook(addressBook, this.userPrefs.getUndoHistoryBudget());
+        this.archive = new PersonArchive(archiveLoader);
+        this.sessionHistory = sessionHistory;
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        snapshot = this.addressBook.snapshot();
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, whose archived persons are loaded by
+     * {@code archiveLoader} when they are first needed, and no past sessions.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs,
+            PersonArchive.Loader archiveLoader) {
+        this(addressBook, userPrefs, archiveLoader, SessionHistory.EMPTY);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, and no archived persons.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, Optional::empty);
     }
 
     public ModelManager() {
@@ -46,6 +98,24 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        capacityLimits = null;
+        write(() -> addressBook.setMemoryBudget(this.userPrefs.getUndoHistoryBudget()));
+    }
+
+    /**
+     * Returns the capacity limits in the user prefs, or one session at a time if they are not valid.
+     */
+    private CapacityLimits getCapacityLimits() {
+        if (capacityLimits == null) {
+            try {
+                capacityLimits = CapacityLimits.of(userPrefs.getStudioCapacity(), userPrefs.getCapacityWindows());
+            } catch (IllegalArgumentException e) {
+                logger.warning("Capacity limits in the user prefs are not valid, so one session at a time is allowed: "
+                        + e.getMessage());
+                capacityLimits = CapacityLimits.ONE_AT_A_TIME;
+            }
+        }
+        return capacityLimits;
     }
 
     @Override
@@ -79,7 +149,17 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        write(() -> this.addressBook.resetData(addressBook));
+    }
+
+    @Override
+    public int mergeAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        int[] changedCount = new int[1];
+        writeAndPublish(() -> {
+            changedCount[0] = this.addressBook.rebase(addressBook);
+        });
+        return changedCount[0];
     }
 
     @Override
@@ -87,6 +167,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return snapshot;
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -95,20 +180,32 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        write(() -> addressBook.removePerson(target));
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        write(() -> addressBook.addPerson(person));
+        showAllPersonsUnlessFilterKept();
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        write(() -> addressBook.setPerson(target, editedPerson));
+        showAllPersonsUnlessFilterKept();
+    }
+
+    /**
+     * Clears the filter so that an added or edited person is shown, unless the user prefers to keep the filter.
+     * A kept filter is only re-evaluated on the changed person, as {@code FilteredList} handles each change to
+     * its source incrementally.
+     */
+    private void showAllPersonsUnlessFilterKept() {
+        if (!userPrefs.isKeepFilterOnChange()) {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
     }
 
     @Override
@@ -117,6 +214,181 @@ public class ModelManager implements Model {
         return addressBook.hasPhone(person);
     }
 
+    @Override
+    public List<TimeSlot> findFreeSlots(LocalDate date, TimeSlot window, int minMinutes) {
+        return addressBook.findFreeSlots(date, window, minMinutes, getCapacityLimits());
+    }
+
+    @Override
+    public List<TimeSlot> findFreeSlots(DayOfWeek day, TimeSlot window, int minMinutes) {
+        return addressBook.findFreeSlots(day, window, minMinutes, getCapacityLimits(), LocalDate.now());
+    }
+
+    @Override
+    public Iterator<Occurrence> getOccurrences(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return addressBook.getOccurrences(from, to);
+    }
+
+    @Override
+    public List<CapacityViolation> findCapacityViolations(Person person) {
+        requireNonNull(person);
+        return addressBook.findCapacityViolations(person, null, getCapacityLimits(), LocalDate.now());
+    }
+
+    @Override
+    public List<CapacityViolation> findCapacityViolations(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        return addressBook.findCapacityViolations(editedPerson, target, getCapacityLimits(), LocalDate.now());
+    }
+
+    @Override
+    public List<Occurrence> getUpcomingSessions(int n, LocalDateTime now) {
+        requireNonNull(now);
+        return addressBook.getUpcomingSessions(n, now);
+    }
+
+    //=========== Archive ====================================================================================
+
+    @Override
+    public ReadOnlyAddressBook getArchivedPersons() throws DataLoadingException {
+        return archive.getPersons(addressBook);
+    }
+
+    @Override
+    public void archivePersons(List<Person> persons) throws DataLoadingException {
+        requireNonNull(persons);
+        archive.getPersons(addressBook);
+        writeAndPublish(() -> {
+            if (persons.size() == 1) {
+                addressBook.removePerson(persons.get(0));
+            } else {
+                // removing persons one at a time would take quadratic time when many are archived at once
+                Set<Person> archived = new HashSet<>(persons);
+                addressBook.setPersons(addressBook.getPersonList().stream()
+                        .filter(person -> !archived.contains(person))
+                        .collect(Collectors.toList()));
+            }
+            addressBook.commit();
+            addressBook.discardHistory();
+        });
+        archive.add(persons);
+    }
+
+    @Override
+    public void unarchivePerson(Person person) throws DataLoadingException {
+        requireNonNull(person);
+        archive.getPersons(addressBook);
+        writeAndPublish(() -> {
+            addressBook.addPerson(person);
+            addressBook.commit();
+            addressBook.discardHistory();
+        });
+        archive.remove(person);
+        showAllPersonsUnlessFilterKept();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> getUnsavedArchivedPersons() {
+        return archive.getUnsavedPersons();
+    }
+
+    @Override
+    public void markArchivedPersonsSaved() {
+        archive.markSaved();
+    }
+
+    //=========== Session history ============================================================================
+
+    @Override
+    public Map<Name, List<OneTimeSchedule>> removeOneTimeSchedulesBefore(LocalDate date) {
+        requireNonNull(date);
+        Map<Name, List<OneTimeSchedule>> removed = new LinkedHashMap<>();
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            Person current = person.withoutOneTimeSchedulesBefore(date);
+            if (current != person) {
+                Set<OneTimeSchedule> kept = current.getOneTimeSchedules();
+                removed.put(person.getName(), person.getOneTimeSchedules().stream()
+                        .filter(schedule -> !kept.contains(schedule))
+                        .collect(Collectors.toList()));
+            }
+            persons.add(current);
+        }
+
+        if (!removed.isEmpty()) {
+            write(() -> addressBook.setPersons(persons));
+        }
+        return removed;
+    }
+
+    @Override
+    public List<OneTimeSchedule> getPastOneTimeSchedules(Name name) throws DataLoadingException {
+        requireNonNull(name);
+        return sessionHistory.read(name);
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        writeAndPublish(addressBook::undo);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        writeAndPublish(addressBook::redo);
+    }
+
+    @Override
+    public void commitAddressBook() {
+        writeAndPublish(addressBook::commit);
+    }
+
+    @Override
+    public void rebaseAddressBook(UnaryOperator<Person> change) {
+        requireNonNull(change);
+        writeAndPublish(() -> addressBook.rebase(change));
+    }
+
+    @Override
+    public void rollbackAddressBook() {
+        write(addressBook::rollback);
+    }
+
+    /**
+     * Runs {@code change} to the address book while holding the write lock.
+     */
+    private void write(Runnable change) {
+        writeLock.lock();
+        try {
+            change.run();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Runs {@code change} to the committed state of the address book while holding the write lock, then publishes
+     * a snapshot of the new committed state.
+     */
+    private void writeAndPublish(Runnable change) {
+        write(() -> {
+            change.run();
+            snapshot = addressBook.snapshot();
+        });
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -131,6 +403,10 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (filteredPersons.getPredicate() == predicate) {
+            // the list is already filtered by this predicate, so there is no need to re-evaluate every person
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
@@ -0,0 +1,119 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons that have been archived out of an address book.
+ * Archived persons are kept apart from the address book so that they do not slow it down, and are only loaded the
+ * first time they are needed.
+ */
+public class PersonArchive {
+
+    /**
+     * Loads the archived persons from wherever they are kept.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * Returns the archived persons, or {@code Optional.empty()} if no person has been archived yet.
+         *
+         * @throws DataLoadingException if the archived persons could not be loaded.
+         */
+        Optional<ReadOnlyAddressBook> load() throws DataLoadingException;
+    }
+
+    private final Loader loader;
+    // null until the archived persons are loaded
+    private AddressBook persons;
+    private boolean hasUnsavedChanges = false;
+
+    /**
+     * Creates a {@code PersonArchive} whose persons are loaded by {@code loader} when they are first needed.
+     */
+    public PersonArchive(Loader loader) {
+        this.loader = requireNonNull(loader);
+    }
+
+    /**
+     * Returns the archived persons, loading them first if they have not been loaded yet.
+     * Loaded persons with the same identity as a person in {@code addressBook} are dropped, as the copy in the
+     * address book is the current one: the person was restored to the address book outside the app, or the app
+     * stopped while moving the person between the two.
+     *
+     * @throws DataLoadingException if the archived persons could not be loaded. Loading is tried again on the next
+     *     call.
+     */
+    public ReadOnlyAddressBook getPersons(ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        return load(addressBook);
+    }
+
+    /**
+     * Adds {@code toArchive} to the archive, replacing any archived persons with the same identity.
+     * The archived persons must have been loaded.
+     */
+    void add(List<Person> toArchive) {
+        assert persons != null : "persons must be loaded before they can be added to";
+        Set<Name> names = toArchive.stream().map(Person::getName).collect(Collectors.toSet());
+        List<Person> kept = persons.getPersonList().stream()
+                .filter(person -> !names.contains(person.getName()))
+                .collect(Collectors.toList());
+        kept.addAll(toArchive);
+        persons.setPersons(kept);
+        hasUnsavedChanges = true;
+    }
+
+    /**
+     * Removes {@code key} from the archive. The archived persons must have been loaded, and {@code key} must be
+     * one of them.
+     */
+    void remove(Person key) {
+        assert persons != null : "persons must be loaded before they can be removed";
+        persons.removePerson(key);
+        hasUnsavedChanges = true;
+    }
+
+    /**
+     * Returns the archived persons if they have changed since they were loaded or last marked as saved, or
+     * {@code Optional.empty()} if they have not.
+     */
+    public Optional<ReadOnlyAddressBook> getUnsavedPersons() {
+        return hasUnsavedChanges ? Optional.of(persons) : Optional.empty();
+    }
+
+    /**
+     * Records that the archived persons returned by {@link #getUnsavedPersons()} have been saved.
+     */
+    public void markSaved() {
+        hasUnsavedChanges = false;
+    }
+
+    private AddressBook load(ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        if (persons != null) {
+            return persons;
+        }
+
+        List<Person> loaded = loader.load()
+                .<List<Person>>map(ReadOnlyAddressBook::getPersonList)
+                .orElse(List.of());
+        Set<Name> activeNames = addressBook.getPersonList().stream()
+                .map(Person::getName)
+                .collect(Collectors.toSet());
+        List<Person> archived = loaded.stream()
+                .filter(person -> !activeNames.contains(person.getName()))
+                .collect(Collectors.toList());
+        persons = new AddressBook();
+        persons.setPersons(archived);
+        // dropped persons are only removed from the archive file once it is next saved
+        hasUnsavedChanges = archived.size() != loaded.size();
+        return persons;
+    }
+}
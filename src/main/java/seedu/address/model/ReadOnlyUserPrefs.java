@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,4 +14,37 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the estimated number of bytes that the undo history may use.
+     */
+    long getUndoHistoryBudget();
+
+    /**
+     * Returns true if the filtered person list should keep its filter when a person is added or edited.
+     */
+    boolean isKeepFilterOnChange();
+
+    /**
+     * Returns the number of months without sessions after which a client is archived at start-up, or 0 if clients
+     * are never archived automatically.
+     */
+    int getArchiveAfterMonths();
+
+    /**
+     * Returns the number of minutes before a session starts that a reminder of it is shown, or 0 if reminders are
+     * not shown.
+     */
+    int getReminderLeadMinutes();
+
+    /**
+     * Returns the number of sessions the studio can hold at once outside of the capacity windows.
+     */
+    int getStudioCapacity();
+
+    /**
+     * Returns the number of sessions the studio can hold at once during each capacity window, keyed by the window,
+     * such as {@code Mon 1800 2100}.
+     */
+    Map<String, Integer> getCapacityWindows();
+
 }
@@ -0,0 +1,24 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.OneTimeSchedule;
+
+/**
+ * Reads the past one-time sessions that were moved out of an address book, from wherever they are kept.
+ */
+@FunctionalInterface
+public interface SessionHistory {
+
+    /** A history without any past sessions. */
+    SessionHistory EMPTY = name -> List.of();
+
+    /**
+     * Returns the past sessions held with the client named {@code name}, oldest first.
+     *
+     * @throws DataLoadingException if the past sessions could not be read.
+     */
+    List<OneTimeSchedule> read(Name name) throws DataLoadingException;
+}
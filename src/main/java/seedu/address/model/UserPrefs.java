@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
@@ -13,8 +16,18 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final long DEFAULT_UNDO_HISTORY_BUDGET = 16L * 1024 * 1024;
+    public static final int DEFAULT_REMINDER_LEAD_MINUTES = 15;
+    public static final int DEFAULT_STUDIO_CAPACITY = 1;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private long undoHistoryBudget = DEFAULT_UNDO_HISTORY_BUDGET;
+    private boolean keepFilterOnChange = false;
+    private int archiveAfterMonths = 0;
+    private int reminderLeadMinutes = DEFAULT_REMINDER_LEAD_MINUTES;
+    private int studioCapacity = DEFAULT_STUDIO_CAPACITY;
+    private Map<String, Integer> capacityWindows = new LinkedHashMap<>();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +49,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryBudget(newUserPrefs.getUndoHistoryBudget());
+        setKeepFilterOnChange(newUserPrefs.isKeepFilterOnChange());
+        setArchiveAfterMonths(newUserPrefs.getArchiveAfterMonths());
+        setReminderLeadMinutes(newUserPrefs.getReminderLeadMinutes());
+        setStudioCapacity(newUserPrefs.getStudioCapacity());
+        setCapacityWindows(newUserPrefs.getCapacityWindows());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +75,85 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public long getUndoHistoryBudget() {
+        return undoHistoryBudget;
+    }
+
+    /**
+     * Sets the estimated number of bytes that the undo history may use.
+     */
+    public void setUndoHistoryBudget(long undoHistoryBudget) {
+        if (undoHistoryBudget < 0) {
+            throw new IllegalArgumentException("Undo history budget must not be negative");
+        }
+        this.undoHistoryBudget = undoHistoryBudget;
+    }
+
+    public boolean isKeepFilterOnChange() {
+        return keepFilterOnChange;
+    }
+
+    public void setKeepFilterOnChange(boolean keepFilterOnChange) {
+        this.keepFilterOnChange = keepFilterOnChange;
+    }
+
+    public int getArchiveAfterMonths() {
+        return archiveAfterMonths;
+    }
+
+    /**
+     * Sets the number of months without sessions after which a client is archived at start-up, or 0 to never
+     * archive clients automatically.
+     */
+    public void setArchiveAfterMonths(int archiveAfterMonths) {
+        if (archiveAfterMonths < 0) {
+            throw new IllegalArgumentException("Months before archiving must not be negative");
+        }
+        this.archiveAfterMonths = archiveAfterMonths;
+    }
+
+    public int getReminderLeadMinutes() {
+        return reminderLeadMinutes;
+    }
+
+    /**
+     * Sets the number of minutes before a session starts that a reminder of it is shown, or 0 to not show
+     * reminders.
+     */
+    public void setReminderLeadMinutes(int reminderLeadMinutes) {
+        if (reminderLeadMinutes < 0) {
+            throw new IllegalArgumentException("Reminder lead time must not be negative");
+        }
+        this.reminderLeadMinutes = reminderLeadMinutes;
+    }
+
+    public int getStudioCapacity() {
+        return studioCapacity;
+    }
+
+    /**
+     * Sets the number of sessions the studio can hold at once outside of the capacity windows.
+     */
+    public void setStudioCapacity(int studioCapacity) {
+        if (studioCapacity < 1) {
+            throw new IllegalArgumentException("Studio capacity must be at least 1");
+        }
+        this.studioCapacity = studioCapacity;
+    }
+
+    public Map<String, Integer> getCapacityWindows() {
+        return Collections.unmodifiableMap(capacityWindows);
+    }
+
+    /**
+     * Sets the number of sessions the studio can hold at once during each capacity window, such as
+     * {@code Mon 1800 2100}.
+     */
+    public void setCapacityWindows(Map<String, Integer> capacityWindows) {
+        requireNonNull(capacityWindows);
+        this.capacityWindows = new LinkedHashMap<>(capacityWindows);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +167,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryBudget == otherUserPrefs.undoHistoryBudget
+                && keepFilterOnChange == otherUserPrefs.keepFilterOnChange
+                && archiveAfterMonths == otherUserPrefs.archiveAfterMonths
+                && reminderLeadMinutes == otherUserPrefs.reminderLeadMinutes
+                && studioCapacity == otherUserPrefs.studioCapacity
+                && capacityWindows.equals(otherUserPrefs.capacityWindows);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryBudget, keepFilterOnChange,
+                archiveAfterMonths, reminderLeadMinutes, studioCapacity, capacityWindows);
     }
 
     @Override
@@ -82,6 +187,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history budget : " + undoHistoryBudget + " bytes");
+        sb.append("\nKeep filter on change : " + keepFilterOnChange);
+        sb.append("\nArchive after months : " + archiveAfterMonths);
+        sb.append("\nReminder lead minutes : " + reminderLeadMinutes);
+        sb.append("\nStudio capacity : " + studioCapacity);
+        sb.append("\nCapacity windows : " + capacityWindows);
         return sb.toString();
     }
 
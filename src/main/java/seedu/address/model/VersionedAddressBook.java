@@ -0,0 +1,350 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBook} that remembers its committed states so that they can be undone and redone.
+ * Every state is a {@link PersistentList} of persons that shares structure with the state before it, so a command
+ * that adds, edits or deletes one person only costs O(log n) new nodes in the history.
+ * The oldest states are discarded once the estimated memory used by the history exceeds a budget.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    /** Estimated heap footprint of one node of a {@code PersistentList}. */
+    static final long ESTIMATED_NODE_BYTES = 40;
+    /** Estimated heap footprint of a {@code Person} that may be kept alive only by the history. */
+    static final long ESTIMATED_PERSON_BYTES = 256;
+
+    private final List<State> stateList = new ArrayList<>();
+    private int currentStatePointer;
+    private long memoryBudget;
+    private long historyBytes;
+    private long snapshotVersion;
+
+    /** The persons in this address book, including changes that have not been committed yet. */
+    private PersistentList<Person> workingPersons;
+    private long workingBytes;
+
+    /**
+     * Creates a {@code VersionedAddressBook} with the persons in {@code initialState} as its only state.
+     *
+     * @param memoryBudget The estimated number of bytes the undo history may use. Must not be negative.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, long memoryBudget) {
+        super(initialState);
+        setMemoryBudget(memoryBudget);
+        stateList.add(new State(workingPersons, 0));
+        currentStatePointer = 0;
+        workingBytes = 0;
+    }
+
+    //// overridden list operations that keep the working state in sync
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        super.setPersons(persons);
+        workingPersons = PersistentList.of(persons);
+        workingBytes += persons.size() * (ESTIMATED_NODE_BYTES + ESTIMATED_PERSON_BYTES);
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        super.addPerson(p);
+        workingPersons = workingPersons.add(p);
+        workingBytes += estimatePathBytes(workingPersons) + ESTIMATED_PERSON_BYTES;
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        int index = getPersonList().indexOf(target);
+        super.setPerson(target, editedPerson);
+        workingPersons = workingPersons.set(index, editedPerson);
+        workingBytes += estimatePathBytes(workingPersons) + ESTIMATED_PERSON_BYTES;
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        int index = getPersonList().indexOf(key);
+        super.removePerson(key);
+        workingPersons = workingPersons.remove(index);
+        workingBytes += estimatePathBytes(workingPersons);
+    }
+
+    /**
+     * Returns the estimated bytes of the nodes copied by one update of {@code persons}. An update copies at most two
+     * nodes per level.
+     */
+    private static long estimatePathBytes(PersistentList<Person> persons) {
+        return 2L * (persons.depth() + 1) * ESTIMATED_NODE_BYTES;
+    }
+
+    //// versioning operations
+
+    /**
+     * Saves the current persons as a new state, discarding any states that could have been redone.
+     * The oldest states are then discarded until the history fits within the memory budget.
+     */
+    public void commit() {
+        while (stateList.size() > currentStatePointer + 1) {
+            State discarded = stateList.remove(stateList.size() - 1);
+            historyBytes -= discarded.estimatedBytes;
+        }
+        stateList.add(new State(workingPersons, workingBytes));
+        historyBytes += workingBytes;
+        currentStatePointer++;
+        workingBytes = 0;
+        trimToBudget();
+    }
+
+    /**
+     * Restores the previous state.
+     *
+     * @throws NoUndoableStateException if there is no state to undo to.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new NoUndoableStateException();
+        }
+        currentStatePointer--;
+        restore(stateList.get(currentStatePointer));
+    }
+
+    /**
+     * Restores the state that was most recently undone.
+     *
+     * @throws NoRedoableStateException if there is no state to redo to.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoRedoableStateException();
+        }
+        currentStatePointer++;
+        restore(stateList.get(currentStatePointer));
+    }
+
+    /**
+     * Discards the changes made since the current state was committed, undone or redone.
+     */
+    public void rollback() {
+        State current = stateList.get(currentStatePointer);
+        if (workingPersons != current.persons) {
+            restore(current);
+        }
+        workingBytes = 0;
+    }
+
+    /**
+     * Discards every state other than the current one, so that there is nothing to undo or redo.
+     */
+    public void discardHistory() {
+        State current = stateList.get(currentStatePointer);
+        stateList.clear();
+        stateList.add(new State(current.persons, 0));
+        currentStatePointer = 0;
+        historyBytes = 0;
+    }
+
+    /**
+     * Brings the persons in line with {@code newData} like {@link #mergeData(ReadOnlyAddressBook)}, but makes the
+     * changes part of every state instead of committing them as a new state, so that they cannot be undone and are
+     * kept when other changes are undone or redone. In the other states, only the persons whose names were removed
+     * or replaced are changed, and the persons added are added at the end unless a person with the same name is there.
+     * Changes made since the current state was committed are kept as part of the current state.
+     *
+     * @return the number of persons that were removed, replaced or added.
+     */
+    public int rebase(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+
+        Map<Name, Person> addedPersons = new HashMap<>();
+        for (Person person : newData.getPersonList()) {
+            addedPersons.put(person.getName(), person);
+        }
+        // a changed name maps to its new person, or to null if it was removed
+        Map<Name, Person> changes = new HashMap<>();
+        for (Person person : getPersonList()) {
+            Person newPerson = addedPersons.remove(person.getName());
+            if (!person.equals(newPerson)) {
+                changes.put(person.getName(), newPerson);
+            }
+        }
+
+        int changedCount = mergeData(newData);
+        rebaseHistory(person -> changes.containsKey(person.getName()) ? changes.get(person.getName()) : person,
+                addedPersons.values());
+        return changedCount;
+    }
+
+    /**
+     * Makes the changes made since the current state was committed part of the current state instead of a new state,
+     * so that they cannot be undone, and applies {@code change} to every other state, so that they are kept when
+     * other changes are undone or redone. {@code change} must be how those changes changed each person.
+     */
+    public void rebase(UnaryOperator<Person> change) {
+        requireNonNull(change);
+        rebaseHistory(change, List.of());
+    }
+
+    /**
+     * Makes the changes made since the current state was committed part of the current state, and applies
+     * {@code change} to the persons of every other state, so that the changes cannot be undone and are kept when
+     * other changes are undone or redone. {@code change} returns the person it is given with the changes made, or
+     * null if the person was removed.
+     */
+    private void rebaseHistory(UnaryOperator<Person> change, Collection<Person> addedPersons) {
+        // persons are shared between states, so each is only changed once
+        Map<Person, Person> rebasedPersons = new IdentityHashMap<>();
+        for (int i = 0; i < stateList.size(); i++) {
+            State state = stateList.get(i);
+            State rebased = i == currentStatePointer
+                    ? new State(workingPersons, state.estimatedBytes + workingBytes)
+                    : rebase(state, change, addedPersons, rebasedPersons);
+            // the oldest state costs nothing on top of a state before it
+            long estimatedBytes = i == 0 ? 0 : rebased.estimatedBytes;
+            stateList.set(i, new State(rebased.persons, estimatedBytes));
+            historyBytes += estimatedBytes - state.estimatedBytes;
+        }
+        workingBytes = 0;
+        trimToBudget();
+    }
+
+    /**
+     * Returns {@code state} with {@code change} applied to its persons and {@code addedPersons} added, counting the
+     * nodes this copies in its estimated bytes.
+     */
+    private static State rebase(State state, UnaryOperator<Person> change, Collection<Person> addedPersons,
+            Map<Person, Person> rebasedPersons) {
+        PersistentList<Person> persons = state.persons;
+        long addedBytes = 0;
+        List<Person> list = persons.toList();
+        // from the end, so that removing a person does not move those still to be changed
+        for (int i = list.size() - 1; i >= 0; i--) {
+            Person person = list.get(i);
+            Person rebased = rebasedPersons.computeIfAbsent(person, change);
+            if (rebased == null) {
+                persons = persons.remove(i);
+                addedBytes += estimatePathBytes(persons);
+            } else if (rebased != person) {
+                persons = persons.set(i, rebased);
+                addedBytes += estimatePathBytes(persons) + ESTIMATED_PERSON_BYTES;
+            }
+        }
+
+        if (!addedPersons.isEmpty()) {
+            Set<Name> names = new HashSet<>();
+            persons.forEach(person -> names.add(person.getName()));
+            for (Person person : addedPersons) {
+                if (names.add(person.getName())) {
+                    persons = persons.add(person);
+                    addedBytes += estimatePathBytes(persons);
+                }
+            }
+        }
+        return new State(persons, state.estimatedBytes + addedBytes);
+    }
+
+    /**
+     * Returns true if there is a state to undo to.
+     */
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    /**
+     * Returns true if there is a state to redo to.
+     */
+    public boolean canRedo() {
+        return currentStatePointer < stateList.size() - 1;
+    }
+
+    /**
+     * Sets the estimated number of bytes the undo history may use, discarding the oldest states if needed.
+     */
+    public void setMemoryBudget(long memoryBudget) {
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException("Memory budget must not be negative");
+        }
+        this.memoryBudget = memoryBudget;
+        trimToBudget();
+    }
+
+    /**
+     * Returns the estimated number of bytes used by the states that can be undone or redone.
+     */
+    public long getHistoryBytes() {
+        return historyBytes;
+    }
+
+    /**
+     * Returns an immutable snapshot of the current state, which excludes any changes that have not been committed.
+     * Takes O(1) time.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(stateList.get(currentStatePointer).persons, snapshotVersion++);
+    }
+
+    private void restore(State state) {
+        super.setPersons(state.persons.toList());
+        workingPersons = state.persons;
+        workingBytes = 0;
+    }
+
+    /**
+     * Discards the oldest states until the history fits within the budget. The current state is always kept.
+     * The cost of a state is the memory it added on top of the state before it, so discarding the oldest state
+     * frees roughly the cost of the state after it.
+     */
+    private void trimToBudget() {
+        while (historyBytes > memoryBudget && currentStatePointer > 0) {
+            stateList.remove(0);
+            currentStatePointer--;
+            historyBytes -= stateList.get(0).estimatedBytes;
+            stateList.set(0, new State(stateList.get(0).persons, 0));
+        }
+    }
+
+    /**
+     * A committed list of persons, together with the estimated bytes it added over the state before it.
+     */
+    private static class State {
+        private final PersistentList<Person> persons;
+        private final long estimatedBytes;
+
+        State(PersistentList<Person> persons, long estimatedBytes) {
+            this.persons = requireNonNull(persons);
+            this.estimatedBytes = estimatedBytes;
+        }
+    }
+
+    /**
+     * Signals that there is no state to undo to.
+     */
+    public static class NoUndoableStateException extends RuntimeException {
+        private NoUndoableStateException() {
+            super("Current state pointer at start of address book state list, unable to undo.");
+        }
+    }
+
+    /**
+     * Signals that there is no state to redo to.
+     */
+    public static class NoRedoableStateException extends RuntimeException {
+        private NoRedoableStateException() {
+            super("Current state pointer at end of address book state list, unable to redo.");
+        }
+    }
+}
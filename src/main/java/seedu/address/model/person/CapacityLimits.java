@@ -0,0 +1,110 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.Map;
+
+import seedu.address.model.util.DayOfWeekUtils;
+
+/**
+ * The number of sessions the studio can hold at once, for every minute of the week.
+ * <p>
+ * The studio holds a set number of sessions at once, except during capacity windows, which each set their own
+ * capacity for a span of time on one day of week or on every day. Where windows overlap, the lowest of their
+ * capacities applies.
+ * Guarantees: immutable.
+ */
+public class CapacityLimits {
+
+    public static final String MESSAGE_WINDOW_CONSTRAINTS = "Capacity windows should be in the format"
+            + " [DAY] HHmm HHmm, with the end time later than the start time, and have a capacity of at least 1.";
+
+    /** One session at a time, so that any two overlapping sessions are over capacity. */
+    public static final CapacityLimits ONE_AT_A_TIME = new CapacityLimits(1);
+
+    // capacity at every minute of every day, indexed by day of week value - 1
+    private final int[][] capacities = new int[DayOfWeek.values().length][TimeSlot.MINUTES_PER_DAY];
+
+    private CapacityLimits(int studioCapacity) {
+        for (int[] dayCapacities : capacities) {
+            Arrays.fill(dayCapacities, studioCapacity);
+        }
+    }
+
+    private CapacityLimits(int studioCapacity, Map<String, Integer> windows) {
+        // the lowest capacity of the windows at every minute, or none if no window covers it
+        for (int[] dayCapacities : capacities) {
+            Arrays.fill(dayCapacities, Integer.MAX_VALUE);
+        }
+        windows.forEach((window, capacity) -> {
+            checkArgument(isValidWindow(window) && capacity != null && capacity >= 1, MESSAGE_WINDOW_CONSTRAINTS);
+            applyWindow(window.trim().split("\\s+"), capacity);
+        });
+        for (int[] dayCapacities : capacities) {
+            for (int minute = 0; minute < dayCapacities.length; minute++) {
+                if (dayCapacities[minute] == Integer.MAX_VALUE) {
+                    dayCapacities[minute] = studioCapacity;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the limits of a studio that holds {@code studioCapacity} sessions at once, except during the capacity
+     * windows that are the keys of {@code windows}, which hold as many sessions at once as their values.
+     *
+     * @throws IllegalArgumentException if a capacity is less than 1, or a window is not valid.
+     * @see #isValidWindow(String)
+     */
+    public static CapacityLimits of(int studioCapacity, Map<String, Integer> windows) {
+        requireNonNull(windows);
+        checkArgument(studioCapacity >= 1, "Invalid studio capacity: " + studioCapacity);
+        return new CapacityLimits(studioCapacity, windows);
+    }
+
+    /**
+     * Returns true if {@code window} is a valid capacity window, which is a start and an end time in
+     * {@code HHmm} format, optionally after a day of week, such as {@code Mon 1800 2100} or {@code 1800 2100}.
+     */
+    public static boolean isValidWindow(String window) {
+        requireNonNull(window);
+        String[] parts = window.trim().split("\\s+");
+        if (parts.length == 3 && !DayOfWeekUtils.isDayOfWeek(parts[0])) {
+            return false;
+        } else if (parts.length != 2 && parts.length != 3) {
+            return false;
+        }
+        String startTime = parts[parts.length - 2];
+        String endTime = parts[parts.length - 1];
+        return startTime.matches(Schedule.VALIDATION_REGEX_TIME) && endTime.matches(Schedule.VALIDATION_REGEX_TIME)
+                && toMinutes(startTime) < toMinutes(endTime);
+    }
+
+    private void applyWindow(String[] parts, int capacity) {
+        int start = toMinutes(parts[parts.length - 2]);
+        int end = toMinutes(parts[parts.length - 1]);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (parts.length == 2 || DayOfWeekUtils.fromString(parts[0]) == day) {
+                int[] dayCapacities = capacities[day.getValue() - 1];
+                for (int minute = start; minute < end; minute++) {
+                    dayCapacities[minute] = Math.min(dayCapacities[minute], capacity);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of sessions the studio can hold at once at {@code minute} since midnight on {@code day}.
+     */
+    public int getCapacity(DayOfWeek day, int minute) {
+        requireNonNull(day);
+        return capacities[day.getValue() - 1][minute];
+    }
+
+    private static int toMinutes(String time) {
+        return Integer.parseInt(time.substring(0, 2)) * 60 + Integer.parseInt(time.substring(2));
+    }
+}
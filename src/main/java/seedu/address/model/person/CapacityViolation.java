@@ -0,0 +1,131 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A span of time in which more sessions are held at once than the studio can hold, either on a date or every week
+ * on a day of week.
+ * Guarantees: immutable; the date, if any, falls on the day of week.
+ */
+public class CapacityViolation {
+
+    private final DayOfWeek day;
+    private final LocalDate date;
+    private final TimeSlot span;
+    private final int sessionCount;
+    private final int capacity;
+
+    /**
+     * Constructs a {@code CapacityViolation} of {@code sessionCount} sessions at once during {@code span} on
+     * {@code date}, or every week on {@code day} if {@code date} is null, where the studio holds at most
+     * {@code capacity} sessions at once.
+     */
+    public CapacityViolation(DayOfWeek day, LocalDate date, TimeSlot span, int sessionCount, int capacity) {
+        requireNonNull(day);
+        requireNonNull(span);
+        assert date == null || date.getDayOfWeek() == day : "Date should fall on the day";
+        this.day = day;
+        this.date = date;
+        this.span = span;
+        this.sessionCount = sessionCount;
+        this.capacity = capacity;
+    }
+
+    public DayOfWeek getDay() {
+        return day;
+    }
+
+    /**
+     * Returns the date of this violation, or null if it happens every week.
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public TimeSlot getSpan() {
+        return span;
+    }
+
+    /**
+     * Returns the most sessions held at once during the span.
+     */
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    /**
+     * Returns the fewest sessions the studio can hold at once during the span.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns true if {@code person} holds a session during the span of this violation, one every week on its day
+     * of week or, if it is on a date, one on that date.
+     */
+    public boolean isHeldDuring(Person person) {
+        requireNonNull(person);
+        long weeklyPrefix = PackedScheduleSet.dayPrefix(day);
+        long datePrefix = date == null ? weeklyPrefix : PackedScheduleSet.dayPrefix(date);
+        PackedScheduleSet schedules = person.getPackedSchedules();
+        for (int i = 0; i < schedules.size(); i++) {
+            long schedule = schedules.get(i);
+            long dayPrefix = PackedScheduleSet.dayPrefix(schedule);
+            if ((dayPrefix == weeklyPrefix || dayPrefix == datePrefix)
+                    && PackedScheduleSet.getStartMinute(schedule) < span.getEndMinute()
+                    && PackedScheduleSet.getEndMinute(schedule) > span.getStartMinute()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if this violation happens at the same time of day with the same sessions and capacity as
+     * {@code other}, whether on a date or every week.
+     */
+    boolean isSameSpanAs(CapacityViolation other) {
+        return day == other.day && span.equals(other.span) && sessionCount == other.sessionCount
+                && capacity == other.capacity;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CapacityViolation)) {
+            return false;
+        }
+
+        CapacityViolation otherViolation = (CapacityViolation) other;
+        return day == otherViolation.day && Objects.equals(date, otherViolation.date)
+                && span.equals(otherViolation.span) && sessionCount == otherViolation.sessionCount
+                && capacity == otherViolation.capacity;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, date, span, sessionCount, capacity);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("day", day)
+                .add("date", date)
+                .add("span", span)
+                .add("sessionCount", sessionCount)
+                .add("capacity", capacity)
+                .toString();
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's goals in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidGoals(String)}
@@ -17,6 +19,8 @@ public class Goals {
      */
     public static final String VALIDATION_REGEX = "[^\\s][\\p{ASCII}]*";
 
+    private static final Interner<Goals> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -30,6 +34,15 @@ public class Goals {
         value = goals;
     }
 
+    /**
+     * Returns the shared {@code Goals} for {@code goals}, creating it if this value has not been seen before.
+     *
+     * @param goals A valid goals.
+     */
+    public static Goals of(String goals) {
+        return INTERNER.intern(new Goals(goals));
+    }
+
     /**
      * Returns true if a given string is a valid goal.
      */
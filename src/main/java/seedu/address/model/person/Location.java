@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidLocation(String)}
@@ -17,6 +19,8 @@ public class Location {
      */
     public static final String VALIDATION_REGEX = "[^\\s][\\p{ASCII}]*";
 
+    private static final Interner<Location> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -30,6 +34,15 @@ public class Location {
         value = location;
     }
 
+    /**
+     * Returns the shared {@code Location} for {@code location}, creating it if this value has not been seen before.
+     *
+     * @param location A valid location.
+     */
+    public static Location of(String location) {
+        return INTERNER.intern(new Location(location));
+    }
+
     /**
      * Returns true if a given string is a valid location.
      */
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's medical history in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidMedicalHistory(String)}
@@ -17,6 +19,8 @@ public class MedicalHistory {
      */
     public static final String VALIDATION_REGEX = "[^\\s][\\p{ASCII}]*";
 
+    private static final Interner<MedicalHistory> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -30,6 +34,16 @@ public class MedicalHistory {
         value = medicalHistory;
     }
 
+    /**
+     * Returns the shared {@code MedicalHistory} for {@code medicalHistory}, creating it if this value has not been
+     * seen before.
+     *
+     * @param medicalHistory A valid medical history.
+     */
+    public static MedicalHistory of(String medicalHistory) {
+        return INTERNER.intern(new MedicalHistory(medicalHistory));
+    }
+
     /**
      * Returns true if a given string is a valid medical history.
      */
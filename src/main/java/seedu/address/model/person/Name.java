@@ -20,6 +20,8 @@ public class Name {
 
     public final String fullName;
 
+    private final int hash;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +31,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        hash = name.toLowerCase().hashCode();
     }
 
     /**
@@ -56,12 +59,12 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return fullName.toLowerCase().equals(otherName.fullName.toLowerCase());
+        return hash == otherName.hash && fullName.equalsIgnoreCase(otherName.fullName);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return hash;
     }
 
 }
@@ -0,0 +1,50 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} has had no sessions on or after a given date.
+ * A person with a recurring schedule always has upcoming sessions, and a person without any schedules is never
+ * matched, as there is no way to tell how long they have gone without one.
+ */
+public class NoSessionsSincePredicate implements Predicate<Person> {
+    private final LocalDate cutoffDate;
+
+    public NoSessionsSincePredicate(LocalDate cutoffDate) {
+        this.cutoffDate = requireNonNull(cutoffDate);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Set<OneTimeSchedule> oneTimeSchedules = person.getOneTimeSchedules();
+        return person.getRecurringSchedules().isEmpty()
+                && !oneTimeSchedules.isEmpty()
+                && oneTimeSchedules.stream().allMatch(schedule -> schedule.getDate().isBefore(cutoffDate));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NoSessionsSincePredicate)) {
+            return false;
+        }
+
+        NoSessionsSincePredicate otherPredicate = (NoSessionsSincePredicate) other;
+        return cutoffDate.equals(otherPredicate.cutoffDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("cutoffDate", cutoffDate).toString();
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A session of a person on a concrete date, from either a one-time schedule on that date or a recurring schedule on
+ * its day of week.
+ * Guarantees: immutable; the schedule falls on the date.
+ */
+public class Occurrence {
+
+    private final Person person;
+    private final LocalDate date;
+    private final long schedule;
+
+    /**
+     * Constructs an {@code Occurrence} of the packed {@code schedule} of {@code person} on {@code date}.
+     */
+    public Occurrence(Person person, LocalDate date, long schedule) {
+        requireAllNonNull(person, date);
+        assert PackedScheduleSet.getDayOfWeek(schedule) == date.getDayOfWeek()
+                : "Schedule should fall on the date";
+        this.person = person;
+        this.date = date;
+        this.schedule = schedule;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public int getStartMinute() {
+        return PackedScheduleSet.getStartMinute(schedule);
+    }
+
+    public int getEndMinute() {
+        return PackedScheduleSet.getEndMinute(schedule);
+    }
+
+    /**
+     * Returns true if this occurrence is from a recurring schedule.
+     */
+    public boolean isRecurring() {
+        return !PackedScheduleSet.isOneTime(schedule);
+    }
+
+    /**
+     * Returns the schedule this occurrence is from.
+     */
+    public Schedule getSchedule() {
+        return PackedScheduleSet.decode(schedule);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Occurrence)) {
+            return false;
+        }
+
+        Occurrence otherOccurrence = (Occurrence) other;
+        return person.equals(otherOccurrence.person)
+                && date.equals(otherOccurrence.date)
+                && schedule == otherOccurrence.schedule;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, date, schedule);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("person", person.getName())
+                .add("date", date)
+                .add("schedule", getSchedule())
+                .toString();
+    }
+}
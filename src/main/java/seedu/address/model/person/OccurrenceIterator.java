@@ -0,0 +1,145 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Iterates over the sessions of a list of persons from one date to another, in order of date and then start time.
+ * <p>
+ * The sessions are expanded lazily. Every recurring schedule is a weekly sequence of occurrences, and the one-time
+ * schedules of every person are already in date order, so each is a sorted sequence on its own. These sequences are
+ * merged with a priority queue that holds only the next occurrence of each, so iterating over a long range never
+ * keeps more than one occurrence per sequence in memory. Sessions that start at the same time are in the order of
+ * their end times, and then of the persons in the list.
+ */
+public class OccurrenceIterator implements Iterator<Occurrence> {
+
+    private static final Comparator<Sequence> NEXT_OCCURRENCE_ORDER =
+            Comparator.comparing((Sequence sequence) -> sequence.date)
+                    .thenComparingInt(sequence -> PackedScheduleSet.getStartMinute(sequence.schedule))
+                    .thenComparingInt(sequence -> PackedScheduleSet.getEndMinute(sequence.schedule))
+                    .thenComparingInt(sequence -> sequence.order);
+
+    private final PriorityQueue<Sequence> sequences = new PriorityQueue<>(NEXT_OCCURRENCE_ORDER);
+    private final LocalDate to;
+    private int sequenceCount;
+
+    /**
+     * Constructs an {@code OccurrenceIterator} over the sessions of {@code persons} from {@code from} to {@code to},
+     * both inclusive.
+     */
+    public OccurrenceIterator(List<Person> persons, LocalDate from, LocalDate to) {
+        requireAllNonNull(persons, from, to);
+        checkArgument(!to.isBefore(from), "The range should not end before it starts");
+        this.to = to;
+        for (Person person : persons) {
+            PackedScheduleSet schedules = person.getPackedSchedules();
+            for (int i = 0; i < schedules.getFirstOneTimeIndex(); i++) {
+                long schedule = schedules.get(i);
+                LocalDate date = from.with(TemporalAdjusters.nextOrSame(PackedScheduleSet.getDayOfWeek(schedule)));
+                offer(new RecurringSequence(person, schedule, date, sequenceCount++));
+            }
+            int firstIndex = schedules.indexOfFirstOneTimeOnOrAfter(from);
+            if (firstIndex < schedules.size()) {
+                offer(new OneTimeSequence(person, firstIndex, sequenceCount++));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !sequences.isEmpty();
+    }
+
+    @Override
+    public Occurrence next() {
+        Sequence sequence = sequences.poll();
+        if (sequence == null) {
+            throw new NoSuchElementException();
+        }
+        Occurrence occurrence = new Occurrence(sequence.person, sequence.date, sequence.schedule);
+        if (sequence.advance()) {
+            offer(sequence);
+        }
+        return occurrence;
+    }
+
+    /**
+     * Queues {@code sequence} if its next occurrence is within the range.
+     */
+    private void offer(Sequence sequence) {
+        if (!sequence.date.isAfter(to)) {
+            sequences.add(sequence);
+        }
+    }
+
+    /**
+     * A sorted sequence of occurrences of the schedules of a person, at its next occurrence.
+     */
+    private abstract static class Sequence {
+        protected final Person person;
+        // breaks ties between sequences, so that the order of the persons is kept
+        protected final int order;
+        protected long schedule;
+        protected LocalDate date;
+
+        Sequence(Person person, int order) {
+            this.person = person;
+            this.order = order;
+        }
+
+        /**
+         * Moves to the next occurrence, returning false if there is none.
+         */
+        abstract boolean advance();
+    }
+
+    private static class RecurringSequence extends Sequence {
+        RecurringSequence(Person person, long schedule, LocalDate date, int order) {
+            super(person, order);
+            this.schedule = schedule;
+            this.date = date;
+        }
+
+        @Override
+        boolean advance() {
+            date = date.plusWeeks(1);
+            return true;
+        }
+    }
+
+    private static class OneTimeSequence extends Sequence {
+        private final PackedScheduleSet schedules;
+        private int index;
+
+        OneTimeSequence(Person person, int index, int order) {
+            super(person, order);
+            this.schedules = person.getPackedSchedules();
+            this.index = index;
+            load();
+        }
+
+        @Override
+        boolean advance() {
+            index++;
+            if (index >= schedules.size()) {
+                return false;
+            }
+            load();
+            return true;
+        }
+
+        private void load() {
+            schedule = schedules.get(index);
+            date = PackedScheduleSet.getDate(schedule);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
 
+import seedu.address.commons.util.Interner;
 import seedu.address.model.util.LocalDateUtils;
 
 /**
@@ -38,7 +39,10 @@ public class OneTimeSchedule extends Schedule {
             + VALIDATION_REGEX_TIME + "\\s" // First HHmm (0000 - 2359)
             + VALIDATION_REGEX_TIME + "$"; // Second HHmm (0000 - 2359)
 
+    private static final Interner<OneTimeSchedule> INTERNER = new Interner<>();
+
     private final LocalDate date;
+    private final int hash;
 
     /**
      * Constructs a {@code OneTimeSchedule}.
@@ -51,7 +55,31 @@ public class OneTimeSchedule extends Schedule {
         super(validateThenExtractStartTime(schedule), extractEndTime(schedule)); // Call Schedule constructor
         assert isValidOneTimeSchedule(schedule) : "Schedule should be valid by this point";
         this.date = extractDate(schedule);
+        this.hash = computeHash();
     }
+
+    /**
+     * Constructs a {@code OneTimeSchedule} on {@code date} from {@code startTime} to {@code endTime} that is not
+     * shared with equal schedules.
+     *
+     * @see PackedScheduleSet#decode(long)
+     */
+    OneTimeSchedule(LocalDate date, String startTime, String endTime) {
+        super(startTime, endTime);
+        this.date = requireNonNull(date);
+        this.hash = computeHash();
+    }
+
+    /**
+     * Returns the shared {@code OneTimeSchedule} for {@code schedule}, creating it if an equal schedule
+     * has not been seen before.
+     *
+     * @param schedule A valid one-time schedule string.
+     */
+    public static OneTimeSchedule of(String schedule) {
+        return INTERNER.intern(new OneTimeSchedule(schedule));
+    }
+
     /**
      * Validates the schedule string and extracts the start time if valid.
      *
@@ -159,6 +187,9 @@ public class OneTimeSchedule extends Schedule {
         }
 
         OneTimeSchedule otherOneTimeSchedule = (OneTimeSchedule) other;
+        if (hash != otherOneTimeSchedule.hash) {
+            return false;
+        }
         boolean isDateEquals = date.equals(otherOneTimeSchedule.date);
         boolean isStartTimeEquals = startTime.equals(otherOneTimeSchedule.startTime);
         boolean isEndTimeEquals = endTime.equals(otherOneTimeSchedule.endTime);
@@ -167,6 +198,10 @@ public class OneTimeSchedule extends Schedule {
 
     @Override
     public int hashCode() {
+        return hash;
+    }
+
+    private int computeHash() {
         String toHash = getDateString() + " " + startTime + " " + endTime;
         return toHash.hashCode();
     }
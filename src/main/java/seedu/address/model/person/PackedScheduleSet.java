@@ -0,0 +1,404 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable set of a person's recurring and one-time schedules, with each schedule packed into a single
+ * {@code long} in a sorted primitive array.
+ * Lookups use binary search, and iterating over a person's sessions walks a contiguous array instead of
+ * chasing {@code HashMap} nodes and schedule objects.
+ *
+ * <p>Bit layout of a packed schedule, from most to least significant:
+ * <pre>
+ *   [kind: 1][day key: 32][start minute: 11][end minute: 11]
+ * </pre>
+ * Recurring schedules have kind 0 and use the day-of-week value (1 to 7) as their day key. One-time schedules
+ * have kind 1 and use the biased epoch day of their date. All recurring schedules therefore sort before all
+ * one-time schedules, and schedules of the same kind are ordered by day, then start time, then end time.
+ */
+public final class PackedScheduleSet {
+
+    public static final PackedScheduleSet EMPTY = new PackedScheduleSet(new long[0], 0);
+
+    private static final int MINUTE_BITS = 11;
+    private static final int KEY_BITS = 32;
+    private static final long MINUTE_MASK = (1L << MINUTE_BITS) - 1;
+    private static final long KEY_MASK = (1L << KEY_BITS) - 1;
+    private static final int KEY_SHIFT = 2 * MINUTE_BITS;
+    private static final int KIND_SHIFT = KEY_SHIFT + KEY_BITS;
+    private static final long ONE_TIME_KIND = 1L << KIND_SHIFT;
+    private static final long EPOCH_DAY_BIAS = 1L << (KEY_BITS - 1);
+    private static final long USED_BITS = (ONE_TIME_KIND << 1) - 1;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final long[] packed;
+    private final int firstOneTimeIndex;
+
+    private PackedScheduleSet(long[] packed, int firstOneTimeIndex) {
+        this.packed = packed;
+        this.firstOneTimeIndex = firstOneTimeIndex;
+    }
+
+    /**
+     * Packs the given schedules into a new {@code PackedScheduleSet}. Duplicate schedules are stored once.
+     */
+    public static PackedScheduleSet of(Collection<RecurringSchedule> recurringSchedules,
+                                       Collection<OneTimeSchedule> oneTimeSchedules) {
+        requireNonNull(recurringSchedules);
+        requireNonNull(oneTimeSchedules);
+        if (recurringSchedules.isEmpty() && oneTimeSchedules.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] values = new long[recurringSchedules.size() + oneTimeSchedules.size()];
+        int count = 0;
+        for (RecurringSchedule schedule : recurringSchedules) {
+            values[count++] = encode(schedule);
+        }
+        for (OneTimeSchedule schedule : oneTimeSchedules) {
+            values[count++] = encode(schedule);
+        }
+        return sortAndPack(values);
+    }
+
+    /**
+     * Returns a {@code PackedScheduleSet} of schedules that are already in their packed form. Duplicate schedules
+     * are stored once.
+     *
+     * @throws IllegalArgumentException if any of {@code values} is not a valid packed schedule.
+     * @see #isValid(long)
+     */
+    public static PackedScheduleSet ofPacked(long... values) {
+        requireNonNull(values);
+        for (long value : values) {
+            if (!isValid(value)) {
+                throw new IllegalArgumentException("Invalid packed schedule: " + Long.toHexString(value));
+            }
+        }
+        return values.length == 0 ? EMPTY : sortAndPack(values.clone());
+    }
+
+    /**
+     * Sorts {@code values} in place, removes duplicates and wraps the result.
+     */
+    private static PackedScheduleSet sortAndPack(long[] values) {
+        Arrays.sort(values);
+
+        int distinct = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (distinct == 0 || values[i] != values[distinct - 1]) {
+                values[distinct++] = values[i];
+            }
+        }
+        long[] packed = distinct == values.length ? values : Arrays.copyOf(values, distinct);
+        return new PackedScheduleSet(packed, lowerBound(packed, ONE_TIME_KIND));
+    }
+
+    /**
+     * Returns the packed form of {@code schedule}.
+     */
+    public static long encode(RecurringSchedule schedule) {
+        requireNonNull(schedule);
+        return pack(0, schedule.getDay().getValue(), schedule.getStartTime(), schedule.getEndTime());
+    }
+
+    /**
+     * Returns the packed form of {@code schedule}.
+     */
+    public static long encode(OneTimeSchedule schedule) {
+        requireNonNull(schedule);
+        long dayKey = schedule.getDate().toEpochDay() + EPOCH_DAY_BIAS;
+        return pack(ONE_TIME_KIND, dayKey, schedule.getStartTime(), schedule.getEndTime());
+    }
+
+    private static long pack(long kind, long dayKey, String startTime, String endTime) {
+        assert dayKey >= 0 && dayKey <= KEY_MASK : "Day key out of range";
+        return kind | (dayKey << KEY_SHIFT) | ((long) toMinutes(startTime) << MINUTE_BITS) | toMinutes(endTime);
+    }
+
+    /**
+     * Returns true if {@code value} is the packed form of a schedule whose times are valid and whose end is later
+     * than its start, as produced by {@code encode}.
+     */
+    public static boolean isValid(long value) {
+        if ((value & ~USED_BITS) != 0) {
+            return false;
+        }
+        int startMinute = getStartMinute(value);
+        int endMinute = getEndMinute(value);
+        if (endMinute >= MINUTES_PER_DAY || startMinute >= endMinute) {
+            return false;
+        }
+        long dayKey = dayKey(value);
+        return isOneTime(value) || (dayKey >= DayOfWeek.MONDAY.getValue() && dayKey <= DayOfWeek.SUNDAY.getValue());
+    }
+
+    /**
+     * Returns true if {@code value} is the packed form of a one-time schedule.
+     */
+    public static boolean isOneTime(long value) {
+        return (value & ONE_TIME_KIND) != 0;
+    }
+
+    /**
+     * Returns the day of week the packed schedule falls on. For a one-time schedule, this is the day of week of
+     * its date.
+     */
+    public static DayOfWeek getDayOfWeek(long value) {
+        return isOneTime(value) ? getDate(value).getDayOfWeek() : DayOfWeek.of((int) dayKey(value));
+    }
+
+    /**
+     * Returns the date of a packed one-time schedule.
+     */
+    public static LocalDate getDate(long value) {
+        assert isOneTime(value) : "Only one-time schedules have a date";
+        return LocalDate.ofEpochDay(dayKey(value) - EPOCH_DAY_BIAS);
+    }
+
+    /**
+     * Returns the start of the packed schedule in minutes since midnight.
+     */
+    public static int getStartMinute(long value) {
+        return (int) ((value >>> MINUTE_BITS) & MINUTE_MASK);
+    }
+
+    /**
+     * Returns the end of the packed schedule in minutes since midnight.
+     */
+    public static int getEndMinute(long value) {
+        return (int) (value & MINUTE_MASK);
+    }
+
+    /**
+     * Returns the day key of the packed schedule, which is shared only by schedules on the same day or date.
+     */
+    static long dayKey(long value) {
+        return (value >>> KEY_SHIFT) & KEY_MASK;
+    }
+
+    /**
+     * Returns {@code value} with its start and end minutes cleared. This is shared by all packed schedules on the
+     * same day or date, and sorts before all of them.
+     */
+    static long dayPrefix(long value) {
+        return value & ~((1L << KEY_SHIFT) - 1);
+    }
+
+    /**
+     * Returns the {@link #dayPrefix(long)} shared by the packed recurring schedules on {@code day}.
+     */
+    static long dayPrefix(DayOfWeek day) {
+        return (long) day.getValue() << KEY_SHIFT;
+    }
+
+    /**
+     * Returns the {@link #dayPrefix(long)} shared by the packed one-time schedules on {@code date}.
+     */
+    static long dayPrefix(LocalDate date) {
+        long dayKey = date.toEpochDay() + EPOCH_DAY_BIAS;
+        assert dayKey >= 0 && dayKey <= KEY_MASK : "Day key out of range";
+        return ONE_TIME_KIND | (dayKey << KEY_SHIFT);
+    }
+
+    /**
+     * Returns the {@link #dayPrefix(long)} of the day or date after the one of {@code dayPrefix}.
+     */
+    static long nextDayPrefix(long dayPrefix) {
+        return dayPrefix + (1L << KEY_SHIFT);
+    }
+
+    /**
+     * Returns the schedule that {@code value} is the packed form of.
+     * The schedule is not shared with equal schedules, as decoded schedules are only briefly held, and sharing them
+     * would cost every read of a set a lookup in the pool of shared schedules.
+     */
+    public static Schedule decode(long value) {
+        return isOneTime(value) ? decodeOneTime(value) : decodeRecurring(value);
+    }
+
+    private static RecurringSchedule decodeRecurring(long value) {
+        return new RecurringSchedule(DayOfWeek.of((int) dayKey(value)),
+                toTime(getStartMinute(value)), toTime(getEndMinute(value)));
+    }
+
+    private static OneTimeSchedule decodeOneTime(long value) {
+        return new OneTimeSchedule(getDate(value), toTime(getStartMinute(value)), toTime(getEndMinute(value)));
+    }
+
+    private static int toMinutes(String time) {
+        return Integer.parseInt(time.substring(0, 2)) * 60 + Integer.parseInt(time.substring(2));
+    }
+
+    private static String toTime(int minutes) {
+        return String.format("%02d%02d", minutes / 60, minutes % 60);
+    }
+
+    /**
+     * Returns the index of the first element in {@code values} that is not less than {@code key}.
+     */
+    private static int lowerBound(long[] values, long key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the number of schedules in this set.
+     */
+    public int size() {
+        return packed.length;
+    }
+
+    /**
+     * Returns the packed schedule at {@code index}. Recurring schedules occupy the indices before
+     * {@link #getFirstOneTimeIndex()}.
+     */
+    public long get(int index) {
+        return packed[index];
+    }
+
+    public int getFirstOneTimeIndex() {
+        return firstOneTimeIndex;
+    }
+
+    /**
+     * Returns the index of the first one-time schedule dated on or after {@code date}, or {@link #size()} if there
+     * is none. The one-time schedules before that index are exactly those dated before {@code date}.
+     */
+    public int indexOfFirstOneTimeOnOrAfter(LocalDate date) {
+        requireNonNull(date);
+        return lowerBound(packed, dayPrefix(date));
+    }
+
+    /**
+     * Returns a copy of this set without the schedules from index {@code fromIndex} (inclusive) to
+     * {@code toIndex} (exclusive), or this set if the range is empty.
+     */
+    public PackedScheduleSet withoutRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > packed.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") out of bounds for size "
+                    + packed.length);
+        }
+        if (fromIndex == toIndex) {
+            return this;
+        }
+        if (toIndex - fromIndex == packed.length) {
+            return EMPTY;
+        }
+
+        long[] kept = new long[packed.length - (toIndex - fromIndex)];
+        System.arraycopy(packed, 0, kept, 0, fromIndex);
+        System.arraycopy(packed, toIndex, kept, fromIndex, packed.length - toIndex);
+        return new PackedScheduleSet(kept, lowerBound(kept, ONE_TIME_KIND));
+    }
+
+    /**
+     * Returns true if this set contains the packed schedule {@code value}.
+     */
+    public boolean contains(long value) {
+        return Arrays.binarySearch(packed, value) >= 0;
+    }
+
+    /**
+     * Returns a read-only view of the recurring schedules in this set.
+     */
+    public Set<RecurringSchedule> recurringSchedules() {
+        return new View<>(RecurringSchedule.class, 0, firstOneTimeIndex);
+    }
+
+    /**
+     * Returns a read-only view of the one-time schedules in this set.
+     */
+    public Set<OneTimeSchedule> oneTimeSchedules() {
+        return new View<>(OneTimeSchedule.class, firstOneTimeIndex, packed.length);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PackedScheduleSet)) {
+            return false;
+        }
+
+        PackedScheduleSet otherSet = (PackedScheduleSet) other;
+        return Arrays.equals(packed, otherSet.packed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(packed);
+    }
+
+    /**
+     * A read-only set view over a contiguous range of the packed array, decoding schedules as they are read.
+     */
+    private class View<T extends Schedule> extends AbstractSet<T> {
+        private final Class<T> type;
+        private final int from;
+        private final int to;
+
+        View(Class<T> type, int from, int to) {
+            this.type = type;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<>() {
+                private int next = from;
+
+                @Override
+                public boolean hasNext() {
+                    return next < to;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return type.cast(decode(packed[next++]));
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (o instanceof RecurringSchedule && type == RecurringSchedule.class) {
+                return PackedScheduleSet.this.contains(encode((RecurringSchedule) o));
+            }
+            if (o instanceof OneTimeSchedule && type == OneTimeSchedule.class) {
+                return PackedScheduleSet.this.contains(encode((OneTimeSchedule) o));
+            }
+            return false;
+        }
+    }
+}
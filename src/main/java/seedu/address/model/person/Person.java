@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
@@ -21,28 +22,39 @@ public class Person {
     private final Phone phone;
 
     // Data fields
-    private final Set<RecurringSchedule> recurringSchedules = new HashSet<>();
+    private final PackedScheduleSet schedules;
     private final Goals goals;
     private final MedicalHistory medicalHistory;
     private final Location location;
-    private final Set<OneTimeSchedule> oneTimeSchedules = new HashSet<>();
     private final Set<Tag> tags = new HashSet<>();
 
+    // Persons are immutable, so the hash is computed once and reused by every hash-based lookup and equals
+    private final int hash;
+
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Set<RecurringSchedule> recurringSchedules, Goals goals,
                   MedicalHistory medicalHistory, Location location,
                   Set<OneTimeSchedule> oneTimeSchedule, Set<Tag> tags) {
-        requireAllNonNull(name, phone, medicalHistory, location, oneTimeSchedule, tags);
+        this(name, phone, PackedScheduleSet.of(recurringSchedules, oneTimeSchedule), goals, medicalHistory, location,
+                tags);
+    }
+
+    /**
+     * Creates a person whose schedules are already packed. Every field must be present and not null.
+     */
+    public Person(Name name, Phone phone, PackedScheduleSet schedules, Goals goals, MedicalHistory medicalHistory,
+                  Location location, Set<Tag> tags) {
+        requireAllNonNull(name, phone, schedules, medicalHistory, location, tags);
         this.name = name;
         this.phone = phone;
-        this.recurringSchedules.addAll(recurringSchedules);
+        this.schedules = schedules;
         this.goals = goals;
         this.medicalHistory = medicalHistory;
         this.location = location;
-        this.oneTimeSchedules.addAll(oneTimeSchedule);
         this.tags.addAll(tags);
+        this.hash = Objects.hash(name, phone, schedules, goals, medicalHistory, location, this.tags);
     }
 
     public Name getName() {
@@ -58,7 +70,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<RecurringSchedule> getRecurringSchedules() {
-        return Collections.unmodifiableSet(recurringSchedules);
+        return schedules.recurringSchedules();
     }
 
     public Goals getGoals() {
@@ -73,8 +85,38 @@ public class Person {
         return location;
     }
 
+    /**
+     * Returns an immutable oneTimeSchedule set, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
     public Set<OneTimeSchedule> getOneTimeSchedules() {
-        return Collections.unmodifiableSet(oneTimeSchedules);
+        return schedules.oneTimeSchedules();
+    }
+
+    /**
+     * Returns all of this person's schedules in their packed form.
+     */
+    public PackedScheduleSet getPackedSchedules() {
+        return schedules;
+    }
+
+    /**
+     * Returns this person without the one-time schedules dated before {@code date}, or this person if there are
+     * none. A person who would be left without any schedules keeps their latest one-time schedule, so that how
+     * long they have gone without a session can still be told.
+     */
+    public Person withoutOneTimeSchedulesBefore(LocalDate date) {
+        int firstOneTimeIndex = schedules.getFirstOneTimeIndex();
+        int firstCurrentIndex = schedules.indexOfFirstOneTimeOnOrAfter(date);
+        if (firstOneTimeIndex == 0 && firstCurrentIndex == schedules.size() && firstCurrentIndex > 0) {
+            firstCurrentIndex--;
+        }
+        if (firstCurrentIndex == firstOneTimeIndex) {
+            return this;
+        }
+
+        return new Person(name, phone, schedules.withoutRange(firstOneTimeIndex, firstCurrentIndex), goals,
+                medicalHistory, location, tags);
     }
 
     /**
@@ -127,20 +169,22 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
+        if (hash != otherPerson.hash) {
+            return false;
+        }
+
         return name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
-                && recurringSchedules.equals(otherPerson.recurringSchedules)
+                && schedules.equals(otherPerson.schedules)
                 && goals.equals(otherPerson.goals)
                 && medicalHistory.equals(otherPerson.medicalHistory)
                 && location.equals(otherPerson.location)
-                && oneTimeSchedules.equals(otherPerson.oneTimeSchedules)
                 && tags.equals(otherPerson.tags);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, recurringSchedules, goals, medicalHistory, location, oneTimeSchedules, tags);
+        return hash;
     }
 
     @Override
@@ -148,11 +192,11 @@ public class Person {
         return new ToStringBuilder(this)
                 .add("name", name)
                 .add("phone", phone)
-                .add("recurringSchedules", recurringSchedules)
+                .add("recurringSchedules", getRecurringSchedules())
                 .add("goals", goals)
                 .add("medical history", medicalHistory)
                 .add("location", location)
-                .add("oneTimeSchedule", oneTimeSchedules)
+                .add("oneTimeSchedule", getOneTimeSchedules())
                 .add("tags", tags)
                 .toString();
     }
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.time.DayOfWeek;
 import java.util.regex.Pattern;
 
+import seedu.address.commons.util.Interner;
 import seedu.address.model.util.DayOfWeekUtils;
 
 /**
@@ -28,7 +29,10 @@ public class RecurringSchedule extends Schedule {
 
     private static final Pattern PATTERN = Pattern.compile(VALIDATION_REGEX, Pattern.CASE_INSENSITIVE);
 
+    private static final Interner<RecurringSchedule> INTERNER = new Interner<>();
+
     private final DayOfWeek day;
+    private final int hash;
 
     /**
      * Constructs a {@code RecurringSchedule}.
@@ -39,7 +43,42 @@ public class RecurringSchedule extends Schedule {
         super(validateThenExtractStartTime(schedule), extractEndTime(schedule));
         assert isValidRecurringSchedule(schedule) : "Schedule should be valid by this point";
         this.day = extractDay(schedule);
+        this.hash = computeHash();
+    }
+
+    /**
+     * Constructs a {@code RecurringSchedule} on {@code day} from {@code startTime} to {@code endTime} that is not
+     * shared with equal schedules.
+     *
+     * @see PackedScheduleSet#decode(long)
+     */
+    RecurringSchedule(DayOfWeek day, String startTime, String endTime) {
+        super(startTime, endTime);
+        this.day = requireNonNull(day);
+        this.hash = computeHash();
+    }
+
+    /**
+     * Returns the shared {@code RecurringSchedule} for {@code schedule}, creating it if an equal schedule
+     * has not been seen before.
+     *
+     * @param schedule A valid recurring schedule string.
+     */
+    public static RecurringSchedule of(String schedule) {
+        return INTERNER.intern(new RecurringSchedule(schedule));
     }
+
+    /**
+     * Returns the shared {@code RecurringSchedule} on {@code day} from {@code startTime} to {@code endTime}.
+     *
+     * @param day The day of the schedule.
+     * @param startTime A valid start time in HHmm format.
+     * @param endTime A valid end time in HHmm format.
+     */
+    public static RecurringSchedule of(DayOfWeek day, String startTime, String endTime) {
+        return INTERNER.intern(new RecurringSchedule(day, startTime, endTime));
+    }
+
     /**
      * Validates the schedule string and extracts the start time if valid.
      *
@@ -123,6 +162,9 @@ public class RecurringSchedule extends Schedule {
         }
 
         RecurringSchedule otherRecurringSchedule = (RecurringSchedule) other;
+        if (hash != otherRecurringSchedule.hash) {
+            return false;
+        }
         boolean isDayEquals = day.equals(otherRecurringSchedule.day);
         boolean isStartTimeEquals = startTime.equals(otherRecurringSchedule.startTime);
         boolean isEndTimeEquals = endTime.equals(otherRecurringSchedule.endTime);
@@ -131,6 +173,10 @@ public class RecurringSchedule extends Schedule {
 
     @Override
     public int hashCode() {
+        return hash;
+    }
+
+    private int computeHash() {
         String toHash = day + " " + startTime + " " + endTime;
         return toHash.hashCode();
     }
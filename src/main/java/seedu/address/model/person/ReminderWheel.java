@@ -0,0 +1,226 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The reminders due before the sessions of a list of persons, kept up to date as persons are added and removed.
+ * <p>
+ * The reminders are kept in a timing wheel with a slot for every minute of the week. A recurring session has its
+ * reminder in the slot of its reminder time, where it stays and is raised every week. A one-time session only has
+ * its reminder in a slot once its reminder time is less than a week away, so that it is raised the next time its
+ * slot comes round. Until then it waits in a list ordered by reminder time, from which it is moved into the wheel
+ * as time passes. Advancing the wheel by a minute therefore only looks at the reminders in one slot and at the
+ * head of that list, however many sessions there are.
+ */
+public class ReminderWheel {
+
+    /** The number of slots in the wheel, one for every minute of the week. */
+    static final int SLOT_COUNT = DayOfWeek.values().length * TimeSlot.MINUTES_PER_DAY;
+
+    private static final Comparator<Reminder> REMINDER_TIME_ORDER =
+            Comparator.comparing((Reminder reminder) -> reminder.time).thenComparingLong(reminder -> reminder.order);
+
+    private final int leadMinutes;
+    // created when a reminder is first put in them, as most minutes of the week have no sessions
+    private final List<Set<Reminder>> slots = new ArrayList<>(SLOT_COUNT);
+    private final Map<Person, List<Reminder>> reminders = new HashMap<>();
+    // the one-time reminders that are more than a week away, soonest first
+    private final TreeSet<Reminder> later = new TreeSet<>(REMINDER_TIME_ORDER);
+    private LocalDateTime asOf;
+    private long reminderCount;
+
+    /**
+     * Constructs an empty {@code ReminderWheel} that raises reminders {@code leadMinutes} before sessions start,
+     * from the minute after {@code asOf}.
+     */
+    public ReminderWheel(int leadMinutes, LocalDateTime asOf) {
+        requireNonNull(asOf);
+        checkArgument(leadMinutes >= 0, "Invalid reminder lead time: " + leadMinutes);
+        this.leadMinutes = leadMinutes;
+        this.asOf = asOf.truncatedTo(ChronoUnit.MINUTES);
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            slots.add(null);
+        }
+    }
+
+    /**
+     * Adds the reminders of the sessions of {@code person}. Reminders that were due before now are left out.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        assert !reminders.containsKey(person) : "A person should only be added once";
+        PackedScheduleSet schedules = person.getPackedSchedules();
+        List<Reminder> personReminders = new ArrayList<>(schedules.size());
+        for (int i = 0; i < schedules.size(); i++) {
+            long schedule = schedules.get(i);
+            Reminder reminder;
+            if (PackedScheduleSet.isOneTime(schedule)) {
+                LocalDateTime time = PackedScheduleSet.getDate(schedule).atStartOfDay()
+                        .plusMinutes(PackedScheduleSet.getStartMinute(schedule) - leadMinutes);
+                if (!time.isAfter(asOf)) {
+                    continue;
+                }
+                reminder = new Reminder(person, schedule, time, reminderCount++);
+                schedule(reminder);
+            } else {
+                int minuteOfWeek = getMinuteOfWeek(PackedScheduleSet.getDayOfWeek(schedule),
+                        PackedScheduleSet.getStartMinute(schedule));
+                reminder = new Reminder(person, schedule, null, reminderCount++);
+                putInSlot(reminder, Math.floorMod(minuteOfWeek - leadMinutes, SLOT_COUNT));
+            }
+            personReminders.add(reminder);
+        }
+        reminders.put(person, personReminders);
+    }
+
+    /**
+     * Removes the reminders of the sessions of {@code person}, which must have been added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        List<Reminder> personReminders = reminders.remove(person);
+        assert personReminders != null : "Only persons that were added can be removed";
+        for (Reminder reminder : personReminders) {
+            if (reminder.slot >= 0) {
+                removeFromSlot(reminder);
+            } else {
+                later.remove(reminder);
+            }
+        }
+    }
+
+    /**
+     * Advances the wheel to {@code now}, and returns the sessions whose reminders are due, in order of reminder
+     * time. Reminders that fell due while the wheel was not advanced, such as while the computer was asleep, are
+     * only returned if their sessions start at or after {@code now}. Moving the wheel back in time only moves it,
+     * so the reminders between the two times are raised again when it next moves past them.
+     */
+    public List<Occurrence> advanceTo(LocalDateTime now) {
+        requireNonNull(now);
+        LocalDateTime to = now.truncatedTo(ChronoUnit.MINUTES);
+        List<Occurrence> due = new ArrayList<>();
+        if (!to.isAfter(asOf)) {
+            asOf = to;
+            return due;
+        }
+
+        // the reminders from lead minutes ago on are of sessions that have not started before now
+        LocalDateTime from = asOf.plusMinutes(1);
+        if (from.isBefore(to.minusMinutes(leadMinutes))) {
+            from = to.minusMinutes(leadMinutes);
+        }
+        asOf = to;
+        moveDueLaterIntoSlots();
+        for (LocalDateTime time = from; !time.isAfter(to); time = time.plusMinutes(1)) {
+            raiseSlot(time, due);
+        }
+        return due;
+    }
+
+    private void raiseSlot(LocalDateTime time, List<Occurrence> due) {
+        Set<Reminder> slot = slots.get(getSlot(time));
+        if (slot == null) {
+            return;
+        }
+        List<Reminder> raisedOnce = new ArrayList<>();
+        for (Reminder reminder : slot) {
+            if (reminder.time == null) {
+                due.add(new Occurrence(reminder.person, time.plusMinutes(leadMinutes).toLocalDate(),
+                        reminder.schedule));
+                continue;
+            }
+            // a one-time reminder is due now, or was skipped over and is a week old by now
+            if (reminder.time.equals(time)) {
+                due.add(new Occurrence(reminder.person, PackedScheduleSet.getDate(reminder.schedule),
+                        reminder.schedule));
+            }
+            if (!reminder.time.isAfter(time)) {
+                raisedOnce.add(reminder);
+            }
+        }
+        for (Reminder reminder : raisedOnce) {
+            removeFromSlot(reminder);
+            reminders.get(reminder.person).remove(reminder);
+        }
+    }
+
+    /**
+     * Moves the one-time reminders that are now less than a week away into the wheel.
+     */
+    private void moveDueLaterIntoSlots() {
+        LocalDateTime lastInWheel = asOf.plusMinutes(SLOT_COUNT);
+        while (!later.isEmpty() && !later.first().time.isAfter(lastInWheel)) {
+            Reminder reminder = later.pollFirst();
+            putInSlot(reminder, getSlot(reminder.time));
+        }
+    }
+
+    /**
+     * Puts the one-time {@code reminder} in the wheel if it is less than a week away, or in {@link #later} if not.
+     */
+    private void schedule(Reminder reminder) {
+        if (reminder.time.isAfter(asOf.plusMinutes(SLOT_COUNT))) {
+            later.add(reminder);
+        } else {
+            putInSlot(reminder, getSlot(reminder.time));
+        }
+    }
+
+    private void putInSlot(Reminder reminder, int slotIndex) {
+        if (slots.get(slotIndex) == null) {
+            slots.set(slotIndex, new LinkedHashSet<>());
+        }
+        slots.get(slotIndex).add(reminder);
+        reminder.slot = slotIndex;
+    }
+
+    private void removeFromSlot(Reminder reminder) {
+        Set<Reminder> slot = slots.get(reminder.slot);
+        slot.remove(reminder);
+        if (slot.isEmpty()) {
+            slots.set(reminder.slot, null);
+        }
+        reminder.slot = -1;
+    }
+
+    private static int getSlot(LocalDateTime time) {
+        return getMinuteOfWeek(time.getDayOfWeek(), time.getHour() * 60 + time.getMinute());
+    }
+
+    private static int getMinuteOfWeek(DayOfWeek day, int minute) {
+        return (day.getValue() - 1) * TimeSlot.MINUTES_PER_DAY + minute;
+    }
+
+    /**
+     * The reminder of a session, raised every week at its slot if {@code time} is null, or once at {@code time}.
+     * It is in the slot at index {@code slot}, or in {@link #later} if that is -1.
+     */
+    private static class Reminder {
+        private final Person person;
+        private final long schedule;
+        private final LocalDateTime time;
+        // keeps reminders at the same time apart in {@link #later}
+        private final long order;
+        private int slot = -1;
+
+        Reminder(Person person, long schedule, LocalDateTime time, long order) {
+            this.person = person;
+            this.schedule = schedule;
+            this.time = time;
+            this.order = order;
+        }
+    }
+}
@@ -1,104 +1,14 @@
 package seedu.address.model.person;
 
-import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 /**
- * Utility class for detecting conflicts between schedules.
+ * Utility class for detecting conflicts between the schedules of a single person.
  */
 public class ScheduleConflictDetector {
 
-    /**
-     * Checks if a person has any schedule conflicts.
-     * This method checks for conflicts between all types of schedules.
-     *
-     * @param person The person to check for conflicts.
-     * @param newSchedule The new schedule to be added.
-     * @return a ScheduleConflictResult with conflict information if there is a conflict, otherwise an empty result.
-     * @throws NullPointerException if person or newSchedule is null
-     */
-    public static ScheduleConflictResult checkScheduleConflict(Person person, Schedule newSchedule) {
-        Objects.requireNonNull(person, "Person cannot be null");
-        Objects.requireNonNull(newSchedule, "Schedule cannot be null");
-
-        if (newSchedule instanceof RecurringSchedule) {
-            return checkRecurringScheduleConflict(person, (RecurringSchedule) newSchedule);
-        } else if (newSchedule instanceof OneTimeSchedule) {
-            return checkOneTimeScheduleConflict(person, (OneTimeSchedule) newSchedule);
-        }
-        // Should never reach here if all schedule types are properly handled
-        assert false : "Unknown schedule type";
-        return new ScheduleConflictResult();
-    }
-    /**
-     * Checks for conflicts when adding a recurring schedule.
-     *
-     * @param person The person to check.
-     * @param newRecurringSchedule The new recurring schedule.
-     * @return A result containing conflict information if found.
-     */
-    private static ScheduleConflictResult checkRecurringScheduleConflict(
-            Person person, RecurringSchedule newRecurringSchedule) {
-        // Check against existing recurring schedules
-        for (RecurringSchedule existingSchedule : person.getRecurringSchedules()) {
-            if (existingSchedule.getDay().equals(newRecurringSchedule.getDay())) {
-                if (hasTimeOverlapBetweenSchedules(newRecurringSchedule, existingSchedule)) {
-                    String description = createConflictDescription(newRecurringSchedule, existingSchedule,
-                            "Recurring schedule conflict on " + existingSchedule.getDay());
-                    return new ScheduleConflictResult(description, existingSchedule);
-                }
-            }
-        }
-        // Check against existing one-time schedules
-        for (OneTimeSchedule existingSchedule : person.getOneTimeSchedules()) {
-            DayOfWeek oneTimeDayOfWeek = existingSchedule.getDate().getDayOfWeek();
-            if (oneTimeDayOfWeek.equals(newRecurringSchedule.getDay())) {
-                if (hasTimeOverlapBetweenSchedules(newRecurringSchedule, existingSchedule)) {
-                    String description = createConflictDescription(newRecurringSchedule, existingSchedule,
-                            "Recurring schedule conflict with one-time schedule on "
-                                    + existingSchedule.getDateString());
-                    return new ScheduleConflictResult(description, existingSchedule);
-                }
-            }
-        }
-        return new ScheduleConflictResult();
-    }
-    /**
-     * Checks for conflicts when adding a one-time schedule.
-     *
-     * @param person The person to check.
-     * @param newOneTimeSchedule The new one-time schedule.
-     * @return A result containing conflict information if found.
-     */
-    private static ScheduleConflictResult checkOneTimeScheduleConflict(
-            Person person, OneTimeSchedule newOneTimeSchedule) {
-        // Check against existing one-time schedules
-        for (OneTimeSchedule existingSchedule : person.getOneTimeSchedules()) {
-            if (existingSchedule.getDate().equals(newOneTimeSchedule.getDate())) {
-                if (hasTimeOverlapBetweenSchedules(newOneTimeSchedule, existingSchedule)) {
-                    String description = createConflictDescription(newOneTimeSchedule, existingSchedule,
-                            "One-time schedule conflict on " + existingSchedule.getDateString());
-                    return new ScheduleConflictResult(description, existingSchedule);
-                }
-            }
-        }
-        // Check against existing recurring schedules
-        DayOfWeek oneTimeDayOfWeek = newOneTimeSchedule.getDate().getDayOfWeek();
-        for (RecurringSchedule existingSchedule : person.getRecurringSchedules()) {
-            if (existingSchedule.getDay().equals(oneTimeDayOfWeek)) {
-                if (hasTimeOverlapBetweenSchedules(newOneTimeSchedule, existingSchedule)) {
-                    String description = createConflictDescription(newOneTimeSchedule, existingSchedule,
-                            "One-time schedule conflict with recurring schedule on "
-                            + existingSchedule.getDay() + " (" + newOneTimeSchedule.getDateString() + ")");
-                    return new ScheduleConflictResult(description, existingSchedule);
-                }
-            }
-        }
-        return new ScheduleConflictResult();
-    }
-
     /**
      * Checks for internal schedule conflicts within a single person's schedules.
      * This detects if the person has overlapping schedules with themselves.
@@ -201,20 +111,6 @@ public class ScheduleConflictDetector {
                 schedule2.getStartTime() + "-" + schedule2.getEndTime());
     }
 
-    /**
-     * Creates a conflict description string for two overlapping schedules.
-     *
-     * @param newSchedule The new schedule being added or edited.
-     * @param existingSchedule The existing schedule it conflicts with.
-     * @param prefix The contextual prefix for the conflict message.
-     * @return A formatted conflict description.
-     */
-    private static String createConflictDescription(Schedule newSchedule, Schedule existingSchedule, String prefix) {
-        return prefix
-                + " between " + newSchedule.getStartTime() + "-" + newSchedule.getEndTime()
-                + " and " + existingSchedule.getStartTime() + "-" + existingSchedule.getEndTime();
-    }
-
     /**
      * Checks if there is a time overlap between two schedules.
      *
@@ -0,0 +1,471 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * The minutes of each day and date that are taken up by the schedules of a list of persons, kept up to date as
+ * persons are added and removed.
+ * <p>
+ * Every schedule is counted by the number of persons holding it, in order of day, so the sessions held at each
+ * minute of a day or date are found from the starts and ends of only the schedules on it, without going through
+ * the persons. The free time on a date is where fewer sessions are held, on the date and every week on its day of
+ * week, than the studio can hold, found as a bitmap with one bit per minute that is scanned a 64-minute word at a
+ * time. Whether adding a person would hold more sessions at once than the studio can is found by sweeping over the
+ * start and end times of only the sessions on that person's days.
+ * <p>
+ * Every day of week and every date with a schedule also has a bitmap set for the minutes its schedules cover, so
+ * that the dates whose sessions could overlap a recurring session are found without counting their sessions.
+ */
+public class ScheduleOccupancy {
+
+    // number of persons holding each packed schedule, in packed order so that the schedules of a day are adjacent
+    private final NavigableMap<Long, Integer> scheduleCounts = new TreeMap<>();
+    // occupied minutes, keyed by the day prefix of the packed schedules on each day of week or date, in packed order
+    // so that the dates from a given date on are a tail of the map
+    private final NavigableMap<Long, BitSet> occupiedMinutes = new TreeMap<>();
+
+    /**
+     * Returns the occupancy of the schedules of {@code persons}.
+     */
+    public static ScheduleOccupancy of(List<Person> persons) {
+        requireNonNull(persons);
+        ScheduleOccupancy occupancy = new ScheduleOccupancy();
+        persons.forEach(occupancy::add);
+        return occupancy;
+    }
+
+    /**
+     * Marks the minutes taken up by the schedules of {@code person}.
+     */
+    public void add(Person person) {
+        PackedScheduleSet schedules = person.getPackedSchedules();
+        for (int i = 0; i < schedules.size(); i++) {
+            long schedule = schedules.get(i);
+            if (scheduleCounts.merge(schedule, 1, Integer::sum) == 1) {
+                occupiedMinutes.computeIfAbsent(PackedScheduleSet.dayPrefix(schedule), unused -> new BitSet())
+                        .set(PackedScheduleSet.getStartMinute(schedule), PackedScheduleSet.getEndMinute(schedule));
+            }
+        }
+    }
+
+    /**
+     * Unmarks the minutes taken up by the schedules of {@code person}, which must have been added.
+     * Minutes that other schedules on the same day also take up stay marked.
+     */
+    public void remove(Person person) {
+        PackedScheduleSet schedules = person.getPackedSchedules();
+        for (int i = 0; i < schedules.size(); i++) {
+            long schedule = schedules.get(i);
+            Integer count = scheduleCounts.get(schedule);
+            assert count != null : "Only schedules that were added can be removed";
+            if (count > 1) {
+                scheduleCounts.put(schedule, count - 1);
+            } else {
+                scheduleCounts.remove(schedule);
+                remark(PackedScheduleSet.dayPrefix(schedule));
+            }
+        }
+    }
+
+    /**
+     * Marks the minutes of the day with {@code dayPrefix} again from the schedules left on it, as overlapping
+     * schedules cannot be unmarked one at a time.
+     */
+    private void remark(long dayPrefix) {
+        NavigableMap<Long, Integer> daySchedules =
+                scheduleCounts.subMap(dayPrefix, true, PackedScheduleSet.nextDayPrefix(dayPrefix), false);
+        if (daySchedules.isEmpty()) {
+            occupiedMinutes.remove(dayPrefix);
+            return;
+        }
+        BitSet minutes = new BitSet(TimeSlot.MINUTES_PER_DAY);
+        for (long schedule : daySchedules.keySet()) {
+            minutes.set(PackedScheduleSet.getStartMinute(schedule), PackedScheduleSet.getEndMinute(schedule));
+        }
+        occupiedMinutes.put(dayPrefix, minutes);
+    }
+
+    /**
+     * Returns the minutes of {@code date} that are taken up by a recurring schedule on its day of week or a
+     * one-time schedule on it, as a bitmap with one bit per minute since midnight.
+     */
+    public BitSet getOccupiedMinutes(LocalDate date) {
+        requireNonNull(date);
+        BitSet minutes = new BitSet(TimeSlot.MINUTES_PER_DAY);
+        BitSet recurring = occupiedMinutes.get(PackedScheduleSet.dayPrefix(date.getDayOfWeek()));
+        BitSet oneTime = occupiedMinutes.get(PackedScheduleSet.dayPrefix(date));
+        if (recurring != null) {
+            minutes.or(recurring);
+        }
+        if (oneTime != null) {
+            minutes.or(oneTime);
+        }
+        return minutes;
+    }
+
+    /**
+     * Returns the minutes of {@code date} at which the sessions held, recurring ones on its day of week and
+     * one-time ones on it, are as many as {@code limits} allow, as a bitmap with one bit per minute since midnight.
+     */
+    public BitSet getFullMinutes(LocalDate date, CapacityLimits limits) {
+        requireNonNull(date);
+        requireNonNull(limits);
+        int[] held = countHeld(PackedScheduleSet.dayPrefix(date.getDayOfWeek()));
+        int[] heldOnDate = countHeld(PackedScheduleSet.dayPrefix(date));
+        for (int minute = 0; minute < held.length; minute++) {
+            held[minute] += heldOnDate[minute];
+        }
+        return toFullMinutes(held, date.getDayOfWeek(), limits);
+    }
+
+    /**
+     * Returns the minutes of every {@code day} at which the sessions held, recurring ones on it and one-time ones
+     * on any date from {@code today} on that falls on it, are as many as {@code limits} allow on some date. These
+     * are the minutes a new recurring session on {@code day} would be over capacity at. One-time sessions before
+     * {@code today} are over, so they are left out.
+     */
+    public BitSet getFullMinutes(DayOfWeek day, CapacityLimits limits, LocalDate today) {
+        requireNonNull(day);
+        requireNonNull(limits);
+        requireNonNull(today);
+        // a recurring session is held with the one-time sessions of each date on its day, so the date holding the
+        // most sessions at a minute decides whether it is full
+        int[] mostHeldOnDates = new int[TimeSlot.MINUTES_PER_DAY];
+        for (long dayPrefix : getDatePrefixesFrom(today)) {
+            if (PackedScheduleSet.getDayOfWeek(dayPrefix) == day) {
+                int[] heldOnDate = countHeld(dayPrefix);
+                for (int minute = 0; minute < heldOnDate.length; minute++) {
+                    mostHeldOnDates[minute] = Math.max(mostHeldOnDates[minute], heldOnDate[minute]);
+                }
+            }
+        }
+        int[] held = countHeld(PackedScheduleSet.dayPrefix(day));
+        for (int minute = 0; minute < held.length; minute++) {
+            held[minute] += mostHeldOnDates[minute];
+        }
+        return toFullMinutes(held, day, limits);
+    }
+
+    /**
+     * Returns the day prefixes of the dates from {@code today} on that have a schedule, in order of date.
+     */
+    private Set<Long> getDatePrefixesFrom(LocalDate today) {
+        // one-time day prefixes are ordered by date, and after every recurring one
+        return occupiedMinutes.tailMap(PackedScheduleSet.dayPrefix(today), true).keySet();
+    }
+
+    /**
+     * Returns the number of sessions held at every minute of the day or date with {@code dayPrefix}, found from the
+     * starts and ends of its counted schedules.
+     */
+    private int[] countHeld(long dayPrefix) {
+        int[] held = new int[TimeSlot.MINUTES_PER_DAY];
+        if (!occupiedMinutes.containsKey(dayPrefix)) {
+            return held;
+        }
+        // the change in sessions held at each minute, which the running total then turns into the sessions held
+        int[] changes = new int[TimeSlot.MINUTES_PER_DAY + 1];
+        scheduleCounts.subMap(dayPrefix, true, PackedScheduleSet.nextDayPrefix(dayPrefix), false)
+                .forEach((schedule, count) -> {
+                    changes[PackedScheduleSet.getStartMinute(schedule)] += count;
+                    changes[PackedScheduleSet.getEndMinute(schedule)] -= count;
+                });
+        int running = 0;
+        for (int minute = 0; minute < held.length; minute++) {
+            running += changes[minute];
+            held[minute] = running;
+        }
+        return held;
+    }
+
+    private static BitSet toFullMinutes(int[] held, DayOfWeek day, CapacityLimits limits) {
+        BitSet full = new BitSet(TimeSlot.MINUTES_PER_DAY);
+        for (int minute = 0; minute < held.length; minute++) {
+            if (held[minute] >= limits.getCapacity(day, minute)) {
+                full.set(minute);
+            }
+        }
+        return full;
+    }
+
+    /**
+     * Returns the free spans of {@code date} within {@code window} that are at least {@code minMinutes} long, in
+     * order. A span is free if at each of its minutes, fewer sessions are held on {@code date} than {@code limits}
+     * allow, so that another session fits.
+     */
+    public List<TimeSlot> findFreeSlots(LocalDate date, TimeSlot window, int minMinutes, CapacityLimits limits) {
+        requireNonNull(window);
+        return findFreeSlots(getFullMinutes(date, limits), window, minMinutes);
+    }
+
+    /**
+     * Returns the free spans of every {@code day} within {@code window} that are at least {@code minMinutes} long,
+     * in order. A span is free if at each of its minutes, fewer sessions are held every week on {@code day}, together
+     * with those on any one date from {@code today} on that falls on it, than {@code limits} allow, so that another
+     * recurring session fits.
+     */
+    public List<TimeSlot> findFreeSlots(DayOfWeek day, TimeSlot window, int minMinutes, CapacityLimits limits,
+            LocalDate today) {
+        requireNonNull(window);
+        return findFreeSlots(getFullMinutes(day, limits, today), window, minMinutes);
+    }
+
+    /**
+     * Returns the spans in which more sessions would be held at once than {@code limits} allow if {@code person}
+     * were added, in place of {@code replaced} if it is not null. Only spans during one of the sessions of
+     * {@code person} are returned, first those of every week in order of day, and then those on dates in order
+     * of date. A span on a date that is the same as one every week on its day is left out. Sessions of
+     * {@code person} that overlap each other only count once, as one person cannot use two places at once.
+     * Dates before {@code today} are over, so their one-time sessions are left out.
+     */
+    public List<CapacityViolation> findCapacityViolations(Person person, Person replaced, CapacityLimits limits,
+            LocalDate today) {
+        requireNonNull(person);
+        requireNonNull(limits);
+        requireNonNull(today);
+        PackedScheduleSet ownSchedules = person.getPackedSchedules();
+        Set<Long> excluded = new HashSet<>();
+        if (replaced != null) {
+            PackedScheduleSet replacedSchedules = replaced.getPackedSchedules();
+            for (int i = 0; i < replacedSchedules.size(); i++) {
+                excluded.add(replacedSchedules.get(i));
+            }
+        }
+
+        // a recurring session is held with the one-time sessions of every date on its day, so each such date
+        // whose sessions overlap it is checked as well as the week
+        Map<DayOfWeek, BitSet> recurringMinutes = new EnumMap<>(DayOfWeek.class);
+        Set<LocalDate> dates = new TreeSet<>();
+        for (int i = 0; i < ownSchedules.size(); i++) {
+            long schedule = ownSchedules.get(i);
+            if (PackedScheduleSet.isOneTime(schedule)) {
+                LocalDate date = PackedScheduleSet.getDate(schedule);
+                if (!date.isBefore(today)) {
+                    dates.add(date);
+                }
+            } else {
+                recurringMinutes.computeIfAbsent(PackedScheduleSet.getDayOfWeek(schedule), unused -> new BitSet())
+                        .set(PackedScheduleSet.getStartMinute(schedule), PackedScheduleSet.getEndMinute(schedule));
+            }
+        }
+        if (!recurringMinutes.isEmpty()) {
+            for (long dayPrefix : getDatePrefixesFrom(today)) {
+                BitSet ownMinutes = recurringMinutes.get(PackedScheduleSet.getDayOfWeek(dayPrefix));
+                if (ownMinutes != null && ownMinutes.intersects(occupiedMinutes.get(dayPrefix))) {
+                    dates.add(PackedScheduleSet.getDate(dayPrefix));
+                }
+            }
+        }
+
+        List<CapacityViolation> violations = new ArrayList<>();
+        Map<DayOfWeek, List<CapacityViolation>> weeklyViolations = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : recurringMinutes.keySet()) {
+            List<CapacityViolation> dayViolations = sweep(day, null, ownSchedules, excluded, limits);
+            weeklyViolations.put(day, dayViolations);
+            violations.addAll(dayViolations);
+        }
+        for (LocalDate date : dates) {
+            List<CapacityViolation> weekly = weeklyViolations.getOrDefault(date.getDayOfWeek(), List.of());
+            for (CapacityViolation violation : sweep(date.getDayOfWeek(), date, ownSchedules, excluded, limits)) {
+                if (weekly.stream().noneMatch(violation::isSameSpanAs)) {
+                    violations.add(violation);
+                }
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Returns the spans on {@code date}, or every week on {@code day} if {@code date} is null, in which more
+     * sessions are held at once than {@code limits} allow, during one of {@code ownSchedules}. The sessions held
+     * are {@code ownSchedules} and the counted schedules other than {@code excluded} on the day and date.
+     */
+    private List<CapacityViolation> sweep(DayOfWeek day, LocalDate date, PackedScheduleSet ownSchedules,
+            Set<Long> excluded, CapacityLimits limits) {
+        long weeklyPrefix = PackedScheduleSet.dayPrefix(day);
+        long datePrefix = date == null ? weeklyPrefix : PackedScheduleSet.dayPrefix(date);
+        SweepEvents events = new SweepEvents();
+        for (int i = 0; i < ownSchedules.size(); i++) {
+            long schedule = ownSchedules.get(i);
+            long dayPrefix = PackedScheduleSet.dayPrefix(schedule);
+            if (dayPrefix == weeklyPrefix || dayPrefix == datePrefix) {
+                events.addOwn(schedule);
+            }
+        }
+        if (events.size == 0) {
+            return List.of();
+        }
+        addOthers(events, weeklyPrefix, excluded);
+        if (date != null) {
+            addOthers(events, datePrefix, excluded);
+        }
+        Arrays.sort(events.events, 0, events.size);
+
+        List<CapacityViolation> violations = new ArrayList<>();
+        int othersHeld = 0;
+        int ownHeld = 0;
+        int previous = SweepEvents.getMinute(events.events[0]);
+        int spanStart = -1;
+        int mostHeld = 0;
+        int leastCapacity = Integer.MAX_VALUE;
+        for (int i = 0; i < events.size; i++) {
+            long event = events.events[i];
+            int minute = SweepEvents.getMinute(event);
+            // the sessions held stay the same from the previous event up to this one, and as every capacity is at
+            // least 1, they can only be over capacity if there are others besides the person's own
+            if (ownHeld == 0 || othersHeld == 0) {
+                // a session ending at the minute another starts leaves no time in between to end a span
+                if (spanStart >= 0 && minute > previous) {
+                    violations.add(new CapacityViolation(day, date, new TimeSlot(spanStart, previous), mostHeld,
+                            leastCapacity));
+                    spanStart = -1;
+                }
+            } else {
+                // the person's own sessions that overlap each other are held by one person, so count as one
+                int held = othersHeld + 1;
+                for (int m = previous; m < minute; m++) {
+                    int capacity = limits.getCapacity(day, m);
+                    if (held > capacity) {
+                        if (spanStart < 0) {
+                            spanStart = m;
+                            mostHeld = 0;
+                            leastCapacity = Integer.MAX_VALUE;
+                        }
+                        mostHeld = Math.max(mostHeld, held);
+                        leastCapacity = Math.min(leastCapacity, capacity);
+                    } else if (spanStart >= 0) {
+                        violations.add(new CapacityViolation(day, date, new TimeSlot(spanStart, m), mostHeld,
+                                leastCapacity));
+                        spanStart = -1;
+                    }
+                }
+            }
+            othersHeld += SweepEvents.getOthersChange(event);
+            ownHeld += SweepEvents.getOwnChange(event);
+            previous = minute;
+        }
+        // no sessions are held after the last event, so a span still open ends there
+        if (spanStart >= 0) {
+            violations.add(new CapacityViolation(day, date, new TimeSlot(spanStart, previous), mostHeld,
+                    leastCapacity));
+        }
+        return violations;
+    }
+
+    /**
+     * Adds the starts and ends of the counted schedules on the day or date with {@code dayPrefix} that overlap the
+     * own sessions in {@code events}, leaving out one holder of each of {@code excluded}.
+     */
+    private void addOthers(SweepEvents events, long dayPrefix, Set<Long> excluded) {
+        NavigableMap<Long, Integer> daySchedules =
+                scheduleCounts.subMap(dayPrefix, true, PackedScheduleSet.nextDayPrefix(dayPrefix), false);
+        daySchedules.forEach((schedule, count) -> {
+            int heldCount = excluded.contains(schedule) ? count - 1 : count;
+            if (heldCount > 0) {
+                events.addOthers(schedule, heldCount);
+            }
+        });
+    }
+
+    private static List<TimeSlot> findFreeSlots(BitSet full, TimeSlot window, int minMinutes) {
+        List<TimeSlot> freeSlots = new ArrayList<>();
+        int end = window.getEndMinute();
+        int next = window.getStartMinute();
+        while (next < end) {
+            int freeStart = full.nextClearBit(next);
+            if (freeStart >= end) {
+                break;
+            }
+            int freeEnd = full.nextSetBit(freeStart);
+            freeEnd = freeEnd == -1 ? end : Math.min(freeEnd, end);
+            if (freeEnd - freeStart >= minMinutes) {
+                freeSlots.add(new TimeSlot(freeStart, freeEnd));
+            }
+            next = freeEnd;
+        }
+        return freeSlots;
+    }
+
+    /**
+     * The starts and ends of the sessions held on a day or date, each packed into a long so that sorting them
+     * orders them by minute, with ends before starts at the same minute.
+     */
+    private static class SweepEvents {
+        private static final int MINUTE_SHIFT = 33;
+        private static final int START_BIT_SHIFT = 32;
+        private static final int COUNT_SHIFT = 1;
+        private static final long COUNT_MASK = 0x7FFF_FFFFL;
+        private static final long OWN_BIT = 1L;
+
+        private long[] events = new long[16];
+        private int size;
+        // the span of the own sessions, outside of which other sessions do not matter
+        private int ownFrom = TimeSlot.MINUTES_PER_DAY;
+        private int ownTo = 0;
+
+        void addOwn(long schedule) {
+            int start = PackedScheduleSet.getStartMinute(schedule);
+            int end = PackedScheduleSet.getEndMinute(schedule);
+            ownFrom = Math.min(ownFrom, start);
+            ownTo = Math.max(ownTo, end);
+            add(start, true, 0, OWN_BIT);
+            add(end, false, 0, OWN_BIT);
+        }
+
+        /**
+         * Adds a session held {@code count} times by other persons, unless it is outside the own sessions, which
+         * must all have been added first.
+         */
+        void addOthers(long schedule, int count) {
+            int start = PackedScheduleSet.getStartMinute(schedule);
+            int end = PackedScheduleSet.getEndMinute(schedule);
+            if (end <= ownFrom || start >= ownTo) {
+                return;
+            }
+            add(start, true, count, 0);
+            add(end, false, count, 0);
+        }
+
+        private void add(int minute, boolean isStart, int count, long ownBit) {
+            if (size == events.length) {
+                events = Arrays.copyOf(events, size * 2);
+            }
+            events[size++] = ((long) minute << MINUTE_SHIFT) | ((isStart ? 1L : 0L) << START_BIT_SHIFT)
+                    | ((long) count << COUNT_SHIFT) | ownBit;
+        }
+
+        static int getMinute(long event) {
+            return (int) (event >>> MINUTE_SHIFT);
+        }
+
+        static int getOthersChange(long event) {
+            int count = (int) ((event >>> COUNT_SHIFT) & COUNT_MASK);
+            return isStart(event) ? count : -count;
+        }
+
+        static int getOwnChange(long event) {
+            if ((event & OWN_BIT) == 0) {
+                return 0;
+            }
+            return isStart(event) ? 1 : -1;
+        }
+
+        private static boolean isStart(long event) {
+            return ((event >>> START_BIT_SHIFT) & 1L) == 1L;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Suggests sets of weekly sessions that fit into the free time of the studio, one session per day, ranked by how
+ * compactly they fit around the sessions already on those days.
+ * <p>
+ * A session is more compact the fewer idle minutes it leaves between itself and the nearest session on its day,
+ * so a session right before or after another session leaves none. A session on a day with no other sessions
+ * leaves the whole day idle. A set of sessions leaves the idle minutes of its sessions added together.
+ * <p>
+ * The sets are found with a depth-first search over the allowed days in order, trying the most compact sessions
+ * of each day first. Only the best few sets found so far are kept, and a branch is cut off as soon as even its
+ * most compact completion could not beat the worst of them. As many sets tie when days are empty, the search
+ * also stops after a fixed number of steps and returns the best sets found by then.
+ */
+public class SlotSuggester {
+
+    /** Sessions start on multiples of this many minutes, or right after or before the free time they are in. */
+    static final int START_STEP = 30;
+
+    /** The most steps taken by one search. */
+    static final int MAX_SEARCH_STEPS = 100_000;
+
+    // the latest a session can end, as schedules cannot end at 2400
+    private static final int LAST_END_MINUTE = TimeSlot.MINUTES_PER_DAY - 1;
+
+    private final int count;
+    private final int duration;
+    private final TimeSlot window;
+    private final int limit;
+
+    /**
+     * Constructs a {@code SlotSuggester} for sets of {@code count} sessions that are {@code duration} minutes long
+     * and within {@code window} on their days, suggesting at most {@code limit} sets.
+     */
+    public SlotSuggester(int count, int duration, TimeSlot window, int limit) {
+        requireNonNull(window);
+        checkArgument(count > 0 && count <= DayOfWeek.values().length, "Invalid session count: " + count);
+        checkArgument(duration > 0, "Invalid session duration: " + duration);
+        checkArgument(limit > 0, "Invalid suggestion limit: " + limit);
+        this.count = count;
+        this.duration = duration;
+        this.window = window;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the most compact sets of sessions on different days of {@code freeSlots}, most compact first.
+     * Sets that are as compact as each other are in the order they were found in, which favours earlier days and
+     * earlier start times. The sessions of each set are in the order of their days.
+     *
+     * @param freeSlots The free time of each allowed day over the whole day, such as from
+     *     {@link ScheduleOccupancy#findFreeSlots(DayOfWeek, TimeSlot, int, CapacityLimits)}.
+     */
+    public List<Suggestion> suggest(Map<DayOfWeek, List<TimeSlot>> freeSlots) {
+        requireNonNull(freeSlots);
+        List<List<Candidate>> candidatesByDay = new ArrayList<>();
+        new TreeMap<>(freeSlots).forEach((day, slots) -> {
+            List<Candidate> candidates = findCandidates(day, slots);
+            if (!candidates.isEmpty()) {
+                candidatesByDay.add(candidates);
+            }
+        });
+        if (candidatesByDay.size() < count) {
+            return List.of();
+        }
+        return new Search(candidatesByDay).run();
+    }
+
+    /**
+     * Returns the sessions that fit into {@code slots} of {@code day}, most compact first.
+     */
+    private List<Candidate> findCandidates(DayOfWeek day, List<TimeSlot> slots) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (TimeSlot slot : slots) {
+            int earliestStart = Math.max(slot.getStartMinute(), window.getStartMinute());
+            int latestStart = Math.min(Math.min(slot.getEndMinute(), window.getEndMinute()), LAST_END_MINUTE)
+                    - duration;
+            if (earliestStart > latestStart) {
+                continue;
+            }
+            candidates.add(new Candidate(day, earliestStart, getIdleMinutes(slot, earliestStart)));
+            int start = (earliestStart / START_STEP + 1) * START_STEP;
+            for (; start < latestStart; start += START_STEP) {
+                candidates.add(new Candidate(day, start, getIdleMinutes(slot, start)));
+            }
+            if (latestStart > earliestStart) {
+                candidates.add(new Candidate(day, latestStart, getIdleMinutes(slot, latestStart)));
+            }
+        }
+        candidates.sort(Comparator.comparingInt((Candidate candidate) -> candidate.idleMinutes)
+                .thenComparingInt(candidate -> candidate.start));
+        return candidates;
+    }
+
+    /**
+     * Returns the idle minutes between a session starting at {@code start} in the free {@code slot} and the nearest
+     * session on its day, which is before the slot unless it starts the day, and after it unless it ends the day.
+     */
+    private int getIdleMinutes(TimeSlot slot, int start) {
+        boolean hasSessionBefore = slot.getStartMinute() > 0;
+        boolean hasSessionAfter = slot.getEndMinute() < TimeSlot.MINUTES_PER_DAY;
+        int idleBefore = hasSessionBefore ? start - slot.getStartMinute() : TimeSlot.MINUTES_PER_DAY;
+        int idleAfter = hasSessionAfter ? slot.getEndMinute() - start - duration : TimeSlot.MINUTES_PER_DAY;
+        return Math.min(idleBefore, idleAfter);
+    }
+
+    /**
+     * A session that could be suggested.
+     */
+    private static class Candidate {
+        private final DayOfWeek day;
+        private final int start;
+        private final int idleMinutes;
+
+        Candidate(DayOfWeek day, int start, int idleMinutes) {
+            this.day = day;
+            this.start = start;
+            this.idleMinutes = idleMinutes;
+        }
+    }
+
+    /**
+     * A set of sessions found by a search, numbered in the order it was found.
+     */
+    private static class Found {
+        private final Candidate[] candidates;
+        private final int idleMinutes;
+        private final int order;
+
+        Found(Candidate[] candidates, int idleMinutes, int order) {
+            this.candidates = candidates;
+            this.idleMinutes = idleMinutes;
+            this.order = order;
+        }
+    }
+
+    /**
+     * One search over the candidates of the allowed days.
+     */
+    private class Search {
+        // worse sets first, so that the worst kept set is at the head
+        private final PriorityQueue<Found> best = new PriorityQueue<>(
+                Comparator.comparingInt((Found found) -> found.idleMinutes)
+                        .thenComparingInt(found -> found.order).reversed());
+        private final List<List<Candidate>> candidatesByDay;
+        // least idle minutes of any candidate on each day from the one at the index on
+        private final int[] leastIdleMinutesFrom;
+        private final Candidate[] chosen = new Candidate[count];
+        private int foundCount;
+        private int steps;
+
+        Search(List<List<Candidate>> candidatesByDay) {
+            this.candidatesByDay = candidatesByDay;
+            this.leastIdleMinutesFrom = new int[candidatesByDay.size() + 1];
+            for (int day = candidatesByDay.size() - 1; day >= 0; day--) {
+                int leastIdleMinutes = candidatesByDay.get(day).get(0).idleMinutes;
+                leastIdleMinutesFrom[day] = day == candidatesByDay.size() - 1
+                        ? leastIdleMinutes
+                        : Math.min(leastIdleMinutes, leastIdleMinutesFrom[day + 1]);
+            }
+        }
+
+        List<Suggestion> run() {
+            search(0, 0, 0);
+            List<Found> sorted = new ArrayList<>(best);
+            sorted.sort(best.comparator());
+            Collections.reverse(sorted);
+
+            List<Suggestion> suggestions = new ArrayList<>();
+            for (Found found : sorted) {
+                List<RecurringSchedule> sessions = new ArrayList<>();
+                for (Candidate candidate : found.candidates) {
+                    sessions.add(RecurringSchedule.of(candidate.day, toTime(candidate.start),
+                            toTime(candidate.start + duration)));
+                }
+                suggestions.add(new Suggestion(sessions, found.idleMinutes));
+            }
+            return suggestions;
+        }
+
+        /**
+         * Chooses the remaining sessions from the days from {@code fromDay} on, given {@code chosenCount} sessions
+         * already chosen that leave {@code idleMinutes} idle.
+         */
+        private void search(int fromDay, int chosenCount, int idleMinutes) {
+            if (chosenCount == count) {
+                keep(idleMinutes);
+                return;
+            }
+            steps++;
+            int remaining = count - chosenCount;
+            for (int day = fromDay; day <= candidatesByDay.size() - remaining; day++) {
+                // the days only get fewer, so the bound only rises for later days
+                if (cannotBeatBest(idleMinutes + remaining * leastIdleMinutesFrom[day])) {
+                    return;
+                }
+                for (Candidate candidate : candidatesByDay.get(day)) {
+                    int chosenIdleMinutes = idleMinutes + candidate.idleMinutes;
+                    // the candidates are most compact first, so later candidates cannot do better
+                    if (cannotBeatBest(chosenIdleMinutes + (remaining - 1) * leastIdleMinutesFrom[day + 1])) {
+                        break;
+                    }
+                    chosen[chosenCount] = candidate;
+                    search(day + 1, chosenCount + 1, chosenIdleMinutes);
+                    if (steps >= MAX_SEARCH_STEPS) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        private boolean cannotBeatBest(int leastIdleMinutes) {
+            return best.size() == limit && leastIdleMinutes >= best.peek().idleMinutes;
+        }
+
+        private void keep(int idleMinutes) {
+            best.add(new Found(chosen.clone(), idleMinutes, foundCount++));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+    }
+
+    private static String toTime(int minutes) {
+        return String.format("%02d%02d", minutes / 60, minutes % 60);
+    }
+
+    /**
+     * A suggested set of weekly sessions, with the idle minutes they leave.
+     */
+    public static class Suggestion {
+        private final List<RecurringSchedule> sessions;
+        private final int idleMinutes;
+
+        /**
+         * Constructs a {@code Suggestion} of {@code sessions} that leave {@code idleMinutes} idle.
+         */
+        public Suggestion(List<RecurringSchedule> sessions, int idleMinutes) {
+            requireNonNull(sessions);
+            this.sessions = List.copyOf(sessions);
+            this.idleMinutes = idleMinutes;
+        }
+
+        public List<RecurringSchedule> getSessions() {
+            return sessions;
+        }
+
+        public int getIdleMinutes() {
+            return idleMinutes;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Suggestion)) {
+                return false;
+            }
+
+            Suggestion otherSuggestion = (Suggestion) other;
+            return sessions.equals(otherSuggestion.sessions) && idleMinutes == otherSuggestion.idleMinutes;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sessions, idleMinutes);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("sessions", sessions)
+                    .add("idleMinutes", idleMinutes)
+                    .toString();
+        }
+    }
+}
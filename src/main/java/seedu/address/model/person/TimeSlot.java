@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import java.util.Objects;
+
+/**
+ * A span of time within a day, from a start minute (inclusive) to an end minute (exclusive) since midnight.
+ * Guarantees: immutable; the start is before the end, and both are within the day.
+ */
+public class TimeSlot {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    /** The whole day. */
+    public static final TimeSlot WHOLE_DAY = new TimeSlot(0, MINUTES_PER_DAY);
+
+    private final int startMinute;
+    private final int endMinute;
+
+    /**
+     * Constructs a {@code TimeSlot} from {@code startMinute} up to {@code endMinute}.
+     *
+     * @throws IllegalArgumentException if the start is not before the end, or either is outside the day.
+     */
+    public TimeSlot(int startMinute, int endMinute) {
+        if (startMinute < 0 || endMinute > MINUTES_PER_DAY || startMinute >= endMinute) {
+            throw new IllegalArgumentException("Invalid time slot: " + startMinute + " to " + endMinute);
+        }
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+    }
+
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    public int getEndMinute() {
+        return endMinute;
+    }
+
+    public int getLength() {
+        return endMinute - startMinute;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TimeSlot)) {
+            return false;
+        }
+
+        TimeSlot otherSlot = (TimeSlot) other;
+        return startMinute == otherSlot.startMinute && endMinute == otherSlot.endMinute;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startMinute, endMinute);
+    }
+
+    /**
+     * Returns the slot in the {@code HHmm-HHmm} form used for schedules, with the end of the day as {@code 2400}.
+     */
+    @Override
+    public String toString() {
+        return toTime(startMinute) + "-" + toTime(endMinute);
+    }
+
+    private static String toTime(int minutes) {
+        return String.format("%02d%02d", minutes / 60, minutes % 60);
+    }
+}
@@ -0,0 +1,300 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * The next sessions of a list of persons from a point in time, kept up to date as persons are added and removed.
+ * <p>
+ * Each person with a session to come is kept in a binary heap, ordered by their next session, with the position of
+ * every person in the heap indexed so that they can be removed or moved without a scan. As time passes, only the
+ * persons whose next session has started are moved, to their following session. The next {@code n} sessions are
+ * then found by walking the heap from its root with a small priority queue, which only ever holds the sessions that
+ * could come next, so answering costs about {@code O(n log n)} however many persons there are.
+ */
+public class UpcomingSessions {
+
+    // sessions at the same date and start time are ordered by end time, and then recurring sessions first
+    private static final int KIND_BIT = 1;
+    private static final int END_SHIFT = KIND_BIT;
+    private static final int START_SHIFT = END_SHIFT + 11;
+
+    private static final Comparator<Entry> NEXT_SESSION_ORDER =
+            Comparator.comparing((Entry entry) -> entry.next.getDate())
+                    .thenComparingInt(entry -> getSessionKey(entry.next))
+                    .thenComparingLong(entry -> entry.order);
+
+    private final List<Entry> heap = new ArrayList<>();
+    private final Map<Person, Entry> entries = new HashMap<>();
+    private LocalDate asOfDate;
+    private int asOfMinute;
+    private long entryCount;
+
+    private UpcomingSessions(LocalDateTime asOf) {
+        setAsOf(asOf);
+    }
+
+    /**
+     * Returns the next sessions of {@code persons} from {@code asOf}.
+     */
+    public static UpcomingSessions of(List<Person> persons, LocalDateTime asOf) {
+        requireNonNull(persons);
+        requireNonNull(asOf);
+        UpcomingSessions upcomingSessions = new UpcomingSessions(asOf);
+        persons.forEach(upcomingSessions::add);
+        return upcomingSessions;
+    }
+
+    /**
+     * Adds the sessions of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        assert !entries.containsKey(person) : "A person should only be added once";
+        Occurrence next = findNextOccurrence(person, asOfDate, getStartKey(asOfMinute));
+        Entry entry = new Entry(person, next, entryCount++);
+        entries.put(person, entry);
+        if (next != null) {
+            entry.index = heap.size();
+            heap.add(entry);
+            siftUp(entry.index);
+        }
+    }
+
+    /**
+     * Removes the sessions of {@code person}, which must have been added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Entry entry = entries.remove(person);
+        assert entry != null : "Only persons that were added can be removed";
+        if (entry.index >= 0) {
+            removeAt(entry.index);
+        }
+    }
+
+    /**
+     * Returns the next {@code n} sessions that start at or after {@code now}, in order of date and then start time.
+     * A time before the one of the last call is only handled by starting over from all the persons.
+     */
+    public List<Occurrence> next(int n, LocalDateTime now) {
+        requireNonNull(now);
+        checkArgument(n >= 0, "Invalid number of sessions: " + n);
+        moveTo(now);
+
+        List<Occurrence> upcoming = new ArrayList<>();
+        // the sessions that could come next: the next session of the root, of the children of every person whose
+        // next session has been taken, and the session after every session taken
+        PriorityQueue<Entry> frontier = new PriorityQueue<>(NEXT_SESSION_ORDER);
+        if (!heap.isEmpty()) {
+            frontier.add(heap.get(0).copy());
+        }
+        while (upcoming.size() < n && !frontier.isEmpty()) {
+            Entry taken = frontier.poll();
+            upcoming.add(taken.next);
+            if (taken.index >= 0) {
+                for (int child = 2 * taken.index + 1; child <= 2 * taken.index + 2 && child < heap.size(); child++) {
+                    frontier.add(heap.get(child).copy());
+                }
+            }
+            Occurrence following = findNextOccurrence(taken.person, taken.next.getDate(),
+                    getSessionKey(taken.next) + 1);
+            if (following != null) {
+                frontier.add(new Entry(taken.person, following, taken.order));
+            }
+        }
+        return upcoming;
+    }
+
+    /**
+     * Moves every person whose next session starts before {@code now} to their next session from {@code now}.
+     */
+    private void moveTo(LocalDateTime now) {
+        LocalDate date = now.toLocalDate();
+        int minute = now.getHour() * 60 + now.getMinute();
+        if (date.isBefore(asOfDate) || (date.equals(asOfDate) && minute < asOfMinute)) {
+            List<Person> persons = new ArrayList<>(entries.keySet());
+            persons.sort(Comparator.comparingLong(person -> entries.get(person).order));
+            heap.clear();
+            entries.clear();
+            setAsOf(now);
+            persons.forEach(this::add);
+            return;
+        }
+
+        setAsOf(now);
+        int startKey = getStartKey(minute);
+        while (!heap.isEmpty() && isBefore(heap.get(0).next, date, startKey)) {
+            Entry root = heap.get(0);
+            root.next = findNextOccurrence(root.person, date, startKey);
+            if (root.next == null) {
+                removeAt(0);
+            } else {
+                siftDown(0);
+            }
+        }
+    }
+
+    private void setAsOf(LocalDateTime asOf) {
+        asOfDate = asOf.toLocalDate();
+        asOfMinute = asOf.getHour() * 60 + asOf.getMinute();
+    }
+
+    /**
+     * Returns the first session of {@code person} on or after {@code date} whose {@link #getSessionKey} is at least
+     * {@code fromKey} if it is on {@code date}, or null if there is none.
+     */
+    static Occurrence findNextOccurrence(Person person, LocalDate date, int fromKey) {
+        PackedScheduleSet schedules = person.getPackedSchedules();
+        LocalDate nextDate = null;
+        long nextSchedule = 0;
+        int nextKey = 0;
+        for (int i = 0; i < schedules.getFirstOneTimeIndex(); i++) {
+            long schedule = schedules.get(i);
+            int key = getSessionKey(schedule);
+            int daysAhead = Math.floorMod(PackedScheduleSet.getDayOfWeek(schedule).getValue()
+                    - date.getDayOfWeek().getValue(), 7);
+            if (daysAhead == 0 && key < fromKey) {
+                daysAhead = 7;
+            }
+            LocalDate scheduleDate = date.plusDays(daysAhead);
+            if (nextDate == null || isBefore(scheduleDate, key, nextDate, nextKey)) {
+                nextDate = scheduleDate;
+                nextSchedule = schedule;
+                nextKey = key;
+            }
+        }
+        int index = schedules.indexOfFirstOneTimeOnOrAfter(date);
+        while (index < schedules.size() && PackedScheduleSet.getDate(schedules.get(index)).equals(date)
+                && getSessionKey(schedules.get(index)) < fromKey) {
+            index++;
+        }
+        if (index < schedules.size()) {
+            long schedule = schedules.get(index);
+            LocalDate scheduleDate = PackedScheduleSet.getDate(schedule);
+            int key = getSessionKey(schedule);
+            if (nextDate == null || isBefore(scheduleDate, key, nextDate, nextKey)) {
+                nextDate = scheduleDate;
+                nextSchedule = schedule;
+            }
+        }
+        return nextDate == null ? null : new Occurrence(person, nextDate, nextSchedule);
+    }
+
+    /**
+     * Returns a key of the time of the packed {@code schedule} that orders the sessions on a date.
+     */
+    private static int getSessionKey(long schedule) {
+        return (PackedScheduleSet.getStartMinute(schedule) << START_SHIFT)
+                | (PackedScheduleSet.getEndMinute(schedule) << END_SHIFT)
+                | (PackedScheduleSet.isOneTime(schedule) ? KIND_BIT : 0);
+    }
+
+    private static int getSessionKey(Occurrence occurrence) {
+        return (occurrence.getStartMinute() << START_SHIFT)
+                | (occurrence.getEndMinute() << END_SHIFT)
+                | (occurrence.isRecurring() ? 0 : KIND_BIT);
+    }
+
+    /**
+     * Returns the smallest {@link #getSessionKey} of the sessions that start at or after {@code minute}.
+     */
+    private static int getStartKey(int minute) {
+        return minute << START_SHIFT;
+    }
+
+    private static boolean isBefore(Occurrence occurrence, LocalDate date, int key) {
+        return isBefore(occurrence.getDate(), getSessionKey(occurrence), date, key);
+    }
+
+    private static boolean isBefore(LocalDate date, int key, LocalDate otherDate, int otherKey) {
+        return date.isBefore(otherDate) || (date.equals(otherDate) && key < otherKey);
+    }
+
+    //// indexed binary heap
+
+    private void removeAt(int index) {
+        Entry removed = heap.get(index);
+        removed.index = -1;
+        Entry last = heap.remove(heap.size() - 1);
+        if (last == removed) {
+            return;
+        }
+        heap.set(index, last);
+        last.index = index;
+        siftDown(index);
+        siftUp(last.index);
+    }
+
+    private void siftUp(int index) {
+        Entry entry = heap.get(index);
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (NEXT_SESSION_ORDER.compare(entry, heap.get(parent)) >= 0) {
+                break;
+            }
+            place(heap.get(parent), index);
+            index = parent;
+        }
+        place(entry, index);
+    }
+
+    private void siftDown(int index) {
+        Entry entry = heap.get(index);
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heap.size()) {
+                break;
+            }
+            if (child + 1 < heap.size() && NEXT_SESSION_ORDER.compare(heap.get(child + 1), heap.get(child)) < 0) {
+                child++;
+            }
+            if (NEXT_SESSION_ORDER.compare(heap.get(child), entry) >= 0) {
+                break;
+            }
+            place(heap.get(child), index);
+            index = child;
+        }
+        place(entry, index);
+    }
+
+    private void place(Entry entry, int index) {
+        heap.set(index, entry);
+        entry.index = index;
+    }
+
+    /**
+     * A person with their next session, at {@code index} in the heap, or -1 if not in it.
+     */
+    private static class Entry {
+        private final Person person;
+        // keeps the persons in the order they were added when their next sessions are at the same time
+        private final long order;
+        private Occurrence next;
+        private int index = -1;
+
+        Entry(Person person, Occurrence next, long order) {
+            this.person = person;
+            this.next = next;
+            this.order = order;
+        }
+
+        /**
+         * Returns a copy of this entry that keeps its position in the heap, for walking the heap.
+         */
+        Entry copy() {
+            Entry copy = new Entry(person, next, order);
+            copy.index = index;
+            return copy;
+        }
+    }
+}
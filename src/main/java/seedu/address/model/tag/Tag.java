@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -13,6 +15,8 @@ public class Tag {
             "Tags names should only contain ASCII characters, and should not be blank";
     public static final String VALIDATION_REGEX = "[^\\s][\\p{ASCII}]*";
 
+    private static final Interner<Tag> INTERNER = new Interner<>();
+
     public final String tagName;
 
     /**
@@ -26,6 +30,15 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} for {@code tagName}, creating it if this value has not been seen before.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return INTERNER.intern(new Tag(tagName));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * The result of loading an address book tolerantly: the persons whose records were valid, and where the invalid
+ * records were quarantined.
+ */
+public class AddressBookRecovery {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final int quarantinedCount;
+    private final Path quarantineFilePath;
+
+    /**
+     * Creates an {@code AddressBookRecovery} of {@code addressBook}.
+     *
+     * @param quarantineFilePath The file that the {@code quarantinedCount} invalid records were written to, or
+     *     null if there were none.
+     */
+    public AddressBookRecovery(ReadOnlyAddressBook addressBook, int quarantinedCount, Path quarantineFilePath) {
+        requireNonNull(addressBook);
+        assert (quarantinedCount == 0) == (quarantineFilePath == null);
+        this.addressBook = addressBook;
+        this.quarantinedCount = quarantinedCount;
+        this.quarantineFilePath = quarantineFilePath;
+    }
+
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    public int getRecoveredCount() {
+        return addressBook.getPersonList().size();
+    }
+
+    public int getQuarantinedCount() {
+        return quarantinedCount;
+    }
+
+    public Optional<Path> getQuarantineFilePath() {
+        return Optional.ofNullable(quarantineFilePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("recoveredCount", getRecoveredCount())
+                .add("quarantinedCount", quarantinedCount)
+                .add("quarantineFilePath", quarantineFilePath)
+                .toString();
+    }
+}
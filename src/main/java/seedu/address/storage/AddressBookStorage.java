@@ -30,6 +30,20 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns the valid persons in the storage file, skipping any records that are invalid or duplicated instead of
+     * failing. The skipped records are written, with the reason each was skipped, to a quarantine file next to the
+     * data file. Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataLoadingException if the storage file could not be read at all.
+     */
+    Optional<AddressBookRecovery> recoverAddressBook() throws DataLoadingException;
+
+    /**
+     * @see #recoverAddressBook()
+     */
+    Optional<AddressBookRecovery> recoverAddressBook(Path filePath) throws DataLoadingException;
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +56,12 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Records that the persons in {@code addressBook} that are equal to persons last read from or saved to the
+     * storage file hold the same data as them. Used after the persons read are merged into an address book that
+     * kept its own, equal, persons, so that a storage that only writes what changed does not write those again.
+     */
+    default void rebaseSynced(ReadOnlyAddressBook addressBook) {
+    }
+
 }
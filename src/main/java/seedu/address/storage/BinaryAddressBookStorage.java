@@ -0,0 +1,458 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.PackedScheduleSet;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by a table of the goals, medical histories,
+ * locations and tag names used, each stored once. Then come the persons, each as a length-prefixed record that
+ * refers to the table by index and holds its schedules in their packed form. All numbers are big-endian.
+ * <pre>
+ * file   := MAGIC:int VERSION:short count:int string{count} count:int (length:int record){count}
+ * string := length:int utf8:byte{length}
+ * record := name:string phone:string goals:int medicalHistory:int location:int
+ *           count:short tag:int{count} count:short schedule:long{count}
+ * </pre>
+ * Records are located in one pass and then decoded in parallel, and a record that cannot be decoded does not affect
+ * the others. A person with more than {@value #MAX_COUNT} tags or schedules cannot be written.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final int MAGIC = 0x46464142;
+    public static final short FORMAT_VERSION = 1;
+    /** The most tags, and the most schedules, a record can hold, as each count is an unsigned short. */
+    public static final int MAX_COUNT = 0xFFFF;
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "Data file is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file has unsupported format version %d.";
+    public static final String MESSAGE_CORRUPT_FILE = "Data file is truncated or corrupt.";
+    public static final String MESSAGE_CORRUPT_RECORD = "Client record is truncated or corrupt.";
+    public static final String MESSAGE_TOO_MANY = "Client %1$s has %2$d %3$s, more than the %4$d a binary data file "
+            + "can hold.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final String BYTES_FIELD = "bytes";
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a file in the binary format.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        return filePath.getFileName() != null && filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ByteBuffer> contents = readFile(filePath);
+        if (!contents.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(read(contents.get()));
+        } catch (DataLoadingException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the address book in the binary format held by {@code in} from its current position to its end.
+     *
+     * @throws DataLoadingException if the contents are corrupt or any data constraints are violated.
+     */
+    static ReadOnlyAddressBook read(ByteBuffer in) throws DataLoadingException {
+        RecordFile records = RecordFile.parse(in);
+        Person[] converted = new Person[records.size()];
+        IllegalValueException[] failures = new IllegalValueException[records.size()];
+        IntStream.range(0, records.size()).parallel().forEach(i -> {
+            try {
+                converted[i] = records.decode(i).toModelType();
+            } catch (IllegalValueException e) {
+                failures[i] = e;
+            }
+        });
+        for (IllegalValueException failure : failures) {
+            if (failure != null) {
+                throw new DataLoadingException(failure);
+            }
+        }
+
+        Set<Name> names = new HashSet<>(converted.length * 2);
+        for (Person person : converted) {
+            if (!names.add(person.getName())) {
+                throw new DataLoadingException(
+                        new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+            }
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(converted));
+        return addressBook;
+    }
+
+    @Override
+    public Optional<AddressBookRecovery> recoverAddressBook() throws DataLoadingException {
+        return recoverAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #recoverAddressBook()}.
+     * Records with invalid values are quarantined as JSON in the shape of the JSON data file, while records that
+     * cannot be decoded at all are quarantined as their raw bytes. Of several records for the same person, the first
+     * is kept.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if the header of the file or the framing of its records is corrupt.
+     */
+    public Optional<AddressBookRecovery> recoverAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ByteBuffer> contents = readFile(filePath);
+        if (!contents.isPresent()) {
+            return Optional.empty();
+        }
+
+        RecordFile records = RecordFile.parse(contents.get());
+        RawPersonRecord[] decoded = new RawPersonRecord[records.size()];
+        Person[] converted = new Person[records.size()];
+        String[] rejectionReasons = new String[records.size()];
+        IntStream.range(0, records.size()).parallel().forEach(i -> {
+            try {
+                decoded[i] = records.decode(i);
+                converted[i] = decoded[i].toModelType();
+            } catch (IllegalValueException e) {
+                rejectionReasons[i] = e.getMessage();
+            }
+        });
+
+        List<Person> validPersons = new ArrayList<>(records.size());
+        Set<Name> names = new HashSet<>(records.size() * 2);
+        QuarantineFile quarantineFile = new QuarantineFile();
+        for (int i = 0; i < records.size(); i++) {
+            if (rejectionReasons[i] == null && !names.add(converted[i].getName())) {
+                rejectionReasons[i] = JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+            }
+            if (rejectionReasons[i] == null) {
+                validPersons.add(converted[i]);
+            } else if (decoded[i] != null) {
+                quarantineFile.add(rejectionReasons[i], decoded[i].toJsonTree());
+            } else {
+                quarantineFile.add(rejectionReasons[i], JsonNodeFactory.instance.objectNode()
+                        .put(BYTES_FIELD, Base64.getEncoder().encodeToString(records.getBytes(i))));
+            }
+        }
+        return Optional.of(quarantineFile.toRecovery(validPersons, filePath));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        // the file is only replaced once it has been written in full, so that a failed write leaves it untouched
+        FileUtil.writeAtomically(filePath, out -> write(addressBook, new DataOutputStream(out)));
+    }
+
+    /**
+     * Returns the contents of the file at {@code filePath}, or {@code Optional.empty()} if there is none.
+     */
+    static Optional<ByteBuffer> readFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            logger.info(filePath + " does not exist");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(ByteBuffer.wrap(Files.readAllBytes(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format.
+     *
+     * @throws IOException if a person has more than {@value #MAX_COUNT} tags or schedules. Nothing is written then.
+     */
+    static void write(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream records = new DataOutputStream(recordBytes);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(buffer);
+        for (Person person : persons) {
+            buffer.reset();
+            writeRecord(record, person, stringTable);
+            records.writeInt(buffer.size());
+            buffer.writeTo(records);
+        }
+
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeInt(stringTable.size());
+        for (String string : stringTable.keySet()) {
+            writeString(out, string);
+        }
+        out.writeInt(persons.size());
+        recordBytes.writeTo(out);
+    }
+
+    /**
+     * Writes the record of {@code person} to {@code out}, adding the strings it refers to to {@code stringTable}.
+     */
+    private static void writeRecord(DataOutputStream out, Person person, Map<String, Integer> stringTable)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        out.writeInt(indexOf(person.getGoals().value, stringTable));
+        out.writeInt(indexOf(person.getMedicalHistory().value, stringTable));
+        out.writeInt(indexOf(person.getLocation().value, stringTable));
+        writeCount(out, person.getTags().size(), person, "tags");
+        for (Tag tag : person.getTags()) {
+            out.writeInt(indexOf(tag.tagName, stringTable));
+        }
+        PackedScheduleSet schedules = person.getPackedSchedules();
+        writeCount(out, schedules.size(), person, "sessions");
+        for (int i = 0; i < schedules.size(); i++) {
+            out.writeLong(schedules.get(i));
+        }
+    }
+
+    /**
+     * Writes a record with the given raw values to {@code out}, without validating them. Used to build files that
+     * contain invalid records.
+     */
+    static void writeRawRecord(DataOutputStream out, String name, String phone, int goals, int medicalHistory,
+            int location, int[] tags, long[] schedules) throws IOException {
+        writeString(out, name);
+        writeString(out, phone);
+        out.writeInt(goals);
+        out.writeInt(medicalHistory);
+        out.writeInt(location);
+        out.writeShort(tags.length);
+        for (int tag : tags) {
+            out.writeInt(tag);
+        }
+        out.writeShort(schedules.length);
+        for (long schedule : schedules) {
+            out.writeLong(schedule);
+        }
+    }
+
+    private static void writeCount(DataOutputStream out, int count, Person person, String counted)
+            throws IOException {
+        if (count > MAX_COUNT) {
+            throw new IOException(String.format(MESSAGE_TOO_MANY, person.getName(), count, counted, MAX_COUNT));
+        }
+        out.writeShort(count);
+    }
+
+    private static int indexOf(String string, Map<String, Integer> stringTable) {
+        return stringTable.computeIfAbsent(string, unused -> stringTable.size());
+    }
+
+    static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString} from {@code in}.
+     *
+     * @throws BufferUnderflowException if {@code in} ends before the string does.
+     */
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String string = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return string;
+    }
+
+    /**
+     * The contents of a binary data file whose header and record framing have been checked, but whose records have
+     * not yet been decoded.
+     */
+    private static class RecordFile {
+        private final ByteBuffer buffer;
+        private final String[] strings;
+        private final int[] recordOffsets;
+        private final int[] recordLengths;
+
+        private RecordFile(ByteBuffer buffer, String[] strings, int[] recordOffsets, int[] recordLengths) {
+            this.buffer = buffer;
+            this.strings = strings;
+            this.recordOffsets = recordOffsets;
+            this.recordLengths = recordLengths;
+        }
+
+        /**
+         * Returns the records held by {@code buffer} from its current position to its end. {@code buffer} must wrap
+         * a whole array.
+         *
+         * @throws DataLoadingException if the header or framing is corrupt.
+         */
+        static RecordFile parse(ByteBuffer buffer) throws DataLoadingException {
+            try {
+                if (buffer.getInt() != MAGIC) {
+                    throw new DataLoadingException(new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK));
+                }
+                short version = buffer.getShort();
+                if (version != FORMAT_VERSION) {
+                    throw new DataLoadingException(
+                            new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version)));
+                }
+
+                String[] strings = new String[checkCount(buffer.getInt(), buffer)];
+                for (int i = 0; i < strings.length; i++) {
+                    strings[i] = readString(buffer);
+                }
+
+                int count = checkCount(buffer.getInt(), buffer);
+                int[] recordOffsets = new int[count];
+                int[] recordLengths = new int[count];
+                for (int i = 0; i < count; i++) {
+                    recordLengths[i] = checkCount(buffer.getInt(), buffer);
+                    if (recordLengths[i] > buffer.remaining()) {
+                        throw new BufferUnderflowException();
+                    }
+                    recordOffsets[i] = buffer.position();
+                    buffer.position(buffer.position() + recordLengths[i]);
+                }
+                if (buffer.hasRemaining()) {
+                    throw new BufferUnderflowException();
+                }
+                return new RecordFile(buffer, strings, recordOffsets, recordLengths);
+            } catch (BufferUnderflowException e) {
+                throw new DataLoadingException(new IllegalValueException(MESSAGE_CORRUPT_FILE));
+            }
+        }
+
+        /**
+         * Returns {@code count} if it is a plausible number of items of at least one byte each in the rest of
+         * {@code buffer}.
+         */
+        private static int checkCount(int count, ByteBuffer buffer) {
+            if (count < 0 || count > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            return count;
+        }
+
+        int size() {
+            return recordOffsets.length;
+        }
+
+        byte[] getBytes(int index) {
+            return Arrays.copyOfRange(buffer.array(), recordOffsets[index],
+                    recordOffsets[index] + recordLengths[index]);
+        }
+
+        /**
+         * Decodes the record at {@code index}. Safe to call from several threads at once.
+         *
+         * @throws IllegalValueException if the record is truncated or refers to strings that do not exist.
+         */
+        RawPersonRecord decode(int index) throws IllegalValueException {
+            ByteBuffer in = ByteBuffer.wrap(buffer.array(), recordOffsets[index], recordLengths[index]).slice();
+            try {
+                String name = readString(in);
+                String phone = readString(in);
+                String goals = lookUp(in.getInt());
+                String medicalHistory = lookUp(in.getInt());
+                String location = lookUp(in.getInt());
+                String[] tags = new String[Short.toUnsignedInt(in.getShort())];
+                for (int i = 0; i < tags.length; i++) {
+                    tags[i] = lookUp(in.getInt());
+                }
+                long[] schedules = new long[Short.toUnsignedInt(in.getShort())];
+                for (int i = 0; i < schedules.length; i++) {
+                    schedules[i] = in.getLong();
+                }
+                if (in.hasRemaining()) {
+                    throw new IllegalValueException(MESSAGE_CORRUPT_RECORD);
+                }
+                return new RawPersonRecord(name, phone, goals, medicalHistory, location, tags, schedules);
+            } catch (BufferUnderflowException e) {
+                throw new IllegalValueException(MESSAGE_CORRUPT_RECORD);
+            }
+        }
+
+        private String lookUp(int stringIndex) throws IllegalValueException {
+            if (stringIndex < 0 || stringIndex >= strings.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPT_RECORD);
+            }
+            return strings[stringIndex];
+        }
+    }
+}
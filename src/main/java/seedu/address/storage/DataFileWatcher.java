@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Watches a data file for changes, such as those made by scripts that edit it while the app is running.
+ * <p>
+ * The folder of the data file is watched on a background thread, and {@code onChange} is run on that thread once
+ * the data file has been created or modified and then left alone for {@value #SETTLE_MILLIS} ms, so that a file
+ * written in several steps is reported once. The app's own saves are reported too, so {@code onChange} should
+ * check whether the data file really differs from what the app last read or saved, as
+ * {@link Storage#readAddressBookIfChanged()} does.
+ */
+public class DataFileWatcher implements AutoCloseable {
+
+    static final long SETTLE_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileWatcher.class);
+
+    private final Path fileName;
+    private final Runnable onChange;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    private DataFileWatcher(Path filePath, Runnable onChange) throws IOException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        this.fileName = filePath.getFileName();
+        this.onChange = onChange;
+        this.watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        this.thread = new Thread(this::watch, "data-file-watcher");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching the data file at {@code filePath}, running {@code onChange} whenever it changes.
+     *
+     * @throws IOException if the folder of the data file cannot be created or watched.
+     */
+    public static DataFileWatcher start(Path filePath, Runnable onChange) throws IOException {
+        requireAllNonNull(filePath, onChange);
+        DataFileWatcher watcher = new DataFileWatcher(filePath, onChange);
+        watcher.thread.start();
+        logger.info("Watching " + filePath + " for changes made outside the app");
+        return watcher;
+    }
+
+    /**
+     * Stops watching the data file. A change that is already being reported may still run {@code onChange}.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                if (!hasDataFileEvent(watchService.take())) {
+                    continue;
+                }
+                WatchKey key;
+                while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    hasDataFileEvent(key);
+                }
+                onChange.run();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.fine("Stopped watching the data file");
+        }
+    }
+
+    /**
+     * Returns true if any of the pending events of {@code key} may be about the data file, and readies {@code key}
+     * for further events.
+     */
+    private boolean hasDataFileEvent(WatchKey key) {
+        boolean hasDataFileEvent = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            hasDataFileEvent |= event.kind() == OVERFLOW || fileName.equals(event.context());
+        }
+        key.reset();
+        return hasDataFileEvent;
+    }
+}
@@ -0,0 +1,362 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a directory on the hard disk, with each person in a JSON file of
+ * their own.
+ * <p>
+ * A person's file is named by an ID derived from their name, which identifies them in the address book. A manifest
+ * lists the IDs in the order of the address book. Saving only writes the files of persons that changed since the
+ * last save or load, and only rewrites the manifest if persons were added, removed or reordered. As persons are
+ * immutable and unchanged persons are shared between versions of the address book, the changed persons are the
+ * ones that are not the very objects last saved.
+ */
+public class DirectoryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String PERSONS_DIRECTORY_NAME = "persons";
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_INVALID_MANIFEST = "Data directory does not have a valid manifest.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data directory has unsupported format version %d.";
+    public static final String MESSAGE_MISSING_PERSON = "Client file %s listed in the manifest is missing.";
+
+    private static final Logger logger = LogsCenter.getLogger(DirectoryAddressBookStorage.class);
+
+    private static final String VERSION_FIELD = "version";
+    private static final String PERSONS_FIELD = "persons";
+    private static final String PERSON_FILE_EXTENSION = ".json";
+    private static final String ID_ALGORITHM = "SHA-256";
+    private static final int ID_BYTES = 16;
+
+    private Path filePath;
+
+    // The state of the directory as of the last save or load, used to find what has changed since
+    private Path syncedDirectory;
+    private List<String> syncedIds = new ArrayList<>();
+    private Map<Person, String> syncedPersons = new IdentityHashMap<>();
+
+    public DirectoryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a data directory, which is when it is an existing directory, or does not
+     * exist yet and its name has no extension. An existing file is never a data directory, even without an
+     * extension, so that it is still read as a data file.
+     */
+    public static boolean isDataDirectory(Path filePath) {
+        if (Files.isRegularFile(filePath)) {
+            return false;
+        }
+        if (Files.isDirectory(filePath)) {
+            return true;
+        }
+        return filePath.getFileName() != null && filePath.getFileName().toString().indexOf('.') == -1;
+    }
+
+    /**
+     * Returns the ID of {@code person}, which is the same for all persons with the same name.
+     */
+    static String getId(Person person) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(ID_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports " + ID_ALGORITHM, e);
+        }
+        // names are compared ignoring case, and only contain ASCII characters
+        byte[] hash = digest.digest(person.getName().fullName.toLowerCase(Locale.ROOT)
+                .getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(hash, 0, ID_BYTES);
+    }
+
+    /**
+     * Returns the path of the file of the person with ID {@code id} in the data directory at {@code directory}.
+     */
+    static Path getPersonFilePath(Path directory, String id) {
+        return directory.resolve(PERSONS_DIRECTORY_NAME).resolve(id + PERSON_FILE_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}. Persons are read and converted in parallel.
+     *
+     * @param filePath location of the data directory. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<List<String>> manifest = readManifest(filePath);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<String> ids = manifest.get();
+        Person[] converted = new Person[ids.size()];
+        Exception[] failures = new Exception[ids.size()];
+        IntStream.range(0, ids.size()).parallel().forEach(i -> {
+            try {
+                converted[i] = readPerson(filePath, ids.get(i));
+            } catch (DataLoadingException | IllegalValueException | IOException e) {
+                failures[i] = e;
+            }
+        });
+        for (Exception failure : failures) {
+            if (failure != null) {
+                logger.info("Illegal values found in " + filePath + ": " + failure.getMessage());
+                throw new DataLoadingException(failure);
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(List.of(converted));
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        markSynced(filePath, ids, converted);
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public Optional<AddressBookRecovery> recoverAddressBook() throws DataLoadingException {
+        return recoverAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #recoverAddressBook()}.
+     * Persons whose files are invalid are quarantined, and their files are removed on the next save.
+     *
+     * @param filePath location of the data directory. Cannot be null.
+     * @throws DataLoadingException if the manifest is missing or invalid.
+     */
+    public synchronized Optional<AddressBookRecovery> recoverAddressBook(Path filePath)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<List<String>> manifest = readManifest(filePath);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<String> ids = manifest.get();
+        JsonNode[] records = new JsonNode[ids.size()];
+        Person[] converted = new Person[ids.size()];
+        String[] rejectionReasons = new String[ids.size()];
+        IntStream.range(0, ids.size()).parallel().forEach(i -> {
+            try {
+                records[i] = readRecord(filePath, ids.get(i));
+                converted[i] = JsonUtil.fromJsonTree(records[i], JsonAdaptedPerson.class).toModelType();
+            } catch (DataLoadingException e) {
+                rejectionReasons[i] = e.getCause().getMessage();
+            } catch (IllegalValueException | IOException e) {
+                rejectionReasons[i] = e.getMessage();
+            }
+        });
+
+        List<Person> validPersons = new ArrayList<>(ids.size());
+        Set<Name> names = new HashSet<>(ids.size() * 2);
+        QuarantineFile quarantineFile = new QuarantineFile();
+        for (int i = 0; i < ids.size(); i++) {
+            if (rejectionReasons[i] == null && !names.add(converted[i].getName())) {
+                rejectionReasons[i] = JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+            }
+            if (rejectionReasons[i] == null) {
+                validPersons.add(converted[i]);
+                continue;
+            }
+            converted[i] = null;
+            if (records[i] != null) {
+                quarantineFile.add(rejectionReasons[i], records[i]);
+            } else {
+                quarantineFile.add(rejectionReasons[i], JsonNodeFactory.instance.textNode(ids.get(i)));
+            }
+        }
+        AddressBookRecovery recovery = quarantineFile.toRecovery(validPersons, filePath);
+        // the manifest still lists the quarantined persons, so that the next save removes their files
+        markSynced(filePath, ids, converted);
+        return Optional.of(recovery);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * If {@code filePath} is the data directory last read or saved, only what changed since is written.
+     * Otherwise every person is written.
+     *
+     * @param filePath location of the data directory. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isSynced = filePath.equals(syncedDirectory);
+        Map<Person, String> previousPersons = isSynced ? syncedPersons : new IdentityHashMap<>();
+        List<String> previousIds = isSynced ? syncedIds : List.of();
+
+        List<Person> persons = addressBook.getPersonList();
+        List<String> ids = new ArrayList<>(persons.size());
+        Map<Person, String> currentPersons = new IdentityHashMap<>(persons.size());
+        Files.createDirectories(filePath.resolve(PERSONS_DIRECTORY_NAME));
+        int writtenCount = 0;
+        for (Person person : persons) {
+            String id = previousPersons.get(person);
+            if (id == null) {
+                id = getId(person);
+                JsonUtil.saveJsonFile(new JsonAdaptedPerson(person), getPersonFilePath(filePath, id));
+                writtenCount++;
+            }
+            ids.add(id);
+            currentPersons.put(person, id);
+        }
+
+        if (!ids.equals(previousIds) || !Files.exists(filePath.resolve(MANIFEST_FILE_NAME))) {
+            writeManifest(filePath, ids);
+        }
+        Set<String> currentIds = new HashSet<>(ids);
+        for (String previousId : previousIds) {
+            if (!currentIds.contains(previousId)) {
+                Files.deleteIfExists(getPersonFilePath(filePath, previousId));
+            }
+        }
+        logger.fine(String.format("Wrote %d of %d client files to %s", writtenCount, persons.size(), filePath));
+
+        syncedDirectory = filePath;
+        syncedIds = ids;
+        syncedPersons = currentPersons;
+    }
+
+    @Override
+    public synchronized void rebaseSynced(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        Map<String, Person> syncedById = new HashMap<>(syncedPersons.size() * 2);
+        syncedPersons.forEach((person, id) -> syncedById.put(id, person));
+        Map<Person, String> rebasedPersons = new IdentityHashMap<>(syncedPersons.size());
+        for (Person person : addressBook.getPersonList()) {
+            String id = getId(person);
+            if (person.equals(syncedById.get(id))) {
+                rebasedPersons.put(person, id);
+            }
+        }
+        syncedPersons = rebasedPersons;
+    }
+
+    /**
+     * Records that the data directory at {@code directory} lists {@code ids} in its manifest, and that
+     * {@code persons[i]} is the content of the file of {@code ids.get(i)}, or is null if that file was not loaded.
+     * A person whose file is not named by their ID, such as after their name was edited by hand, is not recorded, so
+     * that the next save writes them to the right file.
+     */
+    private void markSynced(Path directory, List<String> ids, Person[] persons) {
+        syncedDirectory = directory;
+        syncedIds = new ArrayList<>(ids);
+        syncedPersons = new IdentityHashMap<>(persons.length);
+        for (int i = 0; i < persons.length; i++) {
+            if (persons[i] != null && getId(persons[i]).equals(ids.get(i))) {
+                syncedPersons.put(persons[i], ids.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the IDs listed in the manifest of the data directory at {@code directory}, or {@code Optional.empty()}
+     * if there is no manifest.
+     */
+    private static Optional<List<String>> readManifest(Path directory) throws DataLoadingException {
+        Optional<JsonNode> manifest = JsonUtil.readJsonTree(directory.resolve(MANIFEST_FILE_NAME));
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        int version = manifest.get().path(VERSION_FIELD).asInt(-1);
+        if (version != FORMAT_VERSION) {
+            throw new DataLoadingException(
+                    new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version)));
+        }
+        JsonNode idNodes = manifest.get().path(PERSONS_FIELD);
+        if (!idNodes.isArray()) {
+            throw new DataLoadingException(new IllegalValueException(MESSAGE_INVALID_MANIFEST));
+        }
+        List<String> ids = new ArrayList<>(idNodes.size());
+        for (JsonNode idNode : idNodes) {
+            if (!idNode.isTextual() || !idNode.asText().matches("[0-9a-f]+")) {
+                throw new DataLoadingException(new IllegalValueException(MESSAGE_INVALID_MANIFEST));
+            }
+            ids.add(idNode.asText());
+        }
+        return Optional.of(ids);
+    }
+
+    private static void writeManifest(Path directory, List<String> ids) throws IOException {
+        ObjectNode manifest = JsonNodeFactory.instance.objectNode();
+        manifest.put(VERSION_FIELD, FORMAT_VERSION);
+        ArrayNode idNodes = manifest.putArray(PERSONS_FIELD);
+        ids.forEach(idNodes::add);
+        JsonUtil.saveJsonFile(manifest, directory.resolve(MANIFEST_FILE_NAME));
+    }
+
+    /**
+     * Returns the JSON record in the file of the person with ID {@code id}.
+     *
+     * @throws DataLoadingException if the file is missing or is not valid JSON.
+     */
+    private static JsonNode readRecord(Path directory, String id) throws DataLoadingException {
+        return JsonUtil.readJsonTree(getPersonFilePath(directory, id)).orElseThrow(() -> new DataLoadingException(
+                new IllegalValueException(String.format(MESSAGE_MISSING_PERSON, id + PERSON_FILE_EXTENSION))));
+    }
+
+    private static Person readPerson(Path directory, String id)
+            throws DataLoadingException, IllegalValueException, IOException {
+        return JsonUtil.fromJsonTree(readRecord(directory, id), JsonAdaptedPerson.class).toModelType();
+    }
+}
@@ -42,7 +42,7 @@ class JsonAdaptedOneTimeSchedule {
         if (!OneTimeSchedule.isValidOneTimeSchedule(oneTimeScheduleDate)) {
             throw new IllegalValueException(OneTimeSchedule.MESSAGE_CONSTRAINTS);
         }
-        return new OneTimeSchedule(oneTimeScheduleDate);
+        return OneTimeSchedule.of(oneTimeScheduleDate);
     }
 
 }
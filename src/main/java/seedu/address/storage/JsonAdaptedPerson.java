@@ -126,7 +126,7 @@ class JsonAdaptedPerson {
         if (!Goals.isValidGoals(goals)) {
             throw new IllegalValueException(Goals.MESSAGE_CONSTRAINTS);
         }
-        final Goals modelGoals = new Goals(goals);
+        final Goals modelGoals = Goals.of(goals);
 
         if (medicalHistory == null) {
             //System.out.println(medicalHistory);
@@ -136,7 +136,7 @@ class JsonAdaptedPerson {
         if (!MedicalHistory.isValidMedicalHistory(medicalHistory)) {
             throw new IllegalValueException(MedicalHistory.MESSAGE_CONSTRAINTS);
         }
-        final MedicalHistory modelMedicalHistory = new MedicalHistory(medicalHistory);
+        final MedicalHistory modelMedicalHistory = MedicalHistory.of(medicalHistory);
 
         if (location == null) {
             throw new
@@ -145,7 +145,7 @@ class JsonAdaptedPerson {
         if (!Location.isValidLocation(location)) {
             throw new IllegalValueException(Location.MESSAGE_CONSTRAINTS);
         }
-        final Location modelLocation = new Location(location);
+        final Location modelLocation = Location.of(location);
 
         final Set<RecurringSchedule> modelRecurringSchedules = new HashSet<>(personRecurringSchedules);
 
@@ -42,6 +42,6 @@ class JsonAdaptedRecurringSchedule {
         if (!RecurringSchedule.isValidRecurringSchedule(recurringSchedule)) {
             throw new IllegalValueException(RecurringSchedule.MESSAGE_CONSTRAINTS);
         }
-        return new RecurringSchedule(recurringSchedule);
+        return RecurringSchedule.of(recurringSchedule);
     }
 }
@@ -3,24 +3,38 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String MESSAGE_MISSING_PERSONS = "Data file does not contain a list of clients.";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    static final String PERSONS_FIELD = "persons";
+
     private Path filePath;
 
     public JsonAddressBookStorage(Path filePath) {
@@ -45,20 +59,72 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.read(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    @Override
+    public Optional<AddressBookRecovery> recoverAddressBook() throws DataLoadingException {
+        return recoverAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #recoverAddressBook()}.
+     * Records are converted independently and in parallel. Of several records for the same person, the first is
+     * kept.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if the file is not valid JSON or does not contain a list of persons.
+     */
+    public Optional<AddressBookRecovery> recoverAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonNode> root = JsonUtil.readJsonTree(filePath);
+        if (!root.isPresent()) {
+            return Optional.empty();
+        }
+        JsonNode records = root.get().path(PERSONS_FIELD);
+        if (!records.isArray()) {
+            throw new DataLoadingException(new IllegalValueException(MESSAGE_MISSING_PERSONS));
+        }
+
+        Person[] converted = new Person[records.size()];
+        String[] rejectionReasons = new String[records.size()];
+        IntStream.range(0, records.size()).parallel().forEach(i -> {
+            try {
+                converted[i] = JsonUtil.fromJsonTree(records.get(i), JsonAdaptedPerson.class).toModelType();
+            } catch (IOException | IllegalValueException e) {
+                rejectionReasons[i] = e.getMessage();
+            }
+        });
+
+        List<Person> validPersons = new ArrayList<>(records.size());
+        Set<Name> names = new HashSet<>(records.size() * 2);
+        QuarantineFile quarantineFile = new QuarantineFile();
+        for (int i = 0; i < records.size(); i++) {
+            if (rejectionReasons[i] == null && !names.add(converted[i].getName())) {
+                rejectionReasons[i] = JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+            }
+            if (rejectionReasons[i] == null) {
+                validPersons.add(converted[i]);
+            } else {
+                quarantineFile.add(rejectionReasons[i], records.get(i));
+            }
+        }
+        return Optional.of(quarantineFile.toRecovery(validPersons, filePath));
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,7 +139,6 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
     }
 
@@ -1,17 +1,23 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,6 +27,8 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Clients list contains duplicate person(s).";
 
+    private static final int BATCH_SIZE = 1024;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -43,16 +51,89 @@ class JsonSerializableAddressBook {
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated. If several persons are invalid,
+     *     the error of the first one is reported.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        return toAddressBook(toModelType(persons));
+    }
+
+    /**
+     * Reads an address book from {@code parser}, which must be at the start of the JSON object of the address book.
+     * Persons are read and converted a batch at a time, so that only one batch of persons is held in both forms at
+     * once. Reading stops at the end of the list of persons.
+     *
+     * @throws IOException if the JSON is malformed or a person does not have the expected structure.
+     * @throws IllegalValueException if there is no list of persons or there were any data constraints violated.
+     */
+    static AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(JsonAddressBookStorage.MESSAGE_MISSING_PERSONS);
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            boolean isPersonsField = JsonAddressBookStorage.PERSONS_FIELD.equals(parser.getCurrentName());
+            if (parser.nextToken() == JsonToken.START_ARRAY && isPersonsField) {
+                return toAddressBook(readPersons(parser));
             }
-            addressBook.addPerson(person);
+            parser.skipChildren();
+        }
+        throw new IllegalValueException(JsonAddressBookStorage.MESSAGE_MISSING_PERSONS);
+    }
+
+    /**
+     * Reads and converts the persons in the array that {@code parser} is at the start of.
+     */
+    private static List<Person> readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>();
+        List<JsonAdaptedPerson> batch = new ArrayList<>(BATCH_SIZE);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+            if (batch.size() == BATCH_SIZE) {
+                modelPersons.addAll(toModelType(batch));
+                batch.clear();
+            }
+        }
+        modelPersons.addAll(toModelType(batch));
+        return modelPersons;
+    }
+
+    /**
+     * Converts {@code adaptedPersons} into the model's {@code Person} objects, in the same order.
+     * Persons are converted in parallel, as validating and parsing their fields dominates the time taken to load a
+     * large address book.
+     *
+     * @throws IllegalValueException if there were any data constraints violated. If several persons are invalid,
+     *     the error of the first one is reported.
+     */
+    private static List<Person> toModelType(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+        Person[] converted = new Person[adaptedPersons.size()];
+        IllegalValueException[] failures = new IllegalValueException[adaptedPersons.size()];
+        IntStream.range(0, adaptedPersons.size()).parallel().forEach(i -> {
+            try {
+                converted[i] = adaptedPersons.get(i).toModelType();
+            } catch (IllegalValueException e) {
+                failures[i] = e;
+            }
+        });
+        for (IllegalValueException failure : failures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        return Arrays.asList(converted);
+    }
+
+    /**
+     * Returns an address book of {@code modelPersons}, added in one step.
+     *
+     * @throws IllegalValueException if {@code modelPersons} contains duplicate persons.
+     */
+    private static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.OneTimeSchedule;
+
+/**
+ * The past one-time sessions of one month that is serializable to JSON format, grouped by the name of the client
+ * they were held with.
+ */
+class JsonSerializableHistoryPartition {
+
+    private final Map<String, List<JsonAdaptedOneTimeSchedule>> sessions = new TreeMap<>();
+
+    /**
+     * Constructs a {@code JsonSerializableHistoryPartition} with the given sessions.
+     */
+    @JsonCreator
+    public JsonSerializableHistoryPartition(
+            @JsonProperty("sessions") Map<String, List<JsonAdaptedOneTimeSchedule>> sessions) {
+        if (sessions != null) {
+            this.sessions.putAll(sessions);
+        }
+    }
+
+    /**
+     * Converts the given sessions, keyed by the name of the client they were held with, into this class for
+     * Jackson use.
+     */
+    public static JsonSerializableHistoryPartition of(Map<Name, ? extends Collection<OneTimeSchedule>> source) {
+        Map<String, List<JsonAdaptedOneTimeSchedule>> sessions = new TreeMap<>();
+        source.forEach((name, schedules) -> {
+            List<JsonAdaptedOneTimeSchedule> adapted = new ArrayList<>();
+            schedules.forEach(schedule -> adapted.add(new JsonAdaptedOneTimeSchedule(schedule)));
+            sessions.put(name.fullName, adapted);
+        });
+        return new JsonSerializableHistoryPartition(sessions);
+    }
+
+    @JsonProperty("sessions")
+    public Map<String, List<JsonAdaptedOneTimeSchedule>> getSessions() {
+        return sessions;
+    }
+
+    /**
+     * Converts this partition into the sessions of each client, in the order they are listed in.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public Map<Name, Set<OneTimeSchedule>> toModelType() throws IllegalValueException {
+        Map<Name, Set<OneTimeSchedule>> schedulesByName = new HashMap<>();
+        for (Map.Entry<String, List<JsonAdaptedOneTimeSchedule>> entry : sessions.entrySet()) {
+            if (!Name.isValidName(entry.getKey())) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            Set<OneTimeSchedule> schedules = schedulesByName.computeIfAbsent(new Name(entry.getKey()),
+                    unused -> new LinkedHashSet<>());
+            for (JsonAdaptedOneTimeSchedule schedule : entry.getValue()) {
+                schedules.add(schedule.toModelType());
+            }
+        }
+        return schedulesByName;
+    }
+
+}
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Collects the records of a data file that could not be loaded, with the reason each was skipped, and writes them
+ * to a JSON file next to the data file so that the user can fix them.
+ */
+class QuarantineFile {
+
+    static final String QUARANTINED_FIELD = "quarantined";
+    static final String REASON_FIELD = "reason";
+    static final String RECORD_FIELD = "record";
+
+    private static final Logger logger = LogsCenter.getLogger(QuarantineFile.class);
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ArrayNode entries = JsonNodeFactory.instance.arrayNode();
+
+    /**
+     * Adds {@code record} to the records to quarantine.
+     */
+    void add(String reason, JsonNode record) {
+        requireNonNull(reason);
+        requireNonNull(record);
+        entries.addObject()
+                .put(REASON_FIELD, reason)
+                .set(RECORD_FIELD, record);
+    }
+
+    /**
+     * Returns the number of records added.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Writes the records added to a new file next to {@code dataFilePath} and returns its path.
+     */
+    Path save(Path dataFilePath) throws IOException {
+        Path quarantineFilePath = getPath(dataFilePath, LocalDateTime.now());
+        FileUtil.createIfMissing(quarantineFilePath);
+        JsonUtil.saveJsonFile(JsonNodeFactory.instance.objectNode().set(QUARANTINED_FIELD, entries),
+                quarantineFilePath);
+        return quarantineFilePath;
+    }
+
+    /**
+     * Returns the recovery of {@code validPersons} from {@code dataFilePath}, first saving the records added, if any.
+     *
+     * @throws DataLoadingException if the records added could not be saved. Starting with only the valid persons
+     *     would then lose the invalid records on the next save.
+     */
+    AddressBookRecovery toRecovery(List<Person> validPersons, Path dataFilePath) throws DataLoadingException {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(validPersons);
+        if (size() == 0) {
+            return new AddressBookRecovery(addressBook, 0, null);
+        }
+
+        Path quarantineFilePath;
+        try {
+            quarantineFilePath = save(dataFilePath);
+        } catch (IOException e) {
+            logger.warning("Could not write quarantine file for " + dataFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        logger.warning(String.format("Recovered %d clients from %s, quarantined %d invalid records in %s",
+                validPersons.size(), dataFilePath, size(), quarantineFilePath));
+        return new AddressBookRecovery(addressBook, size(), quarantineFilePath);
+    }
+
+    /**
+     * Returns the path of the file that invalid records found in {@code dataFilePath} at {@code time} are written to.
+     */
+    static Path getPath(Path dataFilePath, LocalDateTime time) {
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return dataFilePath.resolveSibling(baseName + ".quarantine-" + TIMESTAMP_FORMAT.format(time) + ".json");
+    }
+}
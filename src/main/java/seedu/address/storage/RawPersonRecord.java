@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Goals;
+import seedu.address.model.person.Location;
+import seedu.address.model.person.MedicalHistory;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.OneTimeSchedule;
+import seedu.address.model.person.PackedScheduleSet;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.RecurringSchedule;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The values of a person as stored, which have not yet been validated.
+ * Schedules are kept in their packed form.
+ */
+class RawPersonRecord {
+
+    static final String INVALID_SCHEDULES_FIELD = "invalidSchedules";
+
+    private final String name;
+    private final String phone;
+    private final String goals;
+    private final String medicalHistory;
+    private final String location;
+    private final String[] tags;
+    private final long[] schedules;
+
+    RawPersonRecord(String name, String phone, String goals, String medicalHistory, String location, String[] tags,
+            long[] schedules) {
+        this.name = name;
+        this.phone = phone;
+        this.goals = goals;
+        this.medicalHistory = medicalHistory;
+        this.location = location;
+        this.tags = tags;
+        this.schedules = schedules;
+    }
+
+    /**
+     * Converts this record into the model's {@code Person} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    Person toModelType() throws IllegalValueException {
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        if (!Goals.isValidGoals(goals)) {
+            throw new IllegalValueException(Goals.MESSAGE_CONSTRAINTS);
+        }
+        if (!MedicalHistory.isValidMedicalHistory(medicalHistory)) {
+            throw new IllegalValueException(MedicalHistory.MESSAGE_CONSTRAINTS);
+        }
+        if (!Location.isValidLocation(location)) {
+            throw new IllegalValueException(Location.MESSAGE_CONSTRAINTS);
+        }
+        Set<Tag> modelTags = new HashSet<>();
+        for (String tag : tags) {
+            if (!Tag.isValidTagName(tag)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            modelTags.add(Tag.of(tag));
+        }
+        PackedScheduleSet modelSchedules;
+        try {
+            modelSchedules = PackedScheduleSet.ofPacked(schedules);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+        return new Person(new Name(name), new Phone(phone), modelSchedules, Goals.of(goals),
+                MedicalHistory.of(medicalHistory), Location.of(location), modelTags);
+    }
+
+    /**
+     * Returns this record in the shape of a {@code JsonAdaptedPerson}, so that it can be fixed and added back
+     * through the JSON data file. Schedules that are not valid are kept in hexadecimal.
+     */
+    JsonNode toJsonTree() {
+        ObjectNode node = JsonNodeFactory.instance.objectNode()
+                .put("name", name)
+                .put("phone", phone)
+                .put("goals", goals)
+                .put("medicalHistory", medicalHistory)
+                .put("location", location);
+        ArrayNode recurringSchedules = node.putArray("recurringSchedule");
+        ArrayNode oneTimeSchedules = node.putArray("oneTimeSchedule");
+        ArrayNode invalidSchedules = JsonNodeFactory.instance.arrayNode();
+        for (long schedule : schedules) {
+            if (!PackedScheduleSet.isValid(schedule)) {
+                invalidSchedules.add(Long.toHexString(schedule));
+            } else if (PackedScheduleSet.isOneTime(schedule)) {
+                oneTimeSchedules.add(new JsonAdaptedOneTimeSchedule(
+                        (OneTimeSchedule) PackedScheduleSet.decode(schedule)).getTagName());
+            } else {
+                recurringSchedules.add(new JsonAdaptedRecurringSchedule(
+                        (RecurringSchedule) PackedScheduleSet.decode(schedule)).getRecurringSchedule());
+            }
+        }
+        if (invalidSchedules.size() > 0) {
+            node.set(INVALID_SCHEDULES_FIELD, invalidSchedules);
+        }
+        ArrayNode tagNodes = node.putArray("tags");
+        for (String tag : tags) {
+            tagNodes.add(tag);
+        }
+        return node;
+    }
+}
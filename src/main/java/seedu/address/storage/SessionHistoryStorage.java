@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.OneTimeSchedule;
+import seedu.address.model.person.PackedScheduleSet;
+
+/**
+ * Keeps the past one-time sessions that were moved out of an address book, partitioned by month.
+ * <p>
+ * The sessions of each month are kept in their own JSON file in a folder, such as {@code 2025-03.json} for
+ * March 2025, so that moving out a day's sessions only rewrites the file of their month. The files are only read
+ * when past sessions are looked up.
+ */
+public class SessionHistoryStorage {
+
+    static final String PARTITION_FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(SessionHistoryStorage.class);
+    private static final String PARTITION_FILE_REGEX = "\\d{4}-\\d{2}\\" + PARTITION_FILE_EXTENSION;
+    private static final Comparator<OneTimeSchedule> CHRONOLOGICAL_ORDER =
+            Comparator.comparingLong(PackedScheduleSet::encode);
+
+    private final Path directoryPath;
+
+    public SessionHistoryStorage(Path directoryPath) {
+        this.directoryPath = requireNonNull(directoryPath);
+    }
+
+    public Path getDirectoryPath() {
+        return directoryPath;
+    }
+
+    /**
+     * Returns the path of the file that keeps the sessions of {@code month}.
+     */
+    Path getPartitionFilePath(YearMonth month) {
+        return directoryPath.resolve(month + PARTITION_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the past sessions held with the client named {@code name}, oldest first.
+     *
+     * @throws DataLoadingException if any of the files could not be read.
+     */
+    public List<OneTimeSchedule> readSessions(Name name) throws DataLoadingException {
+        requireNonNull(name);
+        List<OneTimeSchedule> sessions = new ArrayList<>();
+        for (Path partitionFilePath : listPartitionFiles()) {
+            Set<OneTimeSchedule> partitionSessions = readPartition(partitionFilePath).get(name);
+            if (partitionSessions != null) {
+                sessions.addAll(partitionSessions);
+            }
+        }
+        sessions.sort(CHRONOLOGICAL_ORDER);
+        return sessions;
+    }
+
+    /**
+     * Adds {@code sessions}, keyed by the name of the client they were held with, to the files of their months.
+     * Sessions that are already kept are not added again, so saving the same sessions twice keeps them once.
+     *
+     * @throws IOException if any of the files could not be read or written. The files of the other months may
+     *     already have been written.
+     */
+    public void saveSessions(Map<Name, ? extends Collection<OneTimeSchedule>> sessions) throws IOException {
+        requireNonNull(sessions);
+        Map<YearMonth, Map<Name, List<OneTimeSchedule>>> sessionsByMonth = new TreeMap<>();
+        sessions.forEach((name, schedules) -> schedules.forEach(schedule -> sessionsByMonth
+                .computeIfAbsent(YearMonth.from(schedule.getDate()), unused -> new HashMap<>())
+                .computeIfAbsent(name, unused -> new ArrayList<>())
+                .add(schedule)));
+
+        for (Map.Entry<YearMonth, Map<Name, List<OneTimeSchedule>>> entry : sessionsByMonth.entrySet()) {
+            savePartition(getPartitionFilePath(entry.getKey()), entry.getValue());
+        }
+    }
+
+    private void savePartition(Path filePath, Map<Name, List<OneTimeSchedule>> added) throws IOException {
+        Map<Name, Set<OneTimeSchedule>> partition;
+        try {
+            partition = readPartition(filePath);
+        } catch (DataLoadingException e) {
+            throw new IOException("Could not read " + filePath + " to add sessions to it", e);
+        }
+
+        Map<Name, Set<OneTimeSchedule>> merged = new HashMap<>();
+        partition.forEach((name, schedules) -> merged.computeIfAbsent(name, this::newSessionSet).addAll(schedules));
+        added.forEach((name, schedules) -> merged.computeIfAbsent(name, this::newSessionSet).addAll(schedules));
+
+        logger.fine("Attempting to write past sessions to file: " + filePath);
+        Files.createDirectories(directoryPath);
+        JsonUtil.saveJsonFile(JsonSerializableHistoryPartition.of(merged), filePath);
+    }
+
+    private Set<OneTimeSchedule> newSessionSet(Name unused) {
+        return new TreeSet<>(CHRONOLOGICAL_ORDER);
+    }
+
+    /**
+     * Returns the sessions in the file at {@code filePath}, or no sessions if there is no such file.
+     */
+    private Map<Name, Set<OneTimeSchedule>> readPartition(Path filePath) throws DataLoadingException {
+        Optional<JsonSerializableHistoryPartition> jsonPartition =
+                JsonUtil.readJsonFile(filePath, JsonSerializableHistoryPartition.class);
+        if (jsonPartition.isEmpty()) {
+            return new HashMap<>();
+        }
+        try {
+            return jsonPartition.get().toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns the files of all months that have sessions, oldest month first.
+     */
+    private List<Path> listPartitionFiles() throws DataLoadingException {
+        if (!Files.isDirectory(directoryPath)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            return files.filter(file -> file.getFileName().toString().matches(PARTITION_FILE_REGEX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+}
@@ -0,0 +1,457 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PackedScheduleSet;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in an SQLite database file on the hard disk.
+ * <p>
+ * Each person is a row of the {@code clients} table, keyed by their name ignoring case, with their sessions and tags
+ * in the {@code sessions} and {@code tags} tables. Sessions are stored in their packed form next to their day of
+ * week and, for one-time sessions, their date. Phones, days and dates are indexed.
+ * <p>
+ * Saving only upserts the persons that changed since the last save or load, found by identity as in
+ * {@link DirectoryAddressBookStorage}, and deletes the persons that were removed.
+ */
+public class SqliteAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".db";
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Database has unsupported format version %d.";
+
+    private static final Logger logger = LogsCenter.getLogger(SqliteAddressBookStorage.class);
+
+    private static final String URL_PREFIX = "jdbc:sqlite:";
+
+    // Persons are ordered by position. Positions written in full are spread out, so that a person added between two
+    // others can usually be given a position without moving the persons after them.
+    private static final long POSITION_GAP = 1024;
+
+    private static final String[] TABLES = {"clients", "sessions", "tags"};
+    private static final String[] SCHEMA = {
+        "CREATE TABLE clients (name_key TEXT PRIMARY KEY, position INTEGER NOT NULL, name TEXT NOT NULL, "
+                + "phone TEXT NOT NULL, goals TEXT NOT NULL, medical_history TEXT NOT NULL, "
+                + "location TEXT NOT NULL)",
+        "CREATE TABLE sessions (client TEXT NOT NULL, packed INTEGER NOT NULL, day INTEGER NOT NULL, date INTEGER)",
+        "CREATE TABLE tags (client TEXT NOT NULL, name TEXT NOT NULL)",
+        "CREATE INDEX clients_position ON clients (position)",
+        "CREATE INDEX clients_phone ON clients (phone)",
+        "CREATE INDEX sessions_client ON sessions (client)",
+        "CREATE INDEX sessions_day ON sessions (day, date)",
+        "CREATE INDEX sessions_date ON sessions (date)",
+        "CREATE INDEX tags_client ON tags (client)",
+        "PRAGMA user_version = " + FORMAT_VERSION
+    };
+
+    private static final String SELECT_CLIENTS = "SELECT name_key, position, name, phone, goals, medical_history, "
+            + "location FROM clients";
+    private static final String UPSERT_CLIENT = "INSERT INTO clients (name_key, position, name, phone, goals, "
+            + "medical_history, location) VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT (name_key) DO UPDATE SET "
+            + "position = excluded.position, name = excluded.name, phone = excluded.phone, goals = excluded.goals, "
+            + "medical_history = excluded.medical_history, location = excluded.location";
+    private static final String UPDATE_POSITION = "UPDATE clients SET position = ? WHERE name_key = ?";
+
+    private Path filePath;
+
+    // The state of the database as of the last save or load, used to find what has changed since
+    private Path syncedFile;
+    private Map<String, Long> syncedPositions = new HashMap<>();
+    private Map<Person, String> syncedPersons = new IdentityHashMap<>();
+
+    public SqliteAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} names an SQLite database file.
+     */
+    public static boolean isDatabaseFile(Path filePath) {
+        return filePath.getFileName() != null && filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the key of {@code person} in the {@code clients} table, which is the same for all persons with the
+     * same name.
+     */
+    static String getKey(Person person) {
+        // names are compared ignoring case, and only contain ASCII characters
+        return person.getName().fullName.toLowerCase(Locale.ROOT);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the database file. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (Connection connection = connect(filePath)) {
+            List<StoredClient> clients = readClients(connection);
+            Person[] converted = new Person[clients.size()];
+            for (int i = 0; i < converted.length; i++) {
+                converted[i] = clients.get(i).record.toModelType();
+            }
+
+            AddressBook addressBook = new AddressBook();
+            try {
+                addressBook.setPersons(Arrays.asList(converted));
+            } catch (DuplicatePersonException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            markSynced(filePath, clients, converted);
+            return Optional.of(addressBook);
+        } catch (SQLException | IllegalValueException e) {
+            logger.info("Unable to read " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public Optional<AddressBookRecovery> recoverAddressBook() throws DataLoadingException {
+        return recoverAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #recoverAddressBook()}.
+     * Persons whose rows are invalid are quarantined, and their rows are deleted on the next save.
+     *
+     * @param filePath location of the database file. Cannot be null.
+     * @throws DataLoadingException if the database cannot be queried or has an unsupported format version.
+     */
+    public synchronized Optional<AddressBookRecovery> recoverAddressBook(Path filePath)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        List<StoredClient> clients;
+        try (Connection connection = connect(filePath)) {
+            clients = readClients(connection);
+        } catch (SQLException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+
+        Person[] converted = new Person[clients.size()];
+        List<Person> validPersons = new ArrayList<>(clients.size());
+        Set<String> keys = new HashSet<>(clients.size() * 2);
+        QuarantineFile quarantineFile = new QuarantineFile();
+        for (int i = 0; i < converted.length; i++) {
+            RawPersonRecord record = clients.get(i).record;
+            try {
+                converted[i] = record.toModelType();
+            } catch (IllegalValueException e) {
+                quarantineFile.add(e.getMessage(), record.toJsonTree());
+                continue;
+            }
+            if (!keys.add(getKey(converted[i]))) {
+                quarantineFile.add(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, record.toJsonTree());
+                converted[i] = null;
+                continue;
+            }
+            validPersons.add(converted[i]);
+        }
+        AddressBookRecovery recovery = quarantineFile.toRecovery(validPersons, filePath);
+        // the quarantined persons are still in the database, so that the next save deletes them
+        markSynced(filePath, clients, converted);
+        return Optional.of(recovery);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * If {@code filePath} is the database last read or saved, only what changed since is written, in one
+     * transaction. Otherwise the database is replaced.
+     *
+     * @param filePath location of the database file. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isSynced = filePath.equals(syncedFile) && Files.exists(filePath);
+        Map<Person, String> previousPersons = isSynced ? syncedPersons : new IdentityHashMap<>();
+        Map<String, Long> previousPositions = isSynced ? syncedPositions : new HashMap<>();
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<Person, String> currentPersons = new IdentityHashMap<>(persons.size());
+        Map<String, Long> currentPositions = new HashMap<>(persons.size() * 2);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (Connection connection = connect(filePath)) {
+            connection.setAutoCommit(false);
+            try {
+                if (!isSynced) {
+                    createSchema(connection);
+                }
+
+                int writtenCount = 0;
+                long lastPosition = 0;
+                for (Person person : persons) {
+                    String key = previousPersons.get(person);
+                    boolean isChanged = key == null;
+                    if (isChanged) {
+                        key = getKey(person);
+                    }
+                    Long previousPosition = previousPositions.get(key);
+                    boolean isMoved = previousPosition == null || previousPosition <= lastPosition;
+                    long position = !isMoved ? previousPosition : lastPosition + (isSynced ? 1 : POSITION_GAP);
+
+                    if (isChanged) {
+                        writePerson(connection, key, position, person);
+                        writtenCount++;
+                    } else if (isMoved) {
+                        execute(connection, UPDATE_POSITION, position, key);
+                    }
+                    currentPersons.put(person, key);
+                    currentPositions.put(key, position);
+                    lastPosition = position;
+                }
+
+                for (String previousKey : previousPositions.keySet()) {
+                    if (!currentPositions.containsKey(previousKey)) {
+                        deletePerson(connection, previousKey, true);
+                    }
+                }
+                connection.commit();
+                logger.fine(String.format("Wrote %d of %d clients to %s", writtenCount, persons.size(), filePath));
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Unable to save to " + filePath, e);
+        }
+
+        syncedFile = filePath;
+        syncedPositions = currentPositions;
+        syncedPersons = currentPersons;
+    }
+
+    @Override
+    public synchronized void rebaseSynced(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        Map<String, Person> syncedByKey = new HashMap<>(syncedPersons.size() * 2);
+        syncedPersons.forEach((person, key) -> syncedByKey.put(key, person));
+        Map<Person, String> rebasedPersons = new IdentityHashMap<>(syncedPersons.size());
+        for (Person person : addressBook.getPersonList()) {
+            String key = getKey(person);
+            if (person.equals(syncedByKey.get(key))) {
+                rebasedPersons.put(person, key);
+            }
+        }
+        syncedPersons = rebasedPersons;
+    }
+
+    /**
+     * Records that the database at {@code file} holds {@code clients}, and that {@code persons[i]} is the person in
+     * the row of {@code clients.get(i)}, or is null if that row was not loaded. A person whose row is not keyed by
+     * their name, such as after their name was edited by hand, is not recorded, so that the next save rewrites them
+     * under the right key.
+     */
+    private void markSynced(Path file, List<StoredClient> clients, Person[] persons) {
+        syncedFile = file;
+        syncedPositions = new HashMap<>(clients.size() * 2);
+        syncedPersons = new IdentityHashMap<>(persons.length);
+        for (int i = 0; i < persons.length; i++) {
+            StoredClient client = clients.get(i);
+            syncedPositions.put(client.key, client.position);
+            if (persons[i] != null && getKey(persons[i]).equals(client.key)) {
+                syncedPersons.put(persons[i], client.key);
+            }
+        }
+    }
+
+    private static Connection connect(Path file) throws SQLException {
+        return DriverManager.getConnection(URL_PREFIX + file.toAbsolutePath());
+    }
+
+    /**
+     * Drops any tables of an earlier address book in the database and creates empty ones.
+     */
+    private static void createSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                statement.execute("DROP TABLE IF EXISTS " + table);
+            }
+            for (String definition : SCHEMA) {
+                statement.execute(definition);
+            }
+        }
+    }
+
+    /**
+     * Returns all the clients in the database in order of position, along with their sessions and tags.
+     * The sessions and tags of all clients are each read in one query, and grouped by client.
+     *
+     * @throws IllegalValueException if the database has an unsupported format version.
+     */
+    private static List<StoredClient> readClients(Connection connection) throws SQLException, IllegalValueException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet version = statement.executeQuery("PRAGMA user_version")) {
+                int formatVersion = version.next() ? version.getInt(1) : 0;
+                if (formatVersion != FORMAT_VERSION) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, formatVersion));
+                }
+            }
+
+            Map<String, List<Long>> sessionsByClient = new HashMap<>();
+            try (ResultSet rows = statement.executeQuery("SELECT client, packed FROM sessions")) {
+                while (rows.next()) {
+                    sessionsByClient.computeIfAbsent(rows.getString(1), unused -> new ArrayList<>())
+                            .add(rows.getLong(2));
+                }
+            }
+            Map<String, List<String>> tagsByClient = new HashMap<>();
+            try (ResultSet rows = statement.executeQuery("SELECT client, name FROM tags")) {
+                while (rows.next()) {
+                    tagsByClient.computeIfAbsent(rows.getString(1), unused -> new ArrayList<>())
+                            .add(rows.getString(2));
+                }
+            }
+
+            List<StoredClient> clients = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery(SELECT_CLIENTS + " ORDER BY position")) {
+                while (rows.next()) {
+                    String key = rows.getString(1);
+                    List<Long> sessions = sessionsByClient.getOrDefault(key, List.of());
+                    List<String> tags = tagsByClient.getOrDefault(key, List.of());
+                    RawPersonRecord record = new RawPersonRecord(rows.getString(3), rows.getString(4),
+                            rows.getString(5), rows.getString(6), rows.getString(7), tags.toArray(new String[0]),
+                            sessions.stream().mapToLong(Long::longValue).toArray());
+                    clients.add(new StoredClient(key, rows.getLong(2), record));
+                }
+            }
+            return clients;
+        }
+    }
+
+    /**
+     * Upserts the row of {@code person} and replaces their sessions and tags.
+     */
+    private static void writePerson(Connection connection, String key, long position, Person person)
+            throws SQLException {
+        execute(connection, UPSERT_CLIENT, key, position, person.getName().fullName, person.getPhone().value,
+                person.getGoals().value, person.getMedicalHistory().value, person.getLocation().value);
+        deletePerson(connection, key, false);
+
+        try (PreparedStatement insertSession = connection.prepareStatement(
+                "INSERT INTO sessions (client, packed, day, date) VALUES (?, ?, ?, ?)")) {
+            PackedScheduleSet schedules = person.getPackedSchedules();
+            for (int i = 0; i < schedules.size(); i++) {
+                long schedule = schedules.get(i);
+                insertSession.setString(1, key);
+                insertSession.setLong(2, schedule);
+                insertSession.setInt(3, PackedScheduleSet.getDayOfWeek(schedule).getValue());
+                if (PackedScheduleSet.isOneTime(schedule)) {
+                    insertSession.setLong(4, PackedScheduleSet.getDate(schedule).toEpochDay());
+                } else {
+                    insertSession.setObject(4, null);
+                }
+                insertSession.addBatch();
+            }
+            insertSession.executeBatch();
+        }
+        try (PreparedStatement insertTag = connection.prepareStatement(
+                "INSERT INTO tags (client, name) VALUES (?, ?)")) {
+            for (Tag tag : person.getTags()) {
+                insertTag.setString(1, key);
+                insertTag.setString(2, tag.tagName);
+                insertTag.addBatch();
+            }
+            insertTag.executeBatch();
+        }
+    }
+
+    /**
+     * Deletes the sessions and tags of the person with {@code key}, and their row too if
+     * {@code isDeletingClient}.
+     */
+    private static void deletePerson(Connection connection, String key, boolean isDeletingClient)
+            throws SQLException {
+        execute(connection, "DELETE FROM sessions WHERE client = ?", key);
+        execute(connection, "DELETE FROM tags WHERE client = ?", key);
+        if (isDeletingClient) {
+            execute(connection, "DELETE FROM clients WHERE name_key = ?", key);
+        }
+    }
+
+    private static void execute(Connection connection, String sql, Object... parameters) throws SQLException {
+        try (PreparedStatement statement = prepare(connection, sql, parameters)) {
+            statement.executeUpdate();
+        }
+    }
+
+    private static PreparedStatement prepare(Connection connection, String sql, Object... parameters)
+            throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        for (int i = 0; i < parameters.length; i++) {
+            statement.setObject(i + 1, parameters[i]);
+        }
+        return statement;
+    }
+
+    /**
+     * A row of the {@code clients} table, along with the person's sessions and tags.
+     */
+    private static class StoredClient {
+        private final String key;
+        private final long position;
+        private final RawPersonRecord record;
+
+        StoredClient(String key, long position, RawPersonRecord record) {
+            this.key = key;
+            this.position = position;
+            this.record = record;
+        }
+    }
+}
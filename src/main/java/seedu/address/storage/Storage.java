@@ -2,12 +2,16 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.OneTimeSchedule;
 
 /**
  * API of the Storage component
@@ -29,4 +33,59 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Returns the address book in the data file if the file was changed by something other than this storage since
+     * it was last read or saved here, or {@code Optional.empty()} if it was not.
+     * A change is detected by the size or modification time of the data file differing from when it was last read or
+     * saved, and is only reported once.
+     *
+     * @throws DataLoadingException if the changed data file could not be read. The change is then reported again
+     *     by the next call.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBookIfChanged() throws DataLoadingException;
+
+    /**
+     * Returns the file path of the archive file, which keeps the persons archived out of the address book.
+     */
+    Path getArchiveFilePath();
+
+    /**
+     * Returns the archived persons in the archive file, or {@code Optional.empty()} if there is no archive file.
+     *
+     * @throws DataLoadingException if the archive file could not be read.
+     */
+    Optional<ReadOnlyAddressBook> readArchivedPersons() throws DataLoadingException;
+
+    /**
+     * Saves {@code addressBook} to the data file and {@code archivedPersons} to the archive file.
+     */
+    void saveAddressBookAndArchive(ReadOnlyAddressBook addressBook, ReadOnlyAddressBook archivedPersons)
+            throws IOException;
+
+    /**
+     * Returns the path of the folder that keeps the past one-time sessions moved out of the address book.
+     */
+    Path getSessionHistoryDirectoryPath();
+
+    /**
+     * Returns the past one-time sessions moved out of the address book that were held with the client named
+     * {@code name}, oldest first.
+     *
+     * @throws DataLoadingException if the past sessions could not be read.
+     */
+    List<OneTimeSchedule> readSessionHistory(Name name) throws DataLoadingException;
+
+    /**
+     * Adds {@code sessions}, keyed by the name of the client they were held with, to the past sessions kept for
+     * them. Sessions that are already kept are not added again.
+     */
+    void saveSessionHistory(Map<Name, List<OneTimeSchedule>> sessions) throws IOException;
+
+    /**
+     * Saves {@code addressBook}, which must be the address book last read from or saved to the data file, as an
+     * image that the next {@link #readAddressBook()} can load instead of parsing the data file.
+     * Does nothing if the data file could not be read or saved in full, as the image would then not match it.
+     */
+    void saveWarmStartImage(ReadOnlyAddressBook addressBook) throws IOException;
+
 }
@@ -1,7 +1,11 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,24 +14,66 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.OneTimeSchedule;
 
 /**
  * Manages storage of AddressBook data in local storage.
  */
 public class StorageManager implements Storage {
 
+    static final String ARCHIVE_FILE_SUFFIX = ".archive.json";
+    static final String SESSION_HISTORY_DIRECTORY_SUFFIX = ".history";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
+    private AddressBookStorage archiveStorage;
+    private SessionHistoryStorage sessionHistoryStorage;
     private UserPrefsStorage userPrefsStorage;
+    // whether the data file holds exactly the address book last read from or saved to it
+    private boolean isDataFileInSync = false;
+    // the size and modification time of the data file when it was last read or saved, or null if unknown
+    private FileStamp syncedStamp;
+    // the number of persons in the archive file when it was last read or saved
+    private int syncedArchiveSize = 0;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Archived persons and past sessions are kept in JSON next to the data file, whatever format the data file is
+     * in.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        Path dataFilePath = addressBookStorage.getAddressBookFilePath();
         this.addressBookStorage = addressBookStorage;
+        this.archiveStorage = new JsonAddressBookStorage(getArchiveFilePath(dataFilePath));
+        this.sessionHistoryStorage = new SessionHistoryStorage(getSessionHistoryDirectoryPath(dataFilePath));
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns the path of the archive file of the data file at {@code dataFilePath}, which is in the same folder and
+     * is named after the data file without its extensions, e.g. {@code addressbook.archive.json} for
+     * {@code addressbook.json.gz}.
+     */
+    static Path getArchiveFilePath(Path dataFilePath) {
+        return getCompanionPath(dataFilePath, ARCHIVE_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the folder of past sessions of the data file at {@code dataFilePath}, which is named like
+     * its archive file, e.g. {@code addressbook.history} for {@code addressbook.json.gz}.
+     */
+    static Path getSessionHistoryDirectoryPath(Path dataFilePath) {
+        return getCompanionPath(dataFilePath, SESSION_HISTORY_DIRECTORY_SUFFIX);
+    }
+
+    private static Path getCompanionPath(Path dataFilePath, String suffix) {
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionIndex = fileName.indexOf('.', 1);
+        String baseName = extensionIndex == -1 ? fileName : fileName.substring(0, extensionIndex);
+        return dataFilePath.resolveSibling(baseName + suffix);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -53,9 +99,47 @@ public class StorageManager implements Storage {
         return addressBookStorage.getAddressBookFilePath();
     }
 
+    /**
+     * {@inheritDoc}
+     * The address book is loaded from the warm start image of the data file if the data file has not changed since
+     * the image was taken.
+     */
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        Optional<ReadOnlyAddressBook> image = WarmStartImage.load(filePath);
+        if (image.isPresent()) {
+            logger.info("Loaded data from the warm start image of " + filePath);
+            isDataFileInSync = true;
+            syncedStamp = FileStamp.of(filePath);
+            return image;
+        }
+
+        FileStamp stamp = FileStamp.of(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook(filePath);
+        isDataFileInSync = addressBook.isPresent();
+        syncedStamp = stamp;
+        return addressBook;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The warm start image is dropped at exit after a change is read, as the address book it is merged into may
+     * order its persons differently from the data file.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookIfChanged() throws DataLoadingException {
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        FileStamp stamp = FileStamp.of(filePath);
+        if (stamp == null || stamp.equals(syncedStamp)) {
+            return Optional.empty();
+        }
+
+        logger.info("Data file " + filePath + " was changed outside the app, reading it again");
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook(filePath);
+        isDataFileInSync = false;
+        syncedStamp = stamp;
+        return addressBook;
     }
 
     @Override
@@ -64,9 +148,24 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Optional<AddressBookRecovery> recoverAddressBook() throws DataLoadingException {
+        return recoverAddressBook(addressBookStorage.getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<AddressBookRecovery> recoverAddressBook(Path filePath) throws DataLoadingException {
+        logger.fine("Attempting to recover data from file: " + filePath);
+        return addressBookStorage.recoverAddressBook(filePath);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        isDataFileInSync = false;
+        saveAddressBook(addressBook, filePath);
+        isDataFileInSync = true;
+        syncedStamp = FileStamp.of(filePath);
     }
 
     @Override
@@ -75,4 +174,130 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void rebaseSynced(ReadOnlyAddressBook addressBook) {
+        addressBookStorage.rebaseSynced(addressBook);
+    }
+
+    @Override
+    public void saveWarmStartImage(ReadOnlyAddressBook addressBook) throws IOException {
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        if (!isDataFileInSync) {
+            logger.info("Not saving a warm start image as " + filePath + " does not match the address book");
+            WarmStartImage.delete(filePath);
+            return;
+        }
+        if (!(addressBookStorage instanceof JsonAddressBookStorage)) {
+            // a binary data file already loads as fast as an image would, and a data directory cannot be hashed
+            return;
+        }
+        logger.fine("Attempting to write warm start image of data file: " + filePath);
+        WarmStartImage.save(addressBook, filePath);
+    }
+
+    // ================ Archive methods ==============================
+
+    @Override
+    public Path getArchiveFilePath() {
+        return archiveStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readArchivedPersons() throws DataLoadingException {
+        Path filePath = archiveStorage.getAddressBookFilePath();
+        logger.fine("Attempting to read archived clients from file: " + filePath);
+        Optional<ReadOnlyAddressBook> archivedPersons = archiveStorage.readAddressBook();
+        syncedArchiveSize = archivedPersons.map(persons -> persons.getPersonList().size()).orElse(0);
+        return archivedPersons;
+    }
+
+    /**
+     * {@inheritDoc}
+     * A person moved between the two files is saved to the file it was moved to first, so that it is in at least
+     * one of them even if the app stops between the two saves. A person found in both files is kept in the address
+     * book when the archive is next loaded.
+     */
+    @Override
+    public void saveAddressBookAndArchive(ReadOnlyAddressBook addressBook, ReadOnlyAddressBook archivedPersons)
+            throws IOException {
+        boolean isMovedToArchive = archivedPersons.getPersonList().size() >= syncedArchiveSize;
+        if (isMovedToArchive) {
+            saveArchivedPersons(archivedPersons);
+        }
+        saveAddressBook(addressBook);
+        if (!isMovedToArchive) {
+            saveArchivedPersons(archivedPersons);
+        }
+    }
+
+    private void saveArchivedPersons(ReadOnlyAddressBook archivedPersons) throws IOException {
+        Path filePath = archiveStorage.getAddressBookFilePath();
+        logger.fine("Attempting to write archived clients to file: " + filePath);
+        archiveStorage.saveAddressBook(archivedPersons);
+        syncedArchiveSize = archivedPersons.getPersonList().size();
+    }
+
+    // ================ Session history methods ==============================
+
+    @Override
+    public Path getSessionHistoryDirectoryPath() {
+        return sessionHistoryStorage.getDirectoryPath();
+    }
+
+    @Override
+    public List<OneTimeSchedule> readSessionHistory(Name name) throws DataLoadingException {
+        logger.fine("Attempting to read past sessions of " + name + " from: "
+                + sessionHistoryStorage.getDirectoryPath());
+        return sessionHistoryStorage.readSessions(name);
+    }
+
+    @Override
+    public void saveSessionHistory(Map<Name, List<OneTimeSchedule>> sessions) throws IOException {
+        logger.fine("Attempting to write past sessions to: " + sessionHistoryStorage.getDirectoryPath());
+        sessionHistoryStorage.saveSessions(sessions);
+    }
+
+    /**
+     * The size and modification time of a file, which change whenever the file is written.
+     */
+    private static class FileStamp {
+        private final long size;
+        private final long modifiedTime;
+
+        private FileStamp(long size, long modifiedTime) {
+            this.size = size;
+            this.modifiedTime = modifiedTime;
+        }
+
+        /**
+         * Returns the stamp of the file at {@code filePath}, or null if it does not exist or cannot be read.
+         */
+        static FileStamp of(Path filePath) {
+            try {
+                return new FileStamp(Files.size(filePath), Files.getLastModifiedTime(filePath).toMillis());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof FileStamp)) {
+                return false;
+            }
+
+            FileStamp otherStamp = (FileStamp) other;
+            return size == otherStamp.size && modifiedTime == otherStamp.modifiedTime;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, modifiedTime);
+        }
+    }
 }
@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A copy of a data file's address book in the compact binary format, kept next to the data file so that the next
+ * start-up can skip parsing the data file.
+ * <p>
+ * The image is stamped with the size, modification time and SHA-256 hash of the data file it was taken from, and is
+ * only used while the data file still matches all three. The size and modification time rule out most changes
+ * without reading the data file, while the hash catches edits that keep both.
+ */
+class WarmStartImage {
+
+    static final String FILE_SUFFIX = ".image";
+    static final int MAGIC = 0x46464957;
+
+    private static final Logger logger = LogsCenter.getLogger(WarmStartImage.class);
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int HASH_BLOCK_SIZE = 64 * 1024;
+
+    private WarmStartImage() {} // prevents instantiation
+
+    /**
+     * Returns the path of the image of the data file at {@code dataFilePath}.
+     */
+    static Path getPath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the address book in the image of the data file at {@code dataFilePath}, or {@code Optional.empty()} if
+     * there is no image, it was taken from a different version of the data file, or it cannot be read.
+     */
+    static Optional<ReadOnlyAddressBook> load(Path dataFilePath) {
+        Path imagePath = getPath(dataFilePath);
+        if (!Files.exists(imagePath) || !Files.exists(dataFilePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer image = ByteBuffer.wrap(Files.readAllBytes(imagePath));
+            if (image.getInt() != MAGIC) {
+                logger.info("Ignoring " + imagePath + " as it is not a warm start image");
+                return Optional.empty();
+            }
+            long size = image.getLong();
+            long modifiedTime = image.getLong();
+            byte[] hash = new byte[Short.toUnsignedInt(image.getShort())];
+            image.get(hash);
+            if (size != Files.size(dataFilePath)
+                    || modifiedTime != Files.getLastModifiedTime(dataFilePath).toMillis()
+                    || !Arrays.equals(hash, hash(dataFilePath))) {
+                logger.info("Ignoring " + imagePath + " as " + dataFilePath + " has changed since it was taken");
+                return Optional.empty();
+            }
+            return Optional.of(BinaryAddressBookStorage.read(image));
+        } catch (IOException | BufferUnderflowException | DataLoadingException e) {
+            logger.warning("Ignoring unreadable warm start image " + imagePath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as the image of the data file at {@code dataFilePath}, which must hold the same
+     * address book.
+     */
+    static void save(ReadOnlyAddressBook addressBook, Path dataFilePath) throws IOException {
+        Path imagePath = getPath(dataFilePath);
+        long size = Files.size(dataFilePath);
+        long modifiedTime = Files.getLastModifiedTime(dataFilePath).toMillis();
+        byte[] hash = hash(dataFilePath);
+
+        FileUtil.createIfMissing(imagePath);
+        try (OutputStream fileStream = Files.newOutputStream(imagePath);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileStream))) {
+            out.writeInt(MAGIC);
+            out.writeLong(size);
+            out.writeLong(modifiedTime);
+            out.writeShort(hash.length);
+            out.write(hash);
+            BinaryAddressBookStorage.write(addressBook, out);
+        }
+    }
+
+    /**
+     * Deletes the image of the data file at {@code dataFilePath}, if there is one.
+     */
+    static void delete(Path dataFilePath) throws IOException {
+        Files.deleteIfExists(getPath(dataFilePath));
+    }
+
+    /**
+     * Returns the hash of the file at {@code filePath}, reading it a block at a time.
+     */
+    private static byte[] hash(Path filePath) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports " + HASH_ALGORITHM, e);
+        }
+        byte[] block = new byte[HASH_BLOCK_SIZE];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            for (int read = in.read(block); read != -1; read = in.read(block)) {
+                digest.update(block, 0, read);
+            }
+        }
+        return digest.digest();
+    }
+}
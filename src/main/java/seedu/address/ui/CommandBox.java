@@ -1,12 +1,15 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -17,16 +20,23 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final Runnable commandCanceller;
+    private int runningCommandCount = 0;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * {@code commandCanceller} is run when the user presses Esc while a command is running.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, Runnable commandCanceller) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCanceller = commandCanceller;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2,
                                                      unused3) -> setStyleToDefault());
@@ -34,6 +44,7 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command runs in the background, so the user can keep typing while it runs.
      */
     @FXML
     private void handleCommandEntered() {
@@ -42,14 +53,42 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        setRunningCommandCount(runningCommandCount + 1);
+        commandExecutor.execute(commandText).whenComplete((result, error) -> {
+            setRunningCommandCount(runningCommandCount - 1);
+            if (!commandTextField.getText().equals(commandText)) {
+                // the user has moved on to another command
+                return;
+            }
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Handles the Esc button pressed event by cancelling the running command, if any.
+     */
+    @FXML
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() == KeyCode.ESCAPE && runningCommandCount > 0) {
+            commandCanceller.run();
+            event.consume();
         }
     }
 
+    /**
+     * Updates the number of submitted commands that have not completed, showing the busy indicator while there
+     * are any.
+     */
+    private void setRunningCommandCount(int count) {
+        assert count >= 0 : "Running command count should not be negative";
+        runningCommandCount = count;
+        busyIndicator.setVisible(count > 0);
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -76,11 +115,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns a future that is completed on the UI thread with the result,
+         * or exceptionally if the command fails.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.AsyncCommandExecutor#submit(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
@@ -3,6 +3,7 @@ package seedu.address.ui;
 import static java.util.Objects.requireNonNull;
 
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.Region;
 
@@ -16,6 +17,9 @@ public class ResultDisplay extends UiPart<Region> {
     @FXML
     private TextArea resultDisplay;
 
+    @FXML
+    private ProgressBar progressBar;
+
     public ResultDisplay() {
         super(FXML);
     }
@@ -25,4 +29,13 @@ public class ResultDisplay extends UiPart<Region> {
         resultDisplay.setText(feedbackToUser);
     }
 
+    /**
+     * Shows the progress of the running command as a fraction between 0 and 1, or hides the progress bar if
+     * {@code progress} is negative.
+     */
+    public void setProgress(double progress) {
+        progressBar.setVisible(progress >= 0);
+        progressBar.setProgress(Math.max(progress, 0));
+    }
+
 }
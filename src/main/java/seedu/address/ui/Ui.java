@@ -1,6 +1,9 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.stage.Stage;
+import seedu.address.model.person.Occurrence;
 
 /**
  * API of UI component
@@ -10,4 +13,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows a reminder of {@code sessions}, which are about to start. Must be called on the UI thread. */
+    void showReminders(List<Occurrence> sessions);
+
 }
@@ -1,6 +1,8 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.application.Platform;
 import javafx.scene.control.Alert;
@@ -10,7 +12,11 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AsyncCommandExecutor;
 import seedu.address.logic.Logic;
+import seedu.address.model.person.Occurrence;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.model.util.LocalDateUtils;
 
 /**
  * The manager of the UI component.
@@ -21,15 +27,23 @@ public class UiManager implements Ui {
 
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
+    private static final String REMINDER_TITLE = "Upcoming sessions";
+    private static final String REMINDER_HEADER = "Starting soon (%1$d):";
 
     private Logic logic;
+    private AsyncCommandExecutor commandExecutor;
+    private String startupMessage;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, which runs commands through
+     * {@code commandExecutor}. {@code startupMessage} is shown in the result display once the window opens, unless
+     * it is empty.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, AsyncCommandExecutor commandExecutor, String startupMessage) {
         this.logic = logic;
+        this.commandExecutor = commandExecutor;
+        this.startupMessage = startupMessage;
     }
 
     @Override
@@ -40,9 +54,12 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandExecutor);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            if (!startupMessage.isEmpty()) {
+                mainWindow.showFeedback(startupMessage);
+            }
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -50,6 +67,21 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showReminders(List<Occurrence> sessions) {
+        if (mainWindow == null) {
+            return;
+        }
+        String sessionList = sessions.stream()
+                .map(session -> LocalDateUtils.toString(session.getDate()) + " "
+                        + new TimeSlot(session.getStartMinute(), session.getEndMinute()) + " "
+                        + session.getPerson().getName().fullName)
+                .collect(Collectors.joining("\n"));
+        // not waited on, so that reminders do not block the window
+        createAlert(mainWindow.getPrimaryStage(), AlertType.INFORMATION, REMINDER_TITLE,
+                String.format(REMINDER_HEADER, sessions.size()), sessionList).show();
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -64,6 +96,14 @@ public class UiManager implements Ui {
      */
     private static void showAlertDialogAndWait(Stage owner, AlertType type, String title, String headerText,
                                                String contentText) {
+        createAlert(owner, type, title, headerText, contentText).showAndWait();
+    }
+
+    /**
+     * Returns an alert dialog on {@code owner} with the given parameters, which is not shown yet.
+     */
+    private static Alert createAlert(Stage owner, AlertType type, String title, String headerText,
+                                     String contentText) {
         final Alert alert = new Alert(type);
         alert.getDialogPane().getStylesheets().add("view/DarkTheme.css");
         alert.initOwner(owner);
@@ -71,7 +111,7 @@ public class UiManager implements Ui {
         alert.setHeaderText(headerText);
         alert.setContentText(contentText);
         alert.getDialogPane().setId(ALERT_DIALOG_PANE_FIELD_ID);
-        alert.showAndWait();
+        return alert;
     }
 
     /**
@@ -1,13 +1,30 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.testutil.TestUtil;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +37,59 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void isCompressed() {
+        assertTrue(FileUtil.isCompressed(Paths.get("data", "addressbook.json.gz")));
+        assertFalse(FileUtil.isCompressed(Paths.get("data", "addressbook.json")));
+        assertFalse(FileUtil.isCompressed(Paths.get("data.gz", "addressbook.json")));
+    }
+
+    @Test
+    public void newOutputStream_compressedFile_readBackByNewInputStream() throws Exception {
+        Path file = TestUtil.getFilePathInSandboxFolder("compressed.txt.gz");
+        FileUtil.createIfMissing(file);
+        byte[] content = "FitFlow ".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        try (OutputStream out = FileUtil.newOutputStream(file)) {
+            out.write(content);
+        }
+
+        assertTrue(Files.size(file) < content.length);
+        try (InputStream in = FileUtil.newInputStream(file)) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void writeAtomically_compressedFile_readBackByNewInputStream() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("compressed.txt.gz");
+        byte[] content = "FitFlow ".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeAtomically(file, out -> out.write(content));
+
+        assertTrue(Files.size(file) < content.length);
+        try (InputStream in = FileUtil.newInputStream(file)) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+        assertEquals(1, countFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeAtomically_failedWrite_fileUntouched() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("new".getBytes(StandardCharsets.UTF_8));
+            throw new IOException();
+        }));
+
+        assertEquals("old contents", FileUtil.readFromFile(file));
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
 }
@@ -0,0 +1,110 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String>().intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsSameInstance() {
+        Interner<String> interner = new Interner<>();
+        String first = new String("diabetic");
+        String second = new String("diabetic");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_returnsDistinctInstances() {
+        Interner<String> interner = new Interner<>();
+        assertNotSame(interner.intern("friends"), interner.intern("family"));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_concurrentEqualValues_returnsSameInstance() throws Exception {
+        int threadCount = 8;
+        int valueCount = 1000;
+        Interner<String> interner = new Interner<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<String>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    List<String> interned = new ArrayList<>();
+                    for (int j = 0; j < valueCount; j++) {
+                        interned.add(interner.intern(new String("tag" + j)));
+                    }
+                    return interned;
+                }));
+            }
+            start.countDown();
+
+            List<String> first = results.get(0).get();
+            for (Future<List<String>> result : results) {
+                List<String> interned = result.get();
+                for (int j = 0; j < valueCount; j++) {
+                    assertSame(first.get(j), interned.get(j));
+                }
+            }
+            assertEquals(valueCount, interner.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void intern_manyEqualValues_onlyCanonicalInstancesRetained() {
+        Interner<String> interner = new Interner<>();
+        List<String> held = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            held.add(interner.intern(new String("client" + i % 10)));
+        }
+
+        Set<String> distinctInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinctInstances.addAll(held);
+        assertEquals(10, distinctInstances.size());
+        assertEquals(10, interner.size());
+    }
+
+    @Test
+    public void intern_unreferencedValues_dropped() throws Exception {
+        Interner<String> interner = new Interner<>();
+        for (int i = 0; i < 1000; i++) {
+            interner.intern(new String("unreferenced" + i));
+        }
+
+        // collection is only requested, so it is retried until the entries are gone or the attempts run out
+        for (int attempt = 0; attempt < 50 && interner.size() > 0; attempt++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertTrue(interner.size() < 1000);
+    }
+
+}
@@ -7,6 +7,8 @@ import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +41,15 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonTree_multiByteCharacters_decodedAsUtf8() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"name\": \"Zoë Ñúñez 张伟\"}");
+
+        JsonNode tree = JsonUtil.readJsonTree(SERIALIZATION_FILE).get();
+
+        assertEquals("Zoë Ñúñez 张伟", tree.get("name").asText());
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
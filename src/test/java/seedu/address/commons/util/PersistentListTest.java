@@ -0,0 +1,83 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.of(null));
+    }
+
+    @Test
+    public void empty() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertEquals(List.of(), list.toList());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(0));
+    }
+
+    @Test
+    public void updates_leaveOlderVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+
+        PersistentList<String> replaced = original.set(1, "x");
+        PersistentList<String> appended = original.add("d");
+        PersistentList<String> inserted = original.add(0, "z");
+        PersistentList<String> removed = original.remove(2);
+
+        assertEquals(List.of("a", "b", "c"), original.toList());
+        assertEquals(List.of("a", "x", "c"), replaced.toList());
+        assertEquals(List.of("a", "b", "c", "d"), appended.toList());
+        assertEquals(List.of("z", "a", "b", "c"), inserted.toList());
+        assertEquals(List.of("a", "b"), removed.toList());
+        assertThrows(IndexOutOfBoundsException.class, () -> original.add(5, "y"));
+    }
+
+    @Test
+    public void updates_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 5_000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+        }
+        assertEquals(expected, actual.toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void depth_manyAppends_staysLogarithmic() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 1 << 16; i++) {
+            list = list.add(i);
+        }
+        // an AVL tree is at most about 1.44 log2(n) high
+        assertTrue(list.depth() <= 24);
+    }
+}
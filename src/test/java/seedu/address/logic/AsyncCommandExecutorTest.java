@@ -0,0 +1,256 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandCancelledException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class AsyncCommandExecutorTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final String ADD_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    /** Tasks posted to the UI thread, which the tests run themselves to stand in for the JavaFX thread. */
+    private final BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+
+    private Model model;
+    private Logic logic;
+    private AsyncCommandExecutor commandExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+        commandExecutor = new AsyncCommandExecutor(logic, uiTasks::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commandExecutor.shutdown();
+    }
+
+    @Test
+    public void constructor_displaysFilteredPersonList() {
+        assertEquals(model.getFilteredPersonList(), commandExecutor.getDisplayedPersonList());
+    }
+
+    @Test
+    public void submit_validCommand_completesOnUiThread() throws Exception {
+        CompletableFuture<CommandResult> future = commandExecutor.submit(ListCommand.COMMAND_WORD);
+
+        Runnable uiTask = uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(uiTask);
+        assertFalse(future.isDone());
+
+        uiTask.run();
+        assertEquals(new CommandResult(ListCommand.MESSAGE_SUCCESS), future.get(0, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void submit_invalidCommand_completesExceptionally() throws Exception {
+        CompletableFuture<CommandResult> future = commandExecutor.submit("uicfhmowqewca");
+        runNextUiTask();
+
+        ExecutionException thrown = null;
+        try {
+            future.get(0, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            thrown = e;
+        }
+        assertNotNull(thrown);
+        assertTrue(thrown.getCause() instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, thrown.getCause().getMessage());
+    }
+
+    @Test
+    public void submit_afterShutdown_completesExceptionally() {
+        commandExecutor.shutdown();
+        CompletableFuture<CommandResult> future = commandExecutor.submit(ListCommand.COMMAND_WORD);
+
+        assertTrue(future.isCompletedExceptionally());
+        assertTrue(uiTasks.isEmpty());
+    }
+
+    @Test
+    public void submit_multipleCommands_runInSubmissionOrder() throws Exception {
+        CompletableFuture<CommandResult> firstDelete = commandExecutor.submit(DeleteCommand.COMMAND_WORD + " 1");
+        CompletableFuture<CommandResult> secondDelete = commandExecutor.submit(DeleteCommand.COMMAND_WORD + " 1");
+        runNextUiTask();
+        runNextUiTask();
+
+        assertTrue(firstDelete.get(0, TimeUnit.SECONDS).getFeedbackToUser().contains(ALICE.getName().fullName));
+        assertTrue(secondDelete.get(0, TimeUnit.SECONDS).getFeedbackToUser().contains(BENSON.getName().fullName));
+    }
+
+    @Test
+    public void submit_modelChanged_displayedListUpdatedInSingleChange() throws Exception {
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        commandExecutor.getDisplayedPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        commandExecutor.submit(DeleteCommand.COMMAND_WORD + " 1");
+        Runnable uiTask = uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(uiTask);
+
+        // the model has changed, but the displayed list only changes on the UI thread
+        assertFalse(model.getFilteredPersonList().contains(ALICE));
+        assertTrue(commandExecutor.getDisplayedPersonList().contains(ALICE));
+
+        uiTask.run();
+        assertEquals(model.getFilteredPersonList(), commandExecutor.getDisplayedPersonList());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void reloadAddressBook_dataFileChanged_displayedListUpdated() throws Exception {
+        AddressBook changed = getTypicalAddressBook();
+        changed.removePerson(ALICE);
+        new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")).saveAddressBook(changed);
+
+        commandExecutor.reloadAddressBook();
+        runNextUiTask();
+        assertEquals(changed, model.getAddressBook());
+        assertEquals(model.getFilteredPersonList(), commandExecutor.getDisplayedPersonList());
+    }
+
+    @Test
+    public void submit_scatteredChanges_onlyChangedRunsUpdated() throws Exception {
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        commandExecutor.getDisplayedPersonList().addListener((ListChangeListener<Person>) changes::add);
+        model.deletePerson(BENSON);
+        model.setPerson(DANIEL, new PersonBuilder(DANIEL).withPhone("99999999").build());
+        model.deletePerson(FIONA);
+        model.addPerson(AMY);
+
+        commandExecutor.submit(ListCommand.COMMAND_WORD);
+        runNextUiTask();
+        assertEquals(model.getFilteredPersonList(), commandExecutor.getDisplayedPersonList());
+        assertEquals(1, changes.size());
+
+        // each changed run is its own part of the change, and the persons in between are left alone
+        ListChangeListener.Change<? extends Person> change = changes.get(0);
+        List<Person> removed = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        while (change.next()) {
+            removed.addAll(change.getRemoved());
+            added.addAll(change.getAddedSubList());
+        }
+        assertEquals(List.of(BENSON, DANIEL, FIONA), removed);
+        assertEquals(List.of(model.getFilteredPersonList().get(2), AMY), added);
+    }
+
+    @Test
+    public void cancelRunningCommand_noRunningCommand_returnsFalse() {
+        assertFalse(commandExecutor.cancelRunningCommand());
+    }
+
+    @Test
+    public void submit_commandReportsProgress_progressPublishedOnUiThread() throws Exception {
+        List<Double> progressValues = new ArrayList<>();
+        commandExecutor.progressProperty().addListener((unused, oldValue, newValue) ->
+                progressValues.add(newValue.doubleValue()));
+
+        CompletableFuture<CommandResult> future = commandExecutor.submit(ADD_COMMAND);
+        while (!future.isDone()) {
+            runNextUiTask();
+        }
+
+        assertFalse(progressValues.isEmpty());
+        assertEquals(1.0, (double) progressValues.get(progressValues.size() - 2));
+        assertEquals(AsyncCommandExecutor.NO_PROGRESS, commandExecutor.progressProperty().get());
+        assertTrue(future.get(0, TimeUnit.SECONDS).getFeedbackToUser().contains(AMY.getName().fullName));
+    }
+
+    @Test
+    public void cancelRunningCommand_commandChecksCancellation_completesWithCancelledException() throws Exception {
+        // holds the command thread at its first progress report until the command has been cancelled
+        CountDownLatch firstReport = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        commandExecutor.shutdown();
+        commandExecutor = new AsyncCommandExecutor(logic, task -> {
+            if (firstReport.getCount() > 0) {
+                firstReport.countDown();
+                awaitUninterruptibly(resume);
+            }
+            uiTasks.add(task);
+        });
+
+        CompletableFuture<CommandResult> future = commandExecutor.submit(ADD_COMMAND);
+        assertTrue(firstReport.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(commandExecutor.cancelRunningCommand());
+        resume.countDown();
+        while (!future.isDone()) {
+            runNextUiTask();
+        }
+
+        ExecutionException thrown = null;
+        try {
+            future.get(0, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            thrown = e;
+        }
+        assertNotNull(thrown);
+        assertTrue(thrown.getCause() instanceof CommandCancelledException);
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runNextUiTask() throws InterruptedException {
+        Runnable uiTask = uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(uiTask);
+        uiTask.run();
+    }
+}
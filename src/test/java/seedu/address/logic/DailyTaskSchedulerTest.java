@@ -0,0 +1,32 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class DailyTaskSchedulerTest {
+
+    @Test
+    public void getDelayUntilNextRun_untilShortlyAfterNextMidnight() {
+        assertEquals(Duration.ofHours(1).plus(DailyTaskScheduler.AFTER_MIDNIGHT),
+                DailyTaskScheduler.getDelayUntilNextRun(LocalDateTime.of(2025, 3, 1, 23, 0)));
+        assertEquals(Duration.ofDays(1),
+                DailyTaskScheduler.getDelayUntilNextRun(LocalDateTime.of(2025, 3, 1, 0, 0)
+                        .plus(DailyTaskScheduler.AFTER_MIDNIGHT)));
+    }
+
+    @Test
+    public void start_taskRunOnceRightAway() throws Exception {
+        CountDownLatch ran = new CountDownLatch(1);
+        try (DailyTaskScheduler scheduler = DailyTaskScheduler.start(ran::countDown, Clock.systemDefaultZone())) {
+            assertTrue(ran.await(5, TimeUnit.SECONDS));
+        }
+    }
+}
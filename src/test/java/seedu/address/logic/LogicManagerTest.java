@@ -1,19 +1,25 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.logic.Messages.MESSAGE_NO_PERSON_TO_DISPLAY;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.GOALS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.LOCATION_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.MEDICAL_HISTORY_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,15 +28,19 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ProgressMonitor;
+import seedu.address.logic.commands.exceptions.CommandCancelledException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.OneTimeSchedule;
 import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SessionHistoryStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
 
@@ -83,6 +93,101 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandCancelled_throwsCommandCancelledExceptionAndSavesNothing() {
+        model.addPerson(AMY);
+        model.commitAddressBook();
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        ProgressMonitor cancelledMonitor = new ProgressMonitor() {
+            @Override
+            public void reportProgress(int workDone, int totalWork) {
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return true;
+            }
+        };
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB;
+        assertThrows(CommandCancelledException.class, CommandCancelledException.MESSAGE_COMMAND_CANCELLED, () ->
+                logic.execute(addCommand, cancelledMonitor));
+        assertEquals(expectedModel, model);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void archiveInactivePersons_inactivePersons_archivedAndSaved() throws Exception {
+        Person inactivePerson = new PersonBuilder().withName("Inactive").withPhone("91111111")
+                .withOneTimeSchedules("01/01/25 1000 1200").build();
+        Person activePerson = new PersonBuilder().withName("Active").withPhone("92222222")
+                .withOneTimeSchedules("01/01/25 1000 1200", "01/11/25 1000 1200").build();
+        Person personWithoutSessions = new PersonBuilder().withName("New").withPhone("93333333").build();
+        model.addPerson(inactivePerson);
+        model.addPerson(activePerson);
+        model.addPerson(personWithoutSessions);
+        model.commitAddressBook();
+
+        // not archiving automatically
+        assertEquals(0, logic.archiveInactivePersons(LocalDate.of(2025, 12, 1)));
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.archive.json")));
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setArchiveAfterMonths(6);
+        model.setUserPrefs(userPrefs);
+        assertEquals(1, logic.archiveInactivePersons(LocalDate.of(2025, 12, 1)));
+
+        assertEquals(Arrays.asList(activePerson, personWithoutSessions), model.getAddressBook().getPersonList());
+        JsonAddressBookStorage archiveStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.archive.json"));
+        assertEquals(Arrays.asList(inactivePerson), archiveStorage.readAddressBook().get().getPersonList());
+        assertEquals(Arrays.asList(activePerson, personWithoutSessions), new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")).readAddressBook().get().getPersonList());
+        assertFalse(model.getUnsavedArchivedPersons().isPresent());
+    }
+
+    @Test
+    public void expirePastSessions_pastSessions_movedToHistoryAndSaved() throws Exception {
+        Person person = new PersonBuilder().withName("Regular").withPhone("91111111").withRecurringSchedules()
+                .withOneTimeSchedules("01/01/25 1000 1200", "01/02/25 1000 1200", "01/03/25 1000 1200").build();
+        model.addPerson(person);
+        model.commitAddressBook();
+
+        assertEquals(2, logic.expirePastSessions(LocalDate.of(2025, 3, 1)));
+
+        Person expectedPerson = new PersonBuilder(person).withOneTimeSchedules("01/03/25 1000 1200").build();
+        assertEquals(Arrays.asList(expectedPerson), model.getAddressBook().getPersonList());
+        assertEquals(Arrays.asList(expectedPerson), new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")).readAddressBook().get().getPersonList());
+        SessionHistoryStorage historyStorage =
+                new SessionHistoryStorage(temporaryFolder.resolve("addressBook.history"));
+        assertEquals(Arrays.asList(new OneTimeSchedule("01/01/25 1000 1200"),
+                new OneTimeSchedule("01/02/25 1000 1200")), historyStorage.readSessions(person.getName()));
+
+        // the move cannot be undone, and undoing and redoing other changes keeps it
+        model.undoAddressBook();
+        assertFalse(model.canUndoAddressBook());
+        assertEquals(Arrays.asList(), model.getAddressBook().getPersonList());
+        model.redoAddressBook();
+        assertEquals(Arrays.asList(expectedPerson), model.getAddressBook().getPersonList());
+
+        // nothing left to move
+        assertEquals(0, logic.expirePastSessions(LocalDate.of(2025, 3, 1)));
+    }
+
+    @Test
+    public void expirePastSessions_historyNotWritable_addressBookUnchanged() throws Exception {
+        Person person = new PersonBuilder().withName("Regular").withPhone("91111111").withRecurringSchedules()
+                .withOneTimeSchedules("01/01/25 1000 1200", "01/03/25 1000 1200").build();
+        model.addPerson(person);
+        model.commitAddressBook();
+        // a file where the folder of past sessions should be
+        Files.createFile(temporaryFolder.resolve("addressBook.history"));
+
+        assertThrows(CommandException.class, () -> logic.expirePastSessions(LocalDate.of(2025, 3, 1)));
+        assertEquals(Arrays.asList(person), model.getAddressBook().getPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -0,0 +1,104 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Occurrence;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ReminderServiceTest {
+
+    private static final LocalDateTime MONDAY_NOON = LocalDateTime.of(2025, 3, 10, 12, 0);
+
+    private static final Person MONDAY_AFTERNOON = new PersonBuilder().withName("Monday Afternoon")
+            .withRecurringSchedules("Monday 1400 1600").withOneTimeSchedules().build();
+    private static final Person MONDAY_EVENING = new PersonBuilder().withName("Monday Evening")
+            .withRecurringSchedules().withOneTimeSchedules("10/03/25 1800 1900").build();
+
+    @Test
+    public void getDelayUntilNextTick_untilStartOfNextMinute() {
+        assertEquals(Duration.ofSeconds(30), ReminderService.getDelayUntilNextTick(MONDAY_NOON.withSecond(30)));
+        assertEquals(ReminderService.TICK, ReminderService.getDelayUntilNextTick(MONDAY_NOON));
+    }
+
+    @Test
+    public void tick_personListChanged_changesApplied() {
+        ModelManager model = new ModelManager();
+        model.addPerson(MONDAY_AFTERNOON);
+        model.commitAddressBook();
+        SettableClock clock = new SettableClock(MONDAY_NOON);
+        List<Occurrence> raised = new ArrayList<>();
+
+        try (ReminderService service = new ReminderService(model::getAddressBookSnapshot, 15, clock)) {
+            model.addPerson(MONDAY_EVENING);
+            model.deletePerson(MONDAY_AFTERNOON);
+            model.commitAddressBook();
+
+            clock.set(MONDAY_NOON.withHour(13).withMinute(45));
+            service.tick(raised::addAll);
+            assertEquals(List.of(), raised);
+
+            clock.set(MONDAY_NOON.withHour(17).withMinute(45));
+            service.tick(raised::addAll);
+            assertEquals(1, raised.size());
+            assertEquals(MONDAY_EVENING, raised.get(0).getPerson());
+        }
+    }
+
+    @Test
+    public void tick_uncommittedChanges_notApplied() {
+        ModelManager model = new ModelManager();
+        SettableClock clock = new SettableClock(MONDAY_NOON);
+        List<Occurrence> raised = new ArrayList<>();
+
+        try (ReminderService service = new ReminderService(model::getAddressBookSnapshot, 15, clock)) {
+            service.tick(raised::addAll);
+            model.addPerson(MONDAY_AFTERNOON);
+
+            clock.set(MONDAY_NOON.withHour(13).withMinute(45));
+            service.tick(raised::addAll);
+            assertEquals(List.of(), raised);
+        }
+    }
+
+    /**
+     * A clock in the system's time zone that is at the time it was last set to.
+     */
+    private static class SettableClock extends Clock {
+        private Instant instant;
+
+        SettableClock(LocalDateTime time) {
+            set(time);
+        }
+
+        void set(LocalDateTime time) {
+            instant = time.atZone(getZone()).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
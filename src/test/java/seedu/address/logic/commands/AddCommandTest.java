@@ -8,9 +8,17 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import org.junit.jupiter.api.Test;
 
@@ -18,12 +26,21 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandCancelledException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.CapacityLimits;
+import seedu.address.model.person.CapacityViolation;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Occurrence;
+import seedu.address.model.person.OneTimeSchedule;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.ScheduleOccupancy;
+import seedu.address.model.person.TimeSlot;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -94,14 +111,14 @@ public class AddCommandTest {
         Person existingPerson = new PersonBuilder()
                 .withName("Existing Person")
                 .withPhone("91234567")
-                .withOneTimeSchedules("31/03 1000 1200")
+                .withOneTimeSchedules("31/03/99 1000 1200")
                 .build();
         modelStub.addPerson(existingPerson);
 
         Person newPerson = new PersonBuilder()
                 .withName("New Person")
                 .withPhone("87654321")
-                .withOneTimeSchedules("31/03 1100 1300")
+                .withOneTimeSchedules("31/03/99 1100 1300")
                 .build();
 
         CommandResult commandResult = new AddCommand(newPerson).execute(modelStub);
@@ -110,6 +127,34 @@ public class AddCommandTest {
         assertTrue(commandResult.getFeedbackToUser().contains("schedule conflicts"));
     }
 
+    @Test
+    public void execute_cancelledWhileNamingViolations_personNotAdded() {
+        ModelStubAcceptingPersonAdded modelStub = new ModelStubAcceptingPersonAdded();
+        modelStub.addPerson(new PersonBuilder().withName("Existing Person").withPhone("91234567")
+                .withOneTimeSchedules("31/03/99 1000 1200", "01/04/99 1000 1200").build());
+        Person newPerson = new PersonBuilder().withName("New Person").withPhone("87654321")
+                .withOneTimeSchedules("31/03/99 1100 1300", "01/04/99 1100 1300").build();
+
+        // cancels once the first violation has been named
+        List<Integer> workDone = new ArrayList<>();
+        ProgressMonitor monitor = new ProgressMonitor() {
+            @Override
+            public void reportProgress(int done, int totalWork) {
+                assertEquals(3, totalWork);
+                workDone.add(done);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return workDone.size() == 2;
+            }
+        };
+
+        assertThrows(CommandCancelledException.class, () -> new AddCommand(newPerson).execute(modelStub, monitor));
+        assertEquals(List.of(1, 2), workDone);
+        assertFalse(modelStub.personsAdded.contains(newPerson));
+    }
+
     @Test
     public void execute_personWithConflictingRecurringAndOneTimeSchedule_addsPersonWithWarning() throws Exception {
         ModelStubAcceptingPersonAdded modelStub = new ModelStubAcceptingPersonAdded();
@@ -124,7 +169,7 @@ public class AddCommandTest {
         Person newPerson = new PersonBuilder()
                 .withName("New Person")
                 .withPhone("87654321")
-                .withOneTimeSchedules("31/03 1100 1300")
+                .withOneTimeSchedules("31/03/99 1100 1300")
                 .build();
 
         CommandResult commandResult = new AddCommand(newPerson).execute(modelStub);
@@ -220,7 +265,8 @@ public class AddCommandTest {
         assertTrue(commandResult.getFeedbackToUser().contains("schedule conflicts"));
         // Should contain both internal and external conflict messages
         assertTrue(commandResult.getFeedbackToUser().contains("Internal recurring schedule conflict"));
-        assertTrue(commandResult.getFeedbackToUser().contains("Recurring schedule conflict on MONDAY between"));
+        assertTrue(commandResult.getFeedbackToUser().contains(
+                "Over capacity every Monday 1500-1600: 2 sessions at once, capacity 1, with Existing Person"));
     }
 
     @Test
@@ -303,6 +349,81 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int mergeAddressBook(ReadOnlyAddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyAddressBook getArchivedPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void archivePersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unarchivePerson(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> getUnsavedArchivedPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markArchivedPersonsSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Name, List<OneTimeSchedule>> removeOneTimeSchedulesBefore(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<OneTimeSchedule> getPastOneTimeSchedules(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<TimeSlot> findFreeSlots(LocalDate date, TimeSlot window, int minMinutes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<TimeSlot> findFreeSlots(DayOfWeek day, TimeSlot window, int minMinutes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Iterator<Occurrence> getOccurrences(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<CapacityViolation> findCapacityViolations(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<CapacityViolation> findCapacityViolations(Person target, Person editedPerson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Occurrence> getUpcomingSessions(int n, LocalDateTime now) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -332,6 +453,41 @@ public class AddCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rebaseAddressBook(UnaryOperator<Person> change) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -382,6 +538,11 @@ public class AddCommandTest {
             personsAdded.add(person);
         }
 
+        @Override
+        public void commitAddressBook() {
+            // called by {@code AddCommand#execute()}
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             // Create an address book with the current list of persons
@@ -392,6 +553,13 @@ public class AddCommandTest {
             return addressBook;
         }
 
+        @Override
+        public List<CapacityViolation> findCapacityViolations(Person person) {
+            requireNonNull(person);
+            return ScheduleOccupancy.of(personsAdded)
+                    .findCapacityViolations(person, null, CapacityLimits.ONE_AT_A_TIME, LocalDate.now());
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             return FXCollections.observableArrayList(personsAdded);
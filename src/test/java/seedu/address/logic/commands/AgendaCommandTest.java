@@ -0,0 +1,150 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandCancelledException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Occurrence;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code AgendaCommand}.
+ */
+public class AgendaCommandTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 10);
+    private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+    private static final LocalDate WEDNESDAY = MONDAY.plusDays(2);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_rangeEndsBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AgendaCommand(TUESDAY, MONDAY));
+    }
+
+    @Test
+    public void execute_sessionsInRange_listedDayByDay() {
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_AGENDA, "Monday 10/03/25", "Wednesday 12/03/25",
+                5, "\n\nMonday 10/03/25\n"
+                        + "1400-1600 Alice Pauline\n"
+                        + "1400-1600 Benson Meier\n"
+                        + "1400-1600 Carl Kurz\n"
+                        + "1800-2000 Fiona Kunz\n\n"
+                        + "Wednesday 12/03/25\n"
+                        + "1500-1700 Alice Pauline");
+        assertCommandSuccess(new AgendaCommand(MONDAY, WEDNESDAY), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_moreSessionsThanListed_restCounted() throws Exception {
+        // the typical persons hold four weekly sessions, so a year of them is more than can be listed
+        LocalDate to = MONDAY.plusYears(1);
+        int sessionCount = 0;
+        Iterator<Occurrence> occurrences = model.getOccurrences(MONDAY, to);
+        while (occurrences.hasNext()) {
+            occurrences.next();
+            sessionCount++;
+        }
+        assertTrue(sessionCount > AgendaCommand.MAX_SESSIONS_LISTED);
+
+        String feedback = new AgendaCommand(MONDAY, to).execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(AgendaCommand.MESSAGE_AGENDA, "Monday 10/03/25",
+                "Tuesday 10/03/26", sessionCount, "")));
+        assertTrue(feedback.endsWith(String.format(AgendaCommand.MESSAGE_MORE_SESSIONS,
+                sessionCount - AgendaCommand.MAX_SESSIONS_LISTED)));
+        long listedCount = feedback.lines().filter(line -> line.matches("\\d{4}-\\d{4} .*")).count();
+        assertEquals(AgendaCommand.MAX_SESSIONS_LISTED, listedCount);
+    }
+
+    @Test
+    public void execute_cancelledWhileExpanding_throwsCommandCancelledException() {
+        // cancels once the first date has been reported
+        List<Integer> workDone = new ArrayList<>();
+        ProgressMonitor monitor = new ProgressMonitor() {
+            @Override
+            public void reportProgress(int done, int totalWork) {
+                workDone.add(done);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return !workDone.isEmpty();
+            }
+        };
+
+        assertThrows(CommandCancelledException.class, () ->
+                new AgendaCommand(MONDAY, MONDAY.plusYears(1)).execute(model, monitor));
+        assertEquals(List.of(0), workDone);
+    }
+
+    @Test
+    public void execute_sessionsInRange_progressReportedByDate() throws Exception {
+        List<Integer> workDone = new ArrayList<>();
+        ProgressMonitor monitor = new ProgressMonitor() {
+            @Override
+            public void reportProgress(int done, int totalWork) {
+                assertEquals(3, totalWork);
+                workDone.add(done);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+        };
+
+        new AgendaCommand(MONDAY, WEDNESDAY).execute(model, monitor);
+        assertEquals(List.of(0, 2, 3), workDone);
+    }
+
+    @Test
+    public void execute_noSessionsInRange_success() {
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_NO_SESSIONS, "Tuesday 11/03/25",
+                "Tuesday 11/03/25");
+        assertCommandSuccess(new AgendaCommand(TUESDAY, TUESDAY), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        AgendaCommand agendaCommand = new AgendaCommand(MONDAY, WEDNESDAY);
+
+        // same object -> returns true
+        assertTrue(agendaCommand.equals(agendaCommand));
+
+        // same values -> returns true
+        assertTrue(agendaCommand.equals(new AgendaCommand(MONDAY, WEDNESDAY)));
+
+        // different types -> returns false
+        assertFalse(agendaCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(agendaCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(agendaCommand.equals(new AgendaCommand(TUESDAY, WEDNESDAY)));
+        assertFalse(agendaCommand.equals(new AgendaCommand(MONDAY, TUESDAY)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        AgendaCommand agendaCommand = new AgendaCommand(MONDAY, WEDNESDAY);
+        String expected = AgendaCommand.class.getCanonicalName() + "{from=" + MONDAY + ", to=" + WEDNESDAY + "}";
+        assertEquals(expected, agendaCommand.toString());
+    }
+}
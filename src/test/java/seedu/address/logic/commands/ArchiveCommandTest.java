@@ -0,0 +1,113 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code ArchiveCommand}.
+ */
+public class ArchiveCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validIndex_success() throws Exception {
+        Person personToArchive = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        ArchiveCommand archiveCommand = new ArchiveCommand(INDEX_FIRST_PERSON);
+
+        String expectedMessage = String.format(ArchiveCommand.MESSAGE_ARCHIVE_PERSON_SUCCESS,
+                Messages.format(personToArchive));
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.archivePersons(List.of(personToArchive));
+
+        assertCommandSuccess(archiveCommand, model, expectedMessage, expectedModel);
+        assertEquals(List.of(personToArchive), model.getArchivedPersons().getPersonList());
+        assertTrue(model.getUnsavedArchivedPersons().isPresent());
+    }
+
+    @Test
+    public void execute_validIndex_cannotBeUndone() throws Exception {
+        model.deletePerson(model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased()));
+        model.commitAddressBook();
+        Person personToArchive = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+
+        CommandResult result = new ArchiveCommand(INDEX_FIRST_PERSON).execute(model);
+
+        // the user is told that the earlier deletion can no longer be undone
+        assertEquals(String.format(ArchiveCommand.MESSAGE_ARCHIVE_PERSON_SUCCESS, Messages.format(personToArchive))
+                + Messages.MESSAGE_UNDO_HISTORY_CLEARED, result.getFeedbackToUser());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        ArchiveCommand archiveCommand = new ArchiveCommand(outOfBoundIndex);
+
+        assertCommandFailure(archiveCommand, model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX + "\n"
+                        + ArchiveCommand.MESSAGE_USAGE);
+    }
+
+    @Test
+    public void execute_unreadableArchive_throwsCommandException() {
+        Model modelWithUnreadableArchive = new ModelManager(getTypicalAddressBook(), new UserPrefs(), () -> {
+            throw new DataLoadingException(new Exception("corrupted"));
+        });
+        Person personToArchive = modelWithUnreadableArchive.getFilteredPersonList()
+                .get(INDEX_FIRST_PERSON.getZeroBased());
+
+        assertCommandFailure(new ArchiveCommand(INDEX_FIRST_PERSON), modelWithUnreadableArchive,
+                String.format(Messages.MESSAGE_ARCHIVE_UNREADABLE, "java.lang.Exception: corrupted"));
+        assertTrue(modelWithUnreadableArchive.hasPerson(personToArchive));
+    }
+
+    @Test
+    public void equals() {
+        ArchiveCommand archiveFirstCommand = new ArchiveCommand(INDEX_FIRST_PERSON);
+        ArchiveCommand archiveSecondCommand = new ArchiveCommand(INDEX_SECOND_PERSON);
+
+        // same object -> returns true
+        assertTrue(archiveFirstCommand.equals(archiveFirstCommand));
+
+        // same values -> returns true
+        assertTrue(archiveFirstCommand.equals(new ArchiveCommand(INDEX_FIRST_PERSON)));
+
+        // different types -> returns false
+        assertFalse(archiveFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(archiveFirstCommand.equals(null));
+
+        // different person -> returns false
+        assertFalse(archiveFirstCommand.equals(archiveSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Index targetIndex = Index.fromOneBased(1);
+        ArchiveCommand archiveCommand = new ArchiveCommand(targetIndex);
+        String expected = ArchiveCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        assertEquals(expected, archiveCommand.toString());
+    }
+}
@@ -347,7 +347,9 @@ public class EditCommandTest {
         assertTrue(result.getFeedbackToUser().contains("schedule conflicts"));
         // Should contain both internal and external conflict messages
         assertTrue(result.getFeedbackToUser().contains("Internal recurring schedule conflict"));
-        assertTrue(result.getFeedbackToUser().contains("Recurring schedule conflict on MONDAY between"));
+        assertTrue(result.getFeedbackToUser()
+                .contains("Over capacity every Monday 1500-1600: 3 sessions at once, capacity 1, with "));
+        assertTrue(result.getFeedbackToUser().contains(secondPerson.getName().fullName));
     }
 
     @Test
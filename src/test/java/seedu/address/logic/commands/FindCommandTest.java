@@ -12,6 +12,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +20,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.testutil.AddressBookBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -52,6 +54,9 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // archived search -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, true)));
     }
 
     @Test
@@ -76,6 +81,19 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_archivedSearch_listsArchivedPersonsOnly() {
+        Model modelWithArchive = new ModelManager(new AddressBookBuilder().withPerson(CARL).build(), new UserPrefs(),
+                () -> Optional.of(new AddressBookBuilder().withPerson(ELLE).withPerson(FIONA).build()));
+        NameContainsKeywordsPredicate predicate = preparePredicate("Kurz Elle");
+        String expectedMessage = String.format(FindCommand.MESSAGE_ARCHIVED_PERSONS_LISTED, 1, "Kurz Elle")
+                + "\n1. " + ELLE.getName() + " (" + ELLE.getPhone() + ")";
+
+        Model expectedModelWithArchive = new ModelManager(modelWithArchive.getAddressBook(), new UserPrefs());
+        assertCommandSuccess(new FindCommand(predicate, true), modelWithArchive, expectedMessage,
+                expectedModelWithArchive);
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
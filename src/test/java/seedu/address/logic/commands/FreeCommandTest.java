@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.TimeSlot;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code FreeCommand}.
+ */
+public class FreeCommandTest {
+
+    // the typical clients have sessions from 1400 to 1600 every Monday, and from 1800 to 2000 on this date
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 10);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_wholeDay_allFreeSlotsListed() {
+        String expectedMessage = String.format(FreeCommand.MESSAGE_FREE_SLOTS, "Monday", "10/03/25", 3,
+                "0000-1400 (840 min)\n1600-1800 (120 min)\n2000-2400 (240 min)");
+        assertCommandSuccess(new FreeCommand(MONDAY, TimeSlot.WHOLE_DAY, 1), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_durationAndWindow_matchingFreeSlotsListed() {
+        // 0800 to 2100, at least 90 minutes
+        String expectedMessage = String.format(FreeCommand.MESSAGE_FREE_SLOTS, "Monday", "10/03/25", 2,
+                "0800-1400 (360 min)\n1600-1800 (120 min)");
+        assertCommandSuccess(new FreeCommand(MONDAY, new TimeSlot(480, 1260), 90), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noFreeSlots_success() {
+        String expectedMessage = String.format(FreeCommand.MESSAGE_NO_FREE_SLOTS, "Monday", "10/03/25");
+        assertCommandSuccess(new FreeCommand(MONDAY, new TimeSlot(840, 960), 1), model, expectedMessage,
+                expectedModel);
+        assertCommandSuccess(new FreeCommand(MONDAY, TimeSlot.WHOLE_DAY, 900), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FreeCommand freeCommand = new FreeCommand(MONDAY, TimeSlot.WHOLE_DAY, 1);
+
+        // same object -> returns true
+        assertTrue(freeCommand.equals(freeCommand));
+
+        // same values -> returns true
+        assertTrue(freeCommand.equals(new FreeCommand(MONDAY, TimeSlot.WHOLE_DAY, 1)));
+
+        // different types -> returns false
+        assertFalse(freeCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(freeCommand.equals(null));
+
+        // different date, window or duration -> returns false
+        assertFalse(freeCommand.equals(new FreeCommand(MONDAY.plusDays(1), TimeSlot.WHOLE_DAY, 1)));
+        assertFalse(freeCommand.equals(new FreeCommand(MONDAY, new TimeSlot(480, 1200), 1)));
+        assertFalse(freeCommand.equals(new FreeCommand(MONDAY, TimeSlot.WHOLE_DAY, 60)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FreeCommand freeCommand = new FreeCommand(MONDAY, TimeSlot.WHOLE_DAY, 1);
+        String expected = FreeCommand.class.getCanonicalName() + "{date=" + MONDAY + ", window="
+                + TimeSlot.WHOLE_DAY + ", minMinutes=1}";
+        assertEquals(expected, freeCommand.toString());
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.SessionHistory;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.OneTimeSchedule;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code HistoryCommand}.
+ */
+public class HistoryCommandTest {
+
+    private static final SessionHistory ALICE_HISTORY = name -> name.equals(ALICE.getName())
+            ? List.of(new OneTimeSchedule("01/01/25 1000 1200"), new OneTimeSchedule("01/02/25 1000 1200"))
+            : List.of();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), Optional::empty, ALICE_HISTORY);
+
+    @Test
+    public void execute_pastSessions_listedOldestFirstOnce() {
+        // Alice's sessions on 01/02/25 and 02/03/25 are still in the client list, and the first is also in the history
+        String expectedMessage = String.format(HistoryCommand.MESSAGE_HISTORY_SUCCESS, ALICE.getName().fullName, 3,
+                "01/01/25 1000 1200\n01/02/25 1000 1200\n02/03/25 1000 1200");
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(new HistoryCommand(INDEX_FIRST_PERSON), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noPastSessions_success() {
+        Model modelWithNewClient = new ModelManager();
+        modelWithNewClient.addPerson(new PersonBuilder().withName("New").withOneTimeSchedules().build());
+
+        assertCommandSuccess(new HistoryCommand(INDEX_FIRST_PERSON), modelWithNewClient,
+                String.format(HistoryCommand.MESSAGE_NO_HISTORY, "New"), modelWithNewClient);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+
+        assertCommandFailure(new HistoryCommand(outOfBoundIndex), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX + "\n" + HistoryCommand.MESSAGE_USAGE);
+    }
+
+    @Test
+    public void execute_unreadableHistory_throwsCommandException() {
+        Model modelWithUnreadableHistory = new ModelManager(getTypicalAddressBook(), new UserPrefs(),
+                Optional::empty, name -> {
+                    throw new DataLoadingException(new Exception("corrupted"));
+                });
+
+        assertCommandFailure(new HistoryCommand(INDEX_FIRST_PERSON), modelWithUnreadableHistory,
+                String.format(Messages.MESSAGE_HISTORY_UNREADABLE, "java.lang.Exception: corrupted"));
+    }
+
+    @Test
+    public void equals() {
+        HistoryCommand historyFirstCommand = new HistoryCommand(INDEX_FIRST_PERSON);
+        HistoryCommand historySecondCommand = new HistoryCommand(INDEX_SECOND_PERSON);
+
+        // same object -> returns true
+        assertTrue(historyFirstCommand.equals(historyFirstCommand));
+
+        // same values -> returns true
+        assertTrue(historyFirstCommand.equals(new HistoryCommand(INDEX_FIRST_PERSON)));
+
+        // different types -> returns false
+        assertFalse(historyFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(historyFirstCommand.equals(null));
+
+        // different person -> returns false
+        assertFalse(historyFirstCommand.equals(historySecondCommand));
+    }
+}
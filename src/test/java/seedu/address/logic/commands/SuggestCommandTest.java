@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeSlot;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code SuggestCommand}.
+ */
+public class SuggestCommandTest {
+
+    private static final Set<DayOfWeek> MONDAY_AND_WEDNESDAY = EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_freeTime_mostCompactSuggestedFirst() {
+        // Mondays have sessions from 1400 to 1600, and one from 1800 to 2000 on 10/03/25
+        // Wednesdays have sessions from 1500 to 1700
+        String expectedMessage = String.format(SuggestCommand.MESSAGE_SUGGESTIONS,
+                "1. rs/Monday 1300 1400 rs/Wednesday 1400 1500\n"
+                        + "2. rs/Monday 1300 1400 rs/Wednesday 1700 1800\n"
+                        + "3. rs/Monday 1600 1700 rs/Wednesday 1400 1500");
+        assertCommandSuccess(new SuggestCommand(2, 60, MONDAY_AND_WEDNESDAY, TimeSlot.WHOLE_DAY), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_oneTimeSessionsOnDay_avoided() {
+        Person sundayClient = new PersonBuilder().withName("Sunday Client").withRecurringSchedules()
+                .withOneTimeSchedules("05/04/99 1000 1400").build();
+        model.addPerson(sundayClient);
+        expectedModel.addPerson(sundayClient);
+
+        String expectedMessage = String.format(SuggestCommand.MESSAGE_NO_SUGGESTIONS, 1, 60);
+        assertCommandSuccess(new SuggestCommand(1, 60, EnumSet.of(DayOfWeek.SUNDAY), new TimeSlot(600, 840)),
+                model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_oneTimeSessionsBeforeToday_ignored() {
+        // Sundays only have one-time sessions from 1000 to 1400 on dates that are over
+        String expectedMessage = String.format(SuggestCommand.MESSAGE_SUGGESTIONS,
+                "1. rs/Sunday 1000 1100\n2. rs/Sunday 1030 1130\n3. rs/Sunday 1100 1200");
+        assertCommandSuccess(new SuggestCommand(1, 60, EnumSet.of(DayOfWeek.SUNDAY), new TimeSlot(600, 840)),
+                model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noFreeTime_noSuggestions() {
+        String expectedMessage = String.format(SuggestCommand.MESSAGE_NO_SUGGESTIONS, 2, 600);
+        assertCommandSuccess(new SuggestCommand(2, 600, MONDAY_AND_WEDNESDAY, new TimeSlot(720, 1200)), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SuggestCommand suggestCommand = new SuggestCommand(2, 60, MONDAY_AND_WEDNESDAY, TimeSlot.WHOLE_DAY);
+
+        // same object -> returns true
+        assertTrue(suggestCommand.equals(suggestCommand));
+
+        // same values -> returns true
+        assertTrue(suggestCommand.equals(new SuggestCommand(2, 60, Set.of(DayOfWeek.WEDNESDAY, DayOfWeek.MONDAY),
+                TimeSlot.WHOLE_DAY)));
+
+        // different types -> returns false
+        assertFalse(suggestCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(suggestCommand.equals(null));
+
+        // different count, duration, days or window -> returns false
+        assertFalse(suggestCommand.equals(new SuggestCommand(1, 60, MONDAY_AND_WEDNESDAY, TimeSlot.WHOLE_DAY)));
+        assertFalse(suggestCommand.equals(new SuggestCommand(2, 90, MONDAY_AND_WEDNESDAY, TimeSlot.WHOLE_DAY)));
+        assertFalse(suggestCommand.equals(new SuggestCommand(2, 60, EnumSet.allOf(DayOfWeek.class),
+                TimeSlot.WHOLE_DAY)));
+        assertFalse(suggestCommand.equals(new SuggestCommand(2, 60, MONDAY_AND_WEDNESDAY, new TimeSlot(0, 720))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SuggestCommand suggestCommand = new SuggestCommand(2, 60, MONDAY_AND_WEDNESDAY, TimeSlot.WHOLE_DAY);
+        String expected = SuggestCommand.class.getCanonicalName() + "{count=2, duration=60, days="
+                + MONDAY_AND_WEDNESDAY + ", window=" + TimeSlot.WHOLE_DAY + "}";
+        assertEquals(expected, suggestCommand.toString());
+    }
+}
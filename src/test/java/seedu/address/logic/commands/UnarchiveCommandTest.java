@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code UnarchiveCommand}.
+ */
+public class UnarchiveCommandTest {
+
+    @Test
+    public void execute_archivedName_success() throws Exception {
+        Model model = modelWithArchived(new AddressBookBuilder().withPerson(AMY).build());
+
+        CommandResult result = new UnarchiveCommand(new Name(VALID_NAME_AMY.toLowerCase())).execute(model);
+
+        assertEquals(String.format(UnarchiveCommand.MESSAGE_UNARCHIVE_PERSON_SUCCESS, Messages.format(AMY)),
+                result.getFeedbackToUser());
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(model.getArchivedPersons().getPersonList().isEmpty());
+        assertTrue(model.getUnsavedArchivedPersons().isPresent());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_archivedNameWithHistory_historyClearedInResult() throws Exception {
+        Model model = modelWithArchived(new AddressBookBuilder().withPerson(AMY).build());
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+
+        CommandResult result = new UnarchiveCommand(AMY.getName()).execute(model);
+
+        assertEquals(String.format(UnarchiveCommand.MESSAGE_UNARCHIVE_PERSON_SUCCESS, Messages.format(AMY))
+                + Messages.MESSAGE_UNDO_HISTORY_CLEARED, result.getFeedbackToUser());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_nameNotArchived_throwsCommandException() {
+        Model model = modelWithArchived(new AddressBookBuilder().withPerson(AMY).build());
+        Name name = new Name(VALID_NAME_BOB);
+
+        assertCommandFailure(new UnarchiveCommand(name), model,
+                String.format(UnarchiveCommand.MESSAGE_PERSON_NOT_ARCHIVED, name));
+    }
+
+    @Test
+    public void execute_duplicatePhone_throwsCommandException() {
+        Person archivedPerson = new PersonBuilder(AMY).withPhone(ALICE.getPhone().value).build();
+        Model model = modelWithArchived(new AddressBookBuilder().withPerson(archivedPerson).build());
+
+        assertCommandFailure(new UnarchiveCommand(AMY.getName()), model,
+                String.format(UnarchiveCommand.MESSAGE_DUPLICATE_PHONE, AMY.getName()));
+    }
+
+    @Test
+    public void equals() {
+        UnarchiveCommand unarchiveAmyCommand = new UnarchiveCommand(new Name(VALID_NAME_AMY));
+        UnarchiveCommand unarchiveBobCommand = new UnarchiveCommand(new Name(VALID_NAME_BOB));
+
+        // same object -> returns true
+        assertTrue(unarchiveAmyCommand.equals(unarchiveAmyCommand));
+
+        // same values -> returns true
+        assertTrue(unarchiveAmyCommand.equals(new UnarchiveCommand(new Name(VALID_NAME_AMY))));
+
+        // different types -> returns false
+        assertFalse(unarchiveAmyCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(unarchiveAmyCommand.equals(null));
+
+        // different name -> returns false
+        assertFalse(unarchiveAmyCommand.equals(unarchiveBobCommand));
+    }
+
+    private Model modelWithArchived(AddressBook archivedPersons) {
+        return new ModelManager(getTypicalAddressBook(), new UserPrefs(), () -> Optional.of(archivedPersons));
+    }
+}
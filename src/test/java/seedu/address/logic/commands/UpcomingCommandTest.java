@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code UpcomingCommand}.
+ */
+public class UpcomingCommandTest {
+
+    // Monday 10/03/25, after the sessions of Alice, Benson and Carl have started
+    private static final Clock MONDAY_AFTERNOON = Clock.fixed(LocalDateTime.of(2025, 3, 10, 15, 0)
+            .atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_invalidCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new UpcomingCommand(0));
+        assertThrows(IllegalArgumentException.class, () -> new UpcomingCommand(UpcomingCommand.MAX_COUNT + 1));
+    }
+
+    @Test
+    public void execute_sessionsToCome_listedSoonestFirst() {
+        String expectedMessage = String.format(UpcomingCommand.MESSAGE_UPCOMING, 5,
+                "Monday 10/03/25 1800-2000 Fiona Kunz\n"
+                        + "Wednesday 12/03/25 1500-1700 Alice Pauline\n"
+                        + "Friday 14/03/25 1000-1200 Elle Meyer\n"
+                        + "Friday 14/03/25 1700-1900 Daniel Meier\n"
+                        + "Monday 17/03/25 1400-1600 Alice Pauline");
+        assertCommandSuccess(new UpcomingCommand(5, MONDAY_AFTERNOON), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noSessions_success() {
+        Model emptyModel = new ModelManager(new AddressBook(), new UserPrefs());
+        assertCommandSuccess(new UpcomingCommand(5, MONDAY_AFTERNOON), emptyModel,
+                UpcomingCommand.MESSAGE_NO_UPCOMING, new ModelManager(new AddressBook(), new UserPrefs()));
+    }
+
+    @Test
+    public void equals() {
+        UpcomingCommand upcomingCommand = new UpcomingCommand(5);
+
+        // same object -> returns true
+        assertTrue(upcomingCommand.equals(upcomingCommand));
+
+        // same values -> returns true
+        assertTrue(upcomingCommand.equals(new UpcomingCommand(5)));
+
+        // different types -> returns false
+        assertFalse(upcomingCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(upcomingCommand.equals(null));
+
+        // different count -> returns false
+        assertFalse(upcomingCommand.equals(new UpcomingCommand(6)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        UpcomingCommand upcomingCommand = new UpcomingCommand(5);
+        String expected = UpcomingCommand.class.getCanonicalName() + "{count=5}";
+        assertEquals(expected, upcomingCommand.toString());
+    }
+}
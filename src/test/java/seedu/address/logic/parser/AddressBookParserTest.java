@@ -4,16 +4,22 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DisplayCommand;
@@ -21,13 +27,22 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SuggestCommand;
+import seedu.address.logic.commands.UnarchiveCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UpcomingCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ScheduleContainsKeywordPredicate;
+import seedu.address.model.person.TimeSlot;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -65,6 +80,52 @@ public class AddressBookParserTest {
         assertEquals(new EditCommand(INDEX_FIRST_PERSON, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_archive() throws Exception {
+        ArchiveCommand command = (ArchiveCommand) parser.parseCommand(
+                ArchiveCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased());
+        assertEquals(new ArchiveCommand(INDEX_FIRST_PERSON), command);
+    }
+
+    @Test
+    public void parseCommand_history() throws Exception {
+        HistoryCommand command = (HistoryCommand) parser.parseCommand(
+                HistoryCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased());
+        assertEquals(new HistoryCommand(INDEX_FIRST_PERSON), command);
+    }
+
+    @Test
+    public void parseCommand_free() throws Exception {
+        FreeCommand command = (FreeCommand) parser.parseCommand(FreeCommand.COMMAND_WORD + " 10/03/25 60");
+        assertEquals(new FreeCommand(LocalDate.of(2025, 3, 10), TimeSlot.WHOLE_DAY, 60), command);
+    }
+
+    @Test
+    public void parseCommand_agenda() throws Exception {
+        AgendaCommand command = (AgendaCommand) parser.parseCommand(AgendaCommand.COMMAND_WORD + " 1/4/25 14/4/25");
+        assertEquals(new AgendaCommand(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 14)), command);
+    }
+
+    @Test
+    public void parseCommand_upcoming() throws Exception {
+        UpcomingCommand command = (UpcomingCommand) parser.parseCommand(UpcomingCommand.COMMAND_WORD + " 5");
+        assertEquals(new UpcomingCommand(5), command);
+    }
+
+    @Test
+    public void parseCommand_suggest() throws Exception {
+        SuggestCommand command = (SuggestCommand) parser.parseCommand(SuggestCommand.COMMAND_WORD + " 2 60 Mon Wed");
+        assertEquals(new SuggestCommand(2, 60, EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY),
+                TimeSlot.WHOLE_DAY), command);
+    }
+
+    @Test
+    public void parseCommand_unarchive() throws Exception {
+        UnarchiveCommand command = (UnarchiveCommand) parser.parseCommand(
+                UnarchiveCommand.COMMAND_WORD + " " + VALID_NAME_AMY);
+        assertEquals(new UnarchiveCommand(new Name(VALID_NAME_AMY)), command);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -99,6 +160,18 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_display() throws Exception {
         DisplayCommand command = (DisplayCommand) parser.parseCommand(
@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AgendaCommand;
+
+public class AgendaCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE);
+
+    private AgendaCommandParser parser = new AgendaCommandParser();
+
+    @Test
+    public void parse_dates_returnsAgendaCommand() {
+        assertParseSuccess(parser, " 1/4/25  14/04/25 ",
+                new AgendaCommand(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 14)));
+        assertParseSuccess(parser, "1/4/25 1/4/25", new AgendaCommand(LocalDate.of(2025, 4, 1),
+                LocalDate.of(2025, 4, 1)));
+        assertParseSuccess(parser, "1/4/25 1/4/26", new AgendaCommand(LocalDate.of(2025, 4, 1),
+                LocalDate.of(2026, 4, 1)));
+    }
+
+    @Test
+    public void parse_days_returnsAgendaCommandFromComingDay() {
+        LocalDate comingMonday = LocalDate.now().with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        assertParseSuccess(parser, "Mon Sun", new AgendaCommand(comingMonday, comingMonday.plusDays(6)));
+        assertParseSuccess(parser, "Monday monday", new AgendaCommand(comingMonday, comingMonday));
+
+        // a TO day is on or after a FROM date
+        assertParseSuccess(parser, "1/4/25 Mon", new AgendaCommand(LocalDate.of(2025, 4, 1),
+                LocalDate.of(2025, 4, 7)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "Monday", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "Monday Tuesday Wednesday", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "Someday Monday", ParserUtil.MESSAGE_INVALID_DAY_OR_DATE);
+        assertParseFailure(parser, "1/4/25 31/4/25", ParserUtil.MESSAGE_INVALID_DAY_OR_DATE);
+        assertParseFailure(parser, "14/4/25 1/4/25", AgendaCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, "1/4/25 2/4/26", AgendaCommandParser.MESSAGE_INVALID_RANGE);
+    }
+}
@@ -31,4 +31,15 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_archivedFlag_returnsArchivedFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), true);
+        assertParseSuccess(parser, " " + FindCommand.ARCHIVED_FLAG + " Alice Bob", expectedFindCommand);
+
+        // flag without keywords
+        assertParseFailure(parser, " " + FindCommand.ARCHIVED_FLAG + "  ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -0,0 +1,71 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FreeCommand;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.TimeSlot;
+
+public class FreeCommandParserTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 10);
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE);
+
+    private FreeCommandParser parser = new FreeCommandParser();
+
+    @Test
+    public void parse_dateOnly_returnsFreeCommand() {
+        assertParseSuccess(parser, "10/03/25", new FreeCommand(MONDAY, TimeSlot.WHOLE_DAY, 1));
+        assertParseSuccess(parser, " \n 10/3/25 \t", new FreeCommand(MONDAY, TimeSlot.WHOLE_DAY, 1));
+    }
+
+    @Test
+    public void parse_day_returnsFreeCommandOnComingDate() {
+        LocalDate comingFriday = LocalDate.now().with(TemporalAdjusters.nextOrSame(DayOfWeek.FRIDAY));
+        assertParseSuccess(parser, "Friday", new FreeCommand(comingFriday, TimeSlot.WHOLE_DAY, 1));
+        assertParseSuccess(parser, "fri", new FreeCommand(comingFriday, TimeSlot.WHOLE_DAY, 1));
+    }
+
+    @Test
+    public void parse_durationAndWindow_returnsFreeCommand() {
+        assertParseSuccess(parser, "10/03/25 60", new FreeCommand(MONDAY, TimeSlot.WHOLE_DAY, 60));
+        assertParseSuccess(parser, "10/03/25 between 0800 2000",
+                new FreeCommand(MONDAY, new TimeSlot(480, 1200), 1));
+        assertParseSuccess(parser, "10/03/25 90 BETWEEN 0000 2359",
+                new FreeCommand(MONDAY, new TimeSlot(0, 1439), 90));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no day or date
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "60", ParserUtil.MESSAGE_INVALID_DAY_OR_DATE);
+        assertParseFailure(parser, "someday", ParserUtil.MESSAGE_INVALID_DAY_OR_DATE);
+        assertParseFailure(parser, "32/01/25", ParserUtil.MESSAGE_INVALID_DAY_OR_DATE);
+
+        // invalid duration
+        assertParseFailure(parser, "Monday 0", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, "Monday 1441", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, "Monday 99999", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, "Monday -5", MESSAGE_INVALID_FORMAT);
+
+        // invalid window
+        assertParseFailure(parser, "Monday between 0800", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "Monday between 0800 2400", ParserUtil.MESSAGE_INVALID_TIME);
+        assertParseFailure(parser, "Monday between 2000 0800", Schedule.MESSAGE_TIME_CONSTRAINTS);
+        assertParseFailure(parser, "Monday between 0800 0800", Schedule.MESSAGE_TIME_CONSTRAINTS);
+
+        // extra or misplaced arguments
+        assertParseFailure(parser, "Monday between 0800 2000 60", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "Monday 60 60", MESSAGE_INVALID_FORMAT);
+    }
+}
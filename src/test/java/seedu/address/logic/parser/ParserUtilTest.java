@@ -2,10 +2,14 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_DAY_OR_DATE;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_DURATION;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_TIME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -20,6 +24,8 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.OneTimeSchedule;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.RecurringSchedule;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.TimeSlot;
 import seedu.address.model.tag.Tag;
 
 public class ParserUtilTest {
@@ -291,4 +297,50 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseDuration_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_DURATION, () -> ParserUtil.parseDuration("0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_DURATION, () -> ParserUtil.parseDuration("1441"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_DURATION, () -> ParserUtil.parseDuration("1h"));
+    }
+
+    @Test
+    public void parseDuration_validValueWithWhitespace_returnsMinutes() throws Exception {
+        assertEquals(1, ParserUtil.parseDuration("1"));
+        assertEquals(TimeSlot.MINUTES_PER_DAY, ParserUtil.parseDuration(WHITESPACE + "1440" + WHITESPACE));
+    }
+
+    @Test
+    public void parseTimeWindow_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_TIME, () -> ParserUtil.parseTimeWindow("800", "2000"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_TIME, () -> ParserUtil.parseTimeWindow("0800", "2400"));
+        assertThrows(ParseException.class, Schedule.MESSAGE_TIME_CONSTRAINTS, () ->
+                ParserUtil.parseTimeWindow("2000", "0800"));
+    }
+
+    @Test
+    public void parseTimeWindow_validValue_returnsTimeSlot() throws Exception {
+        assertEquals(new TimeSlot(480, 1200), ParserUtil.parseTimeWindow("0800", "2000"));
+        assertEquals(new TimeSlot(0, 1439), ParserUtil.parseTimeWindow("0000", "2359"));
+    }
+
+    @Test
+    public void parseDayOrDate_invalidValue_throwsParseException() {
+        LocalDate reference = LocalDate.of(2025, 3, 12);
+        assertThrows(ParseException.class, MESSAGE_INVALID_DAY_OR_DATE, () ->
+                ParserUtil.parseDayOrDate("Someday", reference));
+        assertThrows(ParseException.class, MESSAGE_INVALID_DAY_OR_DATE, () ->
+                ParserUtil.parseDayOrDate("30/2/25", reference));
+    }
+
+    @Test
+    public void parseDayOrDate_validValue_returnsDate() throws Exception {
+        // a Wednesday
+        LocalDate reference = LocalDate.of(2025, 3, 12);
+        assertEquals(reference, ParserUtil.parseDayOrDate("wed", reference));
+        assertEquals(LocalDate.of(2025, 3, 17), ParserUtil.parseDayOrDate(WHITESPACE + "Monday" + WHITESPACE,
+                reference));
+        assertEquals(LocalDate.of(2025, 1, 1), ParserUtil.parseDayOrDate("1/1/25", reference));
+    }
 }
@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SuggestCommand;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.TimeSlot;
+
+public class SuggestCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SuggestCommand.MESSAGE_USAGE);
+
+    private SuggestCommandParser parser = new SuggestCommandParser();
+
+    @Test
+    public void parse_countAndDuration_returnsSuggestCommandForAllDays() {
+        assertParseSuccess(parser, " 3 60 ",
+                new SuggestCommand(3, 60, EnumSet.allOf(DayOfWeek.class), TimeSlot.WHOLE_DAY));
+    }
+
+    @Test
+    public void parse_daysAndWindow_returnsSuggestCommand() {
+        EnumSet<DayOfWeek> days = EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY);
+        assertParseSuccess(parser, "3 60 Mon wednesday FRI", new SuggestCommand(3, 60, days, TimeSlot.WHOLE_DAY));
+        assertParseSuccess(parser, "3 60 Fri Mon Wed Mon between 0800 2000",
+                new SuggestCommand(3, 60, days, new TimeSlot(480, 1200)));
+        assertParseSuccess(parser, "1 45 between 0800 2000",
+                new SuggestCommand(1, 45, EnumSet.allOf(DayOfWeek.class), new TimeSlot(480, 1200)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // missing count or duration
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "three 60", MESSAGE_INVALID_FORMAT);
+
+        // invalid count
+        assertParseFailure(parser, "0 60", SuggestCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, "8 60", SuggestCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, "3 60 Mon Wed", SuggestCommandParser.MESSAGE_INVALID_COUNT);
+
+        // invalid duration
+        assertParseFailure(parser, "3 0", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, "3 Mon", ParserUtil.MESSAGE_INVALID_DURATION);
+
+        // invalid day or window
+        assertParseFailure(parser, "3 60 Mon Someday", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "3 60 between 0800", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "3 60 between 2000 0800", Schedule.MESSAGE_TIME_CONSTRAINTS);
+        assertParseFailure(parser, "3 60 between 0800 2000 Mon", MESSAGE_INVALID_FORMAT);
+    }
+}
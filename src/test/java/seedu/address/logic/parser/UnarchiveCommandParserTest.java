@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.UnarchiveCommand;
+import seedu.address.model.person.Name;
+
+public class UnarchiveCommandParserTest {
+
+    private UnarchiveCommandParser parser = new UnarchiveCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsUnarchiveCommand() {
+        assertParseSuccess(parser, " " + VALID_NAME_AMY + "  ", new UnarchiveCommand(new Name(VALID_NAME_AMY)));
+    }
+
+    @Test
+    public void parse_invalidName_throwsParseException() {
+        assertParseFailure(parser, " Jamesé", Name.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                UnarchiveCommand.MESSAGE_USAGE));
+    }
+}
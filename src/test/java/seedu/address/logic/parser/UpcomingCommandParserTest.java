@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.UpcomingCommand;
+
+public class UpcomingCommandParserTest {
+
+    private UpcomingCommandParser parser = new UpcomingCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsUpcomingCommand() {
+        assertParseSuccess(parser, " 5 ", new UpcomingCommand(5));
+        assertParseSuccess(parser, "1", new UpcomingCommand(1));
+        assertParseSuccess(parser, "100", new UpcomingCommand(UpcomingCommand.MAX_COUNT));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpcomingCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "0", UpcomingCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, "101", UpcomingCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, "-1", UpcomingCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, "five", UpcomingCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, "5 6", UpcomingCommandParser.MESSAGE_INVALID_COUNT);
+    }
+}
@@ -6,10 +6,16 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LOCATION_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ONETIMESCHEDULE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.model.person.CapacityLimits.ONE_AT_A_TIME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,8 +24,10 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeSlot;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -56,6 +64,38 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void mergeData_fewPersonsDiffer_onlyThoseChanged() {
+        addressBook.resetData(getTypicalAddressBook());
+        List<Person> newPersons = new ArrayList<>(getTypicalAddressBook().getPersonList());
+        newPersons.set(1, new PersonBuilder(BENSON).withLocation(VALID_LOCATION_BOB).build());
+        newPersons.remove(ALICE);
+        newPersons.add(HOON);
+        int[] changeCount = new int[1];
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        assertEquals(3, addressBook.mergeData(new AddressBookStub(newPersons)));
+        assertEquals(newPersons, addressBook.getPersonList());
+        // each person that differs is changed on its own, instead of the whole list being replaced
+        assertEquals(3, changeCount[0]);
+    }
+
+    @Test
+    public void mergeData_noPersonsDiffer_unchanged() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(0, addressBook.mergeData(getTypicalAddressBook()));
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void mergeData_mostPersonsDiffer_replacesData() {
+        addressBook.resetData(getTypicalAddressBook());
+        AddressBook newData = new AddressBook();
+        newData.addPerson(HOON);
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 1, addressBook.mergeData(newData));
+        assertEquals(newData, addressBook);
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -109,6 +149,56 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void findFreeSlots_personsChanged_updated() {
+        LocalDate monday = LocalDate.of(2025, 3, 10);
+        Person mondayAfternoon = new PersonBuilder(ALICE).withRecurringSchedules("Monday 1400 1600")
+                .withOneTimeSchedules().build();
+        Person mondayMorning = new PersonBuilder(ALICE).withRecurringSchedules("Monday 0900 1000")
+                .withOneTimeSchedules().build();
+        assertEquals(List.of(TimeSlot.WHOLE_DAY),
+                addressBook.findFreeSlots(monday, TimeSlot.WHOLE_DAY, 1, ONE_AT_A_TIME));
+
+        addressBook.addPerson(mondayAfternoon);
+        assertEquals(List.of(new TimeSlot(0, 840), new TimeSlot(960, 1440)),
+                addressBook.findFreeSlots(monday, TimeSlot.WHOLE_DAY, 1, ONE_AT_A_TIME));
+
+        addressBook.setPerson(mondayAfternoon, mondayMorning);
+        assertEquals(List.of(new TimeSlot(0, 540), new TimeSlot(600, 1440)),
+                addressBook.findFreeSlots(monday, TimeSlot.WHOLE_DAY, 1, ONE_AT_A_TIME));
+
+        addressBook.removePerson(mondayMorning);
+        assertEquals(List.of(TimeSlot.WHOLE_DAY),
+                addressBook.findFreeSlots(monday, TimeSlot.WHOLE_DAY, 1, ONE_AT_A_TIME));
+
+        addressBook.setPersons(List.of(mondayAfternoon));
+        assertEquals(List.of(new TimeSlot(0, 840), new TimeSlot(960, 1440)),
+                addressBook.findFreeSlots(monday, TimeSlot.WHOLE_DAY, 1, ONE_AT_A_TIME));
+    }
+
+    @Test
+    public void getUpcomingSessions_personsChanged_updated() {
+        LocalDateTime mondayNoon = LocalDateTime.of(2025, 3, 10, 12, 0);
+        Person mondayAfternoon = new PersonBuilder(ALICE).withRecurringSchedules("Monday 1400 1600")
+                .withOneTimeSchedules().build();
+        Person mondayMorning = new PersonBuilder(ALICE).withRecurringSchedules("Monday 0900 1000")
+                .withOneTimeSchedules().build();
+        assertEquals(List.of(), addressBook.getUpcomingSessions(1, mondayNoon));
+
+        addressBook.addPerson(mondayAfternoon);
+        assertEquals(LocalDate.of(2025, 3, 10), addressBook.getUpcomingSessions(1, mondayNoon).get(0).getDate());
+
+        // the morning session has started, so the next one is a week later
+        addressBook.setPerson(mondayAfternoon, mondayMorning);
+        assertEquals(LocalDate.of(2025, 3, 17), addressBook.getUpcomingSessions(1, mondayNoon).get(0).getDate());
+
+        addressBook.removePerson(mondayMorning);
+        assertEquals(List.of(), addressBook.getUpcomingSessions(1, mondayNoon));
+
+        addressBook.setPersons(List.of(mondayAfternoon));
+        assertEquals(LocalDate.of(2025, 3, 10), addressBook.getUpcomingSessions(1, mondayNoon).get(0).getDate());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
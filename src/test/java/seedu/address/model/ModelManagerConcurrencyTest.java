@@ -0,0 +1,124 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ModelManagerConcurrencyTest {
+
+    private static final int WRITE_COUNT = 2000;
+    private static final int READER_COUNT = 4;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    @Test
+    public void getAddressBookSnapshot_uncommittedChanges_excluded() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AddressBookSnapshot initial = modelManager.getAddressBookSnapshot();
+
+        modelManager.addPerson(AMY);
+        assertEquals(initial, modelManager.getAddressBookSnapshot());
+
+        modelManager.commitAddressBook();
+        AddressBookSnapshot committed = modelManager.getAddressBookSnapshot();
+        assertTrue(committed.getPersonList().contains(AMY));
+        assertTrue(committed.getVersion() > initial.getVersion());
+
+        modelManager.deletePerson(ALICE);
+        modelManager.rollbackAddressBook();
+        assertEquals(committed, modelManager.getAddressBookSnapshot());
+
+        modelManager.undoAddressBook();
+        assertEquals(initial, modelManager.getAddressBookSnapshot());
+
+        // snapshots already taken are not affected by later changes
+        assertTrue(committed.getPersonList().contains(AMY));
+    }
+
+    /**
+     * Commits a stream of additions and edits on one thread while other threads read snapshots, and checks that
+     * every snapshot is internally consistent and that readers never see the address book go back in time.
+     */
+    @Test
+    public void getAddressBookSnapshot_concurrentWrites_readersSeeConsistentSnapshots() throws Exception {
+        ModelManager modelManager = new ModelManager();
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicLong readCount = new AtomicLong();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch readersDone = new CountDownLatch(READER_COUNT);
+
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < READER_COUNT; i++) {
+            readers.add(new Thread(() -> {
+                try {
+                    readUntilWritesStop(modelManager, isWriting, readCount);
+                } catch (Throwable t) {
+                    failures.add(t);
+                } finally {
+                    readersDone.countDown();
+                }
+            }));
+        }
+        readers.forEach(Thread::start);
+
+        try {
+            for (int i = 0; i < WRITE_COUNT; i++) {
+                modelManager.addPerson(createClient(i, false));
+                if (i % 5 == 4) {
+                    modelManager.setPerson(createClient(i - 2, false), createClient(i - 2, true));
+                }
+                modelManager.commitAddressBook();
+            }
+        } finally {
+            isWriting.set(false);
+        }
+
+        assertTrue(readersDone.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(failures.isEmpty(), "Reader failed: " + failures.peek());
+        assertTrue(readCount.get() > 0);
+        assertEquals(WRITE_COUNT, modelManager.getAddressBookSnapshot().size());
+    }
+
+    private static void readUntilWritesStop(ModelManager modelManager, AtomicBoolean isWriting, AtomicLong readCount) {
+        long lastVersion = -1;
+        int lastSize = 0;
+        while (isWriting.get()) {
+            AddressBookSnapshot snapshot = modelManager.getAddressBookSnapshot();
+            List<Person> persons = snapshot.getPersonList();
+
+            assertTrue(snapshot.getVersion() >= lastVersion);
+            assertTrue(snapshot.size() >= lastSize);
+            assertEquals(snapshot.size(), persons.size());
+            for (int i = 0; i < persons.size(); i++) {
+                assertEquals(clientName(i), persons.get(i).getName().fullName);
+            }
+
+            lastVersion = snapshot.getVersion();
+            lastSize = snapshot.size();
+            readCount.incrementAndGet();
+        }
+    }
+
+    private static Person createClient(int number, boolean isEdited) {
+        String phone = (isEdited ? "8" : "9") + String.format("%07d", number);
+        return new PersonBuilder().withName(clientName(number)).withPhone(phone).build();
+    }
+
+    private static String clientName(int number) {
+        return "Client " + number;
+    }
+}
@@ -7,16 +7,28 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.OneTimeSchedule;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -72,6 +84,27 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void mergeAddressBook_personsDiffer_mergedWithoutUndoableState() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91111111").build();
+        AddressBook newData = new AddressBookBuilder().withPerson(editedAlice).withPerson(BENSON).build();
+
+        assertEquals(1, modelManager.mergeAddressBook(newData));
+        assertEquals(newData, modelManager.getAddressBook());
+        assertEquals(newData.getPersonList(), modelManager.getAddressBookSnapshot().getPersonList());
+
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void mergeAddressBook_noPersonsDiffer_nothingCommitted() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), new UserPrefs());
+        assertEquals(0, modelManager.mergeAddressBook(new AddressBookBuilder().withPerson(ALICE).build()));
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasPerson(null));
@@ -109,6 +142,151 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void addPerson_filterActive_showsAllPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(person -> person.isSamePerson(ALICE));
+
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addPerson_keepFilterOnChange_keepsFilter() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setKeepFilterOnChange(true);
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), userPrefs);
+        modelManager.updateFilteredPersonList(person -> person.isSamePerson(ALICE));
+
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_keepFilterOnChange_keepsFilter() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setKeepFilterOnChange(true);
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                userPrefs);
+        modelManager.updateFilteredPersonList(person -> !person.isSamePerson(BENSON));
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91111111").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_samePredicate_doesNotReevaluate() {
+        modelManager.addPerson(ALICE);
+        int[] evaluations = {0};
+        Predicate<Person> countingPredicate = person -> {
+            evaluations[0]++;
+            return true;
+        };
+        modelManager.updateFilteredPersonList(countingPredicate);
+        int evaluationsAfterFirstUpdate = evaluations[0];
+
+        modelManager.updateFilteredPersonList(countingPredicate);
+        assertEquals(evaluationsAfterFirstUpdate, evaluations[0]);
+    }
+
+    @Test
+    public void getArchivedPersons_loadedOnceWhenFirstNeeded() throws Exception {
+        int[] loadCount = new int[1];
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(),
+                new UserPrefs(), () -> {
+                    loadCount[0]++;
+                    return Optional.of(new AddressBookBuilder().withPerson(BENSON).build());
+                });
+        assertEquals(0, loadCount[0]);
+
+        assertEquals(Arrays.asList(BENSON), modelManager.getArchivedPersons().getPersonList());
+        modelManager.getArchivedPersons();
+        assertEquals(1, loadCount[0]);
+        assertFalse(modelManager.getUnsavedArchivedPersons().isPresent());
+    }
+
+    @Test
+    public void getArchivedPersons_personAlsoInAddressBook_droppedFromArchive() throws Exception {
+        Person archivedAlice = new PersonBuilder(ALICE).withPhone("90000000").build();
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(),
+                new UserPrefs(), () -> Optional.of(new AddressBookBuilder().withPerson(archivedAlice)
+                        .withPerson(BENSON).build()));
+
+        assertEquals(Arrays.asList(BENSON), modelManager.getArchivedPersons().getPersonList());
+        assertTrue(modelManager.getUnsavedArchivedPersons().isPresent());
+        modelManager.markArchivedPersonsSaved();
+        assertFalse(modelManager.getUnsavedArchivedPersons().isPresent());
+    }
+
+    @Test
+    public void archivePersons_manyPersons_movedToArchive() throws Exception {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Person> persons = getTypicalPersons();
+
+        modelManager.archivePersons(persons.subList(1, 3));
+
+        List<Person> expectedPersons = new ArrayList<>(persons);
+        expectedPersons.removeAll(persons.subList(1, 3));
+        assertEquals(expectedPersons, modelManager.getAddressBook().getPersonList());
+        assertEquals(persons.subList(1, 3), modelManager.getArchivedPersons().getPersonList());
+        assertEquals(expectedPersons, modelManager.getAddressBookSnapshot().getPersonList());
+
+        modelManager.unarchivePerson(persons.get(1));
+        assertTrue(modelManager.hasPerson(persons.get(1)));
+        assertEquals(persons.subList(2, 3), modelManager.getArchivedPersons().getPersonList());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void removeOneTimeSchedulesBefore_pastSchedules_removedWithoutCommitting() {
+        Person regular = new PersonBuilder().withName("Regular").withPhone("91111111").withRecurringSchedules()
+                .withOneTimeSchedules("01/01/25 1000 1200", "01/03/25 1000 1200").build();
+        Person upcoming = new PersonBuilder().withName("Upcoming").withPhone("92222222").withRecurringSchedules()
+                .withOneTimeSchedules("01/04/25 1000 1200").build();
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(regular)
+                .withPerson(upcoming).build(), new UserPrefs());
+
+        Map<Name, List<OneTimeSchedule>> removed = modelManager.removeOneTimeSchedulesBefore(LocalDate.of(2025, 3, 1));
+
+        assertEquals(Map.of(regular.getName(), List.of(new OneTimeSchedule("01/01/25 1000 1200"))), removed);
+        assertEquals(Arrays.asList(new PersonBuilder(regular).withOneTimeSchedules("01/03/25 1000 1200").build(),
+                upcoming), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.canUndoAddressBook());
+        assertEquals(Map.of(), modelManager.removeOneTimeSchedulesBefore(LocalDate.of(2025, 3, 1)));
+    }
+
+    @Test
+    public void getPastOneTimeSchedules_readFromSessionHistory() throws Exception {
+        List<OneTimeSchedule> pastSchedules = List.of(new OneTimeSchedule("01/01/25 1000 1200"));
+        ModelManager modelManager = new ModelManager(new AddressBook(), new UserPrefs(), Optional::empty, name ->
+                name.equals(ALICE.getName()) ? pastSchedules : List.of());
+
+        assertEquals(pastSchedules, modelManager.getPastOneTimeSchedules(ALICE.getName()));
+        assertEquals(List.of(), modelManager.getPastOneTimeSchedules(BENSON.getName()));
+        assertEquals(List.of(), new ModelManager().getPastOneTimeSchedules(ALICE.getName()));
+    }
+
+    @Test
+    public void findCapacityViolations_capacityFromUserPrefs() {
+        modelManager.addPerson(ALICE);
+        Person overlapping = new PersonBuilder().withName("Overlapping").withPhone("91234567")
+                .withRecurringSchedules("Monday 1500 1700").withOneTimeSchedules().build();
+        assertEquals(1, modelManager.findCapacityViolations(overlapping).size());
+        assertEquals(List.of(), modelManager.findCapacityViolations(ALICE,
+                new PersonBuilder(ALICE).withRecurringSchedules("Monday 1500 1700").build()));
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStudioCapacity(2);
+        modelManager.setUserPrefs(userPrefs);
+        assertEquals(List.of(), modelManager.findCapacityViolations(overlapping));
+
+        // invalid capacity windows fall back to one session at a time
+        userPrefs.setCapacityWindows(Map.of("Mon 1700 1500", 2));
+        modelManager.setUserPrefs(userPrefs);
+        assertEquals(1, modelManager.findCapacityViolations(overlapping).size());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
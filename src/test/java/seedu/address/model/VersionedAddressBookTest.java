@@ -0,0 +1,207 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private static final long UNLIMITED_BUDGET = Long.MAX_VALUE;
+
+    @Test
+    public void constructor_negativeBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(new AddressBook(), -1));
+    }
+
+    @Test
+    public void constructor_initialState_cannotUndoOrRedo() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook(), UNLIMITED_BUDGET);
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertThrows(VersionedAddressBook.NoUndoableStateException.class, versionedAddressBook::undo);
+        assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
+    }
+
+    @Test
+    public void undoRedo_everyKindOfChange_restoresCommittedStates() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook(), UNLIMITED_BUDGET);
+        AddressBook withAmy = getTypicalAddressBook();
+        withAmy.addPerson(AMY);
+        AddressBook withEditedAlice = new AddressBook(withAmy);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91111111").build();
+        withEditedAlice.setPerson(ALICE, editedAlice);
+        AddressBook withoutBenson = new AddressBook(withEditedAlice);
+        withoutBenson.removePerson(BENSON);
+
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.setPerson(ALICE, editedAlice);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(new AddressBook());
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(withoutBenson, versionedAddressBook);
+        versionedAddressBook.undo();
+        assertEquals(withEditedAlice, versionedAddressBook);
+        versionedAddressBook.undo();
+        assertEquals(withAmy, versionedAddressBook);
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(withEditedAlice, versionedAddressBook);
+
+        // changes after an undo are applied on top of the restored state
+        versionedAddressBook.removePerson(AMY);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+        versionedAddressBook.undo();
+        assertEquals(withEditedAlice, versionedAddressBook);
+    }
+
+    @Test
+    public void rollback_uncommittedChanges_restoresCurrentState() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook(), UNLIMITED_BUDGET);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        AddressBook withAmy = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91111111").build());
+        versionedAddressBook.rollback();
+        assertEquals(withAmy, versionedAddressBook);
+
+        // the history is unaffected
+        assertFalse(versionedAddressBook.canRedo());
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+    }
+
+    @Test
+    public void commit_singleChangesToLargeBook_historyGrowsLogarithmically() {
+        AddressBook largeBook = new AddressBook();
+        for (int i = 0; i < 20_000; i++) {
+            largeBook.addPerson(new PersonBuilder().withName("Client " + i).withPhone(String.valueOf(80_000_000 + i))
+                    .build());
+        }
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(largeBook, UNLIMITED_BUDGET);
+
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+
+        // one added client costs a path of O(log n) nodes, far less than copying the 20,000 existing clients
+        long perChangeBytes = versionedAddressBook.getHistoryBytes();
+        assertTrue(perChangeBytes < 20_000 * VersionedAddressBook.ESTIMATED_NODE_BYTES / 100);
+    }
+
+    @Test
+    public void commit_historyExceedsBudget_discardsOldestStates() {
+        VersionedAddressBook unlimited = new VersionedAddressBook(getTypicalAddressBook(), UNLIMITED_BUDGET);
+        unlimited.removePerson(ALICE);
+        unlimited.commit();
+        long singleChangeBytes = unlimited.getHistoryBytes();
+
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook(),
+                2 * singleChangeBytes);
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(CARL);
+        versionedAddressBook.commit();
+        assertTrue(versionedAddressBook.getHistoryBytes() <= 2 * singleChangeBytes);
+
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void setMemoryBudget_zero_discardsAllHistory() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook(), UNLIMITED_BUDGET);
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        assertTrue(versionedAddressBook.canUndo());
+
+        versionedAddressBook.setMemoryBudget(0);
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(0, versionedAddressBook.getHistoryBytes());
+    }
+
+    @Test
+    public void discardHistory_undoableAndRedoableStates_keepsCurrentStateOnly() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook(), UNLIMITED_BUDGET);
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        AddressBook expectedAddressBook = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.discardHistory();
+
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertEquals(0, versionedAddressBook.getHistoryBytes());
+        assertEquals(expectedAddressBook, new AddressBook(versionedAddressBook));
+        assertEquals(expectedAddressBook.getPersonList(), versionedAddressBook.snapshot().getPersonList());
+    }
+
+    @Test
+    public void rebase_changedData_changesEveryStateWithoutNewState() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook(), UNLIMITED_BUDGET);
+        versionedAddressBook.removePerson(CARL);
+        versionedAddressBook.commit();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91111111").build();
+        AddressBook newData = new AddressBook(versionedAddressBook);
+        newData.setPerson(ALICE, editedAlice);
+        newData.removePerson(BENSON);
+        newData.addPerson(AMY);
+
+        assertEquals(3, versionedAddressBook.rebase(newData));
+        assertEquals(newData, new AddressBook(versionedAddressBook));
+        assertEquals(newData.getPersonList(), versionedAddressBook.snapshot().getPersonList());
+
+        // undoing the removal of Carl keeps the changes to the data
+        versionedAddressBook.undo();
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        expectedAddressBook.setPerson(ALICE, editedAlice);
+        expectedAddressBook.removePerson(BENSON);
+        expectedAddressBook.addPerson(AMY);
+        assertEquals(expectedAddressBook, new AddressBook(versionedAddressBook));
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        assertEquals(newData, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void rebase_sameData_nothingChanged() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook(), UNLIMITED_BUDGET);
+        versionedAddressBook.removePerson(CARL);
+        versionedAddressBook.commit();
+        long historyBytes = versionedAddressBook.getHistoryBytes();
+
+        assertEquals(0, versionedAddressBook.rebase(new AddressBook(versionedAddressBook)));
+        assertEquals(historyBytes, versionedAddressBook.getHistoryBytes());
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), new AddressBook(versionedAddressBook));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class CapacityLimitsTest {
+
+    @Test
+    public void isValidWindow() {
+        // null window
+        assertThrows(NullPointerException.class, () -> CapacityLimits.isValidWindow(null));
+
+        // invalid windows
+        assertFalse(CapacityLimits.isValidWindow("")); // empty string
+        assertFalse(CapacityLimits.isValidWindow("1800")); // no end time
+        assertFalse(CapacityLimits.isValidWindow("Mon 1800")); // no end time
+        assertFalse(CapacityLimits.isValidWindow("Someday 1800 2100")); // not a day
+        assertFalse(CapacityLimits.isValidWindow("Mon 1800 2100 2200")); // extra time
+        assertFalse(CapacityLimits.isValidWindow("Mon 2100 1800")); // end before start
+        assertFalse(CapacityLimits.isValidWindow("Mon 1800 1800")); // end same as start
+        assertFalse(CapacityLimits.isValidWindow("Mon 1800 2400")); // invalid time
+        assertFalse(CapacityLimits.isValidWindow("Mon 18:00 21:00")); // wrong time format
+
+        // valid windows
+        assertTrue(CapacityLimits.isValidWindow("Mon 1800 2100"));
+        assertTrue(CapacityLimits.isValidWindow("monday 1800 2100")); // full day name in any case
+        assertTrue(CapacityLimits.isValidWindow("1800 2100")); // every day
+        assertTrue(CapacityLimits.isValidWindow(" Sun  0000 2359 ")); // extra whitespace
+    }
+
+    @Test
+    public void of_invalidLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CapacityLimits.of(0, Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> CapacityLimits.of(1, Map.of("Mon 2100 1800", 2)));
+        assertThrows(IllegalArgumentException.class, () -> CapacityLimits.of(1, Map.of("Mon 1800 2100", 0)));
+    }
+
+    @Test
+    public void getCapacity_noWindows_studioCapacityEverywhere() {
+        CapacityLimits limits = CapacityLimits.of(3, Map.of());
+        assertEquals(3, limits.getCapacity(DayOfWeek.MONDAY, 0));
+        assertEquals(3, limits.getCapacity(DayOfWeek.SUNDAY, TimeSlot.MINUTES_PER_DAY - 1));
+        assertEquals(1, CapacityLimits.ONE_AT_A_TIME.getCapacity(DayOfWeek.WEDNESDAY, 720));
+    }
+
+    @Test
+    public void getCapacity_windows_windowCapacityWithinWindows() {
+        Map<String, Integer> windows = new LinkedHashMap<>();
+        windows.put("Mon 1800 2100", 4);
+        windows.put("1200 1400", 2);
+        windows.put("Mon 2000 2200", 3);
+        CapacityLimits limits = CapacityLimits.of(1, windows);
+
+        // a window on a day only applies on that day, from its start up to its end
+        assertEquals(1, limits.getCapacity(DayOfWeek.MONDAY, 18 * 60 - 1));
+        assertEquals(4, limits.getCapacity(DayOfWeek.MONDAY, 18 * 60));
+        assertEquals(1, limits.getCapacity(DayOfWeek.TUESDAY, 18 * 60));
+        assertEquals(1, limits.getCapacity(DayOfWeek.MONDAY, 22 * 60));
+
+        // a window without a day applies on every day
+        assertEquals(2, limits.getCapacity(DayOfWeek.MONDAY, 12 * 60));
+        assertEquals(2, limits.getCapacity(DayOfWeek.SUNDAY, 14 * 60 - 1));
+
+        // the lowest capacity applies where windows overlap
+        assertEquals(3, limits.getCapacity(DayOfWeek.MONDAY, 20 * 60));
+        assertEquals(3, limits.getCapacity(DayOfWeek.MONDAY, 21 * 60));
+    }
+}
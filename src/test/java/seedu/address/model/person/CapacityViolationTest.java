@@ -0,0 +1,52 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class CapacityViolationTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 10);
+
+    @Test
+    public void isHeldDuring_weeklyViolation_onlyRecurringSessionsOnDayCount() {
+        CapacityViolation violation = new CapacityViolation(DayOfWeek.MONDAY, null, new TimeSlot(900, 960), 2, 1);
+
+        assertTrue(violation.isHeldDuring(new PersonBuilder().withRecurringSchedules("Monday 1400 1530")
+                .withOneTimeSchedules().build()));
+        // a session ending when the span starts is not held during it
+        assertFalse(violation.isHeldDuring(new PersonBuilder().withRecurringSchedules("Monday 1400 1500")
+                .withOneTimeSchedules().build()));
+        assertFalse(violation.isHeldDuring(new PersonBuilder().withRecurringSchedules("Tuesday 1400 1530")
+                .withOneTimeSchedules().build()));
+        assertFalse(violation.isHeldDuring(new PersonBuilder().withRecurringSchedules()
+                .withOneTimeSchedules("10/03/25 1500 1600").build()));
+    }
+
+    @Test
+    public void isHeldDuring_dateViolation_recurringAndOneTimeSessionsCount() {
+        CapacityViolation violation = new CapacityViolation(DayOfWeek.MONDAY, MONDAY, new TimeSlot(900, 960), 2, 1);
+
+        assertTrue(violation.isHeldDuring(new PersonBuilder().withRecurringSchedules("Monday 1530 1700")
+                .withOneTimeSchedules().build()));
+        assertTrue(violation.isHeldDuring(new PersonBuilder().withRecurringSchedules()
+                .withOneTimeSchedules("10/03/25 1500 1600").build()));
+        assertFalse(violation.isHeldDuring(new PersonBuilder().withRecurringSchedules()
+                .withOneTimeSchedules("17/03/25 1500 1600").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        CapacityViolation violation = new CapacityViolation(DayOfWeek.MONDAY, MONDAY, new TimeSlot(900, 960), 2, 1);
+        String expected = CapacityViolation.class.getCanonicalName() + "{day=" + DayOfWeek.MONDAY + ", date="
+                + MONDAY + ", span=" + new TimeSlot(900, 960) + ", sessionCount=2, capacity=1}";
+        assertEquals(expected, violation.toString());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -57,4 +59,14 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void hashCodeMethod() {
+        // same values with different case -> same hashcode, as they are equal
+        assertTrue(new Name("Valid Name").equals(new Name("valid NAME")));
+        assertEquals(new Name("Valid Name").hashCode(), new Name("valid NAME").hashCode());
+
+        // different values -> different hashcode
+        assertNotEquals(new Name("Valid Name").hashCode(), new Name("Other Valid Name").hashCode());
+    }
 }
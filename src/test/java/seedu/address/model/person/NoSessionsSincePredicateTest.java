@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NoSessionsSincePredicateTest {
+
+    private static final LocalDate CUTOFF_DATE = LocalDate.of(2025, 6, 1);
+
+    private final NoSessionsSincePredicate predicate = new NoSessionsSincePredicate(CUTOFF_DATE);
+
+    @Test
+    public void equals() {
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new NoSessionsSincePredicate(CUTOFF_DATE)));
+
+        // different types -> returns false
+        assertFalse(predicate.equals(1));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different date -> returns false
+        assertFalse(predicate.equals(new NoSessionsSincePredicate(CUTOFF_DATE.plusDays(1))));
+    }
+
+    @Test
+    public void test_allSessionsBeforeCutoff_returnsTrue() {
+        assertTrue(predicate.test(new PersonBuilder()
+                .withOneTimeSchedules("01/01/25 1000 1200", "31/05/25 1000 1200").build()));
+    }
+
+    @Test
+    public void test_sessionOnOrAfterCutoff_returnsFalse() {
+        assertFalse(predicate.test(new PersonBuilder()
+                .withOneTimeSchedules("01/01/25 1000 1200", "01/06/25 1000 1200").build()));
+    }
+
+    @Test
+    public void test_recurringSchedule_returnsFalse() {
+        assertFalse(predicate.test(new PersonBuilder().withRecurringSchedules("Monday 1400 1600")
+                .withOneTimeSchedules("01/01/25 1000 1200").build()));
+    }
+
+    @Test
+    public void test_noSchedules_returnsFalse() {
+        assertFalse(predicate.test(new PersonBuilder().build()));
+    }
+}
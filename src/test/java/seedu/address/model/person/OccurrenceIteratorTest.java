@@ -0,0 +1,87 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.OccurrenceUtil.occurrence;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class OccurrenceIteratorTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 10);
+
+    private static final Person WEEKLY = new PersonBuilder().withName("Weekly")
+            .withRecurringSchedules("Monday 1400 1600", "Wednesday 0900 1000").withOneTimeSchedules().build();
+    private static final Person ONE_TIME = new PersonBuilder().withName("One Time").withRecurringSchedules()
+            .withOneTimeSchedules("09/03/25 1000 1200", "10/03/25 1400 1500", "19/03/25 0800 0900",
+                    "31/03/25 1000 1200")
+            .build();
+
+    @Test
+    public void constructor_rangeEndsBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new OccurrenceIterator(List.of(WEEKLY), MONDAY, MONDAY.minusDays(1)));
+    }
+
+    @Test
+    public void next_recurringAndOneTimeSchedules_mergedInOrder() {
+        List<Occurrence> expected = List.of(
+                occurrence(ONE_TIME, "10/03/25 1400 1500"),
+                occurrence(WEEKLY, MONDAY, "Monday 1400 1600"),
+                occurrence(WEEKLY, MONDAY.plusDays(2), "Wednesday 0900 1000"),
+                occurrence(WEEKLY, MONDAY.plusDays(7), "Monday 1400 1600"),
+                occurrence(ONE_TIME, "19/03/25 0800 0900"),
+                occurrence(WEEKLY, MONDAY.plusDays(9), "Wednesday 0900 1000"));
+
+        // up to the Thursday of the next week, so the one-time schedules before and after are left out
+        assertEquals(expected, collect(new OccurrenceIterator(List.of(WEEKLY, ONE_TIME), MONDAY,
+                MONDAY.plusDays(10))));
+    }
+
+    @Test
+    public void next_sameStartTime_inOrderOfEndTimeThenPersons() {
+        Person sameSchedule = new PersonBuilder(WEEKLY).withName("Same Schedule").build();
+        List<Occurrence> occurrences = collect(new OccurrenceIterator(List.of(sameSchedule, WEEKLY, ONE_TIME),
+                MONDAY, MONDAY));
+
+        assertEquals(List.of(occurrence(ONE_TIME, "10/03/25 1400 1500"),
+                occurrence(sameSchedule, MONDAY, "Monday 1400 1600"),
+                occurrence(WEEKLY, MONDAY, "Monday 1400 1600")), occurrences);
+    }
+
+    @Test
+    public void next_noMoreOccurrences_throwsNoSuchElementException() {
+        Iterator<Occurrence> iterator = new OccurrenceIterator(List.of(WEEKLY), MONDAY.plusDays(1),
+                MONDAY.plusDays(1));
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void next_longRange_everyWeekExpanded() {
+        // about twenty years of weekly sessions
+        Iterator<Occurrence> iterator = new OccurrenceIterator(List.of(WEEKLY), MONDAY, MONDAY.plusWeeks(1000)
+                .minusDays(1));
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        assertEquals(2000, count);
+    }
+
+    private static List<Occurrence> collect(Iterator<Occurrence> iterator) {
+        List<Occurrence> occurrences = new ArrayList<>();
+        iterator.forEachRemaining(occurrences::add);
+        return occurrences;
+    }
+}
@@ -0,0 +1,196 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PackedScheduleSetTest {
+
+    private static final RecurringSchedule MONDAY_MORNING = new RecurringSchedule("Monday 0900 1000");
+    private static final RecurringSchedule MONDAY_EVENING = new RecurringSchedule("Mon 1800 2359");
+    private static final RecurringSchedule SUNDAY = new RecurringSchedule("Sunday 0000 0100");
+    private static final OneTimeSchedule FIRST_DATE = new OneTimeSchedule("1/1/25 0700 0830");
+    private static final OneTimeSchedule SECOND_DATE = new OneTimeSchedule("31/12/25 1200 1300");
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PackedScheduleSet.of(null, List.of()));
+        assertThrows(NullPointerException.class, () -> PackedScheduleSet.of(List.of(), null));
+    }
+
+    @Test
+    public void of_noSchedules_returnsEmpty() {
+        assertSame(PackedScheduleSet.EMPTY, PackedScheduleSet.of(Set.of(), Set.of()));
+    }
+
+    @Test
+    public void of_duplicateSchedules_storedOnce() {
+        PackedScheduleSet set = PackedScheduleSet.of(
+                List.of(MONDAY_MORNING, new RecurringSchedule("mon 0900 1000")),
+                List.of(FIRST_DATE, new OneTimeSchedule("01/01/25 0700 0830")));
+        assertEquals(2, set.size());
+        assertEquals(1, set.recurringSchedules().size());
+        assertEquals(1, set.oneTimeSchedules().size());
+    }
+
+    @Test
+    public void of_mixedSchedules_sortedWithRecurringFirst() {
+        PackedScheduleSet set = PackedScheduleSet.of(List.of(SUNDAY, MONDAY_EVENING, MONDAY_MORNING),
+                List.of(SECOND_DATE, FIRST_DATE));
+        assertEquals(3, set.getFirstOneTimeIndex());
+
+        Iterator<RecurringSchedule> recurring = set.recurringSchedules().iterator();
+        assertEquals(MONDAY_MORNING, recurring.next());
+        assertEquals(MONDAY_EVENING, recurring.next());
+        assertEquals(SUNDAY, recurring.next());
+        assertFalse(recurring.hasNext());
+
+        Iterator<OneTimeSchedule> oneTime = set.oneTimeSchedules().iterator();
+        assertEquals(FIRST_DATE, oneTime.next());
+        assertEquals(SECOND_DATE, oneTime.next());
+        assertFalse(oneTime.hasNext());
+    }
+
+    @Test
+    public void encode_decode_roundTrips() {
+        long recurring = PackedScheduleSet.encode(MONDAY_EVENING);
+        assertFalse(PackedScheduleSet.isOneTime(recurring));
+        assertEquals(DayOfWeek.MONDAY, PackedScheduleSet.getDayOfWeek(recurring));
+        assertEquals(18 * 60, PackedScheduleSet.getStartMinute(recurring));
+        assertEquals(23 * 60 + 59, PackedScheduleSet.getEndMinute(recurring));
+        assertEquals(MONDAY_EVENING, PackedScheduleSet.decode(recurring));
+
+        long oneTime = PackedScheduleSet.encode(SECOND_DATE);
+        assertTrue(PackedScheduleSet.isOneTime(oneTime));
+        assertEquals(LocalDate.of(2025, 12, 31), PackedScheduleSet.getDate(oneTime));
+        assertEquals(DayOfWeek.WEDNESDAY, PackedScheduleSet.getDayOfWeek(oneTime));
+        assertEquals(SECOND_DATE, PackedScheduleSet.decode(oneTime));
+        assertEquals(SECOND_DATE.toString(), PackedScheduleSet.decode(oneTime).toString());
+    }
+
+    @Test
+    public void ofPacked_sameAsOf() {
+        PackedScheduleSet set = PackedScheduleSet.of(List.of(MONDAY_EVENING, MONDAY_MORNING), List.of(FIRST_DATE));
+        long[] values = {set.get(2), set.get(0), set.get(1), set.get(0)};
+        assertEquals(set, PackedScheduleSet.ofPacked(values));
+        assertSame(PackedScheduleSet.EMPTY, PackedScheduleSet.ofPacked());
+    }
+
+    @Test
+    public void ofPacked_invalidValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PackedScheduleSet.ofPacked(-1L));
+    }
+
+    @Test
+    public void isValid() {
+        long monday = PackedScheduleSet.encode(MONDAY_MORNING);
+        long firstDate = PackedScheduleSet.encode(FIRST_DATE);
+        assertTrue(PackedScheduleSet.isValid(monday));
+        assertTrue(PackedScheduleSet.isValid(firstDate));
+
+        // bits beyond the packed fields
+        assertFalse(PackedScheduleSet.isValid(monday | Long.MIN_VALUE));
+        // end not later than start
+        assertFalse(PackedScheduleSet.isValid(monday & ~((1L << 11) - 1)));
+        // end past midnight
+        assertFalse(PackedScheduleSet.isValid((monday & ~((1L << 11) - 1)) | 1500));
+        // recurring day key out of range
+        assertFalse(PackedScheduleSet.isValid(monday & ((1L << 22) - 1)));
+    }
+
+    @Test
+    public void contains() {
+        PackedScheduleSet set = PackedScheduleSet.of(List.of(MONDAY_MORNING), List.of(FIRST_DATE));
+        assertTrue(set.contains(PackedScheduleSet.encode(MONDAY_MORNING)));
+        assertFalse(set.contains(PackedScheduleSet.encode(MONDAY_EVENING)));
+
+        assertTrue(set.recurringSchedules().contains(new RecurringSchedule("Monday 0900 1000")));
+        assertTrue(set.oneTimeSchedules().contains(new OneTimeSchedule("1/1/25 0700 0830")));
+        assertFalse(set.recurringSchedules().contains(FIRST_DATE));
+        assertFalse(set.oneTimeSchedules().contains(SECOND_DATE));
+    }
+
+    @Test
+    public void views_matchEquivalentSets() {
+        PackedScheduleSet set = PackedScheduleSet.of(List.of(MONDAY_MORNING, SUNDAY), List.of(FIRST_DATE));
+        assertEquals(Set.of(MONDAY_MORNING, SUNDAY), set.recurringSchedules());
+        assertEquals(Set.of(FIRST_DATE), set.oneTimeSchedules());
+        assertEquals(Set.of(MONDAY_MORNING, SUNDAY).hashCode(), set.recurringSchedules().hashCode());
+    }
+
+    @Test
+    public void views_modification_throwsUnsupportedOperationException() {
+        PackedScheduleSet set = PackedScheduleSet.of(List.of(MONDAY_MORNING), List.of());
+        assertThrows(UnsupportedOperationException.class, () -> set.recurringSchedules().add(SUNDAY));
+        assertThrows(UnsupportedOperationException.class, () -> set.recurringSchedules().clear());
+    }
+
+    @Test
+    public void indexOfFirstOneTimeOnOrAfter() {
+        PackedScheduleSet set = PackedScheduleSet.of(List.of(MONDAY_MORNING, SUNDAY), List.of(FIRST_DATE, SECOND_DATE));
+
+        // before all one-time schedules -> first one-time index
+        assertEquals(2, set.indexOfFirstOneTimeOnOrAfter(LocalDate.of(2024, 12, 31)));
+
+        // on the date of a schedule -> index of that schedule
+        assertEquals(2, set.indexOfFirstOneTimeOnOrAfter(LocalDate.of(2025, 1, 1)));
+        assertEquals(3, set.indexOfFirstOneTimeOnOrAfter(LocalDate.of(2025, 12, 31)));
+
+        // after all one-time schedules -> size
+        assertEquals(4, set.indexOfFirstOneTimeOnOrAfter(LocalDate.of(2026, 1, 1)));
+    }
+
+    @Test
+    public void withoutRange() {
+        PackedScheduleSet set = PackedScheduleSet.of(List.of(MONDAY_MORNING, SUNDAY), List.of(FIRST_DATE, SECOND_DATE));
+
+        // empty range -> same set
+        assertSame(set, set.withoutRange(2, 2));
+
+        // whole set -> empty set
+        assertSame(PackedScheduleSet.EMPTY, set.withoutRange(0, 4));
+
+        // one-time schedules removed
+        PackedScheduleSet withoutFirstDate = set.withoutRange(2, 3);
+        assertEquals(PackedScheduleSet.of(List.of(MONDAY_MORNING, SUNDAY), List.of(SECOND_DATE)), withoutFirstDate);
+        assertEquals(2, withoutFirstDate.getFirstOneTimeIndex());
+
+        // recurring schedules removed
+        PackedScheduleSet withoutRecurring = set.withoutRange(0, 2);
+        assertEquals(PackedScheduleSet.of(List.of(), List.of(FIRST_DATE, SECOND_DATE)), withoutRecurring);
+        assertEquals(0, withoutRecurring.getFirstOneTimeIndex());
+
+        // out of bounds
+        assertThrows(IndexOutOfBoundsException.class, () -> set.withoutRange(3, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.withoutRange(2, 1));
+    }
+
+    @Test
+    public void equals() {
+        PackedScheduleSet set = PackedScheduleSet.of(List.of(MONDAY_MORNING), List.of(FIRST_DATE));
+
+        // same values -> returns true
+        assertEquals(set, PackedScheduleSet.of(List.of(MONDAY_MORNING), List.of(FIRST_DATE)));
+        assertEquals(set.hashCode(), PackedScheduleSet.of(List.of(MONDAY_MORNING), List.of(FIRST_DATE)).hashCode());
+
+        // same object -> returns true
+        assertEquals(set, set);
+
+        // null -> returns false
+        assertNotEquals(null, set);
+
+        // different values -> returns false
+        assertNotEquals(set, PackedScheduleSet.of(List.of(MONDAY_MORNING), List.of(SECOND_DATE)));
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_GOALS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LOCATION_BOB;
@@ -16,6 +17,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
@@ -28,6 +31,29 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void withoutOneTimeSchedulesBefore() {
+        Person person = new PersonBuilder().withRecurringSchedules()
+                .withOneTimeSchedules("01/01/25 1000 1200", "01/02/25 1000 1200", "01/03/25 1000 1200").build();
+
+        // no past schedules -> same person
+        assertSame(person, person.withoutOneTimeSchedulesBefore(LocalDate.of(2025, 1, 1)));
+
+        // past schedules removed, other fields kept
+        assertEquals(new PersonBuilder(person).withOneTimeSchedules("01/03/25 1000 1200").build(),
+                person.withoutOneTimeSchedulesBefore(LocalDate.of(2025, 3, 1)));
+
+        // all schedules past -> latest schedule kept
+        Person withLatestSchedule = new PersonBuilder(person).withOneTimeSchedules("01/03/25 1000 1200").build();
+        assertEquals(withLatestSchedule, person.withoutOneTimeSchedulesBefore(LocalDate.of(2025, 6, 1)));
+        assertSame(withLatestSchedule, withLatestSchedule.withoutOneTimeSchedulesBefore(LocalDate.of(2025, 6, 1)));
+
+        // all one-time schedules past but recurring schedules left -> all one-time schedules removed
+        Person withRecurringSchedule = new PersonBuilder(person).withRecurringSchedules("Monday 1000 1200").build();
+        assertEquals(new PersonBuilder(withRecurringSchedule).withOneTimeSchedules().build(),
+                withRecurringSchedule.withoutOneTimeSchedulesBefore(LocalDate.of(2025, 6, 1)));
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -135,6 +161,11 @@ public class PersonTest {
         // same object -> same hashcode
         assertEquals(ALICE.hashCode(), ALICE.hashCode());
 
+        // name differs only in case -> same hashcode, as the persons are equal
+        Person aliceLowerCase = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase()).build();
+        assertEquals(ALICE, aliceLowerCase);
+        assertEquals(ALICE.hashCode(), aliceLowerCase.hashCode());
+
         // different person -> different hashcode
         assertNotEquals(ALICE.hashCode(), BOB.hashCode());
 
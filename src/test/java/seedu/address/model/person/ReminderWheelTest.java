@@ -0,0 +1,128 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.OccurrenceUtil.expand;
+import static seedu.address.testutil.OccurrenceUtil.occurrence;
+import static seedu.address.testutil.OccurrenceUtil.randomPerson;
+import static seedu.address.testutil.OccurrenceUtil.sorted;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class ReminderWheelTest {
+
+    // a Monday
+    private static final LocalDateTime MONDAY_NOON = LocalDateTime.of(2025, 3, 10, 12, 0);
+
+    private static final Person WEEKLY = new PersonBuilder().withName("Weekly")
+            .withRecurringSchedules("Monday 1400 1600", "Monday 0010 0100").withOneTimeSchedules().build();
+    private static final Person ONE_TIME = new PersonBuilder().withName("One Time").withRecurringSchedules()
+            .withOneTimeSchedules("10/03/25 1000 1200", "10/03/25 1400 1500", "31/03/25 0800 0900").build();
+
+    @Test
+    public void constructor_negativeLeadTime_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ReminderWheel(-1, MONDAY_NOON));
+    }
+
+    @Test
+    public void advanceTo_recurringSession_raisedEveryWeek() {
+        ReminderWheel wheel = new ReminderWheel(15, MONDAY_NOON);
+        wheel.add(WEEKLY);
+
+        assertEquals(List.of(), wheel.advanceTo(MONDAY_NOON.withHour(13).withMinute(44)));
+        assertEquals(List.of(occurrence(WEEKLY, "10/03/25", "Monday 1400 1600")),
+                wheel.advanceTo(MONDAY_NOON.withHour(13).withMinute(45).withSecond(30)));
+        assertEquals(List.of(), wheel.advanceTo(MONDAY_NOON.withHour(13).withMinute(46)));
+
+        // the reminder of a session just after midnight is raised the day before
+        assertEquals(List.of(), wheel.advanceTo(LocalDateTime.of(2025, 3, 16, 23, 54)));
+        assertEquals(List.of(occurrence(WEEKLY, "17/03/25", "Monday 0010 0100")),
+                wheel.advanceTo(LocalDateTime.of(2025, 3, 16, 23, 55)));
+        assertEquals(List.of(), wheel.advanceTo(LocalDateTime.of(2025, 3, 17, 13, 44)));
+        assertEquals(List.of(occurrence(WEEKLY, "17/03/25", "Monday 1400 1600")),
+                wheel.advanceTo(LocalDateTime.of(2025, 3, 17, 13, 45)));
+    }
+
+    @Test
+    public void advanceTo_oneTimeSessions_raisedOnce() {
+        ReminderWheel wheel = new ReminderWheel(15, MONDAY_NOON);
+        // the reminder of the session at 1000 was due before it was added
+        wheel.add(ONE_TIME);
+
+        assertEquals(List.of(occurrence(ONE_TIME, "10/03/25 1400 1500")),
+                wheel.advanceTo(MONDAY_NOON.withHour(13).withMinute(45)));
+        assertEquals(List.of(), wheel.advanceTo(LocalDateTime.of(2025, 3, 17, 13, 45)));
+
+        // the session three weeks away is only moved into the wheel in its last week
+        assertEquals(List.of(), wheel.advanceTo(LocalDateTime.of(2025, 3, 31, 7, 44)));
+        assertEquals(List.of(occurrence(ONE_TIME, "31/03/25 0800 0900")),
+                wheel.advanceTo(LocalDateTime.of(2025, 3, 31, 7, 45)));
+    }
+
+    @Test
+    public void advanceTo_timeSkippedAhead_onlySessionsNotStartedRaised() {
+        ReminderWheel wheel = new ReminderWheel(15, MONDAY_NOON);
+        wheel.add(WEEKLY);
+        wheel.add(ONE_TIME);
+
+        // both sessions at 1400 have started, while the one at 0800 three weeks later has not
+        assertEquals(List.of(), wheel.advanceTo(MONDAY_NOON.withHour(14).withMinute(1)));
+        assertEquals(List.of(occurrence(ONE_TIME, "31/03/25 0800 0900")),
+                wheel.advanceTo(LocalDateTime.of(2025, 3, 31, 7, 50)));
+    }
+
+    @Test
+    public void advanceTo_timeMovedBack_remindersRaisedAgain() {
+        ReminderWheel wheel = new ReminderWheel(15, MONDAY_NOON);
+        wheel.add(WEEKLY);
+        wheel.advanceTo(MONDAY_NOON.withHour(13).withMinute(45));
+
+        assertEquals(List.of(), wheel.advanceTo(MONDAY_NOON));
+        assertEquals(List.of(occurrence(WEEKLY, "10/03/25", "Monday 1400 1600")),
+                wheel.advanceTo(MONDAY_NOON.withHour(13).withMinute(45)));
+    }
+
+    @Test
+    public void addAndRemove_personsChanged_updated() {
+        ReminderWheel wheel = new ReminderWheel(0, MONDAY_NOON);
+        wheel.add(WEEKLY);
+        wheel.add(ONE_TIME);
+        wheel.remove(WEEKLY);
+        assertEquals(List.of(occurrence(ONE_TIME, "10/03/25 1400 1500")),
+                wheel.advanceTo(MONDAY_NOON.withHour(14)));
+
+        wheel.remove(ONE_TIME);
+        wheel.add(WEEKLY);
+        assertEquals(List.of(), wheel.advanceTo(LocalDateTime.of(2025, 3, 31, 8, 0)));
+    }
+
+    @Test
+    public void advanceTo_everyMinute_sameAsExpandingEverySession() {
+        Random random = new Random(49);
+        int leadMinutes = 30;
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            persons.add(randomPerson("Person " + i, random, MONDAY_NOON.toLocalDate().minusDays(5), 30));
+        }
+        ReminderWheel wheel = new ReminderWheel(leadMinutes, MONDAY_NOON);
+        persons.subList(0, 80).forEach(wheel::add);
+        persons.subList(80, 100).forEach(wheel::add);
+        persons.subList(0, 10).forEach(wheel::remove);
+        List<Person> remaining = persons.subList(10, 100);
+
+        List<Occurrence> raised = new ArrayList<>();
+        LocalDateTime end = MONDAY_NOON.plusDays(20);
+        for (LocalDateTime time = MONDAY_NOON.plusMinutes(1); !time.isAfter(end); time = time.plusMinutes(1)) {
+            raised.addAll(wheel.advanceTo(time));
+        }
+        assertEquals(expand(remaining, MONDAY_NOON.plusMinutes(leadMinutes + 1), end.plusMinutes(leadMinutes)),
+                sorted(raised));
+    }
+}
@@ -1,7 +1,6 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -12,171 +11,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.testutil.PersonBuilder;
-
 public class ScheduleConflictDetectorTest {
 
-    @Test
-    public void checkScheduleConflict_recurringScheduleOverlapping_returnsConflict() {
-
-        RecurringSchedule newSchedule = new RecurringSchedule("Monday 1000 1200");
-
-        Set<RecurringSchedule> recurringSchedules = new HashSet<>();
-        recurringSchedules.add(new RecurringSchedule("Monday 1100 1300")); // Overlaps
-
-        Set<OneTimeSchedule> oneTimeSchedules = new HashSet<>();
-
-        Person person = createTestPerson(recurringSchedules, oneTimeSchedules);
-
-        // Should detect a conflict
-        ScheduleConflictResult result = ScheduleConflictDetector.checkScheduleConflict(person, newSchedule);
-        assertTrue(result.hasConflict());
-        assertTrue(result.getConflictDescription().contains("MONDAY"));
-        assertTrue(result.getConflictDescription().contains("1000-1200"));
-        assertTrue(result.getConflictDescription().contains("1100-1300"));
-    }
-
-    @Test
-    public void checkScheduleConflict_recurringScheduleNoOverlap_returnsNoConflict() {
-
-        RecurringSchedule newSchedule = new RecurringSchedule("Monday 1000 1200");
-
-        Set<RecurringSchedule> recurringSchedules = new HashSet<>();
-        recurringSchedules.add(new RecurringSchedule("Monday 1300 1500")); // No overlap (different time)
-        recurringSchedules.add(new RecurringSchedule("Tuesday 1000 1200")); // No overlap (different day)
-
-        Set<OneTimeSchedule> oneTimeSchedules = new HashSet<>();
-
-        Person person = createTestPerson(recurringSchedules, oneTimeSchedules);
-
-        // Should not detect a conflict
-        ScheduleConflictResult result = ScheduleConflictDetector.checkScheduleConflict(person, newSchedule);
-        assertFalse(result.hasConflict());
-    }
-
-    @Test
-    public void checkScheduleConflict_oneTimeScheduleOverlapping_returnsConflict() {
-
-        OneTimeSchedule newSchedule = new OneTimeSchedule("15/10 1000 1200");
-
-        Set<RecurringSchedule> recurringSchedules = new HashSet<>();
-
-        Set<OneTimeSchedule> oneTimeSchedules = new HashSet<>();
-        oneTimeSchedules.add(new OneTimeSchedule("15/10 1100 1300")); // Overlaps
-
-        Person person = createTestPerson(recurringSchedules, oneTimeSchedules);
-
-        // Should detect a conflict
-        ScheduleConflictResult result = ScheduleConflictDetector.checkScheduleConflict(person, newSchedule);
-        assertTrue(result.hasConflict());
-        assertTrue(result.getConflictDescription().contains("15/10"));
-        assertTrue(result.getConflictDescription().contains("1000-1200"));
-        assertTrue(result.getConflictDescription().contains("1100-1300"));
-    }
-
-    @Test
-    public void checkScheduleConflict_oneTimeScheduleNoOverlap_returnsNoConflict() {
-
-        OneTimeSchedule newSchedule = new OneTimeSchedule("15/10 1000 1200");
-
-        Set<RecurringSchedule> recurringSchedules = new HashSet<>();
-
-        Set<OneTimeSchedule> oneTimeSchedules = new HashSet<>();
-        oneTimeSchedules.add(new OneTimeSchedule("15/10 1300 1500")); // No overlap (different time)
-        oneTimeSchedules.add(new OneTimeSchedule("16/10 1000 1200")); // No overlap (different date)
-
-        Person person = createTestPerson(recurringSchedules, oneTimeSchedules);
-
-        // Should not detect a conflict
-        ScheduleConflictResult result = ScheduleConflictDetector.checkScheduleConflict(person, newSchedule);
-        assertFalse(result.hasConflict());
-    }
-
-    @Test
-    public void checkScheduleConflict_sameExactTime_returnsConflict() {
-
-        RecurringSchedule newSchedule = new RecurringSchedule("Monday 1000 1200");
-
-        Set<RecurringSchedule> recurringSchedules = new HashSet<>();
-        recurringSchedules.add(new RecurringSchedule("Monday 1000 1200")); // Exact same time
-
-        Set<OneTimeSchedule> oneTimeSchedules = new HashSet<>();
-
-        Person person = createTestPerson(recurringSchedules, oneTimeSchedules);
-
-        // Should detect a conflict
-        ScheduleConflictResult result = ScheduleConflictDetector.checkScheduleConflict(person, newSchedule);
-        assertTrue(result.hasConflict());
-    }
-
-    @Test
-    public void checkScheduleConflict_recurringWithOneTime_returnsConflict() {
-
-        RecurringSchedule newSchedule = new RecurringSchedule("Monday 1000 1200");
-
-        Set<RecurringSchedule> recurringSchedules = new HashSet<>();
-
-        Set<OneTimeSchedule> oneTimeSchedules = new HashSet<>();
-        oneTimeSchedules.add(new OneTimeSchedule("31/03 1100 1300")); // Overlaps
-
-        Person person = createTestPerson(recurringSchedules, oneTimeSchedules);
-
-        // Should detect a conflict
-        ScheduleConflictResult result = ScheduleConflictDetector.checkScheduleConflict(person, newSchedule);
-        assertTrue(result.hasConflict());
-    }
-
-    @Test
-    public void checkScheduleConflict_oneTimeWithRecurring_returnsConflict() {
-
-        OneTimeSchedule newSchedule = new OneTimeSchedule("31/03 1000 1200");
-
-        Set<RecurringSchedule> recurringSchedules = new HashSet<>();
-        recurringSchedules.add(new RecurringSchedule("Monday 1100 1300")); // Overlaps
-
-        Set<OneTimeSchedule> oneTimeSchedules = new HashSet<>();
-
-        Person person = createTestPerson(recurringSchedules, oneTimeSchedules);
-
-        // Should detect a conflict
-        ScheduleConflictResult result = ScheduleConflictDetector.checkScheduleConflict(person, newSchedule);
-        assertTrue(result.hasConflict());
-    }
-
-    @Test
-    public void checkScheduleConflict_recurringBoundaryCase_noConflict() {
-
-        RecurringSchedule newSchedule = new RecurringSchedule("Monday 1200 1400");
-
-        Set<RecurringSchedule> recurringSchedules = new HashSet<>();
-        recurringSchedules.add(new RecurringSchedule("Monday 1000 1200")); // Ends right when new one starts
-
-        Set<OneTimeSchedule> oneTimeSchedules = new HashSet<>();
-
-        Person person = createTestPerson(recurringSchedules, oneTimeSchedules);
-
-        // Should not detect a conflict since they're exactly adjacent
-        ScheduleConflictResult result = ScheduleConflictDetector.checkScheduleConflict(person, newSchedule);
-        assertFalse(result.hasConflict());
-    }
-
-    @Test
-    public void checkScheduleConflict_oneTimeBoundaryCase_noConflict() {
-
-        OneTimeSchedule newSchedule = new OneTimeSchedule("31/03 1200 1400");
-
-        Set<RecurringSchedule> recurringSchedules = new HashSet<>();
-
-        Set<OneTimeSchedule> oneTimeSchedules = new HashSet<>();
-        oneTimeSchedules.add(new OneTimeSchedule("31/03 1000 1200")); // Ends right when new one starts
-
-        Person person = createTestPerson(recurringSchedules, oneTimeSchedules);
-
-        // Should not detect a conflict since they're exactly adjacent
-        ScheduleConflictResult result = ScheduleConflictDetector.checkScheduleConflict(person, newSchedule);
-        assertFalse(result.hasConflict());
-    }
-
     @Test
     public void checkInternalScheduleConflicts_noConflict_returnsEmptyList() {
         Set<RecurringSchedule> recurringSchedules = new HashSet<>();
@@ -240,20 +76,6 @@ public class ScheduleConflictDetectorTest {
         assertEquals(4, conflicts.size(), "Should detect four internal conflicts");
     }
 
-    @Test
-    public void checkScheduleConflict_nullPerson_throwsNullPointerException() {
-        Schedule schedule = new RecurringSchedule("Monday 1200 1300");
-        assertThrows(NullPointerException.class, () ->
-                ScheduleConflictDetector.checkScheduleConflict(null, schedule));
-    }
-
-    @Test
-    public void checkScheduleConflict_nullSchedule_throwsNullPointerException() {
-        Person person = new PersonBuilder().build();
-        assertThrows(NullPointerException.class, () ->
-                ScheduleConflictDetector.checkScheduleConflict(person, null));
-    }
-
     @Test
     public void checkInternalScheduleConflicts_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->
@@ -281,13 +103,6 @@ public class ScheduleConflictDetectorTest {
         assertEquals(null, exception.getMessage());
     }
 
-    @Test
-    public void checkScheduleConflict_unknownScheduleType_fallsThroughToAssert() {
-        Person person = new PersonBuilder().build();
-        Schedule unknownSchedule = new TestSchedule("1200", "1300");
-        assertThrows(AssertionError.class, () ->
-                ScheduleConflictDetector.checkScheduleConflict(person, unknownSchedule));
-    }
     private boolean invokeHasTimeOverlapBetweenSchedules(Schedule schedule1, Schedule schedule2)
             throws Exception {
         java.lang.reflect.Method method = ScheduleConflictDetector.class
@@ -301,15 +116,6 @@ public class ScheduleConflictDetectorTest {
         method.setAccessible(true);
         return (int) method.invoke(null, time);
     }
-    private static class TestSchedule extends Schedule {
-        public TestSchedule(String startTime, String endTime) {
-            super(startTime, endTime);
-        }
-        @Override
-        public String toString() {
-            return "TestSchedule[" + startTime + "-" + endTime + "]";
-        }
-    }
 
     /**
      * Helper method to create a test person with specified schedules.
@@ -0,0 +1,236 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.person.CapacityLimits.ONE_AT_A_TIME;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class ScheduleOccupancyTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 10);
+    private static final LocalDate NEXT_MONDAY = MONDAY.plusWeeks(1);
+
+    private static final Person MONDAY_AFTERNOON = new PersonBuilder().withName("Monday Afternoon")
+            .withRecurringSchedules("Monday 1400 1600").withOneTimeSchedules().build();
+    private static final Person MONDAY_LATE_AFTERNOON = new PersonBuilder().withName("Monday Late Afternoon")
+            .withRecurringSchedules("Monday 1500 1700").withOneTimeSchedules().build();
+    private static final Person ONE_TIME_EVENING = new PersonBuilder().withName("One Time Evening")
+            .withRecurringSchedules().withOneTimeSchedules("10/03/25 1600 1800").build();
+
+    @Test
+    public void findFreeSlots_noSchedules_wholeWindowFree() {
+        ScheduleOccupancy occupancy = ScheduleOccupancy.of(List.of());
+        assertEquals(List.of(TimeSlot.WHOLE_DAY),
+                occupancy.findFreeSlots(MONDAY, TimeSlot.WHOLE_DAY, 1, ONE_AT_A_TIME));
+        assertEquals(List.of(new TimeSlot(480, 1200)),
+                occupancy.findFreeSlots(MONDAY, new TimeSlot(480, 1200), 1, ONE_AT_A_TIME));
+    }
+
+    @Test
+    public void findFreeSlots_recurringAndOneTimeSchedules_combined() {
+        ScheduleOccupancy occupancy = ScheduleOccupancy.of(List.of(MONDAY_AFTERNOON, ONE_TIME_EVENING));
+
+        assertEquals(List.of(new TimeSlot(0, 840), new TimeSlot(1080, 1440)),
+                occupancy.findFreeSlots(MONDAY, TimeSlot.WHOLE_DAY, 1, ONE_AT_A_TIME));
+        // the one-time schedule is only on its date
+        assertEquals(List.of(new TimeSlot(0, 840), new TimeSlot(960, 1440)),
+                occupancy.findFreeSlots(NEXT_MONDAY, TimeSlot.WHOLE_DAY, 1, ONE_AT_A_TIME));
+        // the recurring schedule is only on its day of week
+        assertEquals(List.of(TimeSlot.WHOLE_DAY),
+                occupancy.findFreeSlots(MONDAY.plusDays(1), TimeSlot.WHOLE_DAY, 1, ONE_AT_A_TIME));
+    }
+
+    @Test
+    public void findFreeSlots_windowAndMinimumLength_slotsClippedAndFiltered() {
+        ScheduleOccupancy occupancy = ScheduleOccupancy.of(List.of(MONDAY_AFTERNOON));
+
+        assertEquals(List.of(new TimeSlot(780, 840), new TimeSlot(960, 1020)),
+                occupancy.findFreeSlots(MONDAY, new TimeSlot(780, 1020), 1, ONE_AT_A_TIME));
+        assertEquals(List.of(new TimeSlot(0, 840)),
+                occupancy.findFreeSlots(MONDAY, TimeSlot.WHOLE_DAY, 500, ONE_AT_A_TIME));
+        assertEquals(List.of(), occupancy.findFreeSlots(MONDAY, new TimeSlot(840, 960), 1, ONE_AT_A_TIME));
+        assertEquals(List.of(),
+                occupancy.findFreeSlots(MONDAY, TimeSlot.WHOLE_DAY, TimeSlot.MINUTES_PER_DAY, ONE_AT_A_TIME));
+    }
+
+    @Test
+    public void remove_overlappingSchedule_otherScheduleStaysMarked() {
+        ScheduleOccupancy occupancy = ScheduleOccupancy.of(List.of(MONDAY_AFTERNOON, MONDAY_LATE_AFTERNOON));
+        occupancy.remove(MONDAY_AFTERNOON);
+
+        assertEquals(List.of(new TimeSlot(0, 900), new TimeSlot(1020, 1440)),
+                occupancy.findFreeSlots(MONDAY, TimeSlot.WHOLE_DAY, 1, ONE_AT_A_TIME));
+    }
+
+    @Test
+    public void remove_scheduleHeldByAnotherPerson_staysMarked() {
+        Person sameSchedule = new PersonBuilder(MONDAY_AFTERNOON).withName("Same Schedule").build();
+        ScheduleOccupancy occupancy = ScheduleOccupancy.of(List.of(MONDAY_AFTERNOON, sameSchedule));
+
+        occupancy.remove(MONDAY_AFTERNOON);
+        assertEquals(List.of(new TimeSlot(0, 840), new TimeSlot(960, 1440)),
+                occupancy.findFreeSlots(MONDAY, TimeSlot.WHOLE_DAY, 1, ONE_AT_A_TIME));
+
+        occupancy.remove(sameSchedule);
+        assertTrue(occupancy.getOccupiedMinutes(MONDAY).isEmpty());
+    }
+
+    @Test
+    public void findFreeSlots_dayOfWeek_oneTimeSchedulesOnAnyDateOfDayCombined() {
+        Person nextMondayMorning = new PersonBuilder().withName("Next Monday Morning")
+                .withRecurringSchedules().withOneTimeSchedules("17/03/25 0900 1000").build();
+        ScheduleOccupancy occupancy = ScheduleOccupancy.of(List.of(MONDAY_AFTERNOON, ONE_TIME_EVENING,
+                nextMondayMorning));
+
+        assertEquals(List.of(new TimeSlot(0, 540), new TimeSlot(600, 840), new TimeSlot(1080, 1440)),
+                occupancy.findFreeSlots(DayOfWeek.MONDAY, TimeSlot.WHOLE_DAY, 1, ONE_AT_A_TIME, MONDAY));
+        assertEquals(List.of(TimeSlot.WHOLE_DAY),
+                occupancy.findFreeSlots(DayOfWeek.TUESDAY, TimeSlot.WHOLE_DAY, 1, ONE_AT_A_TIME, MONDAY));
+
+        occupancy.remove(ONE_TIME_EVENING);
+        assertEquals(List.of(new TimeSlot(0, 540), new TimeSlot(600, 840), new TimeSlot(960, 1440)),
+                occupancy.findFreeSlots(DayOfWeek.MONDAY, TimeSlot.WHOLE_DAY, 1, ONE_AT_A_TIME, MONDAY));
+    }
+
+    @Test
+    public void findFreeSlots_studioCapacity_freeUntilFull() {
+        ScheduleOccupancy occupancy = ScheduleOccupancy.of(List.of(MONDAY_AFTERNOON, MONDAY_LATE_AFTERNOON));
+        CapacityLimits twoAtATime = CapacityLimits.of(2, Map.of());
+
+        assertEquals(List.of(new TimeSlot(0, 900), new TimeSlot(960, 1440)),
+                occupancy.findFreeSlots(MONDAY, TimeSlot.WHOLE_DAY, 1, twoAtATime));
+        assertEquals(List.of(TimeSlot.WHOLE_DAY),
+                occupancy.findFreeSlots(MONDAY, TimeSlot.WHOLE_DAY, 1, CapacityLimits.of(3, Map.of())));
+        // a capacity window lowers the capacity within it only
+        assertEquals(List.of(new TimeSlot(0, 840), new TimeSlot(960, 1440)),
+                occupancy.findFreeSlots(MONDAY, TimeSlot.WHOLE_DAY, 1,
+                        CapacityLimits.of(2, Map.of("Mon 1400 1500", 1))));
+    }
+
+    @Test
+    public void findFreeSlots_dayOfWeekWithCapacity_busiestDateCounted() {
+        Person nextMondayLateAfternoon = new PersonBuilder().withName("Next Monday Late Afternoon")
+                .withRecurringSchedules().withOneTimeSchedules("17/03/25 1500 1700").build();
+        ScheduleOccupancy occupancy = ScheduleOccupancy.of(List.of(MONDAY_AFTERNOON, ONE_TIME_EVENING,
+                nextMondayLateAfternoon));
+        CapacityLimits twoAtATime = CapacityLimits.of(2, Map.of());
+
+        // only the next Monday holds two sessions at once, from 1500 to 1600
+        assertEquals(List.of(new TimeSlot(0, 900), new TimeSlot(960, 1440)),
+                occupancy.findFreeSlots(DayOfWeek.MONDAY, TimeSlot.WHOLE_DAY, 1, twoAtATime, MONDAY));
+        assertEquals(List.of(new TimeSlot(0, 900), new TimeSlot(960, 1440)),
+                occupancy.findFreeSlots(NEXT_MONDAY, TimeSlot.WHOLE_DAY, 1, twoAtATime));
+        assertEquals(List.of(TimeSlot.WHOLE_DAY),
+                occupancy.findFreeSlots(MONDAY, TimeSlot.WHOLE_DAY, 1, twoAtATime));
+    }
+
+    @Test
+    public void findCapacityViolations_oneAtATime_overlapsReported() {
+        ScheduleOccupancy occupancy = ScheduleOccupancy.of(List.of(MONDAY_AFTERNOON));
+
+        assertEquals(List.of(new CapacityViolation(DayOfWeek.MONDAY, null, new TimeSlot(900, 960), 2, 1)),
+                occupancy.findCapacityViolations(MONDAY_LATE_AFTERNOON, null, ONE_AT_A_TIME, MONDAY));
+        // sessions that only touch do not overlap
+        Person morning = new PersonBuilder().withName("Morning").withRecurringSchedules("Monday 1000 1400")
+                .withOneTimeSchedules().build();
+        assertEquals(List.of(), occupancy.findCapacityViolations(morning, null, ONE_AT_A_TIME, MONDAY));
+    }
+
+    @Test
+    public void findCapacityViolations_capacityWindows_onlyOverCapacityReported() {
+        ScheduleOccupancy occupancy = ScheduleOccupancy.of(List.of(MONDAY_AFTERNOON));
+
+        CapacityLimits groupAfternoon = CapacityLimits.of(1, Map.of("Mon 1400 1700", 2));
+        assertEquals(List.of(), occupancy.findCapacityViolations(MONDAY_LATE_AFTERNOON, null, groupAfternoon, MONDAY));
+
+        CapacityLimits groupLateAfternoon = CapacityLimits.of(1, Map.of("Mon 1530 1700", 2));
+        assertEquals(List.of(new CapacityViolation(DayOfWeek.MONDAY, null, new TimeSlot(900, 930), 2, 1)),
+                occupancy.findCapacityViolations(MONDAY_LATE_AFTERNOON, null, groupLateAfternoon, MONDAY));
+    }
+
+    @Test
+    public void findCapacityViolations_replacedPerson_replacedSessionsNotCounted() {
+        ScheduleOccupancy occupancy = ScheduleOccupancy.of(List.of(MONDAY_AFTERNOON));
+        Person edited = new PersonBuilder(MONDAY_AFTERNOON).withRecurringSchedules("Monday 1500 1700").build();
+
+        assertEquals(List.of(),
+                occupancy.findCapacityViolations(edited, MONDAY_AFTERNOON, ONE_AT_A_TIME, MONDAY));
+    }
+
+    @Test
+    public void findCapacityViolations_recurringSessionWithOneTimeSessions_datesChecked() {
+        Person nextMondayMorning = new PersonBuilder().withName("Next Monday Morning")
+                .withRecurringSchedules().withOneTimeSchedules("17/03/25 0900 1000").build();
+
+        // a date with the same span as every week is not repeated
+        ScheduleOccupancy occupancy = ScheduleOccupancy.of(List.of(MONDAY_AFTERNOON, nextMondayMorning));
+        assertEquals(List.of(new CapacityViolation(DayOfWeek.MONDAY, null, new TimeSlot(900, 960), 2, 1)),
+                occupancy.findCapacityViolations(MONDAY_LATE_AFTERNOON, null, ONE_AT_A_TIME, MONDAY));
+
+        // a date with a longer span is
+        occupancy.add(ONE_TIME_EVENING);
+        assertEquals(List.of(new CapacityViolation(DayOfWeek.MONDAY, null, new TimeSlot(900, 960), 2, 1),
+                new CapacityViolation(DayOfWeek.MONDAY, MONDAY, new TimeSlot(900, 1020), 2, 1)),
+                occupancy.findCapacityViolations(MONDAY_LATE_AFTERNOON, null, ONE_AT_A_TIME, MONDAY));
+
+        // a one-time session is held with the recurring sessions on its day
+        Person oneTime = new PersonBuilder().withName("One Time").withRecurringSchedules()
+                .withOneTimeSchedules("17/03/25 1500 1530").build();
+        assertEquals(List.of(new CapacityViolation(DayOfWeek.MONDAY, NEXT_MONDAY, new TimeSlot(900, 930), 2, 1)),
+                occupancy.findCapacityViolations(oneTime, null, ONE_AT_A_TIME, MONDAY));
+    }
+
+    @Test
+    public void findCapacityViolations_overCapacityWithoutPerson_ignored() {
+        ScheduleOccupancy occupancy = ScheduleOccupancy.of(List.of(MONDAY_AFTERNOON, MONDAY_LATE_AFTERNOON));
+        Person morning = new PersonBuilder().withName("Morning").withRecurringSchedules("Monday 0900 1000")
+                .withOneTimeSchedules().build();
+
+        assertEquals(List.of(), occupancy.findCapacityViolations(morning, null, ONE_AT_A_TIME, MONDAY));
+    }
+
+    @Test
+    public void findCapacityViolations_ownOverlappingSessions_countedOnce() {
+        ScheduleOccupancy occupancy = ScheduleOccupancy.of(List.of(MONDAY_AFTERNOON));
+        Person overlapping = new PersonBuilder().withName("Overlapping")
+                .withRecurringSchedules("Monday 1000 1200", "Monday 1100 1300", "Monday 1500 1700")
+                .withOneTimeSchedules().build();
+
+        assertEquals(List.of(new CapacityViolation(DayOfWeek.MONDAY, null, new TimeSlot(900, 960), 2, 1)),
+                occupancy.findCapacityViolations(overlapping, null, ONE_AT_A_TIME, MONDAY));
+        assertEquals(List.of(),
+                occupancy.findCapacityViolations(overlapping, null, CapacityLimits.of(2, Map.of()), MONDAY));
+    }
+
+    @Test
+    public void findCapacityViolations_datesBeforeToday_ignored() {
+        Person pastOverlap = new PersonBuilder().withName("Past Overlap")
+                .withRecurringSchedules().withOneTimeSchedules("10/03/25 1500 1700").build();
+        ScheduleOccupancy occupancy = ScheduleOccupancy.of(List.of(ONE_TIME_EVENING));
+
+        assertEquals(1, occupancy.findCapacityViolations(pastOverlap, null, ONE_AT_A_TIME, MONDAY).size());
+        assertEquals(List.of(), occupancy.findCapacityViolations(pastOverlap, null, ONE_AT_A_TIME, NEXT_MONDAY));
+        // a recurring session no longer clashes with a one-time session on a date that is over
+        assertEquals(1, occupancy.findCapacityViolations(MONDAY_LATE_AFTERNOON, null, ONE_AT_A_TIME, MONDAY).size());
+        assertEquals(List.of(),
+                occupancy.findCapacityViolations(MONDAY_LATE_AFTERNOON, null, ONE_AT_A_TIME, NEXT_MONDAY));
+    }
+
+    @Test
+    public void findFreeSlots_dayOfWeekWithDatesBeforeToday_datesIgnored() {
+        ScheduleOccupancy occupancy = ScheduleOccupancy.of(List.of(MONDAY_AFTERNOON, ONE_TIME_EVENING));
+
+        assertEquals(List.of(new TimeSlot(0, 840), new TimeSlot(1080, 1440)),
+                occupancy.findFreeSlots(DayOfWeek.MONDAY, TimeSlot.WHOLE_DAY, 1, ONE_AT_A_TIME, MONDAY));
+        assertEquals(List.of(new TimeSlot(0, 840), new TimeSlot(960, 1440)),
+                occupancy.findFreeSlots(DayOfWeek.MONDAY, TimeSlot.WHOLE_DAY, 1, ONE_AT_A_TIME, NEXT_MONDAY));
+    }
+}
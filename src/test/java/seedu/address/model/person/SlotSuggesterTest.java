@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.SlotSuggester.Suggestion;
+
+public class SlotSuggesterTest {
+
+    // sessions from 1400 to 1600 on Mondays and from 1500 to 1700 on Wednesdays, and none on Fridays
+    private static final Map<DayOfWeek, List<TimeSlot>> FREE_SLOTS = new EnumMap<>(Map.of(
+            DayOfWeek.MONDAY, List.of(new TimeSlot(0, 840), new TimeSlot(960, 1440)),
+            DayOfWeek.WEDNESDAY, List.of(new TimeSlot(0, 900), new TimeSlot(1020, 1440)),
+            DayOfWeek.FRIDAY, List.of(TimeSlot.WHOLE_DAY)));
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new SlotSuggester(1, 60, null, 3));
+        assertThrows(IllegalArgumentException.class, () -> new SlotSuggester(0, 60, TimeSlot.WHOLE_DAY, 3));
+        assertThrows(IllegalArgumentException.class, () -> new SlotSuggester(8, 60, TimeSlot.WHOLE_DAY, 3));
+        assertThrows(IllegalArgumentException.class, () -> new SlotSuggester(1, 0, TimeSlot.WHOLE_DAY, 3));
+        assertThrows(IllegalArgumentException.class, () -> new SlotSuggester(1, 60, TimeSlot.WHOLE_DAY, 0));
+    }
+
+    @Test
+    public void suggest_sessionsNextToExistingSessions_suggestedFirst() {
+        List<Suggestion> expected = List.of(
+                new Suggestion(List.of(schedule("Monday 1300 1400"), schedule("Wednesday 1400 1500")), 0),
+                new Suggestion(List.of(schedule("Monday 1300 1400"), schedule("Wednesday 1700 1800")), 0),
+                new Suggestion(List.of(schedule("Monday 1600 1700"), schedule("Wednesday 1400 1500")), 0));
+        assertEquals(expected, new SlotSuggester(2, 60, TimeSlot.WHOLE_DAY, 3).suggest(FREE_SLOTS));
+    }
+
+    @Test
+    public void suggest_window_sessionsWithinWindow() {
+        // 0800 to 1200
+        List<Suggestion> expected = List.of(
+                new Suggestion(List.of(schedule("Monday 1100 1200")), 120),
+                new Suggestion(List.of(schedule("Monday 1030 1130")), 150),
+                new Suggestion(List.of(schedule("Monday 1000 1100")), 180));
+        assertEquals(expected, new SlotSuggester(1, 60, new TimeSlot(480, 720), 3).suggest(FREE_SLOTS));
+    }
+
+    @Test
+    public void suggest_emptyDay_wholeDayIdle() {
+        Map<DayOfWeek, List<TimeSlot>> fridayOnly = Map.of(DayOfWeek.FRIDAY, List.of(TimeSlot.WHOLE_DAY));
+        assertEquals(List.of(new Suggestion(List.of(schedule("Friday 0800 0900")), TimeSlot.MINUTES_PER_DAY)),
+                new SlotSuggester(1, 60, new TimeSlot(480, 1200), 1).suggest(fridayOnly));
+    }
+
+    @Test
+    public void suggest_notEnoughDaysWithFreeTime_noSuggestions() {
+        assertEquals(List.of(), new SlotSuggester(4, 60, TimeSlot.WHOLE_DAY, 3).suggest(FREE_SLOTS));
+        // only Friday has more than 15 free hours in a row
+        assertEquals(List.of(), new SlotSuggester(2, 901, TimeSlot.WHOLE_DAY, 3).suggest(FREE_SLOTS));
+        assertEquals(List.of(), new SlotSuggester(1, 60, TimeSlot.WHOLE_DAY, 3).suggest(Map.of()));
+    }
+
+    @Test
+    public void suggest_manyTiedOptions_boundedSearchReturnsLimit() {
+        Map<DayOfWeek, List<TimeSlot>> emptyWeek = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            emptyWeek.put(day, List.of(TimeSlot.WHOLE_DAY));
+        }
+
+        List<Suggestion> suggestions = new SlotSuggester(7, 15, TimeSlot.WHOLE_DAY, 5).suggest(emptyWeek);
+        assertEquals(5, suggestions.size());
+        for (Suggestion suggestion : suggestions) {
+            assertEquals(7, suggestion.getSessions().size());
+            assertEquals(7 * TimeSlot.MINUTES_PER_DAY, suggestion.getIdleMinutes());
+        }
+    }
+
+    private static RecurringSchedule schedule(String schedule) {
+        return RecurringSchedule.of(schedule);
+    }
+}
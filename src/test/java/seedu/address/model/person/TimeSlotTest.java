@@ -0,0 +1,43 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeSlotTest {
+
+    @Test
+    public void constructor_invalidSlot_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeSlot(-1, 60));
+        assertThrows(IllegalArgumentException.class, () -> new TimeSlot(0, TimeSlot.MINUTES_PER_DAY + 1));
+        assertThrows(IllegalArgumentException.class, () -> new TimeSlot(60, 60));
+        assertThrows(IllegalArgumentException.class, () -> new TimeSlot(120, 60));
+    }
+
+    @Test
+    public void getLength() {
+        assertEquals(TimeSlot.MINUTES_PER_DAY, TimeSlot.WHOLE_DAY.getLength());
+        assertEquals(90, new TimeSlot(480, 570).getLength());
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("0000-2400", TimeSlot.WHOLE_DAY.toString());
+        assertEquals("0800-0930", new TimeSlot(480, 570).toString());
+    }
+
+    @Test
+    public void equals() {
+        TimeSlot slot = new TimeSlot(480, 570);
+
+        assertTrue(slot.equals(slot));
+        assertTrue(slot.equals(new TimeSlot(480, 570)));
+        assertFalse(slot.equals(null));
+        assertFalse(slot.equals(480));
+        assertFalse(slot.equals(new TimeSlot(480, 600)));
+        assertFalse(slot.equals(new TimeSlot(420, 570)));
+    }
+}
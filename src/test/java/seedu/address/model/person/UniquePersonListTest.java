@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LOCATION_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ONETIMESCHEDULE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -187,6 +188,14 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityPersons_throwsDuplicatePersonException() {
+        Person aliceWithOtherFields = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase())
+                .withPhone(VALID_PHONE_BOB).build();
+        List<Person> listWithSameIdentityPersons = Arrays.asList(ALICE, BOB, aliceWithOtherFields);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithSameIdentityPersons));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
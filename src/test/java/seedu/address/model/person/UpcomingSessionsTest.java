@@ -0,0 +1,105 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.OccurrenceUtil.expand;
+import static seedu.address.testutil.OccurrenceUtil.occurrence;
+import static seedu.address.testutil.OccurrenceUtil.randomPerson;
+import static seedu.address.testutil.OccurrenceUtil.sorted;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class UpcomingSessionsTest {
+
+    // a Monday
+    private static final LocalDateTime MONDAY_NOON = LocalDateTime.of(2025, 3, 10, 12, 0);
+
+    private static final Person WEEKLY = new PersonBuilder().withName("Weekly")
+            .withRecurringSchedules("Monday 1400 1600", "Wednesday 0900 1000").withOneTimeSchedules().build();
+    private static final Person ONE_TIME = new PersonBuilder().withName("One Time").withRecurringSchedules()
+            .withOneTimeSchedules("10/03/25 1000 1200", "10/03/25 1400 1500", "11/03/25 0800 0900").build();
+
+    @Test
+    public void next_startedSessionsLeftOut_soonestFirst() {
+        // sessions at the same time are ordered by their end time
+        UpcomingSessions upcomingSessions = UpcomingSessions.of(List.of(WEEKLY, ONE_TIME), MONDAY_NOON);
+
+        assertEquals(List.of(
+                occurrence(ONE_TIME, "10/03/25 1400 1500"),
+                occurrence(WEEKLY, "10/03/25", "Monday 1400 1600"),
+                occurrence(ONE_TIME, "11/03/25 0800 0900"),
+                occurrence(WEEKLY, "12/03/25", "Wednesday 0900 1000"),
+                occurrence(WEEKLY, "17/03/25", "Monday 1400 1600")), upcomingSessions.next(5, MONDAY_NOON));
+        assertEquals(List.of(), upcomingSessions.next(0, MONDAY_NOON));
+    }
+
+    @Test
+    public void next_timePasses_startedSessionsLeftOut() {
+        UpcomingSessions upcomingSessions = UpcomingSessions.of(List.of(WEEKLY, ONE_TIME), MONDAY_NOON);
+        upcomingSessions.next(1, MONDAY_NOON);
+
+        // the one-time sessions are all over by Wednesday
+        assertEquals(List.of(
+                occurrence(WEEKLY, "17/03/25", "Monday 1400 1600"),
+                occurrence(WEEKLY, "19/03/25", "Wednesday 0900 1000")),
+                upcomingSessions.next(2, MONDAY_NOON.plusDays(2).withHour(9).withMinute(1)));
+
+        // going back in time brings them back
+        assertEquals(List.of(occurrence(ONE_TIME, "10/03/25 1000 1200")),
+                upcomingSessions.next(1, MONDAY_NOON.withHour(10)));
+    }
+
+    @Test
+    public void addAndRemove_personsChanged_updated() {
+        UpcomingSessions upcomingSessions = UpcomingSessions.of(List.of(WEEKLY), MONDAY_NOON);
+        upcomingSessions.add(ONE_TIME);
+        assertEquals(List.of(occurrence(ONE_TIME, "10/03/25 1400 1500"),
+                occurrence(WEEKLY, "10/03/25", "Monday 1400 1600")), upcomingSessions.next(2, MONDAY_NOON));
+
+        upcomingSessions.remove(WEEKLY);
+        assertEquals(List.of(occurrence(ONE_TIME, "10/03/25 1400 1500"), occurrence(ONE_TIME, "11/03/25 0800 0900")),
+                upcomingSessions.next(3, MONDAY_NOON));
+
+        upcomingSessions.remove(ONE_TIME);
+        assertEquals(List.of(), upcomingSessions.next(3, MONDAY_NOON));
+    }
+
+    @Test
+    public void next_manyPersons_sameAsExpandingEverySession() {
+        Random random = new Random(48);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            persons.add(randomPerson("Person " + i, random, MONDAY_NOON.toLocalDate().minusDays(5), 40));
+        }
+        UpcomingSessions upcomingSessions = UpcomingSessions.of(persons.subList(0, 150), MONDAY_NOON);
+        persons.subList(150, 200).forEach(upcomingSessions::add);
+        persons.subList(0, 20).forEach(upcomingSessions::remove);
+        List<Person> remaining = persons.subList(20, 200);
+
+        LocalDateTime now = MONDAY_NOON;
+        for (int round = 0; round < 10; round++) {
+            now = now.plusMinutes(random.nextInt(3 * 24 * 60));
+            List<Occurrence> expected = expand(remaining, now, 50);
+            List<Occurrence> actual = sorted(upcomingSessions.next(50, now));
+            // sessions at the same time as the last one may be cut off in either order
+            Occurrence last = expected.get(expected.size() - 1);
+            assertEquals(expected.size(), actual.size());
+            assertEquals(withoutSessionsAtSameTime(expected, last), withoutSessionsAtSameTime(actual, last));
+        }
+    }
+
+    private static List<Occurrence> withoutSessionsAtSameTime(List<Occurrence> occurrences, Occurrence other) {
+        return occurrences.stream()
+                .filter(occurrence -> !occurrence.getDate().equals(other.getDate())
+                        || occurrence.getStartMinute() != other.getStartMinute()
+                        || occurrence.getEndMinute() != other.getEndMinute())
+                .collect(Collectors.toList());
+    }
+}
@@ -1,7 +1,13 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -23,4 +29,18 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void of_equalNames_returnsSameInstance() {
+        assertSame(Tag.of("strength"), Tag.of(new String("strength")));
+    }
+
+    @Test
+    public void of_manyRepeatedNames_keepsOneInstancePerName() {
+        Set<Tag> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < 10_000; i++) {
+            distinct.add(Tag.of(i % 2 == 0 ? "strength" : "cardio"));
+        }
+        assertEquals(2, distinct.size());
+    }
+
 }
@@ -0,0 +1,247 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+        assertFalse(new BinaryAddressBookStorage(filePath).recoverAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_jsonFile_exceptionThrown() {
+        BinaryAddressBookStorage storage =
+                new BinaryAddressBookStorage(TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json"));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+        assertThrows(DataLoadingException.class, storage::recoverAddressBook);
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("future.bin");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookStorage.MAGIC);
+        out.writeShort(BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        out.writeInt(0);
+        out.writeInt(0);
+        Files.write(filePath, bytes.toByteArray());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("truncated.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        binaryAddressBookStorage.saveAddressBook(original); // file path not specified
+        readBack = binaryAddressBookStorage.readAddressBook().get(); // file path not specified
+        assertEquals(original, new AddressBook(readBack));
+
+        // Empty address book
+        binaryAddressBookStorage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_sharedValues_storedOnce() throws Exception {
+        Path filePath = testFolder.resolve("shared.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Path jsonFilePath = testFolder.resolve("shared.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_tooManyTags_fileUntouched() throws Exception {
+        Path filePath = testFolder.resolve("tooManyTags.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] saved = Files.readAllBytes(filePath);
+
+        String[] tags = IntStream.rangeClosed(0, BinaryAddressBookStorage.MAX_COUNT)
+                .mapToObj(i -> "tag" + i)
+                .toArray(String[]::new);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(new PersonBuilder(HOON).withTags(tags).build());
+
+        assertThrows(IOException.class, String.format(BinaryAddressBookStorage.MESSAGE_TOO_MANY, HOON.getName(),
+                BinaryAddressBookStorage.MAX_COUNT + 1, "tags", BinaryAddressBookStorage.MAX_COUNT), () ->
+                storage.saveAddressBook(addressBook));
+        assertTrue(Arrays.equals(saved, Files.readAllBytes(filePath)));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_failedFirstSave_noFileLeft() {
+        Path filePath = testFolder.resolve("missing").resolve("failed.bin");
+        ReadOnlyAddressBook addressBook = () -> {
+            throw new IllegalStateException();
+        };
+
+        assertThrows(IllegalStateException.class, () -> new BinaryAddressBookStorage(filePath)
+                .saveAddressBook(addressBook));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void convertBetweenFormats_sameAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path jsonFilePath = testFolder.resolve("original.json");
+        Path binaryFilePath = testFolder.resolve("converted.bin");
+        Path convertedBackFilePath = testFolder.resolve("convertedBack.json");
+
+        // JSON -> binary
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        ReadOnlyAddressBook fromJson = new JsonAddressBookStorage(jsonFilePath).readAddressBook().get();
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(fromJson);
+        ReadOnlyAddressBook fromBinary = new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(fromBinary));
+
+        // binary -> JSON
+        new JsonAddressBookStorage(convertedBackFilePath).saveAddressBook(fromBinary);
+        assertEquals(original,
+                new AddressBook(new JsonAddressBookStorage(convertedBackFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void recoverAddressBook_invalidRecords_validPersonsKept() throws Exception {
+        Path filePath = testFolder.resolve("partlyInvalid.bin");
+        writeFile(filePath, new String[] {"Goals", "History", "Location", "friends"},
+                record("Valid Person", "91234567", new int[] {3}),
+                record("Invalid Phone Person", "948asdf2424", new int[0]),
+                record("Dangling Tag Person", "92345678", new int[] {4}),
+                record("Valid Person", "93456789", new int[0]));
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        AddressBookRecovery recovery = storage.recoverAddressBook().get();
+        assertEquals(1, recovery.getRecoveredCount());
+        assertEquals("Valid Person", recovery.getAddressBook().getPersonList().get(0).getName().fullName);
+        assertEquals(3, recovery.getQuarantinedCount());
+
+        JsonNode quarantined = JsonUtil.readJsonTree(recovery.getQuarantineFilePath().get()).get().get("quarantined");
+        assertEquals(Phone.MESSAGE_CONSTRAINTS, quarantined.get(0).get("reason").asText());
+        assertEquals("948asdf2424", quarantined.get(0).get("record").get("phone").asText());
+        assertEquals(BinaryAddressBookStorage.MESSAGE_CORRUPT_RECORD, quarantined.get(1).get("reason").asText());
+        assertTrue(quarantined.get(1).get("record").has("bytes"));
+        assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, quarantined.get(2).get("reason").asText());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath).saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(null).saveAddressBook(new AddressBook(), null));
+    }
+
+    @Test
+    public void isBinaryFile() {
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "addressbook.bin")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "addressbook.json")));
+    }
+
+    /**
+     * Returns the bytes of a record with string table indices 0 to 2 for its goals, medical history and location,
+     * and no schedules.
+     */
+    private static byte[] record(String name, String phone, int[] tags) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAddressBookStorage.writeRawRecord(new DataOutputStream(bytes), name, phone, 0, 1, 2, tags,
+                new long[0]);
+        return bytes.toByteArray();
+    }
+
+    private static void writeFile(Path filePath, String[] strings, byte[]... records) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookStorage.MAGIC);
+        out.writeShort(BinaryAddressBookStorage.FORMAT_VERSION);
+        out.writeInt(strings.length);
+        for (String string : strings) {
+            BinaryAddressBookStorage.writeString(out, string);
+        }
+        out.writeInt(records.length);
+        for (byte[] record : records) {
+            out.writeInt(record.length);
+            out.write(record);
+        }
+        Files.write(filePath, bytes.toByteArray());
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+
+public class DataFileWatcherTest {
+
+    // some platforms poll for changes every few seconds instead of being notified of them
+    private static final long TIMEOUT_SECONDS = 30;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void start_dataFileWritten_changeReported() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("addressbook.json");
+        CountDownLatch changed = new CountDownLatch(1);
+        try (DataFileWatcher watcher = DataFileWatcher.start(filePath, changed::countDown)) {
+            FileUtil.createIfMissing(filePath);
+            FileUtil.writeToFile(filePath, "{}");
+            assertTrue(changed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class DirectoryAddressBookStorageTest {
+
+    private static final String UNTOUCHED = "not rewritten";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DirectoryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingDirectory_emptyResult() throws Exception {
+        Path directory = testFolder.resolve("missing");
+        assertFalse(new DirectoryAddressBookStorage(directory).readAddressBook().isPresent());
+        assertFalse(new DirectoryAddressBookStorage(directory).recoverAddressBook().isPresent());
+    }
+
+    @Test
+    public void isDataDirectory() throws Exception {
+        // missing paths are told apart by their extension
+        assertTrue(DirectoryAddressBookStorage.isDataDirectory(testFolder.resolve("addressbook")));
+        assertFalse(DirectoryAddressBookStorage.isDataDirectory(testFolder.resolve("addressbook.json")));
+
+        // an existing file without an extension is read as a data file
+        Path file = Files.writeString(testFolder.resolve("datafile"), "{}");
+        assertFalse(DirectoryAddressBookStorage.isDataDirectory(file));
+
+        // an existing directory is a data directory, even with an extension
+        Path directory = Files.createDirectory(testFolder.resolve("data.d"));
+        assertTrue(DirectoryAddressBookStorage.isDataDirectory(directory));
+    }
+
+    @Test
+    public void getId_samePersonIgnoringCase_sameId() {
+        Person lowerCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase()).build();
+        assertEquals(DirectoryAddressBookStorage.getId(ALICE), DirectoryAddressBookStorage.getId(lowerCaseAlice));
+        assertNotEquals(DirectoryAddressBookStorage.getId(ALICE), DirectoryAddressBookStorage.getId(BENSON));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path directory = testFolder.resolve("addressbook");
+        AddressBook original = getTypicalAddressBook();
+        DirectoryAddressBookStorage storage = new DirectoryAddressBookStorage(directory);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = new DirectoryAddressBookStorage(directory).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        readBack = new DirectoryAddressBookStorage(directory).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertFalse(Files.exists(DirectoryAddressBookStorage.getPersonFilePath(directory,
+                DirectoryAddressBookStorage.getId(ALICE))));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_onlyTheirFileWritten() throws Exception {
+        Path directory = testFolder.resolve("addressbook");
+        AddressBook addressBook = getTypicalAddressBook();
+        DirectoryAddressBookStorage storage = new DirectoryAddressBookStorage(directory);
+        storage.saveAddressBook(addressBook);
+        Path bensonFile = DirectoryAddressBookStorage.getPersonFilePath(directory,
+                DirectoryAddressBookStorage.getId(BENSON));
+        FileUtil.writeToFile(bensonFile, UNTOUCHED);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91111111").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(UNTOUCHED, FileUtil.readFromFile(bensonFile));
+        assertTrue(FileUtil.readFromFile(DirectoryAddressBookStorage.getPersonFilePath(directory,
+                DirectoryAddressBookStorage.getId(ALICE))).contains("91111111"));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_onlyChangesWritten() throws Exception {
+        Path directory = testFolder.resolve("addressbook");
+        new DirectoryAddressBookStorage(directory).saveAddressBook(getTypicalAddressBook());
+
+        DirectoryAddressBookStorage storage = new DirectoryAddressBookStorage(directory);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Path carlFile = DirectoryAddressBookStorage.getPersonFilePath(directory,
+                DirectoryAddressBookStorage.getId(CARL));
+        FileUtil.writeToFile(carlFile, UNTOUCHED);
+
+        // renaming gives a new file and removes the old one
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Mayer").build();
+        addressBook.setPerson(addressBook.getPersonList().get(1), renamedBenson);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(UNTOUCHED, FileUtil.readFromFile(carlFile));
+        assertFalse(Files.exists(DirectoryAddressBookStorage.getPersonFilePath(directory,
+                DirectoryAddressBookStorage.getId(BENSON))));
+        assertTrue(Files.exists(DirectoryAddressBookStorage.getPersonFilePath(directory,
+                DirectoryAddressBookStorage.getId(renamedBenson))));
+    }
+
+    @Test
+    public void saveAddressBook_afterRebaseSynced_equalPersonsNotWritten() throws Exception {
+        Path directory = testFolder.resolve("addressbook");
+        new DirectoryAddressBookStorage(directory).saveAddressBook(getTypicalAddressBook());
+
+        DirectoryAddressBookStorage storage = new DirectoryAddressBookStorage(directory);
+        storage.readAddressBook();
+        // the persons of the address book are equal to the persons read, but are not the same objects
+        AddressBook addressBook = getTypicalAddressBook();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91111111").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.rebaseSynced(addressBook);
+        Path carlFile = DirectoryAddressBookStorage.getPersonFilePath(directory,
+                DirectoryAddressBookStorage.getId(CARL));
+        FileUtil.writeToFile(carlFile, UNTOUCHED);
+
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(UNTOUCHED, FileUtil.readFromFile(carlFile));
+        assertTrue(FileUtil.readFromFile(DirectoryAddressBookStorage.getPersonFilePath(directory,
+                DirectoryAddressBookStorage.getId(ALICE))).contains("91111111"));
+    }
+
+    @Test
+    public void readAddressBook_missingPersonFile_throwsDataLoadingException() throws Exception {
+        Path directory = testFolder.resolve("addressbook");
+        new DirectoryAddressBookStorage(directory).saveAddressBook(getTypicalAddressBook());
+        Files.delete(DirectoryAddressBookStorage.getPersonFilePath(directory,
+                DirectoryAddressBookStorage.getId(BENSON)));
+
+        assertThrows(DataLoadingException.class, () -> new DirectoryAddressBookStorage(directory).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidManifest_throwsDataLoadingException() throws Exception {
+        Path directory = testFolder.resolve("addressbook");
+        new DirectoryAddressBookStorage(directory).saveAddressBook(getTypicalAddressBook());
+        FileUtil.writeToFile(directory.resolve(DirectoryAddressBookStorage.MANIFEST_FILE_NAME),
+                "{\"version\": 2, \"persons\": []}");
+
+        assertThrows(DataLoadingException.class, () -> new DirectoryAddressBookStorage(directory).readAddressBook());
+        assertThrows(DataLoadingException.class, () -> new DirectoryAddressBookStorage(directory)
+                .recoverAddressBook());
+    }
+
+    @Test
+    public void recoverAddressBook_invalidPersonFile_quarantinedAndRemovedOnSave() throws Exception {
+        Path directory = testFolder.resolve("addressbook");
+        new DirectoryAddressBookStorage(directory).saveAddressBook(getTypicalAddressBook());
+        Path bensonFile = DirectoryAddressBookStorage.getPersonFilePath(directory,
+                DirectoryAddressBookStorage.getId(BENSON));
+        FileUtil.writeToFile(bensonFile, FileUtil.readFromFile(bensonFile).replace(BENSON.getPhone().value, "12"));
+
+        DirectoryAddressBookStorage storage = new DirectoryAddressBookStorage(directory);
+        AddressBookRecovery recovery = storage.recoverAddressBook().get();
+        assertEquals(getTypicalAddressBook().getPersonList().size() - 1, recovery.getRecoveredCount());
+        assertEquals(1, recovery.getQuarantinedCount());
+
+        storage.saveAddressBook(recovery.getAddressBook());
+        assertFalse(Files.exists(bensonFile));
+        assertEquals(recovery.getAddressBook().getPersonList(),
+                new DirectoryAddressBookStorage(directory).readAddressBook().get().getPersonList());
+    }
+}
@@ -1,22 +1,29 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.model.person.Goals;
 import seedu.address.model.person.Location;
 import seedu.address.model.person.MedicalHistory;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "Réchel";
@@ -166,4 +173,32 @@ public class JsonAdaptedPersonTest {
         assertThrows(IllegalValueException.class, person::toModelType);
     }
 
+    @Test
+    public void toModelType_equalValuesInSeparatePersons_shared() throws Exception {
+        int personCount = 1000;
+        Set<MedicalHistory> medicalHistories = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Tag> tags = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            // every person is read from its own copies of the strings, as when parsing a data file
+            JsonAdaptedPerson adaptedPerson = new JsonAdaptedPerson("Client " + i, String.valueOf(90000000 + i),
+                    VALID_RECURRING_SCHEDULES, new String(VALID_GOALS), new String(VALID_MEDICAL_HISTORY),
+                    new String(VALID_LOCATION), VALID_ONETIMESCHEDULES,
+                    List.of(new JsonAdaptedTag(new String("friends"))));
+            Person person = adaptedPerson.toModelType();
+            persons.add(person);
+            medicalHistories.add(person.getMedicalHistory());
+            tags.addAll(person.getTags());
+        }
+
+        // the equal values of all the persons are held once
+        assertEquals(personCount, persons.size());
+        assertEquals(1, medicalHistories.size());
+        assertEquals(1, tags.size());
+
+        // and are shared with the values parsed from user input
+        assertSame(persons.get(0).getMedicalHistory(),
+                ParserUtil.parseMedicalHistory(new String(VALID_MEDICAL_HISTORY)));
+        assertSame(persons.get(0).getTags().iterator().next(), ParserUtil.parseTag(new String("friends")));
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,15 +10,26 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +72,89 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_noPersonsList_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("noPersons.json");
+        FileUtil.writeToFile(filePath, "{\"clients\": [], \"persons\": {}}");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_manyPersons_readInBatchesInOrder() throws Exception {
+        Path filePath = testFolder.resolve("manyPersons.json");
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 2500; i++) {
+            original.addPerson(new PersonBuilder().withName("Client " + i)
+                    .withPhone("9" + String.format("%07d", i)).build());
+        }
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // duplicates in different batches are still found
+        List<JsonAdaptedPerson> persons = original.getPersonList().stream()
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList());
+        persons.add(persons.get(0));
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons), filePath);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void recoverAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonAddressBookStorage(testFolder.resolve("NonExistentFile.json")).recoverAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void recoverAddressBook_notJsonFormat_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(
+                TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json")).recoverAddressBook());
+    }
+
+    @Test
+    public void recoverAddressBook_validFile_nothingQuarantined() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBookRecovery recovery = jsonAddressBookStorage.recoverAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(recovery.getAddressBook()));
+        assertEquals(0, recovery.getQuarantinedCount());
+        assertFalse(recovery.getQuarantineFilePath().isPresent());
+    }
+
+    @Test
+    public void recoverAddressBook_partlyInvalidFile_keepsValidPersonsAndQuarantinesRest() throws Exception {
+        Path filePath = testFolder.resolve("partlyInvalidAddressBook.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("partlyInvalidAddressBook.json"), filePath);
+
+        AddressBookRecovery recovery = new JsonAddressBookStorage(filePath).recoverAddressBook().get();
+        List<String> recoveredNames = recovery.getAddressBook().getPersonList().stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList("Valid Person", "Another Valid Person"), recoveredNames);
+        assertEquals(2, recovery.getRecoveredCount());
+        assertEquals(3, recovery.getQuarantinedCount());
+
+        // the quarantine file keeps each skipped record as it was, with the reason it was skipped
+        JsonNode quarantined = JsonUtil.readJsonTree(recovery.getQuarantineFilePath().get()).get().get("quarantined");
+        assertEquals(3, quarantined.size());
+        assertEquals(Phone.MESSAGE_CONSTRAINTS, quarantined.get(0).get("reason").asText());
+        assertEquals("948asdf2424", quarantined.get(0).get("record").get("phone").asText());
+        assertEquals("Person With Malformed Tags", quarantined.get(1).get("record").get("name").asText());
+        assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, quarantined.get(2).get("reason").asText());
+    }
+
+    @Test
+    public void getQuarantineFilePath() {
+        LocalDateTime time = LocalDateTime.of(2025, 3, 14, 9, 5, 7);
+        assertEquals(Paths.get("data", "addressbook.quarantine-20250314-090507.json"),
+                QuarantineFile.getPath(Paths.get("data", "addressbook.json"), time));
+        assertEquals(Paths.get("addressbook.quarantine-20250314-090507.json"),
+                QuarantineFile.getPath(Paths.get("addressbook"), time));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +181,20 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compressedFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        Path uncompressedFilePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        new JsonAddressBookStorage(uncompressedFilePath).saveAddressBook(original);
+        assertTrue(Files.size(filePath) < Files.size(uncompressedFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original.getPersonList(), new JsonAddressBookStorage(filePath).recoverAddressBook().get()
+                .getAddressBook().getPersonList());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
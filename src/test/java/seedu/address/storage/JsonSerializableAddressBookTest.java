@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -29,6 +30,16 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void toModelType_manyPersons_preservesOrder() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 2000; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Client " + i)
+                    .withPhone("9" + String.format("%07d", i)).build());
+        }
+        assertEquals(addressBook, new JsonSerializableAddressBook(addressBook).toModelType());
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.OneTimeSchedule;
+
+public class SessionHistoryStorageTest {
+
+    private static final OneTimeSchedule JANUARY = new OneTimeSchedule("01/01/25 1000 1200");
+    private static final OneTimeSchedule LATE_JANUARY = new OneTimeSchedule("31/01/25 0800 0900");
+    private static final OneTimeSchedule MARCH = new OneTimeSchedule("01/03/25 1000 1200");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readSessions_missingDirectory_noSessions() throws Exception {
+        SessionHistoryStorage storage = new SessionHistoryStorage(testFolder.resolve("missing"));
+        assertEquals(List.of(), storage.readSessions(ALICE.getName()));
+    }
+
+    @Test
+    public void saveSessions_partitionedByMonth() throws Exception {
+        SessionHistoryStorage storage = new SessionHistoryStorage(testFolder.resolve("history"));
+        storage.saveSessions(Map.of(ALICE.getName(), List.of(MARCH, JANUARY), BENSON.getName(), List.of(JANUARY)));
+
+        assertTrue(Files.exists(storage.getPartitionFilePath(YearMonth.of(2025, 1))));
+        assertFalse(Files.exists(storage.getPartitionFilePath(YearMonth.of(2025, 2))));
+        assertTrue(Files.exists(storage.getPartitionFilePath(YearMonth.of(2025, 3))));
+        assertEquals(List.of(JANUARY, MARCH), storage.readSessions(ALICE.getName()));
+        assertEquals(List.of(JANUARY), storage.readSessions(BENSON.getName()));
+    }
+
+    @Test
+    public void saveSessions_existingSessions_mergedAndKeptOnce() throws Exception {
+        SessionHistoryStorage storage = new SessionHistoryStorage(testFolder.resolve("history"));
+        storage.saveSessions(Map.of(ALICE.getName(), List.of(LATE_JANUARY)));
+        storage.saveSessions(Map.of(ALICE.getName(), List.of(JANUARY, LATE_JANUARY)));
+
+        assertEquals(List.of(JANUARY, LATE_JANUARY), storage.readSessions(ALICE.getName()));
+    }
+
+    @Test
+    public void readSessions_nameInDifferentCase_found() throws Exception {
+        SessionHistoryStorage storage = new SessionHistoryStorage(testFolder.resolve("history"));
+        storage.saveSessions(Map.of(ALICE.getName(), List.of(JANUARY)));
+
+        assertEquals(List.of(JANUARY),
+                storage.readSessions(new Name(ALICE.getName().fullName.toUpperCase())));
+    }
+
+    @Test
+    public void readSessions_invalidPartition_throwsDataLoadingException() throws Exception {
+        SessionHistoryStorage storage = new SessionHistoryStorage(testFolder.resolve("history"));
+        storage.saveSessions(Map.of(ALICE.getName(), List.of(JANUARY)));
+        FileUtil.writeToFile(storage.getPartitionFilePath(YearMonth.of(2025, 1)),
+                "{ \"sessions\": { \"Alice Pauline\": [ \"not a session\" ] } }");
+
+        assertThrows(DataLoadingException.class, () -> storage.readSessions(ALICE.getName()));
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SqliteAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SqliteAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.db");
+        assertFalse(new SqliteAddressBookStorage(filePath).readAddressBook().isPresent());
+        assertFalse(new SqliteAddressBookStorage(filePath).recoverAddressBook().isPresent());
+    }
+
+    @Test
+    public void isDatabaseFile() {
+        assertTrue(SqliteAddressBookStorage.isDatabaseFile(Paths.get("data", "addressbook.db")));
+        assertFalse(SqliteAddressBookStorage.isDatabaseFile(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.db");
+        AddressBook original = getTypicalAddressBook();
+        SqliteAddressBookStorage storage = new SqliteAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = new SqliteAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // only the changes are written
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Mayer").build();
+        original.setPerson(BENSON, renamedBenson);
+        storage.saveAddressBook(original);
+        readBack = new SqliteAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // saving to a different file writes everything
+        Path otherFilePath = testFolder.resolve("other.db");
+        storage.saveAddressBook(original, otherFilePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_onlyChangesWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.db");
+        new SqliteAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        SqliteAddressBookStorage storage = new SqliteAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        // a change made behind the storage's back is kept if its person is not changed
+        execute(filePath, "UPDATE clients SET location = 'Elsewhere' WHERE name_key = 'carl kurz'");
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91111111").build();
+        addressBook.setPerson(addressBook.getPersonList().get(0), editedAlice);
+        storage.saveAddressBook(addressBook);
+
+        List<Person> readBack = new SqliteAddressBookStorage(filePath).readAddressBook().get().getPersonList();
+        assertEquals(editedAlice, readBack.get(0));
+        assertEquals("Elsewhere", readBack.get(2).getLocation().value);
+    }
+
+    @Test
+    public void saveAddressBook_afterRebaseSynced_equalPersonsNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.db");
+        new SqliteAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        SqliteAddressBookStorage storage = new SqliteAddressBookStorage(filePath);
+        storage.readAddressBook();
+        // the persons of the address book are equal to the persons read, but are not the same objects
+        AddressBook addressBook = getTypicalAddressBook();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91111111").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.rebaseSynced(addressBook);
+        execute(filePath, "UPDATE clients SET location = 'Elsewhere' WHERE name_key = 'carl kurz'");
+
+        storage.saveAddressBook(addressBook);
+
+        List<Person> readBack = new SqliteAddressBookStorage(filePath).readAddressBook().get().getPersonList();
+        assertEquals(editedAlice, readBack.get(0));
+        assertEquals("Elsewhere", readBack.get(2).getLocation().value);
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.db");
+        new SqliteAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        execute(filePath, "PRAGMA user_version = 2");
+
+        assertThrows(DataLoadingException.class, () -> new SqliteAddressBookStorage(filePath).readAddressBook());
+        assertThrows(DataLoadingException.class, () -> new SqliteAddressBookStorage(filePath).recoverAddressBook());
+    }
+
+    @Test
+    public void recoverAddressBook_invalidRow_quarantinedAndDeletedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.db");
+        new SqliteAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        execute(filePath, "UPDATE clients SET phone = '12' WHERE name_key = 'benson meier'");
+        assertThrows(DataLoadingException.class, () -> new SqliteAddressBookStorage(filePath).readAddressBook());
+
+        SqliteAddressBookStorage storage = new SqliteAddressBookStorage(filePath);
+        AddressBookRecovery recovery = storage.recoverAddressBook().get();
+        assertEquals(getTypicalAddressBook().getPersonList().size() - 1, recovery.getRecoveredCount());
+        assertEquals(1, recovery.getQuarantinedCount());
+
+        storage.saveAddressBook(recovery.getAddressBook());
+        assertEquals(recovery.getAddressBook().getPersonList(),
+                new SqliteAddressBookStorage(filePath).readAddressBook().get().getPersonList());
+    }
+
+    private static void execute(Path filePath, String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + filePath.toAbsolutePath());
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
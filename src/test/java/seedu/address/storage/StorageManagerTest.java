@@ -1,19 +1,32 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.OneTimeSchedule;
+import seedu.address.testutil.AddressBookBuilder;
 
 public class StorageManagerTest {
 
@@ -60,6 +73,95 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void getArchiveFilePath_dataFileExtensionsDropped() {
+        Path folder = Paths.get("data");
+        assertEquals(folder.resolve("addressbook.archive.json"),
+                StorageManager.getArchiveFilePath(folder.resolve("addressbook.json")));
+        assertEquals(folder.resolve("addressbook.archive.json"),
+                StorageManager.getArchiveFilePath(folder.resolve("addressbook.json.gz")));
+        assertEquals(folder.resolve("addressbook.archive.json"),
+                StorageManager.getArchiveFilePath(folder.resolve("addressbook")));
+        assertEquals(folder.resolve(".hidden.archive.json"),
+                StorageManager.getArchiveFilePath(folder.resolve(".hidden.db")));
+    }
+
+    @Test
+    public void getSessionHistoryDirectoryPath_namedLikeArchiveFile() {
+        Path folder = Paths.get("data");
+        assertEquals(folder.resolve("addressbook.history"),
+                StorageManager.getSessionHistoryDirectoryPath(folder.resolve("addressbook.json.gz")));
+        assertEquals(folder.resolve("addressbook.history"),
+                StorageManager.getSessionHistoryDirectoryPath(folder.resolve("addressbook")));
+    }
+
+    @Test
+    public void saveSessionHistory_readBack() throws Exception {
+        List<OneTimeSchedule> sessions = List.of(new OneTimeSchedule("01/01/25 1000 1200"));
+        assertEquals(List.of(), storageManager.readSessionHistory(ALICE.getName()));
+
+        storageManager.saveSessionHistory(Map.of(ALICE.getName(), sessions));
+        assertEquals(sessions, storageManager.readSessionHistory(ALICE.getName()));
+        assertEquals(testFolder.resolve("ab" + StorageManager.SESSION_HISTORY_DIRECTORY_SUFFIX),
+                storageManager.getSessionHistoryDirectoryPath());
+    }
+
+    @Test
+    public void saveAddressBookAndArchive_personsMoved_bothFilesSaved() throws Exception {
+        assertFalse(storageManager.readArchivedPersons().isPresent());
+
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        AddressBook archivedPersons = new AddressBookBuilder().withPerson(BENSON).build();
+        storageManager.saveAddressBookAndArchive(addressBook, archivedPersons);
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(archivedPersons, new AddressBook(storageManager.readArchivedPersons().get()));
+
+        // moved back out of the archive
+        addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        storageManager.saveAddressBookAndArchive(addressBook, new AddressBook());
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(new AddressBook(), new AddressBook(storageManager.readArchivedPersons().get()));
+        assertEquals(testFolder.resolve("ab" + StorageManager.ARCHIVE_FILE_SUFFIX),
+                storageManager.getArchiveFilePath());
+    }
+
+    @Test
+    public void saveWarmStartImage_dataFileSaved_imageLoadedNextTime() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        storageManager.saveWarmStartImage(original);
+        assertTrue(Files.exists(WarmStartImage.getPath(getTempFilePath("ab"))));
+
+        // the data file is not parsed again, so even an unreadable one goes unnoticed while the image matches it
+        StorageManager nextStorageManager = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+                throw new DataLoadingException(new IOException("Data file should not be parsed"));
+            }
+        }, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        assertEquals(original, new AddressBook(nextStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveWarmStartImage_dataFileNotInSync_imageNotSaved() throws Exception {
+        storageManager.saveWarmStartImage(getTypicalAddressBook());
+        assertFalse(Files.exists(WarmStartImage.getPath(getTempFilePath("ab"))));
+    }
+
+    @Test
+    public void readAddressBookIfChanged() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        // the storage's own save is not a change
+        assertFalse(storageManager.readAddressBookIfChanged().isPresent());
+
+        original.removePerson(original.getPersonList().get(0));
+        new JsonAddressBookStorage(getTempFilePath("ab")).saveAddressBook(original);
+        assertEquals(original, new AddressBook(storageManager.readAddressBookIfChanged().get()));
+        // a change is only reported once
+        assertFalse(storageManager.readAddressBookIfChanged().isPresent());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
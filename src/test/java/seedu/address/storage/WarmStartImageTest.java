@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class WarmStartImageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getPath() {
+        assertEquals(Paths.get("data", "addressbook.json.image"),
+                WarmStartImage.getPath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void load_noImage_empty() throws Exception {
+        Path dataFilePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(dataFilePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(WarmStartImage.load(dataFilePath).isPresent());
+    }
+
+    @Test
+    public void load_dataFileUnchanged_sameAddressBook() throws Exception {
+        Path dataFilePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(dataFilePath).saveAddressBook(original);
+        WarmStartImage.save(original, dataFilePath);
+
+        assertEquals(original, new AddressBook(WarmStartImage.load(dataFilePath).get()));
+    }
+
+    @Test
+    public void load_dataFileChanged_empty() throws Exception {
+        Path dataFilePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(dataFilePath).saveAddressBook(original);
+        FileTime modifiedTime = Files.getLastModifiedTime(dataFilePath);
+        WarmStartImage.save(original, dataFilePath);
+
+        // same size and modification time, different contents
+        String contents = Files.readString(dataFilePath);
+        Files.writeString(dataFilePath, contents.replace(ALICE.getPhone().value, HOON.getPhone().value));
+        Files.setLastModifiedTime(dataFilePath, modifiedTime);
+        assertEquals(contents.length(), Files.size(dataFilePath));
+        assertFalse(WarmStartImage.load(dataFilePath).isPresent());
+
+        // different modification time
+        Files.writeString(dataFilePath, contents);
+        Files.setLastModifiedTime(dataFilePath, FileTime.fromMillis(modifiedTime.toMillis() + 1000));
+        assertFalse(WarmStartImage.load(dataFilePath).isPresent());
+    }
+
+    @Test
+    public void load_corruptImage_empty() throws Exception {
+        Path dataFilePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(dataFilePath).saveAddressBook(original);
+        WarmStartImage.save(original, dataFilePath);
+        Path imagePath = WarmStartImage.getPath(dataFilePath);
+        byte[] image = Files.readAllBytes(imagePath);
+        Files.write(imagePath, Arrays.copyOf(image, image.length / 2));
+
+        assertFalse(WarmStartImage.load(dataFilePath).isPresent());
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.testutil;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.person.Occurrence;
+import seedu.address.model.person.OccurrenceIterator;
+import seedu.address.model.person.OneTimeSchedule;
+import seedu.address.model.person.PackedScheduleSet;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.RecurringSchedule;
+
+/**
+ * A utility class for building and expanding the sessions of persons.
+ */
+public class OccurrenceUtil {
+
+    private static final String[] DAYS = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+
+    /**
+     * Returns the session of {@code person} given by {@code oneTimeSchedule}.
+     */
+    public static Occurrence occurrence(Person person, String oneTimeSchedule) {
+        OneTimeSchedule schedule = new OneTimeSchedule(oneTimeSchedule);
+        return new Occurrence(person, schedule.getDate(), PackedScheduleSet.encode(schedule));
+    }
+
+    /**
+     * Returns the session of {@code person} given by {@code recurringSchedule} on {@code date}.
+     */
+    public static Occurrence occurrence(Person person, String date, String recurringSchedule) {
+        return occurrence(person, new OneTimeSchedule(date + " 0000 0001").getDate(), recurringSchedule);
+    }
+
+    /**
+     * Returns the session of {@code person} given by {@code recurringSchedule} on {@code date}.
+     */
+    public static Occurrence occurrence(Person person, LocalDate date, String recurringSchedule) {
+        return new Occurrence(person, date, PackedScheduleSet.encode(RecurringSchedule.of(recurringSchedule)));
+    }
+
+    /**
+     * Returns a person named {@code name} with up to one weekly session and up to three one-time sessions,
+     * dated within {@code days} days from {@code firstDate}.
+     */
+    public static Person randomPerson(String name, Random random, LocalDate firstDate, int days) {
+        List<String> recurring = new ArrayList<>();
+        for (int i = random.nextInt(2); i > 0; i--) {
+            recurring.add(DAYS[random.nextInt(7)] + " " + randomTimes(random));
+        }
+        List<String> oneTime = new ArrayList<>();
+        for (int i = random.nextInt(4); i > 0; i--) {
+            LocalDate date = firstDate.plusDays(random.nextInt(days));
+            oneTime.add(String.format("%02d/%02d/%02d %s", date.getDayOfMonth(), date.getMonthValue(),
+                    date.getYear() % 100, randomTimes(random)));
+        }
+        return new PersonBuilder().withName(name).withRecurringSchedules(recurring.toArray(new String[0]))
+                .withOneTimeSchedules(oneTime.toArray(new String[0])).build();
+    }
+
+    private static String randomTimes(Random random) {
+        int start = random.nextInt(22);
+        return String.format("%02d%02d %02d30", start, random.nextInt(2) * 15, start + 1 + random.nextInt(2));
+    }
+
+    /**
+     * Returns the sessions of {@code persons} that start from {@code from} to {@code to}, both inclusive.
+     */
+    public static List<Occurrence> expand(List<Person> persons, LocalDateTime from, LocalDateTime to) {
+        List<Occurrence> occurrences = new ArrayList<>();
+        Iterator<Occurrence> iterator = new OccurrenceIterator(persons, from.toLocalDate(), to.toLocalDate());
+        while (iterator.hasNext()) {
+            Occurrence occurrence = iterator.next();
+            LocalDateTime start = occurrence.getDate().atStartOfDay().plusMinutes(occurrence.getStartMinute());
+            if (!start.isBefore(from) && !start.isAfter(to)) {
+                occurrences.add(occurrence);
+            }
+        }
+        return sorted(occurrences);
+    }
+
+    /**
+     * Returns the first {@code n} sessions from {@code now}, found by expanding every session of {@code persons}.
+     */
+    public static List<Occurrence> expand(List<Person> persons, LocalDateTime now, int n) {
+        List<Occurrence> occurrences = new ArrayList<>();
+        int nowMinute = now.getHour() * 60 + now.getMinute();
+        Iterator<Occurrence> iterator = new OccurrenceIterator(persons, now.toLocalDate(),
+                now.toLocalDate().plusYears(1));
+        while (iterator.hasNext() && occurrences.size() < n) {
+            Occurrence occurrence = iterator.next();
+            if (occurrence.getDate().isAfter(now.toLocalDate()) || occurrence.getStartMinute() >= nowMinute) {
+                occurrences.add(occurrence);
+            }
+        }
+        return sorted(occurrences);
+    }
+
+    /**
+     * Returns {@code occurrences} in a total order, as sessions at the same time may be in either order.
+     */
+    public static List<Occurrence> sorted(List<Occurrence> occurrences) {
+        List<Occurrence> sorted = new ArrayList<>(occurrences);
+        sorted.sort(Comparator.comparing(Occurrence::getDate)
+                .thenComparingInt(Occurrence::getStartMinute)
+                .thenComparingInt(Occurrence::getEndMinute)
+                .thenComparing(occurrence -> occurrence.getPerson().getName().fullName)
+                .thenComparing(Occurrence::isRecurring));
+        return sorted;
+    }
+}